@@ -135,6 +135,13 @@ interface MetricBuilder {
          * @return The wrapped supplier.
          */
         <T> Supplier<T> buildTimer(Supplier<T> f);
+
+        /**
+         * Remove the metric registered with the name, type and tags of this builder, if any.
+         * Metrics systems that do not support the removal of metrics ignore it.
+         */
+        default void remove() {
+        }
     }
 
     /**
@@ -60,6 +60,41 @@ public static class CaffeineNamespaceConfig {
             @ConfigItem
             OptionalLong maximumSize;
 
+            /**
+             * Maximum weight of the entries the cache may contain. This property can be used instead of the maximum size when
+             * the cache values have very different memory footprints. Each entry is weighed when it is written into the cache
+             * with the {@code weigher}. Like the maximum size, this limit may temporarily be exceeded while evicting. This
+             * property cannot be used together with the {@code maximum-size} property.
+             */
+            @ConfigItem
+            OptionalLong maximumWeight;
+
+            /**
+             * Fully qualified name of a {@code io.quarkus.cache.CacheWeigher} implementation used to weigh the entries when
+             * the {@code maximum-weight} property is set. The {@code serialized-size} value selects a built-in weigher which
+             * weighs each value with its size once serialized with the Java serialization, at the cost of serializing every
+             * written value. This property is required when the {@code maximum-weight} property is set, unless the off-heap
+             * storage is enabled: the weight of an off-heap entry is always the size of its encoded value.
+             */
+            @ConfigItem
+            Optional<String> weigher;
+
+            /**
+             * Whether or not the cache values are encoded with the {@code value-codec} and stored off-heap into direct byte
+             * buffers. This reduces the heap usage and the GC pauses of large caches, at the cost of encoding every value when
+             * it is written and decoding it on every read. Each read returns a new instance of the value.
+             */
+            @ConfigItem(defaultValue = "false")
+            boolean offHeapValues;
+
+            /**
+             * Fully qualified name of a {@code io.quarkus.cache.CacheValueCodec} implementation used when the off-heap storage
+             * is enabled. By default, the values are encoded with the Java serialization, which requires them to be
+             * {@code Serializable}.
+             */
+            @ConfigItem
+            Optional<String> valueCodec;
+
             /**
              * Specifies that each entry should be automatically removed from the cache once a fixed duration has elapsed after
              * the entry's creation, or the most recent replacement of its value.
@@ -74,6 +109,21 @@ public static class CaffeineNamespaceConfig {
             @ConfigItem
             Optional<Duration> expireAfterAccess;
 
+            /**
+             * Specifies that each entry should be refreshed once a fixed duration has elapsed after the entry's creation, or
+             * the most recent replacement of its value. A stale entry is refreshed asynchronously when it is read: the stale
+             * value is returned to the caller while the value is recomputed in the background, and it is replaced once the
+             * recomputation succeeds. If the recomputation fails, the stale value is kept and the next read will trigger a new
+             * refresh. For methods annotated with {@code @CacheResult} and returning {@code Uni} or {@code CompletionStage},
+             * the method is invoked again in the background (stale-while-revalidate). Otherwise, the recomputation runs on the
+             * Quarkus worker thread pool, without any active request context. Refreshes are recorded as cache loads in the
+             * metrics.
+             * <p>
+             * This value should be lower than the expiration delays, otherwise entries will expire before being refreshed.
+             */
+            @ConfigItem
+            Optional<Duration> refreshAfterWrite;
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
@@ -68,6 +68,7 @@
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 
 class CacheProcessor {
@@ -256,6 +257,22 @@ SyntheticBeanBuildItem configureCacheManagerSyntheticBean(CacheNamesBuildItem ca
                 .done();
     }
 
+    @BuildStep
+    void registerWeighersAndCodecsForReflection(CacheNamesBuildItem cacheNames, CacheConfig config,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        if (config.enabled && CacheDeploymentConstants.CAFFEINE_CACHE_TYPE.equals(config.type)) {
+            // The weighers and value codecs are instantiated by name at run time.
+            for (CaffeineCacheInfo cacheInfo : CaffeineCacheInfoBuilder.build(cacheNames.getNames(), config)) {
+                if (cacheInfo.weigher != null) {
+                    reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, cacheInfo.weigher));
+                }
+                if (cacheInfo.valueCodec != null) {
+                    reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, cacheInfo.valueCodec));
+                }
+            }
+        }
+    }
+
     private MetricsInitializer getMetricsInitializer(Optional<MetricsCapabilityBuildItem> metricsCapability) {
         if (metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MICROMETER)) {
             return new MicrometerMetricsInitializer();
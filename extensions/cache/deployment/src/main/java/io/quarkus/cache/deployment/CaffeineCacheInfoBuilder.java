@@ -6,6 +6,8 @@
 
 import io.quarkus.cache.deployment.CacheConfig.CaffeineConfig.CaffeineNamespaceConfig;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.cache.runtime.caffeine.SerializedSizeCacheWeigher;
+import io.quarkus.runtime.configuration.ConfigurationException;
 
 public class CaffeineCacheInfoBuilder {
 
@@ -20,8 +22,26 @@ public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig c
                 if (namespaceConfig != null) {
                     namespaceConfig.initialCapacity.ifPresent(capacity -> cacheInfo.initialCapacity = capacity);
                     namespaceConfig.maximumSize.ifPresent(size -> cacheInfo.maximumSize = size);
+                    namespaceConfig.maximumWeight.ifPresent(weight -> cacheInfo.maximumWeight = weight);
+                    if (cacheInfo.maximumSize != null && cacheInfo.maximumWeight != null) {
+                        throw new ConfigurationException(
+                                "The maximum-size and maximum-weight properties cannot be both set for cache [" + cacheInfo.name
+                                        + "]");
+                    }
+                    namespaceConfig.weigher.ifPresent(weigher -> cacheInfo.weigher = SerializedSizeCacheWeigher.NAME
+                            .equals(weigher) ? SerializedSizeCacheWeigher.class.getName() : weigher);
+                    cacheInfo.offHeapValues = namespaceConfig.offHeapValues;
+                    if (cacheInfo.maximumWeight != null && cacheInfo.weigher == null && !cacheInfo.offHeapValues) {
+                        throw new ConfigurationException(
+                                "The weigher property must be set when the maximum-weight property is set for cache ["
+                                        + cacheInfo.name + "], unless the off-heap storage of the values is enabled. "
+                                        + "Use a custom io.quarkus.cache.CacheWeigher implementation or ["
+                                        + SerializedSizeCacheWeigher.NAME + "] to weigh the values by their serialized size");
+                    }
+                    namespaceConfig.valueCodec.ifPresent(codec -> cacheInfo.valueCodec = codec);
                     namespaceConfig.expireAfterWrite.ifPresent(delay -> cacheInfo.expireAfterWrite = delay);
                     namespaceConfig.expireAfterAccess.ifPresent(delay -> cacheInfo.expireAfterAccess = delay);
+                    namespaceConfig.refreshAfterWrite.ifPresent(delay -> cacheInfo.refreshAfterWrite = delay);
                     cacheInfo.metricsEnabled = namespaceConfig.metricsEnabled;
                 }
                 return cacheInfo;
@@ -0,0 +1,129 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.RequestScoped;
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the refresh-after-write policy with the programmatic API, with a {@link CacheResult} method returning a
+ * {@link Uni} and with a synchronous {@link CacheResult} method using a request scoped bean.
+ */
+public class RefreshAfterWriteTest {
+
+    private static final String CACHE_NAME_1 = "test-cache-1";
+    private static final String CACHE_NAME_2 = "test-cache-2";
+    private static final String CACHE_NAME_3 = "test-cache-3";
+    private static final String KEY = "key";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(CachedService.class, RequestScopedCounter.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME_1 + "\".refresh-after-write", "PT0.1S")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME_2 + "\".refresh-after-write", "PT0.1S")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME_3 + "\".refresh-after-write", "PT0.1S");
+
+    @CacheName(CACHE_NAME_1)
+    Cache cache;
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testProgrammaticApi() throws InterruptedException {
+        AtomicInteger invocations = new AtomicInteger();
+
+        // The first call computes and caches the value.
+        assertEquals(1, cache.get(KEY, k -> invocations.incrementAndGet()).await().indefinitely());
+        Thread.sleep(200L);
+
+        // The value is now stale: it is still returned while a refresh is started in the background.
+        assertEquals(1, cache.get(KEY, k -> invocations.incrementAndGet()).await().indefinitely());
+
+        // The refreshed value eventually replaces the stale one.
+        awaitValue(2, () -> cache.get(KEY, k -> invocations.incrementAndGet()).await().indefinitely());
+    }
+
+    @Test
+    public void testStaleWhileRevalidate() throws InterruptedException {
+        assertEquals(1, cachedService.cachedMethod(KEY).await().indefinitely());
+        Thread.sleep(200L);
+
+        // The stale value is emitted while the method is invoked again in the background.
+        assertEquals(1, cachedService.cachedMethod(KEY).await().indefinitely());
+        awaitValue(2, () -> cachedService.cachedMethod(KEY).await().indefinitely());
+    }
+
+    @Test
+    public void testRefreshWithRequestScopedBean() throws InterruptedException {
+        ManagedContext requestContext = Arc.container().requestContext();
+        requestContext.activate();
+        try {
+            assertEquals(1, cachedService.cachedMethodUsingRequestScopedBean(KEY));
+            Thread.sleep(200L);
+
+            // The refresh runs on a worker thread, in its own request context.
+            assertEquals(1, cachedService.cachedMethodUsingRequestScopedBean(KEY));
+            awaitValue(2, () -> cachedService.cachedMethodUsingRequestScopedBean(KEY));
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    private static void awaitValue(int expected, Supplier<Integer> supplier) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000L;
+        Integer actual = supplier.get();
+        while (actual != expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20L);
+            actual = supplier.get();
+        }
+        assertEquals(expected, actual);
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+        private final AtomicInteger requestScopedInvocations = new AtomicInteger();
+
+        @Inject
+        RequestScopedCounter counter;
+
+        @CacheResult(cacheName = CACHE_NAME_2)
+        public Uni<Integer> cachedMethod(String key) {
+            return Uni.createFrom().item(invocations::incrementAndGet);
+        }
+
+        @CacheResult(cacheName = CACHE_NAME_3)
+        public Integer cachedMethodUsingRequestScopedBean(String key) {
+            // Fails if no request context is active
+            counter.increment();
+            return requestScopedInvocations.incrementAndGet();
+        }
+    }
+
+    @RequestScoped
+    static class RequestScopedCounter {
+
+        private int count;
+
+        int increment() {
+            return ++count;
+        }
+    }
+}
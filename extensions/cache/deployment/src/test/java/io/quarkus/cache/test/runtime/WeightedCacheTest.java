@@ -0,0 +1,95 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheWeigher;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.caffeine.SerializedSizeCacheWeigher;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the weight-based eviction and the off-heap storage of the cache values.
+ */
+public class WeightedCacheTest {
+
+    private static final String WEIGHTED_CACHE = "weighted-cache";
+    private static final String SERIALIZED_SIZE_CACHE = "serialized-size-cache";
+    private static final String OFF_HEAP_CACHE = "off-heap-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withEmptyApplication()
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + WEIGHTED_CACHE + "\".maximum-weight", "2000")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + WEIGHTED_CACHE + "\".weigher", LengthWeigher.class.getName())
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + SERIALIZED_SIZE_CACHE + "\".maximum-weight", "2000")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + SERIALIZED_SIZE_CACHE + "\".weigher", "serialized-size")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + OFF_HEAP_CACHE + "\".off-heap-values", "true");
+
+    @CacheName(WEIGHTED_CACHE)
+    Cache weightedCache;
+
+    @CacheName(SERIALIZED_SIZE_CACHE)
+    Cache serializedSizeCache;
+
+    @CacheName(OFF_HEAP_CACHE)
+    Cache offHeapCache;
+
+    @Test
+    public void testWeightedEviction() throws InterruptedException {
+        assertEvicted(weightedCache);
+    }
+
+    @Test
+    public void testSerializedSizeWeigher() throws InterruptedException {
+        assertEquals(SerializedSizeCacheWeigher.class.getName(),
+                serializedSizeCache.as(CaffeineCacheImpl.class).getCacheInfo().weigher);
+        assertEvicted(serializedSizeCache);
+    }
+
+    private static void assertEvicted(Cache cache) throws InterruptedException {
+        String largeValue = "x".repeat(1000);
+        for (int i = 0; i < 20; i++) {
+            cache.get(i, k -> largeValue).await().indefinitely();
+        }
+        // The entries are weighed once their value is computed and the eviction is performed asynchronously by Caffeine.
+        CaffeineCacheImpl caffeineCache = cache.as(CaffeineCacheImpl.class);
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (caffeineCache.getSize() > 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20L);
+        }
+        assertTrue(caffeineCache.getSize() <= 1);
+    }
+
+    @Test
+    public void testOffHeapValues() {
+        List<String> value = new ArrayList<>(List.of("foo", "bar"));
+        List<String> cachedValue1 = offHeapCache.get("key", k -> value).await().indefinitely();
+        List<String> cachedValue2 = offHeapCache.get("key", k -> new ArrayList<String>()).await().indefinitely();
+        // Each read decodes a new instance of the value.
+        assertEquals(value, cachedValue1);
+        assertEquals(value, cachedValue2);
+        assertNotSame(cachedValue1, cachedValue2);
+
+        // Null values are supported.
+        assertNull(offHeapCache.get("null-key", k -> null).await().indefinitely());
+    }
+
+    public static class LengthWeigher implements CacheWeigher {
+
+        @Override
+        public int weigh(Object key, Object value) {
+            return value == null ? 1 : value.toString().length();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.quarkus.cache;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Implement this interface to convert the cache values from and to bytes when the off-heap storage is enabled for a Caffeine
+ * cache with the {@code quarkus.cache.caffeine."cache-name".value-codec} property. The implementation is instantiated using
+ * the default constructor and must be thread-safe.
+ */
+public interface CacheValueCodec {
+
+    /**
+     * Encodes a cache value.
+     *
+     * @param value the non-null cache value
+     * @return the encoded value
+     */
+    byte[] encode(Object value);
+
+    /**
+     * Decodes a cache value. The buffer content must not be modified.
+     *
+     * @param buffer the encoded value, positioned at its first byte
+     * @return the decoded value
+     */
+    Object decode(ByteBuffer buffer);
+}
@@ -0,0 +1,18 @@
+package io.quarkus.cache;
+
+/**
+ * Implement this interface to compute the weight of the cache entries when a maximum weight is configured for a Caffeine cache
+ * with the {@code quarkus.cache.caffeine."cache-name".weigher} property. The implementation is instantiated using the default
+ * constructor.
+ */
+public interface CacheWeigher {
+
+    /**
+     * Returns the weight of a cache entry. The weight is computed once, when the entry is written into the cache.
+     *
+     * @param key the cache key
+     * @param value the cache value, possibly {@code null}
+     * @return the non-negative weight of the entry
+     */
+    int weigh(Object key, Object value);
+}
@@ -1,5 +1,7 @@
 package io.quarkus.cache.runtime;
 
+import java.util.function.Function;
+
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.DefaultCacheKey;
 import io.smallrye.mutiny.Uni;
@@ -28,6 +30,16 @@ public <T extends Cache> T as(Class<T> type) {
         }
     }
 
+    /**
+     * Returns a lazy asynchronous action that will emit the cache value identified by {@code key}, obtaining that value from
+     * {@code valueLoader} if necessary. If the cache supports refreshing its entries and the cache value is stale, the stale
+     * value is emitted right away and the item emitted by the {@link Uni} returned by {@code valueReloader} replaces it later
+     * in the background. Caches that do not support refreshing simply delegate to {@link #get(Object, Function)}.
+     */
+    public <K, V> Uni<V> getAndRevalidate(K key, Function<K, V> valueLoader, Function<K, Uni<?>> valueReloader) {
+        return get(key, valueLoader);
+    }
+
     /**
      * Replaces the cache value associated with the given key by an item emitted by a {@link Uni}. This method can be called
      * several times for the same key, each call will then always replace the existing cache entry with the given emitted
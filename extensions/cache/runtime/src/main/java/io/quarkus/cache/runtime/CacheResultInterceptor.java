@@ -53,13 +53,25 @@ public Object intercept(InvocationContext invocationContext) throws Throwable {
         try {
             ReturnType returnType = determineReturnType(invocationContext.getMethod().getReturnType());
             if (returnType != ReturnType.NonAsync) {
-                Uni<Object> cacheValue = cache.get(key, new Function<Object, Object>() {
+                Uni<Object> cacheValue = cache.getAndRevalidate(key, new Function<Object, Object>() {
                     @Override
                     public Object apply(Object k) {
                         LOGGER.debugf("Adding %s entry with key [%s] into cache [%s]",
                                 UnresolvedUniValue.class.getSimpleName(), key, binding.cacheName());
                         return UnresolvedUniValue.INSTANCE;
                     }
+                }, new Function<Object, Uni<?>>() {
+                    @Override
+                    public Uni<?> apply(Object k) {
+                        // The stale value is emitted while the method is invoked in the background (stale-while-revalidate).
+                        try {
+                            return asyncInvocationResultToUni(invocationContext.proceed(), returnType);
+                        } catch (CacheException e) {
+                            throw e;
+                        } catch (Exception e) {
+                            throw new CacheException(e);
+                        }
+                    }
                 }).onItem().transformToUni(new Function<Object, Uni<?>>() {
                     @Override
                     public Uni<?> apply(Object value) {
@@ -34,10 +34,12 @@ public CacheManager get() {
                     for (CaffeineCacheInfo cacheInfo : cacheInfos) {
                         if (LOGGER.isDebugEnabled()) {
                             LOGGER.debugf(
-                                    "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s], "
-                                            + "[expireAfterAccess=%s] and [metricsEnabled=%s]",
+                                    "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], "
+                                            + "[maximumWeight=%s], [offHeapValues=%s], [expireAfterWrite=%s], "
+                                            + "[expireAfterAccess=%s], [refreshAfterWrite=%s] and [metricsEnabled=%s]",
                                     cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize,
-                                    cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess, cacheInfo.metricsEnabled);
+                                    cacheInfo.maximumWeight, cacheInfo.offHeapValues, cacheInfo.expireAfterWrite,
+                                    cacheInfo.expireAfterAccess, cacheInfo.refreshAfterWrite, cacheInfo.metricsEnabled);
                         }
                         /*
                          * Metrics will be recorded for the current cache if:
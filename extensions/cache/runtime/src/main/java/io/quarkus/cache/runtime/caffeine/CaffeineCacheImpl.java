@@ -7,6 +7,7 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -17,11 +18,17 @@
 import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
 import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CacheValueCodec;
+import io.quarkus.cache.CacheWeigher;
 import io.quarkus.cache.CaffeineCache;
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.cache.runtime.UnresolvedUniValue;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 
 /**
  * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application. The public
@@ -30,14 +37,30 @@
 public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
 
     private static final Logger LOGGER = Logger.getLogger(CaffeineCacheImpl.class);
+    private static final CacheWeigher NULL_VALUE_WEIGHER = new CacheWeigher() {
+        @Override
+        public int weigh(Object key, Object value) {
+            return 1;
+        }
+    };
 
     final AsyncCache<Object, Object> cache;
 
     private final CaffeineCacheInfo cacheInfo;
     private final StatsCounter statsCounter;
+    private final long refreshAfterWriteNanos;
+    // This codec is only set when the cache values are stored off-heap.
+    private final CacheValueCodec valueCodec;
 
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         this.cacheInfo = cacheInfo;
+        refreshAfterWriteNanos = cacheInfo.refreshAfterWrite == null ? 0L : cacheInfo.refreshAfterWrite.toNanos();
+        if (cacheInfo.offHeapValues) {
+            valueCodec = cacheInfo.valueCodec == null ? new JavaSerializationCacheValueCodec()
+                    : newInstance(cacheInfo.valueCodec, CacheValueCodec.class);
+        } else {
+            valueCodec = null;
+        }
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
         if (cacheInfo.initialCapacity != null) {
             builder.initialCapacity(cacheInfo.initialCapacity);
@@ -45,6 +68,12 @@ public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         if (cacheInfo.maximumSize != null) {
             builder.maximumSize(cacheInfo.maximumSize);
         }
+        if (cacheInfo.maximumWeight != null) {
+            // Off-heap values weigh their encoded size, the weigher is only required for the on-heap values.
+            CacheWeigher weigher = cacheInfo.weigher == null ? NULL_VALUE_WEIGHER
+                    : newInstance(cacheInfo.weigher, CacheWeigher.class);
+            builder.maximumWeight(cacheInfo.maximumWeight).weigher(new CaffeineCacheWeigher(weigher));
+        }
         if (cacheInfo.expireAfterWrite != null) {
             builder.expireAfterWrite(cacheInfo.expireAfterWrite);
         }
@@ -74,6 +103,11 @@ public String getName() {
 
     @Override
     public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        return getAndRevalidate(key, valueLoader, null);
+    }
+
+    @Override
+    public <K, V> Uni<V> getAndRevalidate(K key, Function<K, V> valueLoader, Function<K, Uni<?>> valueReloader) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
         return Uni.createFrom().completionStage(
                 /*
@@ -83,7 +117,7 @@ public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
                 new Supplier<CompletionStage<V>>() {
                     @Override
                     public CompletionStage<V> get() {
-                        CompletionStage<Object> caffeineValue = getFromCaffeine(key, valueLoader);
+                        CompletionStage<Object> caffeineValue = getFromCaffeine(key, valueLoader, valueReloader);
                         return cast(caffeineValue);
                     }
                 });
@@ -92,21 +126,32 @@ public CompletionStage<V> get() {
     /**
      * Returns a {@link CompletableFuture} holding the cache value identified by {@code key}, obtaining that value from
      * {@code valueLoader} if necessary. The value computation is done synchronously on the calling thread and the
-     * {@link CompletableFuture} is immediately completed before being returned.
+     * {@link CompletableFuture} is immediately completed before being returned. If the refresh-after-write policy is enabled
+     * and the existing cache value is stale, that value is returned and a refresh is started in the background.
      *
      * @param key cache key
      * @param valueLoader function used to compute the cache value if {@code key} is not already associated with a value
+     * @param valueReloader function used to refresh a stale cache value, {@code valueLoader} is used on a worker thread if
+     *        {@code null}
      * @return a {@link CompletableFuture} holding the cache value
      * @throws CacheException if an exception is thrown during the cache value computation
      */
-    private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> valueLoader) {
-        CompletableFuture<Object> newCacheValue = new CompletableFuture<>();
+    private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> valueLoader,
+            Function<K, Uni<?>> valueReloader) {
+        CompletableFuture<Object> newCacheValue = newCacheValue();
         CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
         if (existingCacheValue == null) {
             statsCounter.recordMisses(1);
             try {
                 Object value = valueLoader.apply(key);
-                newCacheValue.complete(NullValueConverter.toCacheValue(value));
+                newCacheValue.complete(toCacheValue(value));
+                if (cacheInfo.maximumWeight != null) {
+                    /*
+                     * Caffeine weighs an incomplete future with 0 and only weighs it again when it is written, so the entry
+                     * has to be replaced by itself once completed to count against the maximum weight.
+                     */
+                    cache.asMap().replace(key, newCacheValue, newCacheValue);
+                }
             } catch (Throwable t) {
                 cache.asMap().remove(key, newCacheValue);
                 newCacheValue.complete(new CaffeineComputationThrowable(t));
@@ -115,10 +160,101 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         } else {
             LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
             statsCounter.recordHits(1);
+            if (refreshAfterWriteNanos > 0L && existingCacheValue instanceof CaffeineCacheValue) {
+                CaffeineCacheValue staleCacheValue = (CaffeineCacheValue) existingCacheValue;
+                if (staleCacheValue.startRefresh(System.nanoTime(), refreshAfterWriteNanos)) {
+                    refresh(key, staleCacheValue, valueLoader, valueReloader);
+                }
+            }
             return unwrapCacheValueOrThrowable(existingCacheValue);
         }
     }
 
+    /**
+     * Recomputes a stale cache value in the background. The stale value is replaced only if it is still associated with
+     * {@code key} when the recomputation completes. Refreshes are recorded as loads in the cache stats.
+     */
+    private <K, V> void refresh(K key, CaffeineCacheValue staleCacheValue, Function<K, V> valueLoader,
+            Function<K, Uni<?>> valueReloader) {
+        LOGGER.debugf("Refreshing entry with key [%s] in cache [%s]", key, cacheInfo.name);
+        long startTime = System.nanoTime();
+        Uni<?> reloadedValue;
+        if (valueReloader == null) {
+            reloadedValue = Uni.createFrom().item(new Supplier<V>() {
+                @Override
+                public V get() {
+                    /*
+                     * The worker thread has no request context, a new one is activated for the duration of the refresh. The
+                     * request scoped beans of the request which triggered the refresh are not available.
+                     */
+                    ManagedContext requestContext = Arc.container().requestContext();
+                    if (requestContext.isActive()) {
+                        return valueLoader.apply(key);
+                    }
+                    requestContext.activate();
+                    try {
+                        return valueLoader.apply(key);
+                    } finally {
+                        requestContext.terminate();
+                    }
+                }
+            }).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+        } else {
+            try {
+                reloadedValue = valueReloader.apply(key);
+            } catch (Throwable t) {
+                reloadedValue = Uni.createFrom().failure(t);
+            }
+        }
+        reloadedValue.subscribe().with(new Consumer<Object>() {
+            @Override
+            public void accept(Object value) {
+                statsCounter.recordLoadSuccess(System.nanoTime() - startTime);
+                CompletableFuture<Object> refreshedCacheValue = newCacheValue();
+                refreshedCacheValue.complete(toCacheValue(value));
+                // If the entry was invalidated or replaced in the meantime, we don't want to put it back.
+                cache.asMap().replace(key, staleCacheValue, refreshedCacheValue);
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                statsCounter.recordLoadFailure(System.nanoTime() - startTime);
+                LOGGER.debugf(failure, "Refresh of entry with key [%s] failed in cache [%s], the stale value is kept", key,
+                        cacheInfo.name);
+                staleCacheValue.refreshFailed();
+            }
+        });
+    }
+
+    /**
+     * Converts a computed value into the object stored into Caffeine. Values are encoded into a direct buffer if the off-heap
+     * storage is enabled, except {@code null} and the placeholder used while a {@link Uni} is not resolved yet.
+     */
+    private Object toCacheValue(Object value) {
+        if (valueCodec == null || value == null || value == UnresolvedUniValue.INSTANCE) {
+            return NullValueConverter.toCacheValue(value);
+        }
+        return new OffHeapCacheValue(valueCodec.encode(value));
+    }
+
+    private static <T> T newInstance(String className, Class<T> type) {
+        try {
+            Class<?> clazz = Class.forName(className, true, Thread.currentThread().getContextClassLoader());
+            return type.cast(clazz.getConstructor().newInstance());
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new CacheException("Unable to create an instance of " + type.getSimpleName() + " [class=" + className + "]",
+                    e);
+        }
+    }
+
+    private CompletableFuture<Object> newCacheValue() {
+        if (refreshAfterWriteNanos > 0L) {
+            return new CaffeineCacheValue(System.nanoTime());
+        } else {
+            return new CompletableFuture<>();
+        }
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
@@ -131,6 +267,8 @@ public Object apply(Object value) {
                     } else {
                         throw new CacheException(cause);
                     }
+                } else if (value instanceof OffHeapCacheValue) {
+                    return valueCodec.decode(((OffHeapCacheValue) value).read());
                 } else {
                     return NullValueConverter.fromCacheValue(value);
                 }
@@ -176,7 +314,9 @@ public CompletableFuture<Object> apply(Object k, CompletableFuture<Object> curre
                                  * The following computed value will always replace the current cache value (whether it is an
                                  * UnresolvedUniValue or not) if this method is called multiple times with the same key.
                                  */
-                                return CompletableFuture.completedFuture(NullValueConverter.toCacheValue(emittedValue));
+                                CompletableFuture<Object> newCacheValue = newCacheValue();
+                                newCacheValue.complete(toCacheValue(emittedValue));
+                                return newCacheValue;
                             }
                         });
                 return null;
@@ -0,0 +1,43 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.quarkus.cache.runtime.UnresolvedUniValue;
+
+/**
+ * This class is used to store the cache values when the refresh-after-write policy is enabled for a cache. It remembers when
+ * the value was written into the cache and guarantees that only one refresh is running at a time for a given entry.
+ */
+class CaffeineCacheValue extends CompletableFuture<Object> {
+
+    private final long writeTime;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    CaffeineCacheValue(long writeTime) {
+        this.writeTime = writeTime;
+    }
+
+    /**
+     * Returns {@code true} if this value is older than {@code refreshAfterWriteNanos} and if the caller is now in charge of
+     * refreshing it. Values which are not computed yet, which hold a computation failure or which are still waiting for a
+     * {@link io.smallrye.mutiny.Uni Uni} to be resolved are never refreshed.
+     */
+    boolean startRefresh(long now, long refreshAfterWriteNanos) {
+        if (now - writeTime < refreshAfterWriteNanos || !isDone() || isCompletedExceptionally()) {
+            return false;
+        }
+        Object value = getNow(null);
+        if (value == UnresolvedUniValue.INSTANCE || value instanceof CaffeineComputationThrowable) {
+            return false;
+        }
+        return refreshing.compareAndSet(false, true);
+    }
+
+    /**
+     * Allows another caller to refresh this value after a refresh failure.
+     */
+    void refreshFailed() {
+        refreshing.set(false);
+    }
+}
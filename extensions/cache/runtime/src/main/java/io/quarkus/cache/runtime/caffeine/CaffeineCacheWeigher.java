@@ -0,0 +1,31 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+import io.quarkus.cache.CacheWeigher;
+import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.cache.runtime.UnresolvedUniValue;
+
+/**
+ * This class adapts a {@link CacheWeigher} to the values actually stored into Caffeine. Placeholder values weigh nothing and
+ * off-heap values weigh their encoded size.
+ */
+class CaffeineCacheWeigher implements Weigher<Object, Object> {
+
+    private final CacheWeigher weigher;
+
+    CaffeineCacheWeigher(CacheWeigher weigher) {
+        this.weigher = weigher;
+    }
+
+    @Override
+    public int weigh(Object key, Object value) {
+        if (value == UnresolvedUniValue.INSTANCE || value instanceof CaffeineComputationThrowable) {
+            return 0;
+        }
+        if (value instanceof OffHeapCacheValue) {
+            return ((OffHeapCacheValue) value).size();
+        }
+        return weigher.weigh(key, NullValueConverter.fromCacheValue(value));
+    }
+}
@@ -0,0 +1,30 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This class holds an encoded cache value in a direct {@link ByteBuffer} when the off-heap storage is enabled for a cache. The
+ * native memory is released when the buffer is garbage collected after the entry has been removed from the cache.
+ */
+class OffHeapCacheValue {
+
+    private final ByteBuffer buffer;
+
+    OffHeapCacheValue(byte[] encodedValue) {
+        buffer = ByteBuffer.allocateDirect(encodedValue.length);
+        buffer.put(encodedValue);
+        buffer.flip();
+    }
+
+    /**
+     * Returns a read-only view of the encoded value. Each call returns a new view so that concurrent readers do not share the
+     * buffer position.
+     */
+    ByteBuffer read() {
+        return buffer.asReadOnlyBuffer();
+    }
+
+    int size() {
+        return buffer.capacity();
+    }
+}
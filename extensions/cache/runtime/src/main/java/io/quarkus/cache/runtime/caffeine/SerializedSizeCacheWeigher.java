@@ -0,0 +1,56 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.CacheWeigher;
+
+/**
+ * This weigher is used when the {@code weigher} property of a cache is set to {@code serialized-size}. The weight of an entry
+ * is the size of its value once serialized with the Java serialization, without allocating the serialized bytes. Values which
+ * cannot be serialized weigh {@code 1}. Every value is serialized when it is written into the cache, so this weigher should
+ * only be used when the values are rarely written.
+ */
+public class SerializedSizeCacheWeigher implements CacheWeigher {
+
+    public static final String NAME = "serialized-size";
+
+    private static final Logger LOGGER = Logger.getLogger(SerializedSizeCacheWeigher.class);
+
+    @Override
+    public int weigh(Object key, Object value) {
+        if (value == null) {
+            return 1;
+        }
+        CountingOutputStream counter = new CountingOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(counter)) {
+            out.writeObject(value);
+        } catch (NotSerializableException e) {
+            LOGGER.debugf("Cache value of type %s is not serializable, its weight is 1", value.getClass().getName());
+            return 1;
+        } catch (IOException e) {
+            // This should never happen since the stream does not perform any I/O.
+            return 1;
+        }
+        return (int) Math.min(counter.count, Integer.MAX_VALUE);
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -86,6 +86,7 @@
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.smallrye.health.deployment.spi.HealthBuildItem;
 import io.quarkus.vertx.deployment.VertxBuildItem;
+import io.quarkus.vertx.http.deployment.FilterBuildItem;
 
 public class GrpcServerProcessor {
 
@@ -624,6 +625,18 @@ ServiceStartBuildItem initializeServer(GrpcServerRecorder recorder,
         return null;
     }
 
+    @BuildStep
+    @Record(value = ExecutionTime.RUNTIME_INIT)
+    void registerHttpFilter(GrpcServerRecorder recorder, List<BindableServiceBuildItem> bindables,
+            BuildProducer<FilterBuildItem> filters) {
+        if (!bindables.isEmpty()) {
+            // The gRPC requests are dispatched before the HTTP authentication kicks in;
+            // the gRPC services are secured by GrpcSecurityInterceptor instead
+            // The global body handler, which runs before any filter, lets the gRPC requests through unbuffered
+            filters.produce(new FilterBuildItem(recorder.createHttpFilter(), FilterBuildItem.AUTHENTICATION + 10));
+        }
+    }
+
     @BuildStep(onlyIf = IsDevelopment.class)
     void definializeGrpcFieldsForDevMode(BuildProducer<BytecodeTransformerBuildItem> transformers) {
         transformers.produce(new BytecodeTransformerBuildItem("io.grpc.internal.InternalHandlerRegistry",
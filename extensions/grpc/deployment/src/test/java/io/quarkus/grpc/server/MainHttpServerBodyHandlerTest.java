@@ -0,0 +1,65 @@
+package io.quarkus.grpc.server;
+
+import java.util.function.Consumer;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.google.protobuf.EmptyProtos;
+
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.examples.helloworld.GreeterGrpc;
+import io.grpc.examples.helloworld.HelloReply;
+import io.grpc.examples.helloworld.HelloReplyOrBuilder;
+import io.grpc.examples.helloworld.HelloRequest;
+import io.grpc.examples.helloworld.HelloRequestOrBuilder;
+import io.grpc.examples.helloworld.MutinyGreeterGrpc;
+import io.grpc.testing.integration.Messages;
+import io.grpc.testing.integration.MutinyTestServiceGrpc;
+import io.grpc.testing.integration.TestServiceGrpc;
+import io.quarkus.builder.BuildChainBuilder;
+import io.quarkus.builder.BuildContext;
+import io.quarkus.builder.BuildStep;
+import io.quarkus.grpc.server.services.AssertHelper;
+import io.quarkus.grpc.server.services.HelloService;
+import io.quarkus.grpc.server.services.TestService;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.http.deployment.RequireBodyHandlerBuildItem;
+
+/**
+ * Test services exposed by the main HTTP server when another extension requires the global body handler.
+ * The gRPC streams must not be consumed by the body handler.
+ */
+public class MainHttpServerBodyHandlerTest extends GrpcServiceTestBase {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .addBuildChainCustomizer(new Consumer<BuildChainBuilder>() {
+                @Override
+                public void accept(BuildChainBuilder buildChainBuilder) {
+                    buildChainBuilder.addBuildStep(new BuildStep() {
+                        @Override
+                        public void execute(BuildContext context) {
+                            context.produce(new RequireBodyHandlerBuildItem());
+                        }
+                    }).produces(RequireBodyHandlerBuildItem.class).build();
+                }
+            })
+            .setFlatClassPath(true).setArchiveProducer(
+                    () -> ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(HelloService.class, TestService.class, AssertHelper.class,
+                                    GreeterGrpc.class, HelloRequest.class, HelloReply.class, MutinyGreeterGrpc.class,
+                                    HelloRequestOrBuilder.class, HelloReplyOrBuilder.class,
+                                    EmptyProtos.class, Messages.class, MutinyTestServiceGrpc.class,
+                                    TestServiceGrpc.class))
+            .overrideConfigKey("quarkus.grpc.server.use-separate-server", "false");
+
+    @Override
+    public void init() {
+        channel = ManagedChannelBuilder.forAddress("localhost", 8081)
+                .usePlaintext()
+                .build();
+    }
+
+}
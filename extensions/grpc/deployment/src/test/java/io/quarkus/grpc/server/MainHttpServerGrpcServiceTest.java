@@ -0,0 +1,60 @@
+package io.quarkus.grpc.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.google.protobuf.EmptyProtos;
+
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.examples.helloworld.GreeterGrpc;
+import io.grpc.examples.helloworld.HelloReply;
+import io.grpc.examples.helloworld.HelloReplyOrBuilder;
+import io.grpc.examples.helloworld.HelloRequest;
+import io.grpc.examples.helloworld.HelloRequestOrBuilder;
+import io.grpc.examples.helloworld.MutinyGreeterGrpc;
+import io.grpc.testing.integration.Messages;
+import io.grpc.testing.integration.MutinyTestServiceGrpc;
+import io.grpc.testing.integration.TestServiceGrpc;
+import io.quarkus.grpc.server.services.AssertHelper;
+import io.quarkus.grpc.server.services.HelloService;
+import io.quarkus.grpc.server.services.TestService;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Test services exposed by the main HTTP server.
+ * Communication uses plain-text.
+ */
+public class MainHttpServerGrpcServiceTest extends GrpcServiceTestBase {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setFlatClassPath(true).setArchiveProducer(
+                    () -> ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(HelloService.class, TestService.class, AssertHelper.class,
+                                    GreeterGrpc.class, HelloRequest.class, HelloReply.class, MutinyGreeterGrpc.class,
+                                    HelloRequestOrBuilder.class, HelloReplyOrBuilder.class,
+                                    EmptyProtos.class, Messages.class, MutinyTestServiceGrpc.class,
+                                    TestServiceGrpc.class))
+            .overrideConfigKey("quarkus.grpc.server.use-separate-server", "false");
+
+    @Override
+    public void init() {
+        channel = ManagedChannelBuilder.forAddress("localhost", 8081)
+                .usePlaintext()
+                .build();
+    }
+
+    @Test
+    public void testManyCallsOnSameChannel() {
+        GreeterGrpc.GreeterBlockingStub stub = GreeterGrpc.newBlockingStub(channel);
+        for (int i = 0; i < 100; i++) {
+            HelloReply reply = stub.sayHello(HelloRequest.newBuilder().setName("neo-" + i).build());
+            assertThat(reply.getMessage()).isEqualTo("Hello neo-" + i);
+        }
+    }
+
+}
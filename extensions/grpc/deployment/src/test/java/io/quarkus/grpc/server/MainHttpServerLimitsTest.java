@@ -0,0 +1,90 @@
+package io.quarkus.grpc.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.grpc.Context;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.examples.helloworld.GreeterGrpc;
+import io.grpc.examples.helloworld.HelloReply;
+import io.grpc.examples.helloworld.HelloRequest;
+import io.grpc.stub.StreamObserver;
+import io.quarkus.grpc.GrpcService;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Test the message size limit and the deadline of the calls served by the main HTTP server.
+ */
+public class MainHttpServerLimitsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setFlatClassPath(true)
+            .setArchiveProducer(
+                    () -> ShrinkWrap.create(JavaArchive.class)
+                            .addPackage(GreeterGrpc.class.getPackage())
+                            .addClasses(DeadlineGreeter.class))
+            .overrideConfigKey("quarkus.grpc.server.use-separate-server", "false")
+            .overrideConfigKey("quarkus.grpc.server.max-inbound-message-size", "1024");
+
+    protected ManagedChannel channel;
+
+    @BeforeEach
+    public void init() {
+        channel = ManagedChannelBuilder.forAddress("localhost", 8081)
+                .usePlaintext()
+                .build();
+    }
+
+    @AfterEach
+    public void shutdown() {
+        if (channel != null) {
+            channel.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCompressedMessageExceedingTheLimitIsRejected() {
+        // The compressed message is far below the limit, the decompressed one is not
+        String name = "a".repeat(64 * 1024);
+        GreeterGrpc.GreeterBlockingStub stub = GreeterGrpc.newBlockingStub(channel).withCompression("gzip");
+        assertThatThrownBy(() -> stub.sayHello(HelloRequest.newBuilder().setName(name).build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED));
+
+        // Compressed messages within the limit are accepted
+        assertThat(stub.sayHello(HelloRequest.newBuilder().setName("neo").build()).getMessage())
+                .isEqualTo("Hello neo");
+    }
+
+    @Test
+    public void testDeadlineIsPropagated() {
+        HelloReply reply = GreeterGrpc.newBlockingStub(channel)
+                .withDeadlineAfter(10, TimeUnit.SECONDS)
+                .sayHello(HelloRequest.newBuilder().setName("neo").build());
+        assertThat(reply.getMessage()).isEqualTo("Hello neo with deadline");
+    }
+
+    @GrpcService
+    static class DeadlineGreeter extends GreeterGrpc.GreeterImplBase {
+
+        @Override
+        public void sayHello(HelloRequest request, StreamObserver<HelloReply> responseObserver) {
+            String suffix = Context.current().getDeadline() != null ? " with deadline" : "";
+            responseObserver.onNext(HelloReply.newBuilder().setMessage("Hello " + request.getName() + suffix).build());
+            responseObserver.onCompleted();
+        }
+    }
+}
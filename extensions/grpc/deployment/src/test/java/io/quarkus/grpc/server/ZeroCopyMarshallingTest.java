@@ -0,0 +1,71 @@
+package io.quarkus.grpc.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.google.protobuf.EmptyProtos;
+
+import io.grpc.examples.helloworld.GreeterGrpc;
+import io.grpc.examples.helloworld.HelloReply;
+import io.grpc.examples.helloworld.HelloReplyOrBuilder;
+import io.grpc.examples.helloworld.HelloRequest;
+import io.grpc.examples.helloworld.HelloRequestOrBuilder;
+import io.grpc.examples.helloworld.MutinyGreeterGrpc;
+import io.grpc.testing.integration.Messages;
+import io.grpc.testing.integration.MutinyTestServiceGrpc;
+import io.grpc.testing.integration.TestServiceGrpc;
+import io.quarkus.grpc.GrpcClient;
+import io.quarkus.grpc.server.services.AssertHelper;
+import io.quarkus.grpc.server.services.HelloService;
+import io.quarkus.grpc.server.services.TestService;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Test services and clients parsing the messages directly from the transport buffers.
+ */
+public class ZeroCopyMarshallingTest extends GrpcServiceTestBase {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setFlatClassPath(true).setArchiveProducer(
+                    () -> ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(HelloService.class, TestService.class, AssertHelper.class,
+                                    GreeterGrpc.class, HelloRequest.class, HelloReply.class, MutinyGreeterGrpc.class,
+                                    HelloRequestOrBuilder.class, HelloReplyOrBuilder.class,
+                                    EmptyProtos.class, Messages.class, MutinyTestServiceGrpc.class,
+                                    TestServiceGrpc.class, HelloConsumer.class))
+            .overrideConfigKey("quarkus.grpc.server.zero-copy-marshalling", "true")
+            .overrideConfigKey("quarkus.grpc.clients.hello.host", "localhost")
+            .overrideConfigKey("quarkus.grpc.clients.hello.port", "9001")
+            .overrideConfigKey("quarkus.grpc.clients.hello.zero-copy-marshalling", "true");
+
+    @Inject
+    HelloConsumer consumer;
+
+    @Test
+    public void testLargeMessagesWithZeroCopyClient() {
+        String name = "neo".repeat(100_000);
+        for (int i = 0; i < 10; i++) {
+            assertThat(consumer.sayHello(name)).isEqualTo("Hello " + name);
+        }
+    }
+
+    @Singleton
+    static class HelloConsumer {
+
+        @GrpcClient("hello")
+        GreeterGrpc.GreeterBlockingStub stub;
+
+        String sayHello(String name) {
+            return stub.sayHello(HelloRequest.newBuilder().setName(name).build()).getMessage();
+        }
+    }
+
+}
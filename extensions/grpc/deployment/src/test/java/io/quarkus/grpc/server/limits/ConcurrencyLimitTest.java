@@ -0,0 +1,97 @@
+package io.quarkus.grpc.server.limits;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.google.common.util.concurrent.ListenableFuture;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.examples.helloworld.GreeterGrpc;
+import io.grpc.examples.helloworld.HelloReply;
+import io.grpc.examples.helloworld.HelloRequest;
+import io.grpc.stub.StreamObserver;
+import io.quarkus.grpc.GrpcService;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.common.annotation.Blocking;
+
+public class ConcurrencyLimitTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setFlatClassPath(true)
+            .setArchiveProducer(
+                    () -> ShrinkWrap.create(JavaArchive.class)
+                            .addPackage(GreeterGrpc.class.getPackage())
+                            .addClasses(SlowGreeter.class))
+            .overrideConfigKey("quarkus.grpc.server.limits.\"helloworld.Greeter/SayHello\".max-concurrent-calls", "1");
+
+    protected ManagedChannel channel;
+
+    @BeforeEach
+    public void init() {
+        channel = ManagedChannelBuilder.forAddress("localhost", 9001)
+                .usePlaintext()
+                .build();
+    }
+
+    @AfterEach
+    public void shutdown() {
+        if (channel != null) {
+            channel.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCallsExceedingTheLimitAreRejected() throws Exception {
+        ListenableFuture<HelloReply> first = GreeterGrpc.newFutureStub(channel)
+                .sayHello(HelloRequest.newBuilder().setName("neo").build());
+        assertThat(SlowGreeter.STARTED.await(5, TimeUnit.SECONDS)).isTrue();
+
+        GreeterGrpc.GreeterBlockingStub stub = GreeterGrpc.newBlockingStub(channel);
+        assertThatThrownBy(() -> stub.sayHello(HelloRequest.newBuilder().setName("trinity").build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED));
+
+        SlowGreeter.BLOCKING.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).getMessage()).isEqualTo("Hello neo");
+        // The limit is released once the call completes
+        assertThat(stub.sayHello(HelloRequest.newBuilder().setName("morpheus").build()).getMessage())
+                .isEqualTo("Hello morpheus");
+    }
+
+    @GrpcService
+    static class SlowGreeter extends GreeterGrpc.GreeterImplBase {
+
+        static final CountDownLatch STARTED = new CountDownLatch(1);
+        static final CountDownLatch BLOCKING = new CountDownLatch(1);
+
+        @Blocking
+        @Override
+        public void sayHello(HelloRequest request, StreamObserver<HelloReply> responseObserver) {
+            STARTED.countDown();
+            try {
+                if (!BLOCKING.await(10, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("sayHello() blocked too long");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            responseObserver.onNext(HelloReply.newBuilder().setMessage("Hello " + request.getName()).build());
+            responseObserver.onCompleted();
+        }
+    }
+}
@@ -1,9 +1,16 @@
 package io.quarkus.grpc.runtime;
 
 import java.util.Set;
+import java.util.function.Consumer;
 
+import io.grpc.LoadBalancerProvider;
+import io.grpc.LoadBalancerRegistry;
+import io.quarkus.grpc.runtime.lb.LeastRequestLoadBalancerProvider;
+import io.quarkus.grpc.runtime.lb.LoadBalancerMetrics;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 @Recorder
 public class GrpcClientRecorder {
@@ -13,4 +20,25 @@ public RuntimeValue<ClientInterceptorStorage> initClientInterceptorStorage(Set<C
         return new RuntimeValue<>(new ClientInterceptorStorage(perClientInterceptors, globalInterceptors));
     }
 
+    public void registerLoadBalancers(ShutdownContext shutdown) {
+        LoadBalancerProvider provider = new LeastRequestLoadBalancerProvider();
+        LoadBalancerRegistry.getDefaultRegistry().register(provider);
+        // The registry is global, deregister the provider so that dev mode restarts do not accumulate providers
+        shutdown.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                LoadBalancerRegistry.getDefaultRegistry().deregister(provider);
+            }
+        });
+    }
+
+    public Consumer<MetricsFactory> registerLoadBalancerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                LoadBalancerMetrics.setMetricsFactory(metricsFactory);
+            }
+        };
+    }
+
 }
@@ -16,6 +16,7 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -31,21 +32,29 @@
 
 import grpc.health.v1.HealthOuterClass;
 import io.grpc.BindableService;
+import io.grpc.MethodDescriptor;
 import io.grpc.ServerInterceptor;
 import io.grpc.ServerInterceptors;
 import io.grpc.ServerMethodDefinition;
 import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.Subclass;
 import io.quarkus.grpc.runtime.config.GrpcConfiguration;
 import io.quarkus.grpc.runtime.config.GrpcServerConfiguration;
+import io.quarkus.grpc.runtime.config.GrpcServerLimitConfig;
 import io.quarkus.grpc.runtime.config.GrpcServerNettyConfig;
 import io.quarkus.grpc.runtime.devmode.GrpcHotReplacementInterceptor;
 import io.quarkus.grpc.runtime.devmode.GrpcServerReloader;
 import io.quarkus.grpc.runtime.health.GrpcHealthStorage;
+import io.quarkus.grpc.runtime.http.GrpcHttpHandler;
 import io.quarkus.grpc.runtime.reflection.ReflectionService;
 import io.quarkus.grpc.runtime.supports.CompressionInterceptor;
+import io.quarkus.grpc.runtime.supports.ZeroCopyMarshalling;
 import io.quarkus.grpc.runtime.supports.blocking.BlockingServerInterceptor;
+import io.quarkus.grpc.runtime.supports.limits.ConcurrencyLimitServerInterceptor;
+import io.quarkus.grpc.runtime.supports.limits.ConcurrencyLimiter;
+import io.quarkus.grpc.stubs.ServerCalls;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.QuarkusBindException;
 import io.quarkus.runtime.RuntimeValue;
@@ -60,6 +69,7 @@
 import io.vertx.core.Verticle;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpServerOptions;
+import io.vertx.ext.web.RoutingContext;
 import io.vertx.grpc.VertxServer;
 import io.vertx.grpc.VertxServerBuilder;
 
@@ -67,11 +77,16 @@
 public class GrpcServerRecorder {
     private static final Logger LOGGER = Logger.getLogger(GrpcServerRecorder.class.getName());
 
+    // The default value used by grpc-java, see GrpcUtil#DEFAULT_MAX_MESSAGE_SIZE
+    private static final int DEFAULT_MAX_MESSAGE_SIZE = 4 * 1024 * 1024;
+
     private static final AtomicInteger grpcVerticleCount = new AtomicInteger(0);
     private Map<String, List<String>> blockingMethodsPerService = Collections.emptyMap();
+    private final Map<String, ConcurrencyLimiter> concurrencyLimiters = new ConcurrentHashMap<>();
 
     private static volatile DevModeWrapper devModeWrapper;
     private static volatile List<GrpcServiceDefinition> services = Collections.emptyList();
+    private static volatile GrpcHttpHandler httpHandler;
 
     public static List<GrpcServiceDefinition> getServices() {
         return services;
@@ -93,8 +108,11 @@ public void initializeGrpcServer(RuntimeValue<Vertx> vertxSupplier,
         this.blockingMethodsPerService = blockingMethodsPerServiceImplementationClass;
 
         GrpcServerConfiguration configuration = cfg.server;
+        ServerCalls.setStreamingInboundWindow(configuration.streamingInboundWindow);
 
-        if (launchMode == LaunchMode.DEVELOPMENT) {
+        if (!configuration.useSeparateServer) {
+            sharedServerStart(grpcContainer, vertx, configuration, shutdown, launchMode);
+        } else if (launchMode == LaunchMode.DEVELOPMENT) {
             // start single server, not in a verticle, regardless of the configuration.instances
             // for reason unknown to me, verticles occasionally get undeployed on dev mode reload
             if (GrpcServerReloader.getServer() == null) {
@@ -144,6 +162,63 @@ public void handle(AsyncResult<String> result) {
         }
     }
 
+    private void sharedServerStart(GrpcContainer grpcContainer, Vertx vertx, GrpcServerConfiguration configuration,
+            ShutdownContext shutdown, LaunchMode launchMode) {
+        List<GrpcServiceDefinition> toBeRegistered = collectServiceDefinitions(grpcContainer.getServices());
+        List<ServerServiceDefinition> definitions = new ArrayList<>();
+        List<ServerServiceDefinition> interceptedDefinitions = new ArrayList<>();
+        // The global interceptors wrap the per-service interceptors, the same way VertxServerBuilder#intercept() does
+        List<ServerInterceptor> globalInterceptors = grpcContainer.getSortedGlobalInterceptors();
+
+        CompressionInterceptor compressionInterceptor = prepareCompressionInterceptor(configuration);
+
+        for (GrpcServiceDefinition service : toBeRegistered) {
+            ServerServiceDefinition serviceDefinition = serviceWithInterceptors(vertx, grpcContainer,
+                    compressionInterceptor, service, launchMode == LaunchMode.DEVELOPMENT, configuration);
+            interceptedDefinitions.add(ServerInterceptors.intercept(serviceDefinition, globalInterceptors));
+            LOGGER.debugf("Registered gRPC service '%s'", service.definition.getServiceDescriptor().getName());
+            definitions.add(service.definition);
+        }
+
+        if (configuration.enableReflectionService || launchMode == LaunchMode.DEVELOPMENT) {
+            LOGGER.info("Registering gRPC reflection service");
+            interceptedDefinitions.add(ServerInterceptors.intercept(new ReflectionService(definitions),
+                    globalInterceptors));
+        }
+
+        int maxInboundMessageSize = configuration.maxInboundMessageSize.orElse(DEFAULT_MAX_MESSAGE_SIZE);
+        httpHandler = new GrpcHttpHandler(vertx, interceptedDefinitions, maxInboundMessageSize);
+        shutdown.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                httpHandler = null;
+            }
+        });
+
+        initHealthStorage();
+        LOGGER.info("gRPC services are served by the main HTTP server");
+    }
+
+    /**
+     * The returned handler dispatches the gRPC requests received by the main HTTP server to the gRPC services, if the
+     * services are not served by a separate gRPC server.
+     *
+     * @return the filter handler
+     */
+    public Handler<RoutingContext> createHttpFilter() {
+        return new Handler<RoutingContext>() {
+            @Override
+            public void handle(RoutingContext ctx) {
+                GrpcHttpHandler handler = httpHandler;
+                if (handler == null) {
+                    ctx.next();
+                } else {
+                    handler.handle(ctx);
+                }
+            }
+        };
+    }
+
     private void postStartup(GrpcServerConfiguration configuration, boolean test) {
         initHealthStorage();
         LOGGER.infof("gRPC Server started on %s:%d [SSL enabled: %s]",
@@ -213,6 +288,9 @@ private void applyNettySettings(GrpcServerConfiguration configuration, VertxServ
             GrpcServerNettyConfig config = configuration.netty;
             config.keepAliveTime.ifPresent(duration -> builder.nettyBuilder()
                     .keepAliveTime(duration.toNanos(), TimeUnit.NANOSECONDS));
+            if (config.flowControlWindow.isPresent()) {
+                builder.nettyBuilder().flowControlWindow(config.flowControlWindow.getAsInt());
+            }
         }
     }
 
@@ -307,7 +385,8 @@ private void devModeReload(GrpcContainer grpcContainer, Vertx vertx, GrpcServerC
         List<ServerServiceDefinition> servicesWithInterceptors = new ArrayList<>();
         CompressionInterceptor compressionInterceptor = prepareCompressionInterceptor(configuration);
         for (GrpcServiceDefinition service : services) {
-            servicesWithInterceptors.add(serviceWithInterceptors(vertx, grpcContainer, compressionInterceptor, service, true));
+            servicesWithInterceptors.add(serviceWithInterceptors(vertx, grpcContainer, compressionInterceptor, service, true,
+                    configuration));
         }
 
         for (ServerServiceDefinition serviceWithInterceptors : servicesWithInterceptors) {
@@ -384,7 +463,7 @@ public void handle(HttpServerOptions options) {
         for (GrpcServiceDefinition service : toBeRegistered) {
             builder.addService(
                     serviceWithInterceptors(vertx, grpcContainer, compressionInterceptor, service,
-                            launchMode == LaunchMode.DEVELOPMENT));
+                            launchMode == LaunchMode.DEVELOPMENT, configuration));
             LOGGER.debugf("Registered gRPC service '%s'", service.definition.getServiceDescriptor().getName());
             definitions.add(service.definition);
         }
@@ -441,7 +520,8 @@ private CompressionInterceptor prepareCompressionInterceptor(GrpcServerConfigura
     }
 
     private ServerServiceDefinition serviceWithInterceptors(Vertx vertx, GrpcContainer grpcContainer,
-            CompressionInterceptor compressionInterceptor, GrpcServiceDefinition service, boolean devMode) {
+            CompressionInterceptor compressionInterceptor, GrpcServiceDefinition service, boolean devMode,
+            GrpcServerConfiguration configuration) {
         List<ServerInterceptor> interceptors = new ArrayList<>();
         if (compressionInterceptor != null) {
             interceptors.add(compressionInterceptor);
@@ -456,7 +536,56 @@ private ServerServiceDefinition serviceWithInterceptors(Vertx vertx, GrpcContain
                 interceptors.add(new BlockingServerInterceptor(vertx, list, devMode));
             }
         }
-        return ServerInterceptors.intercept(service.definition, interceptors);
+
+        // The calls exceeding the limits are rejected before being dispatched to a worker thread
+        ConcurrencyLimitServerInterceptor limitInterceptor = prepareConcurrencyLimitInterceptor(configuration,
+                service.definition.getServiceDescriptor());
+        if (limitInterceptor != null) {
+            interceptors.add(limitInterceptor);
+        }
+        ServerServiceDefinition definition = ServerInterceptors.intercept(service.definition, interceptors);
+        return configuration.zeroCopyMarshalling ? ZeroCopyMarshalling.apply(definition) : definition;
+    }
+
+    /**
+     * Concurrency limit interceptor if a limit is configured for the service or one of its methods, null otherwise
+     *
+     * @param configuration gRPC server configuration
+     * @param service the service descriptor
+     * @return interceptor or null
+     */
+    private ConcurrencyLimitServerInterceptor prepareConcurrencyLimitInterceptor(GrpcServerConfiguration configuration,
+            ServiceDescriptor service) {
+        if (configuration.limits.isEmpty()) {
+            return null;
+        }
+        ConcurrencyLimiter serviceLimiter = getConcurrencyLimiter(configuration, service.getName());
+        Map<String, ConcurrencyLimiter> methodLimiters = new HashMap<>();
+        for (MethodDescriptor<?, ?> method : service.getMethods()) {
+            ConcurrencyLimiter limiter = getConcurrencyLimiter(configuration, method.getFullMethodName());
+            if (limiter != null) {
+                methodLimiters.put(method.getFullMethodName(), limiter);
+            }
+        }
+        if (serviceLimiter == null && methodLimiters.isEmpty()) {
+            return null;
+        }
+        return new ConcurrencyLimitServerInterceptor(serviceLimiter, methodLimiters);
+    }
+
+    private ConcurrencyLimiter getConcurrencyLimiter(GrpcServerConfiguration configuration, String name) {
+        GrpcServerLimitConfig config = configuration.limits.get(name);
+        if (config == null) {
+            return null;
+        }
+        // The limiters are shared by all the server instances
+        return concurrencyLimiters.computeIfAbsent(name, new Function<String, ConcurrencyLimiter>() {
+            @Override
+            public ConcurrencyLimiter apply(String key) {
+                return new ConcurrencyLimiter(config.maxConcurrentCalls, config.adaptive, config.minLimit,
+                        config.maxLimit);
+            }
+        });
     }
 
     private class GrpcServerVerticle extends AbstractVerticle {
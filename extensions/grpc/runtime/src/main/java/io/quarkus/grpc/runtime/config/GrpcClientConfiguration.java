@@ -147,12 +147,20 @@ public class GrpcClientConfiguration {
 
     /**
      * Use a custom load balancing policy.
-     * Accepted values are: {@code pick_value}, {@code round_robin}, {@code grpclb}.
+     * Accepted values are: {@code pick_value}, {@code round_robin}, {@code grpclb}, {@code least_request}.
      * This value is ignored if name-resolver is set to 'stork'.
      */
     @ConfigItem(defaultValue = "pick_first")
     public String loadBalancingPolicy;
 
+    /**
+     * Configures the {@code least_request} load balancing policy.
+     * This policy picks the least loaded of randomly selected endpoints, according to the number of outstanding requests
+     * and the latency of the endpoints, and ejects the failing endpoints.
+     */
+    @ConfigItem
+    public LeastRequestConfig leastRequest;
+
     /**
      * The compression to use for each call. The accepted values are {@code gzip} and {@code identity}.
      */
@@ -168,4 +176,13 @@ public class GrpcClientConfiguration {
      */
     @ConfigItem
     public Optional<Duration> deadline;
+
+    /**
+     * Whether the protobuf response messages are parsed directly from the transport buffers.
+     * <p>
+     * The {@code bytes} fields of the messages then reference the transport buffers instead of copies. The buffers are
+     * released when the call is closed, so the messages must not be used afterwards.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean zeroCopyMarshalling;
 }
@@ -1,9 +1,12 @@
 package io.quarkus.grpc.runtime.config;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
+import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
 
@@ -11,6 +14,18 @@
 @ConfigGroup
 public class GrpcServerConfiguration {
 
+    /**
+     * Whether the gRPC services are served by a separate gRPC server.
+     * <p>
+     * If set to {@code false}, the gRPC services are mounted on the main HTTP server instead. The services then share the
+     * port, the TLS configuration, the connections and the event loops with the HTTP endpoints, and the {@code port},
+     * {@code test-port}, {@code host}, {@code ssl}, {@code plain-text}, {@code alpn}, {@code transport-security},
+     * {@code instances} and {@code netty} properties are ignored. The main HTTP server must accept HTTP/2, see
+     * {@code quarkus.http.http2}.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean useSeparateServer;
+
     /**
      * The gRPC Server port.
      */
@@ -97,4 +112,33 @@ public class GrpcServerConfiguration {
      */
     @ConfigItem
     public Optional<String> compression;
+
+    /**
+     * Whether the protobuf request messages are parsed directly from the transport buffers.
+     * <p>
+     * The {@code bytes} fields of the messages then reference the transport buffers instead of copies. The buffers are
+     * released when the call completes or is cancelled, so the messages must not be used afterwards. This avoids copying
+     * large messages, but retains the buffers of all the messages of a streaming call until the call completes.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean zeroCopyMarshalling;
+
+    /**
+     * The number of messages of a client or bidirectional streaming call requested from the client before they are
+     * consumed by a service implemented with the Mutiny API.
+     * More messages are requested as the service consumes them, so a fast client cannot make the server buffer an
+     * unbounded number of messages. If set to `0`, the messages are requested as soon as they are received.
+     */
+    @ConfigItem(defaultValue = "128")
+    public int streamingInboundWindow;
+
+    /**
+     * The concurrency limits.
+     * The key is either a service name, e.g. `helloworld.Greeter`, or a full method name, e.g.
+     * `"helloworld.Greeter/SayHello"`. The limit of a service is shared by all its methods without a dedicated limit.
+     */
+    @ConfigDocSection
+    @ConfigDocMapKey("service-or-method-name")
+    @ConfigItem
+    public Map<String, GrpcServerLimitConfig> limits;
 }
@@ -0,0 +1,36 @@
+package io.quarkus.grpc.runtime.config;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class GrpcServerLimitConfig {
+
+    /**
+     * The maximum number of concurrent calls.
+     * If the limit is adaptive, this is the initial limit.
+     * The calls exceeding the limit are rejected with the `RESOURCE_EXHAUSTED` status.
+     */
+    @ConfigItem(defaultValue = "100")
+    public int maxConcurrentCalls;
+
+    /**
+     * Whether the limit is adjusted according to the latency of the calls.
+     * The limit decreases as soon as the latency increases, e.g. because the calls wait for a worker thread or for a
+     * downstream service, and increases while the latency is stable.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean adaptive;
+
+    /**
+     * The minimum limit if the limit is adaptive.
+     */
+    @ConfigItem(defaultValue = "1")
+    public int minLimit;
+
+    /**
+     * The maximum limit if the limit is adaptive.
+     */
+    @ConfigItem(defaultValue = "1000")
+    public int maxLimit;
+}
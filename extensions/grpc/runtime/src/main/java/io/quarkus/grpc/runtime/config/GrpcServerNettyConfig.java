@@ -2,6 +2,7 @@
 
 import java.time.Duration;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
@@ -17,4 +18,11 @@ public class GrpcServerNettyConfig {
     @ConfigItem
     public Optional<Duration> keepAliveTime;
 
+    /**
+     * Sets the HTTP/2 flow control window in bytes, i.e. the amount of data a client may send on a stream before the
+     * received messages are consumed. If not set, the window is adjusted automatically according to the bandwidth.
+     */
+    @ConfigItem
+    public OptionalInt flowControlWindow;
+
 }
@@ -0,0 +1,36 @@
+package io.quarkus.grpc.runtime.config;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class LeastRequestConfig {
+
+    /**
+     * The number of randomly selected endpoints compared for each call. The least loaded one is picked.
+     */
+    @ConfigItem(defaultValue = "2")
+    public int choiceCount;
+
+    /**
+     * The number of consecutive failed calls after which an endpoint is ejected.
+     * The calls failing with `UNAVAILABLE`, `INTERNAL`, `UNKNOWN` or `DEADLINE_EXCEEDED` are considered failed.
+     * If set to `0`, the endpoints are never ejected.
+     */
+    @ConfigItem(defaultValue = "5")
+    public int ejectionConsecutiveFailures;
+
+    /**
+     * The ejection duration. It is multiplied by the number of times the endpoint was ejected, up to 10 times.
+     */
+    @ConfigItem(defaultValue = "30S")
+    public Duration ejectionTime;
+
+    /**
+     * The maximum percentage of ejected endpoints.
+     */
+    @ConfigItem(defaultValue = "50")
+    public int maxEjectionPercent;
+}
@@ -0,0 +1,88 @@
+package io.quarkus.grpc.runtime.http;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.logging.Logger;
+
+import io.grpc.Metadata;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the gRPC services on the main HTTP server.
+ * <p>
+ * The gRPC requests, i.e. HTTP/2 {@code POST} requests with the {@code application/grpc} content type, are dispatched to the
+ * service methods. Any other request is passed to the next handler.
+ */
+public final class GrpcHttpHandler implements Handler<RoutingContext> {
+
+    private static final Logger LOGGER = Logger.getLogger(GrpcHttpHandler.class);
+
+    static final String CONTENT_TYPE = "application/grpc";
+
+    private final Vertx vertx;
+    // full method name -> method
+    private final Map<String, ServerMethodDefinition<?, ?>> methods;
+    private final int maxInboundMessageSize;
+
+    public GrpcHttpHandler(Vertx vertx, List<ServerServiceDefinition> services, int maxInboundMessageSize) {
+        this.vertx = vertx;
+        this.maxInboundMessageSize = maxInboundMessageSize;
+        this.methods = new HashMap<>();
+        for (ServerServiceDefinition service : services) {
+            for (ServerMethodDefinition<?, ?> method : service.getMethods()) {
+                methods.put(method.getMethodDescriptor().getFullMethodName(), method);
+            }
+        }
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        HttpServerRequest request = ctx.request();
+        if (!isGrpcRequest(request)) {
+            ctx.next();
+            return;
+        }
+        String path = request.path();
+        ServerMethodDefinition<?, ?> method = path.length() > 1 ? methods.get(path.substring(1)) : null;
+        if (method == null) {
+            LOGGER.debugf("gRPC method not found: %s", path);
+            GrpcHttpServerCall.sendTrailersOnly(request.response(),
+                    Status.UNIMPLEMENTED.withDescription("Method not found: " + path.substring(1)), new Metadata());
+            return;
+        }
+        startCall(request, method);
+    }
+
+    private <Req, Resp> void startCall(HttpServerRequest request, ServerMethodDefinition<Req, Resp> method) {
+        new GrpcHttpServerCall<>(vertx, request, method.getMethodDescriptor(), maxInboundMessageSize)
+                .start(method.getServerCallHandler());
+    }
+
+    static boolean isGrpcRequest(HttpServerRequest request) {
+        if (request.version() != HttpVersion.HTTP_2 || request.method() != HttpMethod.POST) {
+            return false;
+        }
+        String contentType = request.getHeader(HttpHeaders.CONTENT_TYPE);
+        if (contentType == null || !contentType.startsWith(CONTENT_TYPE)) {
+            return false;
+        }
+        // application/grpc, application/grpc+proto, application/grpc;charset=... but not application/grpc-web
+        if (contentType.length() == CONTENT_TYPE.length()) {
+            return true;
+        }
+        char next = contentType.charAt(CONTENT_TYPE.length());
+        return next == '+' || next == ';';
+    }
+
+}
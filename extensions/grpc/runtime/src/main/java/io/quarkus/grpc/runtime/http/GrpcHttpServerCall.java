@@ -0,0 +1,553 @@
+package io.quarkus.grpc.runtime.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.logging.Logger;
+
+import io.grpc.Attributes;
+import io.grpc.Contexts;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+import io.vertx.core.Context;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.net.SocketAddress;
+
+/**
+ * A gRPC call served by the main HTTP server.
+ * <p>
+ * The request messages are parsed from the HTTP/2 request stream and delivered to the listener according to the demand
+ * signaled with {@link #request(int)}. The request stream is paused while there is no demand. The listener is always
+ * notified on the event loop of the request; the methods of this call may be invoked from any thread.
+ */
+final class GrpcHttpServerCall<Req, Resp> extends ServerCall<Req, Resp> {
+
+    private static final Logger LOGGER = Logger.getLogger(GrpcHttpServerCall.class);
+
+    static final String GRPC_STATUS = "grpc-status";
+    static final String GRPC_MESSAGE = "grpc-message";
+    static final String GRPC_ENCODING = "grpc-encoding";
+    static final String GRPC_ACCEPT_ENCODING = "grpc-accept-encoding";
+    static final String GRPC_TIMEOUT = "grpc-timeout";
+    static final String GZIP = "gzip";
+    static final String IDENTITY = "identity";
+
+    // The headers that are not exposed as metadata
+    private static final Set<String> RESERVED_HEADERS = Set.of(HttpHeaders.CONTENT_TYPE.toString(), "te", GRPC_TIMEOUT,
+            GRPC_ENCODING, GRPC_ACCEPT_ENCODING);
+
+    private static final int HEADER_LENGTH = 5;
+
+    private final Context context;
+    private final HttpServerRequest request;
+    private final HttpServerResponse response;
+    private final MethodDescriptor<Req, Resp> method;
+    private final int maxInboundMessageSize;
+    private final String requestEncoding;
+
+    // The following fields are only accessed on the event loop of the request
+    private final ArrayDeque<byte[]> pending = new ArrayDeque<>();
+    private Buffer buffer = Buffer.buffer();
+    private Listener<Req> listener;
+    private io.grpc.Context.CancellableContext grpcContext;
+    private long demand;
+    private boolean delivering;
+    private boolean requestEnded;
+    private boolean halfClosed;
+    private boolean headersSent;
+
+    private volatile boolean closed;
+    private volatile boolean cancelled;
+    private volatile String compression;
+
+    GrpcHttpServerCall(Vertx vertx, HttpServerRequest request, MethodDescriptor<Req, Resp> method,
+            int maxInboundMessageSize) {
+        this.context = vertx.getOrCreateContext();
+        this.request = request;
+        this.response = request.response();
+        this.method = method;
+        this.maxInboundMessageSize = maxInboundMessageSize;
+        String encoding = request.getHeader(GRPC_ENCODING);
+        this.requestEncoding = encoding == null ? IDENTITY : encoding;
+    }
+
+    void start(ServerCallHandler<Req, Resp> handler) {
+        request.pause();
+        if (!IDENTITY.equals(requestEncoding) && !GZIP.equals(requestEncoding)) {
+            sendTrailersOnly(response, Status.UNIMPLEMENTED.withDescription("Unsupported encoding: " + requestEncoding),
+                    new Metadata());
+            closed = true;
+            return;
+        }
+        long timeoutNanos = parseTimeout(request.getHeader(GRPC_TIMEOUT));
+        if (timeoutNanos >= 0) {
+            // Same as the Netty transport: the deadline is scheduled on the event loop of the call
+            grpcContext = io.grpc.Context.current().withDeadlineAfter(timeoutNanos, TimeUnit.NANOSECONDS,
+                    ((ContextInternal) context).nettyEventLoop());
+            grpcContext.addListener(this::onContextCancelled, this::execute);
+        } else {
+            grpcContext = io.grpc.Context.current().withCancellation();
+        }
+        request.handler(this::onData);
+        request.endHandler(v -> {
+            requestEnded = true;
+            deliver();
+        });
+        request.exceptionHandler(t -> onCancel());
+        response.closeHandler(v -> onCancel());
+        response.drainHandler(v -> notifyListener(Listener::onReady));
+
+        Metadata headers = toMetadata(request.headers());
+        io.grpc.Context previous = grpcContext.attach();
+        try {
+            listener = handler.startCall(this, headers);
+        } catch (Throwable t) {
+            LOGGER.debugf(t, "Unable to start the call of %s", method.getFullMethodName());
+            close(Status.fromThrowable(t), new Metadata());
+            return;
+        } finally {
+            grpcContext.detach(previous);
+        }
+        notifyListener(Listener::onReady);
+        deliver();
+    }
+
+    @Override
+    public void request(int numMessages) {
+        execute(() -> {
+            demand = Math.min(Long.MAX_VALUE - numMessages, demand) + numMessages;
+            deliver();
+        });
+    }
+
+    @Override
+    public void sendHeaders(Metadata headers) {
+        execute(() -> {
+            if (closed || headersSent) {
+                return;
+            }
+            writeHeaders(headers);
+        });
+    }
+
+    @Override
+    public void sendMessage(Resp message) {
+        // Serialize the message on the caller thread
+        Buffer frame = frame(serialize(message), compression);
+        execute(() -> {
+            if (closed) {
+                return;
+            }
+            if (!headersSent) {
+                writeHeaders(new Metadata());
+            }
+            response.write(frame);
+        });
+    }
+
+    @Override
+    public boolean isReady() {
+        return !closed && !response.writeQueueFull();
+    }
+
+    @Override
+    public void close(Status status, Metadata trailers) {
+        execute(() -> {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (!headersSent) {
+                sendTrailersOnly(response, status, trailers).onComplete(ar -> complete(ar.succeeded()));
+            } else {
+                response.putTrailer(GRPC_STATUS, String.valueOf(status.getCode().value()));
+                if (status.getDescription() != null) {
+                    response.putTrailer(GRPC_MESSAGE, encodeMessage(status.getDescription()));
+                }
+                putMetadata(trailers, response.trailers());
+                response.end().onComplete(ar -> complete(ar.succeeded()));
+            }
+        });
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public void setCompression(String compressor) {
+        if (GZIP.equals(compressor)) {
+            compression = GZIP;
+        } else if (IDENTITY.equals(compressor)) {
+            compression = null;
+        } else {
+            throw new IllegalArgumentException("Unsupported compressor: " + compressor);
+        }
+    }
+
+    @Override
+    public MethodDescriptor<Req, Resp> getMethodDescriptor() {
+        return method;
+    }
+
+    @Override
+    public Attributes getAttributes() {
+        SocketAddress remote = request.remoteAddress();
+        if (remote == null || remote.host() == null) {
+            return Attributes.EMPTY;
+        }
+        return Attributes.newBuilder()
+                .set(Grpc.TRANSPORT_ATTR_REMOTE_ADDR, InetSocketAddress.createUnresolved(remote.host(), remote.port()))
+                .build();
+    }
+
+    @Override
+    public String getAuthority() {
+        return request.host();
+    }
+
+    private void execute(Runnable action) {
+        if (Context.isOnEventLoopThread() && Vertx.currentContext() == context) {
+            action.run();
+        } else {
+            context.runOnContext(v -> action.run());
+        }
+    }
+
+    private void onData(Buffer data) {
+        if (closed) {
+            return;
+        }
+        buffer.appendBuffer(data);
+        int readIndex = 0;
+        int length = buffer.length();
+        while (length - readIndex >= HEADER_LENGTH) {
+            byte flags = buffer.getByte(readIndex);
+            int messageLength = buffer.getInt(readIndex + 1);
+            if (messageLength < 0 || messageLength > maxInboundMessageSize) {
+                cancelWith(Status.RESOURCE_EXHAUSTED.withDescription(
+                        "Message size " + Integer.toUnsignedString(messageLength) + " exceeds the maximum size "
+                                + maxInboundMessageSize));
+                return;
+            }
+            if (length - readIndex - HEADER_LENGTH < messageLength) {
+                break;
+            }
+            byte[] message = buffer.getBytes(readIndex + HEADER_LENGTH, readIndex + HEADER_LENGTH + messageLength);
+            readIndex += HEADER_LENGTH + messageLength;
+            if ((flags & 1) != 0) {
+                if (!GZIP.equals(requestEncoding)) {
+                    cancelWith(Status.INTERNAL.withDescription("Compressed message received without encoding"));
+                    return;
+                }
+                try {
+                    message = gunzip(message, maxInboundMessageSize);
+                } catch (IOException e) {
+                    cancelWith(Status.INTERNAL.withDescription("Unable to decompress the message").withCause(e));
+                    return;
+                }
+                if (message == null) {
+                    cancelWith(Status.RESOURCE_EXHAUSTED.withDescription(
+                            "Decompressed message size exceeds the maximum size " + maxInboundMessageSize));
+                    return;
+                }
+            }
+            pending.add(message);
+        }
+        if (readIndex > 0) {
+            // Keep the incomplete message only
+            buffer = readIndex == length ? Buffer.buffer() : buffer.getBuffer(readIndex, length);
+        }
+        deliver();
+    }
+
+    private void deliver() {
+        if (listener == null || delivering || closed) {
+            return;
+        }
+        delivering = true;
+        try {
+            while (demand > 0 && !pending.isEmpty() && !closed) {
+                demand--;
+                Req message;
+                try {
+                    message = method.parseRequest(new ByteArrayInputStream(pending.poll()));
+                } catch (Throwable t) {
+                    cancelWith(Status.INTERNAL.withDescription("Unable to parse the request message").withCause(t));
+                    return;
+                }
+                notifyListener(l -> l.onMessage(message));
+            }
+            if (pending.isEmpty() && requestEnded && !halfClosed && !closed) {
+                halfClosed = true;
+                notifyListener(Listener::onHalfClose);
+            }
+        } finally {
+            delivering = false;
+        }
+        if (!requestEnded && !closed) {
+            // Read more messages only when all the messages read so far were delivered
+            if (pending.isEmpty()) {
+                request.resume();
+            } else {
+                request.pause();
+            }
+        }
+    }
+
+    private void notifyListener(Consumer<Listener<Req>> action) {
+        if (listener == null) {
+            return;
+        }
+        io.grpc.Context previous = grpcContext.attach();
+        try {
+            action.accept(listener);
+        } catch (Throwable t) {
+            LOGGER.debugf(t, "Listener of %s failed", method.getFullMethodName());
+            close(Status.fromThrowable(t), new Metadata());
+        } finally {
+            grpcContext.detach(previous);
+        }
+    }
+
+    private void writeHeaders(Metadata headers) {
+        headersSent = true;
+        response.setStatusCode(200);
+        response.putHeader(HttpHeaders.CONTENT_TYPE, GrpcHttpHandler.CONTENT_TYPE);
+        String encoding = compression;
+        if (encoding != null) {
+            response.putHeader(GRPC_ENCODING, encoding);
+        }
+        response.putHeader(GRPC_ACCEPT_ENCODING, GZIP);
+        putMetadata(headers, response.headers());
+    }
+
+    private void complete(boolean succeeded) {
+        if (succeeded) {
+            notifyListener(Listener::onComplete);
+        } else {
+            cancelled = true;
+            notifyListener(Listener::onCancel);
+        }
+        grpcContext.cancel(null);
+    }
+
+    private void onCancel() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        cancelled = true;
+        notifyListener(Listener::onCancel);
+        grpcContext.cancel(Status.CANCELLED.asException());
+    }
+
+    private void onContextCancelled(io.grpc.Context cancelled) {
+        // The context is also cancelled when the call ends; only the expired deadline needs to close the call
+        Status status = Contexts.statusFromCancelled(cancelled);
+        if (status != null && status.getCode() == Status.Code.DEADLINE_EXCEEDED) {
+            cancelWith(Status.DEADLINE_EXCEEDED.withDescription("Deadline exceeded"));
+        }
+    }
+
+    private void cancelWith(Status status) {
+        if (closed) {
+            return;
+        }
+        LOGGER.debugf("Cancelling the call of %s: %s", method.getFullMethodName(), status);
+        closed = true;
+        cancelled = true;
+        if (!headersSent) {
+            sendTrailersOnly(response, status, new Metadata());
+        } else {
+            response.putTrailer(GRPC_STATUS, String.valueOf(status.getCode().value()));
+            if (status.getDescription() != null) {
+                response.putTrailer(GRPC_MESSAGE, encodeMessage(status.getDescription()));
+            }
+            response.end();
+        }
+        notifyListener(Listener::onCancel);
+        grpcContext.cancel(status.asException());
+    }
+
+    private byte[] serialize(Resp message) {
+        try (InputStream stream = method.streamResponse(message)) {
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static io.vertx.core.Future<Void> sendTrailersOnly(HttpServerResponse response, Status status, Metadata trailers) {
+        response.setStatusCode(200);
+        response.putHeader(HttpHeaders.CONTENT_TYPE, GrpcHttpHandler.CONTENT_TYPE);
+        response.putHeader(GRPC_STATUS, String.valueOf(status.getCode().value()));
+        if (status.getDescription() != null) {
+            response.putHeader(GRPC_MESSAGE, encodeMessage(status.getDescription()));
+        }
+        putMetadata(trailers, response.headers());
+        return response.end();
+    }
+
+    static Buffer frame(byte[] message, String compression) {
+        boolean compressed = false;
+        if (compression != null) {
+            message = gzip(message);
+            compressed = true;
+        }
+        return Buffer.buffer(HEADER_LENGTH + message.length)
+                .appendByte((byte) (compressed ? 1 : 0))
+                .appendInt(message.length)
+                .appendBytes(message);
+    }
+
+    static Metadata toMetadata(MultiMap headers) {
+        Metadata metadata = new Metadata();
+        for (Map.Entry<String, String> header : headers) {
+            String name = header.getKey().toLowerCase(Locale.ROOT);
+            if (name.startsWith(":") || RESERVED_HEADERS.contains(name)) {
+                continue;
+            }
+            if (name.endsWith(Metadata.BINARY_HEADER_SUFFIX)) {
+                metadata.put(Metadata.Key.of(name, Metadata.BINARY_BYTE_MARSHALLER),
+                        Base64.getDecoder().decode(header.getValue()));
+            } else {
+                metadata.put(Metadata.Key.of(name, Metadata.ASCII_STRING_MARSHALLER), header.getValue());
+            }
+        }
+        return metadata;
+    }
+
+    static void putMetadata(Metadata metadata, MultiMap headers) {
+        for (String name : metadata.keys()) {
+            if (name.endsWith(Metadata.BINARY_HEADER_SUFFIX)) {
+                Iterable<byte[]> values = metadata.getAll(Metadata.Key.of(name, Metadata.BINARY_BYTE_MARSHALLER));
+                if (values != null) {
+                    for (byte[] value : values) {
+                        headers.add(name, Base64.getEncoder().withoutPadding().encodeToString(value));
+                    }
+                }
+            } else {
+                Iterable<String> values = metadata.getAll(Metadata.Key.of(name, Metadata.ASCII_STRING_MARSHALLER));
+                if (values != null) {
+                    for (String value : values) {
+                        headers.add(name, value);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     *
+     * @param value the {@code grpc-timeout} header value, e.g. {@code 100m}
+     * @return the timeout in nanoseconds or {@code -1} if not set or invalid
+     */
+    static long parseTimeout(String value) {
+        if (value == null || value.length() < 2 || value.length() > 9) {
+            return -1;
+        }
+        long amount;
+        try {
+            amount = Long.parseLong(value.substring(0, value.length() - 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+        switch (value.charAt(value.length() - 1)) {
+            case 'H':
+                return TimeUnit.HOURS.toNanos(amount);
+            case 'M':
+                return TimeUnit.MINUTES.toNanos(amount);
+            case 'S':
+                return TimeUnit.SECONDS.toNanos(amount);
+            case 'm':
+                return TimeUnit.MILLISECONDS.toNanos(amount);
+            case 'u':
+                return TimeUnit.MICROSECONDS.toNanos(amount);
+            case 'n':
+                return amount;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Percent-encodes the status message as required by the gRPC over HTTP/2 protocol.
+     */
+    static String encodeMessage(String message) {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        StringBuilder builder = null;
+        for (int i = 0; i < bytes.length; i++) {
+            int b = bytes[i] & 0xFF;
+            if (b < ' ' || b > '~' || b == '%') {
+                if (builder == null) {
+                    builder = new StringBuilder(bytes.length + 16);
+                    builder.append(new String(bytes, 0, i, StandardCharsets.US_ASCII));
+                }
+                builder.append('%').append(Character.toUpperCase(Character.forDigit(b >> 4, 16)))
+                        .append(Character.toUpperCase(Character.forDigit(b & 0xF, 16)));
+            } else if (builder != null) {
+                builder.append((char) b);
+            }
+        }
+        return builder == null ? message : builder.toString();
+    }
+
+    private static byte[] gzip(byte[] message) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(message.length);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(message);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     *
+     * @param message the compressed message
+     * @param maxSize the maximum size of the decompressed message
+     * @return the decompressed message or {@code null} if it exceeds the maximum size
+     */
+    static byte[] gunzip(byte[] message, int maxSize) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(message))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.min(maxSize, message.length * 2));
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = gzip.read(chunk)) != -1) {
+                if (out.size() + read > maxSize) {
+                    // Stop reading as soon as the limit is exceeded
+                    return null;
+                }
+                out.write(chunk, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+}
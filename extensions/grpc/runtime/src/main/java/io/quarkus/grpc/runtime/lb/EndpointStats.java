@@ -0,0 +1,208 @@
+package io.quarkus.grpc.runtime.lb;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.grpc.Status;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * The statistics of an endpoint used by the {@value LeastRequestLoadBalancerProvider#POLICY_NAME} load balancer.
+ * <p>
+ * The statistics are shared by all the channels targeting the same endpoint. They are removed, together with their metrics,
+ * once no load balancer uses the endpoint anymore.
+ */
+final class EndpointStats {
+
+    // The weight of a new latency sample in the moving average
+    private static final double DECAY = 0.3;
+
+    // authority + endpoint -> stats, guarded by itself
+    private static final Map<String, EndpointStats> STATS = new HashMap<>();
+    // guarded by STATS
+    private static MetricsFactory metricsFactory;
+
+    private final String authority;
+    private final String endpoint;
+    // The number of load balancers using the endpoint, guarded by STATS
+    private int references;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder ejections = new LongAdder();
+
+    // guarded by this
+    private double latencyNanos;
+    private int ejectionCount;
+    private volatile long ejectedUntil;
+
+    private EndpointStats(String authority, String endpoint) {
+        this.authority = authority;
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * The returned statistics must be released with {@link #release()} once the endpoint is not used anymore.
+     *
+     * @param authority
+     * @param endpoint
+     * @return the statistics of the endpoint
+     */
+    static EndpointStats acquire(String authority, String endpoint) {
+        synchronized (STATS) {
+            EndpointStats stats = STATS.get(key(authority, endpoint));
+            if (stats == null) {
+                stats = new EndpointStats(authority, endpoint);
+                if (metricsFactory != null) {
+                    stats.registerMetrics(metricsFactory);
+                }
+                STATS.put(key(authority, endpoint), stats);
+            }
+            stats.references++;
+            return stats;
+        }
+    }
+
+    static void setMetricsFactory(MetricsFactory factory) {
+        synchronized (STATS) {
+            metricsFactory = factory;
+            if (factory != null) {
+                for (EndpointStats stats : STATS.values()) {
+                    stats.registerMetrics(factory);
+                }
+            }
+        }
+    }
+
+    void release() {
+        synchronized (STATS) {
+            if (--references == 0) {
+                STATS.remove(key(authority, endpoint));
+                if (metricsFactory != null) {
+                    removeMetrics(metricsFactory);
+                }
+            }
+        }
+    }
+
+    void started() {
+        inFlight.incrementAndGet();
+        requests.increment();
+    }
+
+    /**
+     *
+     * @param status the status of the call
+     * @param latencyNanos the latency of the call, or {@code -1} if the call latency is not representative, e.g. a stream
+     * @return {@code true} if the call is a failure of the endpoint
+     */
+    boolean closed(Status status, long latencyNanos) {
+        inFlight.decrementAndGet();
+        if (isFailure(status)) {
+            failures.increment();
+            consecutiveFailures.incrementAndGet();
+            return true;
+        }
+        consecutiveFailures.set(0);
+        if (latencyNanos >= 0) {
+            synchronized (this) {
+                this.latencyNanos = this.latencyNanos == 0 ? latencyNanos
+                        : this.latencyNanos + DECAY * (latencyNanos - this.latencyNanos);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The load of the endpoint: the number of outstanding requests weighted by the latency.
+     */
+    double load() {
+        double latency;
+        synchronized (this) {
+            latency = latencyNanos;
+        }
+        int outstanding = inFlight.get() + 1;
+        // The endpoints without a latency yet are only compared by the number of outstanding requests
+        return latency == 0 ? outstanding : outstanding * latency;
+    }
+
+    boolean isEjected(long now) {
+        long until = ejectedUntil;
+        return until != 0 && until - now > 0;
+    }
+
+    int getConsecutiveFailures() {
+        return consecutiveFailures.get();
+    }
+
+    synchronized void eject(long now, long baseEjectionTimeNanos) {
+        // Each subsequent ejection lasts longer
+        ejectionCount = Math.min(ejectionCount + 1, 10);
+        ejectedUntil = now + baseEjectionTimeNanos * ejectionCount;
+        consecutiveFailures.set(0);
+        ejections.increment();
+    }
+
+    synchronized void uneject() {
+        ejectedUntil = 0;
+    }
+
+    private synchronized double getLatencyMillis() {
+        return latencyNanos / 1_000_000;
+    }
+
+    private void registerMetrics(MetricsFactory factory) {
+        factory.builder("grpc.client.lb.requests.active")
+                .description("Number of outstanding requests of the endpoint.")
+                .tag("authority", authority).tag("endpoint", endpoint)
+                .buildGauge(inFlight::get);
+        factory.builder("grpc.client.lb.requests")
+                .description("Number of requests sent to the endpoint.")
+                .tag("authority", authority).tag("endpoint", endpoint)
+                .buildCounter(requests::sum);
+        factory.builder("grpc.client.lb.failures")
+                .description("Number of requests failed by the endpoint.")
+                .tag("authority", authority).tag("endpoint", endpoint)
+                .buildCounter(failures::sum);
+        factory.builder("grpc.client.lb.ejections")
+                .description("Number of times the endpoint was ejected.")
+                .tag("authority", authority).tag("endpoint", endpoint)
+                .buildCounter(ejections::sum);
+        factory.builder("grpc.client.lb.latency")
+                .description("Moving average of the latency of the unary calls in milliseconds.")
+                .tag("authority", authority).tag("endpoint", endpoint)
+                .buildGauge(this::getLatencyMillis);
+    }
+
+    private void removeMetrics(MetricsFactory factory) {
+        for (String name : new String[] { "grpc.client.lb.requests.active", "grpc.client.lb.requests",
+                "grpc.client.lb.failures", "grpc.client.lb.ejections", "grpc.client.lb.latency" }) {
+            factory.builder(name).tag("authority", authority).tag("endpoint", endpoint).remove();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return endpoint;
+    }
+
+    private static String key(String authority, String endpoint) {
+        return authority + "/" + endpoint;
+    }
+
+    static boolean isFailure(Status status) {
+        switch (status.getCode()) {
+            case UNAVAILABLE:
+            case INTERNAL:
+            case UNKNOWN:
+            case DEADLINE_EXCEEDED:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package io.quarkus.grpc.runtime.lb;
+
+import static io.grpc.ConnectivityState.CONNECTING;
+import static io.grpc.ConnectivityState.IDLE;
+import static io.grpc.ConnectivityState.READY;
+import static io.grpc.ConnectivityState.TRANSIENT_FAILURE;
+
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import org.jboss.logging.Logger;
+
+import io.grpc.ClientStreamTracer;
+import io.grpc.ConnectivityState;
+import io.grpc.ConnectivityStateInfo;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.LoadBalancer;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.quarkus.grpc.runtime.lb.LeastRequestLoadBalancerProvider.LeastRequestConfig;
+
+/**
+ * Picks the least loaded of {@code choiceCount} randomly selected ready endpoints.
+ * <p>
+ * An endpoint is ejected once it fails {@code consecutiveFailures} calls in a row, unless {@code maxEjectionPercent} of the
+ * endpoints are already ejected. An ejected endpoint is only picked if all the selected endpoints are ejected.
+ *
+ * @see LeastRequestLoadBalancerProvider
+ */
+final class LeastRequestLoadBalancer extends LoadBalancer {
+
+    private static final Logger LOGGER = Logger.getLogger(LeastRequestLoadBalancer.class);
+
+    private final Helper helper;
+    // addresses without attributes -> endpoint
+    private final Map<EquivalentAddressGroup, Endpoint> endpoints = new HashMap<>();
+
+    private volatile LeastRequestConfig config = LeastRequestConfig.DEFAULT;
+    private ConnectivityState currentState;
+    private Status lastError = Status.UNAVAILABLE.withDescription("No endpoint is ready");
+
+    LeastRequestLoadBalancer(Helper helper) {
+        this.helper = helper;
+    }
+
+    @Override
+    public void handleResolvedAddresses(ResolvedAddresses resolvedAddresses) {
+        Object policyConfig = resolvedAddresses.getLoadBalancingPolicyConfig();
+        if (policyConfig instanceof LeastRequestConfig) {
+            config = (LeastRequestConfig) policyConfig;
+        }
+        Set<EquivalentAddressGroup> resolved = new HashSet<>();
+        for (EquivalentAddressGroup group : resolvedAddresses.getAddresses()) {
+            EquivalentAddressGroup key = new EquivalentAddressGroup(group.getAddresses());
+            resolved.add(key);
+            Endpoint endpoint = endpoints.get(key);
+            if (endpoint == null) {
+                Subchannel subchannel = helper.createSubchannel(CreateSubchannelArgs.newBuilder()
+                        .setAddresses(group)
+                        .setAttributes(group.getAttributes())
+                        .build());
+                endpoint = new Endpoint(subchannel,
+                        EndpointStats.acquire(helper.getAuthority(), toString(group.getAddresses())));
+                endpoints.put(key, endpoint);
+                Endpoint created = endpoint;
+                subchannel.start(new SubchannelStateListener() {
+                    @Override
+                    public void onSubchannelState(ConnectivityStateInfo stateInfo) {
+                        processSubchannelState(created, stateInfo);
+                    }
+                });
+                subchannel.requestConnection();
+            } else {
+                endpoint.subchannel.updateAddresses(List.of(group));
+            }
+        }
+        List<Endpoint> removed = new ArrayList<>();
+        for (Map.Entry<EquivalentAddressGroup, Endpoint> entry : endpoints.entrySet()) {
+            if (!resolved.contains(entry.getKey())) {
+                removed.add(entry.getValue());
+            }
+        }
+        endpoints.keySet().retainAll(resolved);
+        updateBalancingState();
+        for (Endpoint endpoint : removed) {
+            endpoint.subchannel.shutdown();
+            endpoint.stats.release();
+        }
+    }
+
+    @Override
+    public void handleNameResolutionError(Status error) {
+        if (currentState != READY) {
+            updateBalancingState(TRANSIENT_FAILURE, new ErrorPicker(error));
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        for (Endpoint endpoint : endpoints.values()) {
+            endpoint.subchannel.shutdown();
+            endpoint.stats.release();
+        }
+        endpoints.clear();
+    }
+
+    private void processSubchannelState(Endpoint endpoint, ConnectivityStateInfo stateInfo) {
+        if (endpoints.get(new EquivalentAddressGroup(endpoint.subchannel.getAddresses().getAddresses())) != endpoint) {
+            // Removed meanwhile
+            return;
+        }
+        ConnectivityState state = stateInfo.getState();
+        LOGGER.debugf("Subchannel %s changed state to %s", endpoint.stats, state);
+        if (state == TRANSIENT_FAILURE || state == IDLE) {
+            helper.refreshNameResolution();
+        }
+        if (state == IDLE) {
+            endpoint.subchannel.requestConnection();
+        }
+        if (state == TRANSIENT_FAILURE && stateInfo.getStatus() != null) {
+            lastError = stateInfo.getStatus();
+        }
+        if (endpoint.state == TRANSIENT_FAILURE && (state == CONNECTING || state == IDLE)) {
+            // Keep reporting the failure until the endpoint is ready again
+            return;
+        }
+        endpoint.state = state;
+        updateBalancingState();
+    }
+
+    private void updateBalancingState() {
+        List<Endpoint> ready = endpoints.values().stream()
+                .filter(endpoint -> endpoint.state == READY)
+                .collect(Collectors.toList());
+        if (!ready.isEmpty()) {
+            updateBalancingState(READY, new LeastRequestPicker(ready, config));
+            return;
+        }
+        boolean connecting = endpoints.values().stream()
+                .anyMatch(endpoint -> endpoint.state == CONNECTING || endpoint.state == IDLE);
+        if (connecting) {
+            updateBalancingState(CONNECTING, new ErrorPicker(null));
+        } else {
+            updateBalancingState(TRANSIENT_FAILURE, new ErrorPicker(lastError));
+        }
+    }
+
+    private void updateBalancingState(ConnectivityState state, SubchannelPicker picker) {
+        currentState = state;
+        helper.updateBalancingState(state, picker);
+    }
+
+    private static String toString(List<SocketAddress> addresses) {
+        return addresses.size() == 1 ? addresses.get(0).toString() : addresses.toString();
+    }
+
+    static final class Endpoint {
+
+        final Subchannel subchannel;
+        final EndpointStats stats;
+        // only accessed from the synchronization context
+        ConnectivityState state = IDLE;
+
+        Endpoint(Subchannel subchannel, EndpointStats stats) {
+            this.subchannel = subchannel;
+            this.stats = stats;
+        }
+    }
+
+    static final class LeastRequestPicker extends SubchannelPicker {
+
+        private final List<Endpoint> endpoints;
+        private final LeastRequestConfig config;
+
+        LeastRequestPicker(List<Endpoint> endpoints, LeastRequestConfig config) {
+            this.endpoints = endpoints;
+            this.config = config;
+        }
+
+        @Override
+        public PickResult pickSubchannel(PickSubchannelArgs args) {
+            Endpoint endpoint = pick(System.nanoTime());
+            boolean unary = args.getMethodDescriptor().getType() == MethodDescriptor.MethodType.UNARY;
+            return PickResult.withSubchannel(endpoint.subchannel, new TracerFactory(endpoint.stats, this, unary));
+        }
+
+        Endpoint pick(long now) {
+            int size = endpoints.size();
+            if (size == 1) {
+                return endpoints.get(0);
+            }
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Endpoint best = null;
+            double bestLoad = Double.MAX_VALUE;
+            boolean bestEjected = true;
+            for (int i = 0; i < config.choiceCount; i++) {
+                Endpoint candidate = endpoints.get(random.nextInt(size));
+                boolean ejected = candidate.stats.isEjected(now);
+                double load = candidate.stats.load();
+                // A healthy endpoint always wins over an ejected one
+                if (best == null || (bestEjected && !ejected) || (bestEjected == ejected && load < bestLoad)) {
+                    best = candidate;
+                    bestLoad = load;
+                    bestEjected = ejected;
+                }
+            }
+            return best;
+        }
+
+        void onFailure(EndpointStats stats) {
+            int threshold = config.consecutiveFailures;
+            if (threshold <= 0 || stats.getConsecutiveFailures() < threshold) {
+                return;
+            }
+            long now = System.nanoTime();
+            int ejected = 0;
+            for (Endpoint endpoint : endpoints) {
+                if (endpoint.stats.isEjected(now)) {
+                    ejected++;
+                }
+            }
+            if ((ejected + 1) * 100 <= endpoints.size() * config.maxEjectionPercent) {
+                LOGGER.debugf("Ejecting %s after %s consecutive failures", stats, threshold);
+                stats.eject(now, config.baseEjectionTimeNanos);
+            }
+        }
+
+        void onSuccess(EndpointStats stats) {
+            if (stats.isEjected(System.nanoTime())) {
+                // The endpoint was picked because all the candidates were ejected, and it recovered
+                stats.uneject();
+            }
+        }
+    }
+
+    static final class TracerFactory extends ClientStreamTracer.Factory {
+
+        private final EndpointStats stats;
+        private final LeastRequestPicker picker;
+        private final boolean unary;
+
+        TracerFactory(EndpointStats stats, LeastRequestPicker picker, boolean unary) {
+            this.stats = stats;
+            this.picker = picker;
+            this.unary = unary;
+        }
+
+        @Override
+        public ClientStreamTracer newClientStreamTracer(ClientStreamTracer.StreamInfo info, Metadata headers) {
+            stats.started();
+            long start = System.nanoTime();
+            return new ClientStreamTracer() {
+                @Override
+                public void streamClosed(Status status) {
+                    if (stats.closed(status, unary ? System.nanoTime() - start : -1)) {
+                        picker.onFailure(stats);
+                    } else {
+                        picker.onSuccess(stats);
+                    }
+                }
+            };
+        }
+    }
+
+    static final class ErrorPicker extends SubchannelPicker {
+
+        private final Status error;
+
+        ErrorPicker(Status error) {
+            this.error = error;
+        }
+
+        @Override
+        public PickResult pickSubchannel(PickSubchannelArgs args) {
+            return error == null ? PickResult.withNoResult() : PickResult.withError(error);
+        }
+    }
+}
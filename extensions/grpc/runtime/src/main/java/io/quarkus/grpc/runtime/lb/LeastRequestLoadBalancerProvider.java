@@ -0,0 +1,102 @@
+package io.quarkus.grpc.runtime.lb;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+
+import io.grpc.LoadBalancer;
+import io.grpc.LoadBalancerProvider;
+import io.grpc.NameResolver;
+import io.grpc.Status;
+import io.grpc.internal.JsonUtil;
+
+/**
+ * Provides the {@value #POLICY_NAME} load balancing policy.
+ * <p>
+ * The policy picks the least loaded of {@code choiceCount} randomly selected endpoints, i.e. the "power of two choices"
+ * by default. The load of an endpoint is the number of outstanding requests weighted by the moving average of the
+ * latency. The endpoints failing repeatedly are ejected for a while.
+ * <p>
+ * The policy accepts the following configuration:
+ *
+ * <pre>
+ * { "choiceCount": 2, "consecutiveFailures": 5, "baseEjectionTime": "30s", "maxEjectionPercent": 50 }
+ * </pre>
+ */
+public class LeastRequestLoadBalancerProvider extends LoadBalancerProvider {
+
+    private static final Logger LOGGER = Logger.getLogger(LeastRequestLoadBalancerProvider.class);
+
+    public static final String POLICY_NAME = "least_request";
+
+    static final String CHOICE_COUNT = "choiceCount";
+    static final String CONSECUTIVE_FAILURES = "consecutiveFailures";
+    static final String BASE_EJECTION_TIME = "baseEjectionTime";
+    static final String MAX_EJECTION_PERCENT = "maxEjectionPercent";
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public int getPriority() {
+        return 5;
+    }
+
+    @Override
+    public String getPolicyName() {
+        return POLICY_NAME;
+    }
+
+    @Override
+    public NameResolver.ConfigOrError parseLoadBalancingPolicyConfig(Map<String, ?> rawConfig) {
+        try {
+            LeastRequestConfig config = LeastRequestConfig.DEFAULT;
+            if (rawConfig != null) {
+                Integer choiceCount = JsonUtil.getNumberAsInteger(rawConfig, CHOICE_COUNT);
+                Integer consecutiveFailures = JsonUtil.getNumberAsInteger(rawConfig, CONSECUTIVE_FAILURES);
+                Long baseEjectionTime = JsonUtil.getStringAsDuration(rawConfig, BASE_EJECTION_TIME);
+                Integer maxEjectionPercent = JsonUtil.getNumberAsInteger(rawConfig, MAX_EJECTION_PERCENT);
+                config = new LeastRequestConfig(
+                        choiceCount != null ? choiceCount : config.choiceCount,
+                        consecutiveFailures != null ? consecutiveFailures : config.consecutiveFailures,
+                        baseEjectionTime != null ? baseEjectionTime : config.baseEjectionTimeNanos,
+                        maxEjectionPercent != null ? maxEjectionPercent : config.maxEjectionPercent);
+            }
+            if (config.choiceCount < 2) {
+                return NameResolver.ConfigOrError.fromError(Status.INVALID_ARGUMENT
+                        .withDescription("Invalid " + POLICY_NAME + " configuration, choiceCount must be at least 2"));
+            }
+            return NameResolver.ConfigOrError.fromConfig(config);
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to parse the " + POLICY_NAME + " configuration: " + rawConfig, e);
+            return NameResolver.ConfigOrError.fromError(Status.INVALID_ARGUMENT
+                    .withDescription("Invalid " + POLICY_NAME + " configuration").withCause(e));
+        }
+    }
+
+    @Override
+    public LoadBalancer newLoadBalancer(LoadBalancer.Helper helper) {
+        return new LeastRequestLoadBalancer(helper);
+    }
+
+    static final class LeastRequestConfig {
+
+        static final LeastRequestConfig DEFAULT = new LeastRequestConfig(2, 5, TimeUnit.SECONDS.toNanos(30), 50);
+
+        final int choiceCount;
+        // 0 disables the ejection
+        final int consecutiveFailures;
+        final long baseEjectionTimeNanos;
+        final int maxEjectionPercent;
+
+        LeastRequestConfig(int choiceCount, int consecutiveFailures, long baseEjectionTimeNanos, int maxEjectionPercent) {
+            this.choiceCount = choiceCount;
+            this.consecutiveFailures = consecutiveFailures;
+            this.baseEjectionTimeNanos = baseEjectionTimeNanos;
+            this.maxEjectionPercent = maxEjectionPercent;
+        }
+    }
+}
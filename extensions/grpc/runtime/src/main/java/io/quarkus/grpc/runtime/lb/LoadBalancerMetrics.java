@@ -0,0 +1,18 @@
+package io.quarkus.grpc.runtime.lb;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Registers the metrics of the endpoints picked by the {@value LeastRequestLoadBalancerProvider#POLICY_NAME} load
+ * balancer.
+ */
+public final class LoadBalancerMetrics {
+
+    private LoadBalancerMetrics() {
+        // Avoid direct instantiation
+    }
+
+    public static void setMetricsFactory(MetricsFactory metricsFactory) {
+        EndpointStats.setMetricsFactory(metricsFactory);
+    }
+}
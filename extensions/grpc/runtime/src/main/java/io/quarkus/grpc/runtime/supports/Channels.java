@@ -12,6 +12,7 @@
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
@@ -41,7 +42,9 @@
 import io.quarkus.grpc.runtime.GrpcClientInterceptorContainer;
 import io.quarkus.grpc.runtime.config.GrpcClientConfiguration;
 import io.quarkus.grpc.runtime.config.GrpcServerConfiguration;
+import io.quarkus.grpc.runtime.config.LeastRequestConfig;
 import io.quarkus.grpc.runtime.config.SslClientConfig;
+import io.quarkus.grpc.runtime.lb.LeastRequestLoadBalancerProvider;
 import io.quarkus.grpc.runtime.stork.StorkMeasuringGrpcInterceptor;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.util.ClassPathUtils;
@@ -145,6 +148,10 @@ public static Channel createChannel(String name, Set<String> perClientIntercepto
                 .maxInboundMessageSize(config.maxInboundMessageSize.orElse(DEFAULT_MAX_MESSAGE_SIZE))
                 .negotiationType(NegotiationType.valueOf(config.negotiationType.toUpperCase()));
 
+        if (LeastRequestLoadBalancerProvider.POLICY_NAME.equals(loadBalancingPolicy) && config.leastRequest != null) {
+            builder.defaultServiceConfig(leastRequestServiceConfig(config.leastRequest));
+        }
+
         if (config.retry) {
             builder.enableRetry();
         } else {
@@ -197,6 +204,10 @@ public static Channel createChannel(String name, Set<String> perClientIntercepto
         }
         interceptorContainer.getSortedPerServiceInterceptors(perClientInterceptors).forEach(builder::intercept);
         interceptorContainer.getSortedGlobalInterceptors().forEach(builder::intercept);
+        if (config.zeroCopyMarshalling) {
+            // The last interceptor is the first one called, i.e. all other interceptors see the zero-copy methods
+            builder.intercept(new ZeroCopyMarshalling.ClientZeroCopyInterceptor());
+        }
 
         return builder.build();
     }
@@ -228,6 +239,7 @@ private static GrpcClientConfiguration testConfig(GrpcServerConfiguration server
         config.ssl.certificate = Optional.empty();
         config.ssl.trustStore = Optional.empty();
         config.userAgent = Optional.empty();
+        config.zeroCopyMarshalling = false;
         if (serverConfiguration.ssl.certificate.isPresent() || serverConfiguration.ssl.keyStore.isPresent()) {
             LOGGER.warn("gRPC client created without configuration and the gRPC server is configured for SSL. " +
                     "Configuring SSL for such clients is not supported.");
@@ -235,6 +247,17 @@ private static GrpcClientConfiguration testConfig(GrpcServerConfiguration server
         return config;
     }
 
+    private static Map<String, ?> leastRequestServiceConfig(LeastRequestConfig config) {
+        // The numbers of a service config are doubles, as if they were parsed from JSON
+        Map<String, Object> policyConfig = Map.of(
+                "choiceCount", (double) config.choiceCount,
+                "consecutiveFailures", (double) config.ejectionConsecutiveFailures,
+                "baseEjectionTime", String.format("%d.%09ds", config.ejectionTime.getSeconds(), config.ejectionTime.getNano()),
+                "maxEjectionPercent", (double) config.maxEjectionPercent);
+        return Map.of("loadBalancingConfig",
+                List.of(Map.of(LeastRequestLoadBalancerProvider.POLICY_NAME, policyConfig)));
+    }
+
     private static InputStream streamFor(Path path, String resourceName) {
         final InputStream resource = Thread.currentThread().getContextClassLoader()
                 .getResourceAsStream(ClassPathUtils.toResourceName(path));
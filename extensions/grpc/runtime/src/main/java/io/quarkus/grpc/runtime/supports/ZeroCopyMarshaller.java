@@ -0,0 +1,184 @@
+package io.quarkus.grpc.runtime.supports;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.logging.Logger;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import com.google.protobuf.UnsafeByteOperations;
+
+import io.grpc.Detachable;
+import io.grpc.HasByteBuffer;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * A protobuf marshaller that parses the messages directly from the transport buffers.
+ * <p>
+ * If the transport stream exposes its buffers, the stream is detached from the transport and the message is parsed with
+ * aliasing enabled, i.e. the {@code bytes} fields of the message reference the transport buffers instead of copies. The
+ * buffers are retained until the stream returned by {@link #detach(Object)} is closed. Otherwise, the message is parsed by
+ * the delegate marshaller.
+ * <p>
+ * The transports deliver a message to the listener of the call on the thread that parsed it, right after parsing. The
+ * detached stream is therefore handed over to the listener through a thread local; the listener keeps it with the other
+ * resources of the call. If the message is never delivered to the listener, e.g. because an interceptor short-circuited
+ * the call, the stream is closed when the next message is parsed on the same thread.
+ * <p>
+ * The serialization is always performed by the delegate; the protobuf marshaller already writes the messages directly
+ * into the transport buffers.
+ *
+ * @param <T> the message type
+ */
+public final class ZeroCopyMarshaller<T> implements MethodDescriptor.PrototypeMarshaller<T> {
+
+    private static final Logger LOGGER = Logger.getLogger(ZeroCopyMarshaller.class);
+
+    // The last message parsed on the current thread and its detached stream, not yet taken by a listener
+    private static final ThreadLocal<Detached> LAST_DETACHED = new ThreadLocal<>();
+
+    private final MethodDescriptor.PrototypeMarshaller<T> delegate;
+    private final Parser<T> parser;
+
+    private ZeroCopyMarshaller(MethodDescriptor.PrototypeMarshaller<T> delegate, Parser<T> parser) {
+        this.delegate = delegate;
+        this.parser = parser;
+    }
+
+    /**
+     *
+     * @param marshaller
+     * @return the zero-copy marshaller, or the given marshaller if it does not marshal protobuf messages
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> MethodDescriptor.Marshaller<T> of(MethodDescriptor.Marshaller<T> marshaller) {
+        if (marshaller instanceof MethodDescriptor.PrototypeMarshaller) {
+            MethodDescriptor.PrototypeMarshaller<T> prototypeMarshaller = (MethodDescriptor.PrototypeMarshaller<T>) marshaller;
+            T prototype = prototypeMarshaller.getMessagePrototype();
+            if (prototype instanceof MessageLite) {
+                return new ZeroCopyMarshaller<>(prototypeMarshaller,
+                        (Parser<T>) ((MessageLite) prototype).getParserForType());
+            }
+        }
+        return marshaller;
+    }
+
+    /**
+     * Returns the transport stream detached when the given message was parsed.
+     * <p>
+     * This method must be called on the thread that parsed the message, before any other message is parsed. The stream
+     * must be closed once the message, and in particular its {@code bytes} fields, is no longer used.
+     *
+     * @param message
+     * @return the detached stream or {@code null} if the message was not parsed from a detached stream
+     */
+    public static InputStream detach(Object message) {
+        Detached last = LAST_DETACHED.get();
+        if (last == null || last.message != message) {
+            return null;
+        }
+        LAST_DETACHED.remove();
+        return last.stream;
+    }
+
+    @Override
+    public InputStream stream(T value) {
+        return delegate.stream(value);
+    }
+
+    @Override
+    public T parse(InputStream stream) {
+        releaseUnclaimed();
+        if (!(stream instanceof KnownLength) || !(stream instanceof Detachable) || !(stream instanceof HasByteBuffer)
+                || !((HasByteBuffer) stream).byteBufferSupported()) {
+            return delegate.parse(stream);
+        }
+        InputStream detachedStream = null;
+        try {
+            int size = stream.available();
+            if (size == 0) {
+                return delegate.parse(stream);
+            }
+            // From now on, the buffers are owned by the detached stream
+            detachedStream = ((Detachable) stream).detach();
+            // Keep the buffers while traversing them
+            detachedStream.mark(size);
+            List<ByteString> chunks = new ArrayList<>();
+            while (detachedStream.available() != 0) {
+                ByteBuffer buffer = ((HasByteBuffer) detachedStream).getByteBuffer();
+                if (buffer == null) {
+                    // Not all buffers are exposed, fall back to the copying parser
+                    detachedStream.reset();
+                    T message = delegate.parse(detachedStream);
+                    close(detachedStream);
+                    return message;
+                }
+                int remaining = buffer.remaining();
+                chunks.add(UnsafeByteOperations.unsafeWrap(buffer));
+                detachedStream.skip(remaining);
+            }
+            detachedStream.reset();
+            CodedInputStream input = ByteString.copyFrom(chunks).newCodedInput();
+            input.enableAliasing(true);
+            input.setSizeLimit(Integer.MAX_VALUE);
+            T message = parser.parseFrom(input);
+            LAST_DETACHED.set(new Detached(message, detachedStream));
+            return message;
+        } catch (InvalidProtocolBufferException e) {
+            close(detachedStream);
+            throw Status.INTERNAL.withDescription("Invalid protobuf byte sequence").withCause(e).asRuntimeException();
+        } catch (IOException | RuntimeException e) {
+            close(detachedStream);
+            throw Status.INTERNAL.withDescription("Unable to parse the message").withCause(e).asRuntimeException();
+        }
+    }
+
+    @Override
+    public T getMessagePrototype() {
+        return delegate.getMessagePrototype();
+    }
+
+    @Override
+    public Class<T> getMessageClass() {
+        return delegate.getMessageClass();
+    }
+
+    private static void releaseUnclaimed() {
+        Detached last = LAST_DETACHED.get();
+        if (last != null) {
+            LAST_DETACHED.remove();
+            LOGGER.debug("Closing the detached stream of a message that was not delivered to a listener");
+            close(last.stream);
+        }
+    }
+
+    static void close(InputStream stream) {
+        if (stream != null) {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                LOGGER.debug("Unable to close the detached stream", e);
+            }
+        }
+    }
+
+    private static final class Detached {
+
+        final Object message;
+        final InputStream stream;
+
+        Detached(Object message, InputStream stream) {
+            this.message = message;
+            this.stream = stream;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package io.quarkus.grpc.runtime.supports;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.Status;
+
+/**
+ * Applies the {@link ZeroCopyMarshaller} to the gRPC services and clients.
+ * <p>
+ * The transport buffers referenced by the messages of a call are released when the call completes. Therefore, the
+ * {@code bytes} fields of the messages must not be used once the call is completed or cancelled.
+ */
+public final class ZeroCopyMarshalling {
+
+    private ZeroCopyMarshalling() {
+        // Avoid direct instantiation
+    }
+
+    /**
+     *
+     * @param service
+     * @return the service definition using the zero-copy marshallers for the request messages
+     */
+    public static ServerServiceDefinition apply(ServerServiceDefinition service) {
+        ServiceDescriptor descriptor = service.getServiceDescriptor();
+        List<ServerMethodDefinition<?, ?>> methods = new ArrayList<>();
+        ServiceDescriptor.Builder descriptorBuilder = ServiceDescriptor.newBuilder(descriptor.getName())
+                .setSchemaDescriptor(descriptor.getSchemaDescriptor());
+        for (ServerMethodDefinition<?, ?> method : service.getMethods()) {
+            ServerMethodDefinition<?, ?> zeroCopyMethod = apply(method);
+            descriptorBuilder.addMethod(zeroCopyMethod.getMethodDescriptor());
+            methods.add(zeroCopyMethod);
+        }
+        ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(descriptorBuilder.build());
+        for (ServerMethodDefinition<?, ?> method : methods) {
+            builder.addMethod(method);
+        }
+        return builder.build();
+    }
+
+    private static <Req, Resp> ServerMethodDefinition<Req, Resp> apply(ServerMethodDefinition<Req, Resp> method) {
+        MethodDescriptor<Req, Resp> descriptor = method.getMethodDescriptor();
+        MethodDescriptor.Marshaller<Req> marshaller = ZeroCopyMarshaller.of(descriptor.getRequestMarshaller());
+        if (!(marshaller instanceof ZeroCopyMarshaller)) {
+            return method;
+        }
+        return ServerMethodDefinition.create(
+                descriptor.toBuilder(marshaller, descriptor.getResponseMarshaller()).build(),
+                new ReleasingServerCallHandler<>(method.getServerCallHandler()));
+    }
+
+    /**
+     * Makes the clients use the zero-copy marshallers for the response messages.
+     */
+    public static final class ClientZeroCopyInterceptor implements ClientInterceptor {
+
+        // full method name -> method with the zero-copy marshaller
+        private final ConcurrentMap<String, MethodDescriptor<?, ?>> methods = new ConcurrentHashMap<>();
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+                CallOptions callOptions, Channel next) {
+            MethodDescriptor<ReqT, RespT> zeroCopyMethod = (MethodDescriptor<ReqT, RespT>) methods
+                    .computeIfAbsent(method.getFullMethodName(), name -> method.toBuilder(method.getRequestMarshaller(),
+                            ZeroCopyMarshaller.of(method.getResponseMarshaller())).build());
+            if (!(zeroCopyMethod.getResponseMarshaller() instanceof ZeroCopyMarshaller)) {
+                return next.newCall(method, callOptions);
+            }
+            return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(
+                    next.newCall(zeroCopyMethod, callOptions)) {
+                @Override
+                public void start(Listener<RespT> responseListener, Metadata headers) {
+                    super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(
+                            responseListener) {
+
+                        private final List<InputStream> streams = new ArrayList<>();
+
+                        @Override
+                        public void onMessage(RespT message) {
+                            InputStream stream = ZeroCopyMarshaller.detach(message);
+                            if (stream != null) {
+                                streams.add(stream);
+                            }
+                            super.onMessage(message);
+                        }
+
+                        @Override
+                        public void onClose(Status status, Metadata trailers) {
+                            try {
+                                super.onClose(status, trailers);
+                            } finally {
+                                release(streams);
+                            }
+                        }
+                    }, headers);
+                }
+            };
+        }
+    }
+
+    private static final class ReleasingServerCallHandler<Req, Resp> implements ServerCallHandler<Req, Resp> {
+
+        private final ServerCallHandler<Req, Resp> delegate;
+
+        ReleasingServerCallHandler(ServerCallHandler<Req, Resp> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public ServerCall.Listener<Req> startCall(ServerCall<Req, Resp> call, Metadata headers) {
+            return new ForwardingServerCallListener.SimpleForwardingServerCallListener<Req>(
+                    delegate.startCall(call, headers)) {
+
+                // The listener methods are never invoked concurrently
+                private final List<InputStream> streams = new ArrayList<>();
+
+                @Override
+                public void onMessage(Req message) {
+                    InputStream stream = ZeroCopyMarshaller.detach(message);
+                    if (stream != null) {
+                        streams.add(stream);
+                    }
+                    super.onMessage(message);
+                }
+
+                @Override
+                public void onComplete() {
+                    try {
+                        super.onComplete();
+                    } finally {
+                        release(streams);
+                    }
+                }
+
+                @Override
+                public void onCancel() {
+                    try {
+                        super.onCancel();
+                    } finally {
+                        release(streams);
+                    }
+                }
+            };
+        }
+    }
+
+    static void release(List<InputStream> streams) {
+        for (InputStream stream : streams) {
+            ZeroCopyMarshaller.close(stream);
+        }
+        streams.clear();
+    }
+}
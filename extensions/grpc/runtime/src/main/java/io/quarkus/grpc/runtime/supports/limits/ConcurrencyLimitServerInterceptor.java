@@ -0,0 +1,101 @@
+package io.quarkus.grpc.runtime.supports.limits;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.logging.Logger;
+
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+
+/**
+ * gRPC Server interceptor rejecting the calls with {@link Status#RESOURCE_EXHAUSTED} when the concurrency limit of the
+ * method, or the service, is reached.
+ * <p>
+ * The interceptor must be registered after the {@link io.quarkus.grpc.runtime.supports.blocking.BlockingServerInterceptor}
+ * so that the calls are rejected before being dispatched to a worker thread.
+ */
+public class ConcurrencyLimitServerInterceptor implements ServerInterceptor {
+
+    private static final Logger LOGGER = Logger.getLogger(ConcurrencyLimitServerInterceptor.class);
+
+    private final ConcurrencyLimiter serviceLimiter;
+    // full method name -> limiter
+    private final Map<String, ConcurrencyLimiter> methodLimiters;
+
+    /**
+     *
+     * @param serviceLimiter the limiter shared by all methods without a dedicated limiter, may be {@code null}
+     * @param methodLimiters the limiters of the methods
+     */
+    public ConcurrencyLimitServerInterceptor(ConcurrencyLimiter serviceLimiter,
+            Map<String, ConcurrencyLimiter> methodLimiters) {
+        this.serviceLimiter = serviceLimiter;
+        this.methodLimiters = methodLimiters;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+        String fullMethodName = call.getMethodDescriptor().getFullMethodName();
+        ConcurrencyLimiter limiter = methodLimiters.getOrDefault(fullMethodName, serviceLimiter);
+        if (limiter == null) {
+            return next.startCall(call, headers);
+        }
+        if (!limiter.tryAcquire()) {
+            LOGGER.debugf("Concurrency limit of %s reached: %s", fullMethodName, limiter.getLimit());
+            call.close(Status.RESOURCE_EXHAUSTED.withDescription("Concurrency limit reached"), new Metadata());
+            return new ServerCall.Listener<ReqT>() {
+            };
+        }
+        Release release = new Release(limiter);
+        ServerCall.Listener<ReqT> listener;
+        try {
+            listener = next.startCall(call, headers);
+        } catch (RuntimeException | Error e) {
+            release.run(true);
+            throw e;
+        }
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT>(listener) {
+            @Override
+            public void onComplete() {
+                try {
+                    super.onComplete();
+                } finally {
+                    release.run(false);
+                }
+            }
+
+            @Override
+            public void onCancel() {
+                try {
+                    super.onCancel();
+                } finally {
+                    release.run(true);
+                }
+            }
+        };
+    }
+
+    private static final class Release {
+
+        private final ConcurrencyLimiter limiter;
+        private final long start = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Release(ConcurrencyLimiter limiter) {
+            this.limiter = limiter;
+        }
+
+        void run(boolean dropped) {
+            if (released.compareAndSet(false, true)) {
+                limiter.release(System.nanoTime() - start, dropped);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+package io.quarkus.grpc.runtime.supports.limits;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits the number of concurrent calls.
+ * <p>
+ * If adaptive, the limit is recalculated from the call latencies. The long-term average latency is compared to the latency
+ * of each completed call: the limit grows while the latency is stable and shrinks as soon as the calls are queued somewhere,
+ * i.e. the latency increases. A cancelled call, e.g. because its deadline was exceeded, shrinks the limit as well.
+ */
+public final class ConcurrencyLimiter {
+
+    // The latency may increase by 50% before the limit shrinks
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF_RATIO = 0.9;
+    // The number of samples of the long-term latency average
+    private static final int WINDOW = 600;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final boolean adaptive;
+    private final int minLimit;
+    private final int maxLimit;
+
+    private volatile int limit;
+
+    // guarded by this
+    private double estimatedLimit;
+    private double longRtt;
+
+    public ConcurrencyLimiter(int initialLimit, boolean adaptive, int minLimit, int maxLimit) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid limit bounds: [" + minLimit + ", " + maxLimit + "]");
+        }
+        this.adaptive = adaptive;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = adaptive ? Math.max(minLimit, Math.min(maxLimit, initialLimit)) : initialLimit;
+        this.estimatedLimit = limit;
+    }
+
+    /**
+     *
+     * @return {@code true} if the call may proceed, {@code false} if the limit is reached
+     */
+    public boolean tryAcquire() {
+        for (;;) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Must be called exactly once for each successful {@link #tryAcquire()}.
+     *
+     * @param rttNanos the duration of the call
+     * @param dropped {@code true} if the call did not complete normally
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int current = inFlight.getAndDecrement();
+        if (adaptive) {
+            update(rttNanos, current, dropped);
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long rttNanos, int inFlight, boolean dropped) {
+        if (dropped) {
+            estimatedLimit = Math.max(minLimit, estimatedLimit * BACKOFF_RATIO);
+        } else {
+            if (rttNanos <= 0 || inFlight < estimatedLimit / 2) {
+                // The limit is not reached, the latency says nothing about it
+                return;
+            }
+            double rtt = rttNanos;
+            longRtt = longRtt == 0 ? rtt : longRtt + (rtt - longRtt) / WINDOW;
+            if (longRtt / rtt > 2) {
+                // The load decreased significantly, let the long-term average catch up faster
+                longRtt *= 0.95;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / rtt));
+            double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+            estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        }
+        limit = (int) estimatedLimit;
+    }
+
+}
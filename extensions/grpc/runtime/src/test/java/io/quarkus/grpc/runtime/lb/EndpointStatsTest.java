@@ -0,0 +1,46 @@
+package io.quarkus.grpc.runtime.lb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+class EndpointStatsTest {
+
+    @AfterEach
+    void reset() {
+        EndpointStats.setMetricsFactory(null);
+    }
+
+    @Test
+    void testStatsAreRemovedOnceReleasedByAllLoadBalancers() {
+        MetricsFactory.MetricBuilder builder = mock(MetricsFactory.MetricBuilder.class, RETURNS_SELF);
+        MetricsFactory factory = mock(MetricsFactory.class);
+        when(factory.builder(anyString())).thenReturn(builder);
+        EndpointStats.setMetricsFactory(factory);
+
+        String authority = getClass().getName() + System.nanoTime();
+        EndpointStats first = EndpointStats.acquire(authority, "alpha");
+        EndpointStats second = EndpointStats.acquire(authority, "alpha");
+        assertThat(second).isSameAs(first);
+
+        first.release();
+        verify(builder, never()).remove();
+        assertThat(EndpointStats.acquire(authority, "alpha")).isSameAs(first);
+
+        first.release();
+        first.release();
+        // All the metrics of the endpoint are removed
+        verify(builder, times(5)).remove();
+        assertThat(EndpointStats.acquire(authority, "alpha")).isNotSameAs(first);
+    }
+}
@@ -0,0 +1,97 @@
+package io.quarkus.grpc.runtime.lb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.grpc.Status;
+import io.quarkus.grpc.runtime.lb.LeastRequestLoadBalancer.Endpoint;
+import io.quarkus.grpc.runtime.lb.LeastRequestLoadBalancer.LeastRequestPicker;
+import io.quarkus.grpc.runtime.lb.LeastRequestLoadBalancerProvider.LeastRequestConfig;
+
+class LeastRequestPickerTest {
+
+    // With this many choices, both endpoints are compared for every pick
+    private static final int CHOICE_COUNT = 64;
+
+    @Test
+    void testLeastOutstandingRequests() {
+        Endpoint alpha = endpoint("alpha");
+        Endpoint bravo = endpoint("bravo");
+        LeastRequestPicker picker = new LeastRequestPicker(List.of(alpha, bravo),
+                new LeastRequestConfig(CHOICE_COUNT, 2, TimeUnit.SECONDS.toNanos(30), 50));
+        alpha.stats.started();
+        alpha.stats.started();
+        assertThat(picker.pick(System.nanoTime())).isSameAs(bravo);
+        bravo.stats.started();
+        bravo.stats.started();
+        bravo.stats.started();
+        assertThat(picker.pick(System.nanoTime())).isSameAs(alpha);
+    }
+
+    @Test
+    void testLatencyWeighting() {
+        Endpoint alpha = endpoint("alpha");
+        Endpoint bravo = endpoint("bravo");
+        LeastRequestPicker picker = new LeastRequestPicker(List.of(alpha, bravo),
+                new LeastRequestConfig(CHOICE_COUNT, 2, TimeUnit.SECONDS.toNanos(30), 50));
+        alpha.stats.started();
+        alpha.stats.closed(Status.OK, TimeUnit.MILLISECONDS.toNanos(100));
+        bravo.stats.started();
+        bravo.stats.closed(Status.OK, TimeUnit.MILLISECONDS.toNanos(10));
+        // Two outstanding requests on a fast endpoint are cheaper than none on a slow one
+        bravo.stats.started();
+        assertThat(picker.pick(System.nanoTime())).isSameAs(bravo);
+    }
+
+    @Test
+    void testEjection() {
+        Endpoint alpha = endpoint("alpha");
+        Endpoint bravo = endpoint("bravo");
+        LeastRequestPicker picker = new LeastRequestPicker(List.of(alpha, bravo),
+                new LeastRequestConfig(CHOICE_COUNT, 2, TimeUnit.SECONDS.toNanos(30), 50));
+        fail(picker, alpha);
+        assertThat(alpha.stats.isEjected(System.nanoTime())).isFalse();
+        fail(picker, alpha);
+        assertThat(alpha.stats.isEjected(System.nanoTime())).isTrue();
+        // The ejected endpoint is avoided even if it is less loaded
+        bravo.stats.started();
+        bravo.stats.started();
+        assertThat(picker.pick(System.nanoTime())).isSameAs(bravo);
+        // At most half of the endpoints can be ejected
+        fail(picker, bravo);
+        fail(picker, bravo);
+        assertThat(bravo.stats.isEjected(System.nanoTime())).isFalse();
+        // A successful call ends the ejection
+        alpha.stats.started();
+        assertThat(alpha.stats.closed(Status.OK, -1)).isFalse();
+        picker.onSuccess(alpha.stats);
+        assertThat(alpha.stats.isEjected(System.nanoTime())).isFalse();
+    }
+
+    @Test
+    void testEjectionDisabled() {
+        Endpoint alpha = endpoint("alpha");
+        Endpoint bravo = endpoint("bravo");
+        LeastRequestPicker picker = new LeastRequestPicker(List.of(alpha, bravo),
+                new LeastRequestConfig(CHOICE_COUNT, 0, TimeUnit.SECONDS.toNanos(30), 50));
+        for (int i = 0; i < 10; i++) {
+            fail(picker, alpha);
+        }
+        assertThat(alpha.stats.isEjected(System.nanoTime())).isFalse();
+    }
+
+    private static void fail(LeastRequestPicker picker, Endpoint endpoint) {
+        endpoint.stats.started();
+        assertThat(endpoint.stats.closed(Status.UNAVAILABLE, -1)).isTrue();
+        picker.onFailure(endpoint.stats);
+    }
+
+    private Endpoint endpoint(String name) {
+        // The stats are shared per authority and endpoint, make them unique for each test
+        return new Endpoint(null, EndpointStats.acquire(getClass().getName() + System.nanoTime(), name));
+    }
+}
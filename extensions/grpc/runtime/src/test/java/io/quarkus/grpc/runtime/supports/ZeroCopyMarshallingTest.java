@@ -0,0 +1,164 @@
+package io.quarkus.grpc.runtime.supports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.StringValue;
+
+import io.grpc.Detachable;
+import io.grpc.HasByteBuffer;
+import io.grpc.KnownLength;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.protobuf.ProtoUtils;
+
+@SuppressWarnings("unchecked")
+class ZeroCopyMarshallingTest {
+
+    ServerMethodDefinition<StringValue, StringValue> method;
+
+    @BeforeEach
+    void setup() {
+        MethodDescriptor<StringValue, StringValue> descriptor = MethodDescriptor.<StringValue, StringValue> newBuilder()
+                .setType(MethodDescriptor.MethodType.UNARY)
+                .setFullMethodName(MethodDescriptor.generateFullMethodName("test", "Echo"))
+                .setRequestMarshaller(ProtoUtils.marshaller(StringValue.getDefaultInstance()))
+                .setResponseMarshaller(ProtoUtils.marshaller(StringValue.getDefaultInstance()))
+                .build();
+        ServerServiceDefinition service = ServerServiceDefinition.builder("test")
+                .addMethod(descriptor, (call, headers) -> new ServerCall.Listener<>() {
+                })
+                .build();
+        method = (ServerMethodDefinition<StringValue, StringValue>) ZeroCopyMarshalling.apply(service)
+                .getMethod(descriptor.getFullMethodName());
+    }
+
+    @Test
+    void testBuffersAreReleasedWhenTheCallIsCancelled() {
+        ServerCall.Listener<StringValue> listener = method.getServerCallHandler().startCall(mock(ServerCall.class),
+                new Metadata());
+
+        TransportStream first = new TransportStream("neo");
+        TransportStream second = new TransportStream("trinity");
+        listener.onMessage(method.getMethodDescriptor().parseRequest(first));
+        listener.onMessage(method.getMethodDescriptor().parseRequest(second));
+        // The buffers are retained while the call is in progress
+        assertThat(first.detached.closed).isFalse();
+        assertThat(second.detached.closed).isFalse();
+
+        listener.onCancel();
+        assertThat(first.detached.closed).isTrue();
+        assertThat(second.detached.closed).isTrue();
+    }
+
+    @Test
+    void testBuffersAreReleasedWhenTheCallIsCompleted() {
+        ServerCall.Listener<StringValue> listener = method.getServerCallHandler().startCall(mock(ServerCall.class),
+                new Metadata());
+
+        TransportStream stream = new TransportStream("neo");
+        StringValue message = method.getMethodDescriptor().parseRequest(stream);
+        listener.onMessage(message);
+        assertThat(message.getValue()).isEqualTo("neo");
+        assertThat(stream.detached.closed).isFalse();
+
+        listener.onComplete();
+        assertThat(stream.detached.closed).isTrue();
+    }
+
+    @Test
+    void testBuffersOfUndeliveredMessagesAreReleased() {
+        // The message is never delivered to the listener, e.g. the call was short-circuited by an interceptor
+        TransportStream undelivered = new TransportStream("neo");
+        method.getMethodDescriptor().parseRequest(undelivered);
+        assertThat(undelivered.detached.closed).isFalse();
+
+        TransportStream next = new TransportStream("trinity");
+        StringValue message = method.getMethodDescriptor().parseRequest(next);
+        assertThat(undelivered.detached.closed).isTrue();
+        assertThat(ZeroCopyMarshaller.detach(message)).isSameAs(next.detached);
+        ZeroCopyMarshaller.close(next.detached);
+    }
+
+    /**
+     * A transport stream exposing its buffer, similar to the Netty readable buffers.
+     */
+    static final class TransportStream extends InputStream implements KnownLength, Detachable, HasByteBuffer {
+
+        private final ByteBuffer buffer;
+        private int mark;
+        TransportStream detached;
+        boolean closed;
+
+        TransportStream(String value) {
+            this(ByteBuffer.wrap(StringValue.newBuilder().setValue(value).build().toByteArray()));
+        }
+
+        private TransportStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public long skip(long n) {
+            int skipped = (int) Math.min(n, buffer.remaining());
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public void mark(int readLimit) {
+            mark = buffer.position();
+        }
+
+        @Override
+        public void reset() {
+            buffer.position(mark);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override
+        public InputStream detach() {
+            detached = new TransportStream(buffer.slice());
+            buffer.position(buffer.limit());
+            return detached;
+        }
+
+        @Override
+        public boolean byteBufferSupported() {
+            return true;
+        }
+
+        @Override
+        public ByteBuffer getByteBuffer() {
+            return buffer.hasRemaining() ? buffer.slice() : null;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.quarkus.grpc.runtime.supports.limits;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrencyLimiterTest {
+
+    @Test
+    void testStaticLimit() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, false, 1, 1000);
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        limiter.release(TimeUnit.SECONDS.toNanos(10), true);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.tryAcquire()).isTrue();
+        // The limit is never adjusted
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void testAdaptiveLimit() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(10, true, 1, 100);
+        // Stable latency - the limit grows
+        for (int i = 0; i < 20; i++) {
+            saturate(limiter, TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        int increased = limiter.getLimit();
+        assertThat(increased).isGreaterThan(10).isLessThanOrEqualTo(100);
+
+        // The latency increases - the limit shrinks
+        for (int i = 0; i < 20; i++) {
+            saturate(limiter, TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        int decreased = limiter.getLimit();
+        assertThat(decreased).isLessThan(increased).isGreaterThanOrEqualTo(1);
+
+        // Dropped calls shrink the limit as well
+        assertThat(limiter.tryAcquire()).isTrue();
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(1), true);
+        assertThat(limiter.getLimit()).isLessThanOrEqualTo(decreased);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void testAdaptiveLimitIgnoresUnusedCapacity() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(10, true, 1, 100);
+        // A single call at a time says nothing about the limit
+        for (int i = 0; i < 100; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(i + 1), false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    private static void saturate(ConcurrencyLimiter limiter, long rttNanos) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(rttNanos, false);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.quarkus.grpc.stubs;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -19,6 +20,7 @@ public class ServerCalls {
     private static final Logger log = Logger.getLogger(ServerCalls.class);
 
     private static StreamCollector streamCollector = StreamCollector.NO_OP;
+    private static volatile int streamingInboundWindow = 128;
 
     private ServerCalls() {
     }
@@ -96,7 +98,7 @@ public static <I, O> StreamObserver<I> manyToOne(StreamObserver<O> response,
             StreamObserver<I> pump = getStreamObserverFeedingProcessor(input);
             streamCollector.add(response);
 
-            Uni<O> uni = implementation.apply(input);
+            Uni<O> uni = implementation.apply(withFlowControl(input, response));
             if (uni == null) {
                 log.error("gRPC service method returned null instead of Uni. " +
                         "Please change the implementation to return a Uni object, either carrying a value or a failure," +
@@ -147,7 +149,7 @@ public static <I, O> StreamObserver<I> manyToMany(StreamObserver<O> response,
             streamCollector.add(response);
             UnicastProcessor<I> input = UnicastProcessor.create();
             StreamObserver<I> pump = getStreamObserverFeedingProcessor(input);
-            Multi<O> multi = implementation.apply(input);
+            Multi<O> multi = implementation.apply(withFlowControl(input, response));
             if (multi == null) {
                 log.error("gRPC service method returned null instead of Multi. " +
                         "Please change the implementation to return a Multi object or throw StatusRuntimeException");
@@ -216,6 +218,32 @@ public void onCompleted() {
         return result;
     }
 
+    /**
+     * The messages are requested from the client as they are consumed by the service, i.e. at most
+     * {@link #streamingInboundWindow} messages are buffered by the processor.
+     */
+    private static <I> Multi<I> withFlowControl(Multi<I> input, StreamObserver<?> response) {
+        int window = streamingInboundWindow;
+        if (window <= 0 || !(response instanceof ServerCallStreamObserver)) {
+            return input;
+        }
+        ServerCallStreamObserver<?> call = (ServerCallStreamObserver<?>) response;
+        call.disableAutoRequest();
+        call.request(window);
+        int batch = Math.max(1, window / 2);
+        AtomicInteger consumed = new AtomicInteger();
+        return input.onItem().invoke(new Consumer<I>() {
+            @Override
+            public void accept(I item) {
+                // Request the messages in batches, not one by one
+                if (consumed.incrementAndGet() == batch) {
+                    consumed.set(0);
+                    call.request(batch);
+                }
+            }
+        });
+    }
+
     private static Throwable toStatusFailure(Throwable throwable) {
         if (throwable instanceof StatusException || throwable instanceof StatusRuntimeException) {
             return throwable;
@@ -241,6 +269,15 @@ private static void trySetCompression(StreamObserver<?> response, String compres
         }
     }
 
+    /**
+     *
+     * @param window the number of messages of a streaming call requested before they are consumed, {@code 0} to
+     *        request the messages as soon as they are received
+     */
+    public static void setStreamingInboundWindow(int window) {
+        streamingInboundWindow = window;
+    }
+
     // for dev mode only!
     public static void setStreamCollector(StreamCollector collector) {
         streamCollector = collector;
@@ -48,6 +48,10 @@ private static DotName createConstant(String fqcn) {
     public static final DotName TYPE_DEFINITION = createConstant("org.hibernate.annotations.TypeDef");
     public static final DotName TYPE_DEFINITIONS = createConstant("org.hibernate.annotations.TypeDefs");
     public static final DotName INJECT_SERVICE = createConstant("org.hibernate.service.spi.InjectService");
+    public static final DotName JPA_NAMED_QUERY = createConstant("javax.persistence.NamedQuery");
+    public static final DotName JPA_NAMED_QUERIES = createConstant("javax.persistence.NamedQueries");
+    public static final DotName NAMED_QUERY = createConstant("org.hibernate.annotations.NamedQuery");
+    public static final DotName NAMED_QUERIES = createConstant("org.hibernate.annotations.NamedQueries");
 
     public static final DotName ENTITY_MANAGER_FACTORY = createConstant("javax.persistence.EntityManagerFactory");
     public static final DotName SESSION_FACTORY = createConstant("org.hibernate.SessionFactory");
@@ -5,16 +5,10 @@
 import java.util.OptionalInt;
 
 import io.quarkus.hibernate.orm.deployment.HibernateOrmConfigPersistenceUnit.HibernateOrmConfigPersistenceUnitCache;
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusCaffeineRegionFactory;
 
 public class HibernateConfigUtil {
 
-    /**
-     * TODO: reuse the ones from QuarkusInfinispanRegionFactory as soon as they are made public.
-     */
-    private final static String EXPIRATION_MAX_IDLE = ".expiration.max-idle";
-    private final static String MEMORY_OBJECT_COUNT = ".memory.object-count";
-    private static final String HIBERNATE_CACHE_PREFIX = "hibernate.cache.";
-
     public static Map<String, String> getCacheConfigEntries(HibernateOrmConfigPersistenceUnit config) {
         Map<String, String> cacheRegionsConfigEntries = new HashMap<>();
         for (Map.Entry<String, HibernateOrmConfigPersistenceUnitCache> regionEntry : config.cache.entrySet()) {
@@ -22,11 +16,13 @@ public static Map<String, String> getCacheConfigEntries(HibernateOrmConfigPersis
             HibernateOrmConfigPersistenceUnitCache cacheConfig = regionEntry.getValue();
 
             if (cacheConfig.expiration.maxIdle.isPresent()) {
-                cacheRegionsConfigEntries.put(getCacheConfigKey(regionName, EXPIRATION_MAX_IDLE),
+                cacheRegionsConfigEntries.put(QuarkusCaffeineRegionFactory.setting(regionName,
+                        QuarkusCaffeineRegionFactory.EXPIRATION_MAX_IDLE),
                         String.valueOf(cacheConfig.expiration.maxIdle.get().getSeconds()));
             }
             if (cacheConfig.memory.objectCount.isPresent()) {
-                cacheRegionsConfigEntries.put(getCacheConfigKey(regionName, MEMORY_OBJECT_COUNT),
+                cacheRegionsConfigEntries.put(QuarkusCaffeineRegionFactory.setting(regionName,
+                        QuarkusCaffeineRegionFactory.MEMORY_OBJECT_COUNT),
                         String.valueOf(cacheConfig.memory.objectCount.getAsLong()));
             }
         }
@@ -34,10 +30,6 @@ public static Map<String, String> getCacheConfigEntries(HibernateOrmConfigPersis
         return cacheRegionsConfigEntries;
     }
 
-    private static String getCacheConfigKey(String regionName, String configKey) {
-        return HIBERNATE_CACHE_PREFIX + regionName + configKey;
-    }
-
     public static <T> OptionalInt firstPresent(OptionalInt first, OptionalInt second) {
         return first.isPresent() ? first : second;
     }
@@ -43,10 +43,12 @@
 import javax.xml.bind.JAXBElement;
 import javax.xml.namespace.QName;
 
+import org.hibernate.QueryException;
 import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
 import org.hibernate.boot.archive.scan.spi.PackageDescriptor;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.beanvalidation.BeanValidationIntegrator;
+import org.hibernate.hql.internal.ast.HqlParser;
 import org.hibernate.id.SequenceMismatchStrategy;
 import org.hibernate.integrator.spi.Integrator;
 import org.hibernate.internal.util.collections.ArrayHelper;
@@ -64,6 +66,8 @@
 import org.jboss.logging.Logger;
 import org.jboss.logmanager.Level;
 
+import antlr.RecognitionException;
+import antlr.TokenStreamException;
 import io.quarkus.agroal.spi.JdbcDataSourceBuildItem;
 import io.quarkus.agroal.spi.JdbcDataSourceSchemaReadyBuildItem;
 import io.quarkus.agroal.spi.JdbcInitialSQLGeneratorBuildItem;
@@ -138,6 +142,7 @@
 import io.quarkus.hibernate.orm.runtime.graal.DisableLoggingFeature;
 import io.quarkus.hibernate.orm.runtime.integration.HibernateOrmIntegrationStaticDescriptor;
 import io.quarkus.hibernate.orm.runtime.migration.MultiTenancyStrategy;
+import io.quarkus.hibernate.orm.runtime.nplusone.NPlusOneDetectionIntegrator;
 import io.quarkus.hibernate.orm.runtime.proxies.PreGeneratedProxies;
 import io.quarkus.hibernate.orm.runtime.schema.SchemaManagementIntegrator;
 import io.quarkus.hibernate.orm.runtime.tenant.DataSourceTenantConnectionResolver;
@@ -205,6 +210,48 @@ void checkTransactionsSupport(Capabilities capabilities) {
         }
     }
 
+    /**
+     * Parses the named queries at build time, so that a syntax error fails the build instead of the application boot.
+     * <p>
+     * The references to entities and attributes are checked when the queries are compiled, at boot.
+     */
+    @BuildStep
+    void validateNamedQueries(CombinedIndexBuildItem index) {
+        List<AnnotationInstance> namedQueries = new ArrayList<>();
+        for (DotName annotation : List.of(ClassNames.JPA_NAMED_QUERY, ClassNames.NAMED_QUERY)) {
+            namedQueries.addAll(index.getIndex().getAnnotations(annotation));
+        }
+        for (DotName container : List.of(ClassNames.JPA_NAMED_QUERIES, ClassNames.NAMED_QUERIES)) {
+            for (AnnotationInstance annotation : index.getIndex().getAnnotations(container)) {
+                namedQueries.addAll(Arrays.asList(annotation.value().asNestedArray()));
+            }
+        }
+
+        List<String> errors = new ArrayList<>();
+        for (AnnotationInstance namedQuery : namedQueries) {
+            String name = namedQuery.value("name").asString();
+            String query = namedQuery.value("query").asString();
+            String error = parseQuery(query);
+            if (error != null) {
+                errors.add(String.format(Locale.ROOT, "\t- %s declared on %s: %s", name, namedQuery.target(), error));
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new ConfigurationException("Invalid named queries:\n" + String.join("\n", errors));
+        }
+    }
+
+    private static String parseQuery(String query) {
+        try {
+            HqlParser parser = HqlParser.getInstance(query);
+            parser.statement();
+            parser.getParseErrorHandler().throwQueryException();
+            return null;
+        } catch (RecognitionException | TokenStreamException | QueryException e) {
+            return e.getMessage();
+        }
+    }
+
     @BuildStep
     void includeArchivesHostingEntityPackagesInIndex(HibernateOrmConfig hibernateOrmConfig,
             BuildProducer<AdditionalApplicationArchiveMarkerBuildItem> additionalApplicationArchiveMarkers) {
@@ -597,6 +644,8 @@ public void build(RecorderContext recorderContext, HibernateOrmRecorder recorder
         for (String integratorClassName : ServiceUtil.classNamesNamedIn(classLoader, INTEGRATOR_SERVICE_FILE)) {
             integratorClasses.add((Class<? extends Integrator>) recorderContext.classProxy(integratorClassName));
         }
+        // Only registers listeners if enabled in the runtime configuration
+        integratorClasses.add(NPlusOneDetectionIntegrator.class);
         if (launchMode.getLaunchMode() == LaunchMode.DEVELOPMENT) {
             integratorClasses.add(HibernateOrmDevConsoleIntegrator.class);
             integratorClasses.add(SchemaManagementIntegrator.class);
@@ -865,6 +914,28 @@ public void registerInjectServiceMethodsForReflection(CombinedIndexBuildItem ind
         }
     }
 
+    /*
+     * Caffeine instantiates the implementation matching the bounds of each second-level cache region reflectively,
+     * and the bounds are only known at runtime: register the implementations of every combination of bounds
+     * QuarkusCaffeineRegionFactory can build, which the Caffeine extension does not register by default.
+     */
+    @BuildStep(onlyIf = NativeOrNativeSourcesBuild.class)
+    public void registerSecondLevelCacheImplementationsForReflection(BuildProducer<ReflectiveClassBuildItem> reflective) {
+        List<String> classes = new ArrayList<>();
+        for (String eviction : new String[] { "", "MS", "MW" }) {
+            for (String expiration : new String[] { "", "A", "W", "AW" }) {
+                if (eviction.isEmpty() && expiration.isEmpty()) {
+                    // Unbounded regions do not need any generated implementation
+                    continue;
+                }
+                // Strong keys and values, recording statistics
+                classes.add("com.github.benmanes.caffeine.cache.SSS" + eviction + expiration);
+                classes.add("com.github.benmanes.caffeine.cache.PS" + expiration + eviction);
+            }
+        }
+        reflective.produce(new ReflectiveClassBuildItem(false, false, classes.toArray(new String[0])));
+    }
+
     private static List<String> getSqlLoadScript(Optional<List<String>> sqlLoadScript, LaunchMode launchMode) {
         // Explicit file or default Hibernate ORM file.
         if (sqlLoadScript.isPresent()) {
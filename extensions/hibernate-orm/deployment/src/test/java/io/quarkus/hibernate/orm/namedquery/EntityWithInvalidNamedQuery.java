@@ -0,0 +1,20 @@
+package io.quarkus.hibernate.orm.namedquery;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
+
+@Entity
+@NamedQueries({
+        @NamedQuery(name = "valid", query = "from EntityWithInvalidNamedQuery e where e.name = :name"),
+        @NamedQuery(name = "invalid", query = "select e from EntityWithInvalidNamedQuery e where e.name = = :name")
+})
+public class EntityWithInvalidNamedQuery {
+
+    @Id
+    public Long id;
+
+    public String name;
+
+}
@@ -0,0 +1,33 @@
+package io.quarkus.hibernate.orm.namedquery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class InvalidNamedQueryTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .assertException(t -> {
+                assertThat(t)
+                        .isInstanceOf(ConfigurationException.class)
+                        .hasMessageContaining("- invalid declared on " + EntityWithInvalidNamedQuery.class.getName())
+                        .hasMessageNotContaining("- valid declared on");
+            })
+            .withApplicationRoot((jar) -> jar
+                    .addClass(EntityWithInvalidNamedQuery.class)
+                    .addAsResource("application.properties"));
+
+    @Test
+    public void testInvalidNamedQueryFailsTheBuild() {
+        // should not be called, deployment exception should happen first:
+        // it's illegal to have a named query with a syntax error
+        Assertions.fail();
+    }
+
+}
@@ -0,0 +1,73 @@
+package io.quarkus.hibernate.orm.nplusone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.transaction.UserTransaction;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
+import io.quarkus.hibernate.orm.runtime.nplusone.NPlusOneDetections;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class NPlusOneDetectionTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Owner.class, Pet.class)
+                    .addAsResource("application.properties"))
+            // Disable the batch fetching of Hibernate ORM so that each collection is loaded by its own query
+            .overrideConfigKey("quarkus.hibernate-orm.fetch.batch-size", "-1")
+            .overrideConfigKey("quarkus.hibernate-orm.n-plus-one.enabled", "true")
+            .overrideConfigKey("quarkus.hibernate-orm.n-plus-one.threshold", "5")
+            .overrideConfigKey("quarkus.hibernate-orm.n-plus-one.batch-size", "100");
+
+    @Inject
+    Session session;
+
+    @Inject
+    UserTransaction transaction;
+
+    @Test
+    public void testDetectionAndBatching() throws Exception {
+        transaction.begin();
+        for (int i = 0; i < 20; i++) {
+            Owner owner = new Owner();
+            Pet pet = new Pet();
+            session.persist(pet);
+            owner.pets.add(pet);
+            session.persist(owner);
+        }
+        transaction.commit();
+
+        transaction.begin();
+        List<Owner> owners = session.createQuery("from Owner", Owner.class).list();
+        for (int i = 0; i < 5; i++) {
+            owners.get(i).pets.size();
+        }
+        // The fifth load reached the threshold: the remaining collections were loaded with it
+        assertThat(owners).hasSize(20)
+                .allSatisfy(owner -> assertThat(Hibernate.isInitialized(owner.pets)).as("pets of " + owner).isTrue());
+        assertThat(owners).allSatisfy(owner -> assertThat(owner.pets).hasSize(1));
+        transaction.commit();
+
+        NPlusOneDetections detections = NPlusOneDetections.get(PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME);
+        assertThat(detections.getDetections()).singleElement().satisfies(detection -> {
+            assertThat(detection.getRole()).isEqualTo(Owner.class.getName() + ".pets");
+            assertThat(detection.isCollection()).isTrue();
+            assertThat(detection.getCount()).isEqualTo(1);
+            assertThat(detection.getMaxLoads()).isEqualTo(5);
+            assertThat(detection.isBatched()).isTrue();
+            assertThat(detection.getCallSite())
+                    .startsWith(NPlusOneDetectionTest.class.getName() + ".testDetectionAndBatching(");
+        });
+    }
+
+}
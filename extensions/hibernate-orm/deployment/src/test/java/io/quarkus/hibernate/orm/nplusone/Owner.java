@@ -0,0 +1,27 @@
+package io.quarkus.hibernate.orm.nplusone;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.OneToMany;
+
+@Entity
+public class Owner {
+    @Id
+    @GeneratedValue
+    public Long id;
+
+    @OneToMany
+    public List<Pet> pets = new ArrayList<>();
+
+    public Owner() {
+    }
+
+    @Override
+    public String toString() {
+        return "Owner#" + id;
+    }
+}
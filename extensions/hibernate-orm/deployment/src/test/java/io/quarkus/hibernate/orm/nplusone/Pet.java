@@ -0,0 +1,20 @@
+package io.quarkus.hibernate.orm.nplusone;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+
+@Entity
+public class Pet {
+    @Id
+    @GeneratedValue
+    public Long id;
+
+    public Pet() {
+    }
+
+    @Override
+    public String toString() {
+        return "Pet#" + id;
+    }
+}
@@ -28,11 +28,14 @@
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.hibernate.orm.runtime.HibernateOrmRuntimeConfigPersistenceUnit.HibernateOrmConfigPersistenceUnitCacheRegion;
 import io.quarkus.hibernate.orm.runtime.RuntimeSettings.Builder;
 import io.quarkus.hibernate.orm.runtime.boot.FastBootEntityManagerFactoryBuilder;
 import io.quarkus.hibernate.orm.runtime.boot.registry.PreconfiguredServiceRegistryBuilder;
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusCaffeineRegionFactory;
 import io.quarkus.hibernate.orm.runtime.integration.HibernateOrmIntegrationRuntimeDescriptor;
 import io.quarkus.hibernate.orm.runtime.integration.HibernateOrmIntegrationRuntimeInitListener;
+import io.quarkus.hibernate.orm.runtime.nplusone.NPlusOneDetectionIntegrator;
 import io.quarkus.hibernate.orm.runtime.recording.PrevalidatedQuarkusMetadata;
 import io.quarkus.hibernate.orm.runtime.recording.RecordedState;
 import io.quarkus.runtime.configuration.ConfigurationException;
@@ -428,6 +431,34 @@ private static void injectRuntimeConfiguration(HibernateOrmRuntimeConfigPersiste
             runtimeSettingsBuilder.put(AvailableSettings.LOG_SLOW_QUERY,
                     persistenceUnitConfig.log.queriesSlowerThanMs.get());
         }
+
+        // Second-level cache
+        Map<String, HibernateOrmConfigPersistenceUnitCacheRegion> secondLevelCache = persistenceUnitConfig.secondLevelCache;
+        for (Map.Entry<String, HibernateOrmConfigPersistenceUnitCacheRegion> regionEntry : secondLevelCache.entrySet()) {
+            String regionName = regionEntry.getKey();
+            HibernateOrmConfigPersistenceUnitCacheRegion regionConfig = regionEntry.getValue();
+            regionConfig.maximumSize.ifPresent(maximumSize -> runtimeSettingsBuilder.put(
+                    QuarkusCaffeineRegionFactory.setting(regionName, QuarkusCaffeineRegionFactory.MAXIMUM_SIZE),
+                    String.valueOf(maximumSize)));
+            regionConfig.maximumWeight.ifPresent(maximumWeight -> runtimeSettingsBuilder.put(
+                    QuarkusCaffeineRegionFactory.setting(regionName, QuarkusCaffeineRegionFactory.MAXIMUM_WEIGHT),
+                    String.valueOf(maximumWeight)));
+            regionConfig.expireAfterWrite.ifPresent(expireAfterWrite -> runtimeSettingsBuilder.put(
+                    QuarkusCaffeineRegionFactory.setting(regionName, QuarkusCaffeineRegionFactory.EXPIRE_AFTER_WRITE),
+                    expireAfterWrite.toString()));
+            regionConfig.expireAfterAccess.ifPresent(expireAfterAccess -> runtimeSettingsBuilder.put(
+                    QuarkusCaffeineRegionFactory.setting(regionName, QuarkusCaffeineRegionFactory.EXPIRE_AFTER_ACCESS),
+                    expireAfterAccess.toString()));
+        }
+
+        // N+1 loading detection
+        if (persistenceUnitConfig.nPlusOne.enabled) {
+            runtimeSettingsBuilder.put(NPlusOneDetectionIntegrator.ENABLED, "true");
+            runtimeSettingsBuilder.put(NPlusOneDetectionIntegrator.THRESHOLD,
+                    String.valueOf(persistenceUnitConfig.nPlusOne.threshold));
+            persistenceUnitConfig.nPlusOne.batchSize.ifPresent(batchSize -> runtimeSettingsBuilder
+                    .put(NPlusOneDetectionIntegrator.BATCH_SIZE, String.valueOf(batchSize)));
+        }
     }
 
 }
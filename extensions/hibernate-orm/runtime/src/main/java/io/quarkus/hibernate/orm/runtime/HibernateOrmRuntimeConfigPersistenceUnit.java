@@ -1,8 +1,11 @@
 package io.quarkus.hibernate.orm.runtime;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigDocSection;
@@ -35,6 +38,23 @@ public class HibernateOrmRuntimeConfigPersistenceUnit {
     @ConfigDocSection
     public HibernateOrmConfigPersistenceUnitLog log = new HibernateOrmConfigPersistenceUnitLog();
 
+    /**
+     * Second-level cache regions configuration, by region name.
+     * <p>
+     * The region of an entity is named after the fully qualified name of the entity class.
+     */
+    @ConfigItem
+    @ConfigDocSection
+    @ConfigDocMapKey("region-name")
+    public Map<String, HibernateOrmConfigPersistenceUnitCacheRegion> secondLevelCache = new HashMap<>();
+
+    /**
+     * N+1 loading detection configuration.
+     */
+    @ConfigItem
+    @ConfigDocSection
+    public HibernateOrmConfigPersistenceUnitNPlusOne nPlusOne = new HibernateOrmConfigPersistenceUnitNPlusOne();
+
     /**
      * Properties that should be passed on directly to Hibernate ORM.
      * Use the full configuration property key here,
@@ -63,6 +83,8 @@ public boolean isAnyPropertySet() {
         return database.isAnyPropertySet() ||
                 scripts.isAnyPropertySet() ||
                 log.isAnyPropertySet() ||
+                !secondLevelCache.isEmpty() ||
+                nPlusOne.isAnyPropertySet() ||
                 !unsupportedProperties.isEmpty();
     }
 
@@ -213,4 +235,72 @@ public boolean isAnyPropertySet() {
         }
     }
 
+    @ConfigGroup
+    public static class HibernateOrmConfigPersistenceUnitCacheRegion {
+
+        /**
+         * The maximum number of entries of the region.
+         * <p>
+         * Overrides the `memory.object-count` build time setting of the region.
+         * Cannot be set together with `maximum-weight`.
+         */
+        @ConfigItem(defaultValueDocumentation = "10000")
+        public OptionalLong maximumSize = OptionalLong.empty();
+
+        /**
+         * The maximum weight of the entries of the region, an entry weighing the size in bytes of its serialized form.
+         * <p>
+         * This bounds the memory used by regions whose entries vary widely in size,
+         * at the cost of serializing each entry when it is put into the region.
+         * Cannot be set together with `maximum-size`.
+         */
+        @ConfigItem
+        public OptionalLong maximumWeight = OptionalLong.empty();
+
+        /**
+         * The duration after which an entry of the region expires once it is written.
+         */
+        @ConfigItem
+        public Optional<Duration> expireAfterWrite = Optional.empty();
+
+        /**
+         * The duration after which an entry of the region expires once it is last read or written.
+         * <p>
+         * Overrides the `expiration.max-idle` build time setting of the region.
+         */
+        @ConfigItem(defaultValueDocumentation = "100S")
+        public Optional<Duration> expireAfterAccess = Optional.empty();
+    }
+
+    @ConfigGroup
+    public static class HibernateOrmConfigPersistenceUnitNPlusOne {
+
+        /**
+         * Whether the entities and collections loaded one at a time repeatedly within a session should be detected.
+         * <p>
+         * Such loads happen when the application iterates over entities and navigates one of their lazy associations,
+         * each navigation executing a query. The detected patterns are logged along with the application code
+         * triggering them, listed in the Dev UI and published as metrics if metrics are enabled.
+         */
+        @ConfigItem
+        public boolean enabled = false;
+
+        /**
+         * The number of loads of the same entity or collection within a session from which they are reported.
+         */
+        @ConfigItem(defaultValue = "10")
+        public int threshold = 10;
+
+        /**
+         * When set, once the threshold is reached for a collection within a session, the requested collection is loaded
+         * together with up to this number of other not yet loaded collections of the same role, with a single query.
+         */
+        @ConfigItem
+        public OptionalInt batchSize = OptionalInt.empty();
+
+        public boolean isAnyPropertySet() {
+            return enabled || threshold != 10 || batchSize.isPresent();
+        }
+    }
+
 }
@@ -0,0 +1,82 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import java.util.OptionalLong;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy.Eviction;
+
+/**
+ * Stores the entries of a second-level cache region in a Caffeine cache.
+ */
+public final class CaffeineStorageAccess implements DomainDataStorageAccess {
+
+    private final Cache<Object, Object> cache;
+
+    CaffeineStorageAccess(Cache<Object, Object> cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+        return cache.getIfPresent(key);
+    }
+
+    @Override
+    public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+        if (value == null) {
+            // Caffeine does not store null values
+            cache.invalidate(key);
+        } else {
+            cache.put(key, value);
+        }
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        return cache.asMap().containsKey(key);
+    }
+
+    @Override
+    public void evictData() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void evictData(Object key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public void release() {
+        cache.invalidateAll();
+        cache.cleanUp();
+    }
+
+    /**
+     *
+     * @return the estimated number of entries of the region
+     */
+    public long getElementCount() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     *
+     * @return the number of entries evicted because of the size, weight or expiration bounds of the region
+     */
+    public long getEvictionCount() {
+        return cache.stats().evictionCount();
+    }
+
+    /**
+     *
+     * @return the total weight of the entries, if the region is bounded by weight
+     */
+    public OptionalLong getWeightedSize() {
+        return cache.policy().eviction().map(Eviction::weightedSize).orElse(OptionalLong.empty());
+    }
+
+}
@@ -0,0 +1,229 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.internal.DefaultCacheKeysFactory;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.support.AbstractRegionFactory;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.QueryResultsRegionTemplate;
+import org.hibernate.cache.spi.support.TimestampsRegionTemplate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.quarkus.runtime.configuration.ConfigurationException;
+
+/**
+ * The second-level cache of Hibernate ORM, each region is stored in a Caffeine cache.
+ * <p>
+ * The regions are bounded by size and time by default, except the update timestamps region which must not lose any entry.
+ * They are configured with the {@code hibernate.cache.<region>.*} settings, see {@link #setting(String, String)}.
+ */
+public final class QuarkusCaffeineRegionFactory extends AbstractRegionFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(QuarkusCaffeineRegionFactory.class);
+
+    public static final String MAXIMUM_SIZE = ".maximum-size";
+    public static final String MAXIMUM_WEIGHT = ".maximum-weight";
+    public static final String EXPIRE_AFTER_WRITE = ".expire-after-write";
+    public static final String EXPIRE_AFTER_ACCESS = ".expire-after-access";
+    /**
+     * The maximum number of entries configured at build time, overridden by {@link #MAXIMUM_SIZE}.
+     */
+    public static final String MEMORY_OBJECT_COUNT = ".memory.object-count";
+    /**
+     * The maximum idle time in seconds configured at build time, overridden by {@link #EXPIRE_AFTER_ACCESS}.
+     */
+    public static final String EXPIRATION_MAX_IDLE = ".expiration.max-idle";
+
+    static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+    static final Duration DEFAULT_EXPIRE_AFTER_ACCESS = Duration.ofSeconds(100);
+
+    private static final String SETTING_PREFIX = "hibernate.cache.";
+
+    private final Map<String, CaffeineStorageAccess> regions = new ConcurrentHashMap<>();
+    private volatile Map<?, ?> configValues = Collections.emptyMap();
+
+    /**
+     *
+     * @param regionName the name of the region
+     * @param suffix one of the setting suffixes, e.g. {@link #MAXIMUM_SIZE}
+     * @return the name of the setting
+     */
+    public static String setting(String regionName, String suffix) {
+        return SETTING_PREFIX + regionName + suffix;
+    }
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, @SuppressWarnings("rawtypes") Map configValues) {
+        this.configValues = configValues;
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        for (CaffeineStorageAccess region : regions.values()) {
+            region.release();
+        }
+        regions.clear();
+    }
+
+    @Override
+    public DomainDataRegion buildDomainDataRegion(DomainDataRegionConfig regionConfig,
+            DomainDataRegionBuildingContext buildingContext) {
+        return new CaffeineDomainDataRegion(regionConfig, this, createStorageAccess(regionConfig.getRegionName(), true),
+                buildingContext);
+    }
+
+    @Override
+    public QueryResultsRegion buildQueryResultsRegion(String regionName, SessionFactoryImplementor sessionFactory) {
+        return new CaffeineQueryResultsRegion(regionName, this, createStorageAccess(regionName, true));
+    }
+
+    @Override
+    public TimestampsRegion buildTimestampsRegion(String regionName, SessionFactoryImplementor sessionFactory) {
+        // Evicting an update timestamp would return stale query results
+        return new TimestampsRegionTemplate(regionName, this, createStorageAccess(regionName, false));
+    }
+
+    /**
+     *
+     * @return the storage of the regions built so far, by region name
+     */
+    public Map<String, CaffeineStorageAccess> getRegions() {
+        return Collections.unmodifiableMap(regions);
+    }
+
+    /**
+     *
+     * @return the maximum number of entries configured for the region
+     */
+    public Optional<Long> getMaximumSize(String regionName) {
+        Optional<String> size = getSetting(regionName, MAXIMUM_SIZE);
+        if (size.isEmpty()) {
+            size = getSetting(regionName, MEMORY_OBJECT_COUNT);
+        }
+        return size.map(Long::valueOf);
+    }
+
+    /**
+     *
+     * @return the maximum weight of the entries configured for the region
+     */
+    public Optional<Long> getMaximumWeight(String regionName) {
+        return getSetting(regionName, MAXIMUM_WEIGHT).map(Long::valueOf);
+    }
+
+    /**
+     *
+     * @return the duration after which an entry expires once written, configured for the region
+     */
+    public Optional<Duration> getExpireAfterWrite(String regionName) {
+        return getSetting(regionName, EXPIRE_AFTER_WRITE).map(Duration::parse);
+    }
+
+    /**
+     *
+     * @return the duration after which an entry expires once accessed, configured for the region
+     */
+    public Optional<Duration> getExpireAfterAccess(String regionName) {
+        Optional<Duration> expireAfterAccess = getSetting(regionName, EXPIRE_AFTER_ACCESS).map(Duration::parse);
+        if (expireAfterAccess.isPresent()) {
+            return expireAfterAccess;
+        }
+        return getSetting(regionName, EXPIRATION_MAX_IDLE).map(seconds -> Duration.ofSeconds(Long.parseLong(seconds)));
+    }
+
+    private Optional<String> getSetting(String regionName, String suffix) {
+        Object value = configValues.get(setting(regionName, suffix));
+        return value == null ? Optional.empty() : Optional.of(value.toString().trim());
+    }
+
+    private CaffeineStorageAccess createStorageAccess(String regionName, boolean bounded) {
+        Optional<Long> maximumSize = getMaximumSize(regionName);
+        Optional<Long> maximumWeight = getMaximumWeight(regionName);
+        if (maximumSize.isPresent() && maximumWeight.isPresent()) {
+            throw new ConfigurationException("The maximum size and the maximum weight cannot be both set for the region "
+                    + regionName);
+        }
+        Optional<Duration> expireAfterWrite = getExpireAfterWrite(regionName);
+        Optional<Duration> expireAfterAccess = getExpireAfterAccess(regionName);
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (maximumWeight.isPresent()) {
+            builder.maximumWeight(maximumWeight.get()).weigher(SerializedSizeWeigher.INSTANCE);
+        } else if (maximumSize.isPresent() || bounded) {
+            builder.maximumSize(maximumSize.orElse(DEFAULT_MAXIMUM_SIZE));
+        }
+        expireAfterWrite.ifPresent(builder::expireAfterWrite);
+        if (expireAfterAccess.isPresent() || bounded) {
+            builder.expireAfterAccess(expireAfterAccess.orElse(DEFAULT_EXPIRE_AFTER_ACCESS));
+        }
+        LOGGER.debugf("Building second-level cache region %s with [maximumSize=%s], [maximumWeight=%s], "
+                + "[expireAfterWrite=%s] and [expireAfterAccess=%s]", regionName, maximumSize.orElse(null),
+                maximumWeight.orElse(null), expireAfterWrite.orElse(null), expireAfterAccess.orElse(null));
+
+        CaffeineStorageAccess storageAccess = new CaffeineStorageAccess(builder.build());
+        regions.put(regionName, storageAccess);
+        return storageAccess;
+    }
+
+    private static final class CaffeineDomainDataRegion extends DomainDataRegionTemplate implements ExtendedStatisticsSupport {
+
+        CaffeineDomainDataRegion(DomainDataRegionConfig regionConfig, RegionFactory regionFactory,
+                CaffeineStorageAccess storageAccess, DomainDataRegionBuildingContext buildingContext) {
+            super(regionConfig, regionFactory, storageAccess, DefaultCacheKeysFactory.INSTANCE, buildingContext);
+        }
+
+        @Override
+        public long getElementCountInMemory() {
+            return ((CaffeineStorageAccess) getCacheStorageAccess()).getElementCount();
+        }
+
+        @Override
+        public long getElementCountOnDisk() {
+            return 0;
+        }
+
+        @Override
+        public long getSizeInMemory() {
+            return ((CaffeineStorageAccess) getCacheStorageAccess()).getWeightedSize().orElse(-1);
+        }
+    }
+
+    private static final class CaffeineQueryResultsRegion extends QueryResultsRegionTemplate
+            implements ExtendedStatisticsSupport {
+
+        CaffeineQueryResultsRegion(String name, RegionFactory regionFactory, CaffeineStorageAccess storageAccess) {
+            super(name, regionFactory, storageAccess);
+        }
+
+        @Override
+        public long getElementCountInMemory() {
+            return ((CaffeineStorageAccess) getStorageAccess()).getElementCount();
+        }
+
+        @Override
+        public long getElementCountOnDisk() {
+            return 0;
+        }
+
+        @Override
+        public long getSizeInMemory() {
+            return ((CaffeineStorageAccess) getStorageAccess()).getWeightedSize().orElse(-1);
+        }
+    }
+
+}
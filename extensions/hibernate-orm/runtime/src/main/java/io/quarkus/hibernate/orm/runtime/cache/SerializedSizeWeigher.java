@@ -0,0 +1,48 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * Weighs the entries of a region by the size of their value once serialized with the Java serialization, without
+ * allocating the serialized bytes. The cached entities and collections are stored in a serializable, disassembled form.
+ * Values which cannot be serialized weigh {@code 1}.
+ */
+final class SerializedSizeWeigher implements Weigher<Object, Object> {
+
+    static final SerializedSizeWeigher INSTANCE = new SerializedSizeWeigher();
+
+    private SerializedSizeWeigher() {
+    }
+
+    @Override
+    public int weigh(Object key, Object value) {
+        CountingOutputStream counter = new CountingOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(counter)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            // NotSerializableException, the stream does not perform any I/O
+            return 1;
+        }
+        return (int) Math.min(counter.count, Integer.MAX_VALUE);
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+
+}
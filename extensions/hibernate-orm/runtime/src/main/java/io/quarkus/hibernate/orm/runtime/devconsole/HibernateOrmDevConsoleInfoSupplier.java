@@ -24,6 +24,7 @@
 import org.hibernate.tool.schema.spi.TargetDescriptor;
 
 import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
+import io.quarkus.hibernate.orm.runtime.nplusone.NPlusOneDetections;
 
 public class HibernateOrmDevConsoleInfoSupplier implements Supplier<HibernateOrmDevConsoleInfoSupplier.PersistenceUnitsInfo> {
 
@@ -114,6 +115,11 @@ public int getNumberOfEntities() {
                     .mapToInt(List::size).reduce(Integer::sum).orElse(0);
         }
 
+        public int getNumberOfNPlusOneDetections() {
+            return persistenceUnits.values().stream().map(PersistenceUnitInfo::getNPlusOneDetections)
+                    .mapToInt(List::size).reduce(Integer::sum).orElse(0);
+        }
+
     }
 
     public static class PersistenceUnitInfo {
@@ -158,6 +164,11 @@ public List<QueryInfo> getAllNamedQueries() {
             return allQueries;
         }
 
+        public List<NPlusOneDetections.Detection> getNPlusOneDetections() {
+            NPlusOneDetections detections = NPlusOneDetections.get(name);
+            return detections != null ? detections.getDetections() : Collections.emptyList();
+        }
+
         public String getCreateDDL() {
             return createDDL;
         }
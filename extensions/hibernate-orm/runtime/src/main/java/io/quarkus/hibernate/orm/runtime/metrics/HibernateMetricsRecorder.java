@@ -1,16 +1,22 @@
 package io.quarkus.hibernate.orm.runtime.metrics;
 
 import java.util.Arrays;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.stat.CacheRegionStatistics;
 import org.hibernate.stat.Statistics;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.hibernate.orm.runtime.JPAConfig;
+import io.quarkus.hibernate.orm.runtime.cache.CaffeineStorageAccess;
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusCaffeineRegionFactory;
+import io.quarkus.hibernate.orm.runtime.nplusone.NPlusOneDetections;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.metrics.MetricsFactory;
 
@@ -31,6 +37,15 @@ public void accept(MetricsFactory metricsFactory) {
                     SessionFactory sessionFactory = jpaConfig.getEntityManagerFactory(puName).unwrap(SessionFactory.class);
                     if (sessionFactory != null) {
                         registerMetrics(metricsFactory, puName, sessionFactory.getStatistics());
+                        RegionFactory regionFactory = ((SessionFactoryImplementor) sessionFactory).getCache()
+                                .getRegionFactory();
+                        if (regionFactory instanceof QuarkusCaffeineRegionFactory) {
+                            registerCacheRegionMetrics(metricsFactory, puName, (QuarkusCaffeineRegionFactory) regionFactory);
+                        }
+                        NPlusOneDetections nPlusOneDetections = NPlusOneDetections.get(puName);
+                        if (nPlusOneDetections != null) {
+                            nPlusOneDetections.publishMetrics(metricsFactory);
+                        }
                     }
                 }
             }
@@ -203,6 +218,36 @@ void registerMetrics(MetricsFactory metricsFactory, String puName, Statistics st
                 puName, statistics, Statistics::getUpdateTimestampsCachePutCount);
     }
 
+    /**
+     * Register the metrics of the second-level cache regions which are not covered by the Hibernate statistics
+     *
+     * @param metricsFactory Quarkus MetricsFactory for generic metrics registration
+     * @param puName Name of persistence unit
+     * @param regionFactory Region factory of the persistence unit
+     */
+    void registerCacheRegionMetrics(MetricsFactory metricsFactory, String puName,
+            QuarkusCaffeineRegionFactory regionFactory) {
+        for (Map.Entry<String, CaffeineStorageAccess> region : regionFactory.getRegions().entrySet()) {
+            String regionName = region.getKey();
+            CaffeineStorageAccess storageAccess = region.getValue();
+            createStatisticsCounter(metricsFactory, "hibernate.second.level.cache.evictions",
+                    "The number of entries evicted from the second level cache because of its size or expiration bounds",
+                    puName, storageAccess, CaffeineStorageAccess::getEvictionCount,
+                    "region", regionName);
+            createBuilder(metricsFactory, "hibernate.second.level.cache.size",
+                    "The estimated number of entries in the second level cache",
+                    puName, "region", regionName)
+                    .buildGauge(storageAccess, CaffeineStorageAccess::getElementCount);
+            if (storageAccess.getWeightedSize().isPresent()) {
+                createBuilder(metricsFactory, "hibernate.second.level.cache.weight",
+                        "The total weight of the entries in the second level cache",
+                        puName, "region", regionName)
+                        .unit("bytes")
+                        .buildGauge(storageAccess, s -> s.getWeightedSize().getAsLong());
+            }
+        }
+    }
+
     <T> void createStatisticsCounter(MetricsFactory metricsFactory, String metricName, String description,
             String puName, T statistics, Function<T, Long> f, String... tags) {
 
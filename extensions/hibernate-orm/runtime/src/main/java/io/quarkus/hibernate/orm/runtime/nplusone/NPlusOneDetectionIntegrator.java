@@ -0,0 +1,55 @@
+package io.quarkus.hibernate.orm.runtime.nplusone;
+
+import static org.hibernate.cfg.AvailableSettings.PERSISTENCE_UNIT_NAME;
+
+import java.util.Map;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
+
+/**
+ * Registers the {@link NPlusOneDetector} if the N+1 detection is enabled for the persistence unit.
+ */
+public class NPlusOneDetectionIntegrator implements Integrator {
+
+    public static final String ENABLED = "quarkus.hibernate-orm.n-plus-one.enabled";
+    public static final String THRESHOLD = "quarkus.hibernate-orm.n-plus-one.threshold";
+    public static final String BATCH_SIZE = "quarkus.hibernate-orm.n-plus-one.batch-size";
+
+    private static final int DEFAULT_THRESHOLD = 10;
+
+    @Override
+    public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory,
+            SessionFactoryServiceRegistry serviceRegistry) {
+        Map<?, ?> settings = serviceRegistry.getService(ConfigurationService.class).getSettings();
+        if (!ConfigurationHelper.getBoolean(ENABLED, settings, false)) {
+            return;
+        }
+        NPlusOneDetections detections = NPlusOneDetections.register(persistenceUnitName(sessionFactory));
+        NPlusOneDetector detector = new NPlusOneDetector(detections,
+                ConfigurationHelper.getInt(THRESHOLD, settings, DEFAULT_THRESHOLD),
+                ConfigurationHelper.getInt(BATCH_SIZE, settings, -1));
+        EventListenerRegistry eventListenerRegistry = serviceRegistry.getService(EventListenerRegistry.class);
+        eventListenerRegistry.prependListeners(EventType.LOAD, detector);
+        eventListenerRegistry.prependListeners(EventType.INIT_COLLECTION, detector);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        NPlusOneDetections.unregister(persistenceUnitName(sessionFactory));
+    }
+
+    private static String persistenceUnitName(SessionFactoryImplementor sessionFactory) {
+        Object name = sessionFactory.getProperties().get(PERSISTENCE_UNIT_NAME);
+        return name != null ? name.toString() : PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME;
+    }
+
+}
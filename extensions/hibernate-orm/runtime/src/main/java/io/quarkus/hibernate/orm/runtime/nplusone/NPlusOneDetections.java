@@ -0,0 +1,175 @@
+package io.quarkus.hibernate.orm.runtime.nplusone;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * The N+1 loading patterns detected in the sessions of a persistence unit, by entity name or collection role.
+ */
+public final class NPlusOneDetections {
+
+    private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
+
+    private static final Map<String, NPlusOneDetections> PERSISTENCE_UNITS = new ConcurrentHashMap<>();
+
+    private final String persistenceUnitName;
+    private final Map<String, Detection> detections = new ConcurrentHashMap<>();
+    private MetricsFactory metricsFactory;
+
+    private NPlusOneDetections(String persistenceUnitName) {
+        this.persistenceUnitName = persistenceUnitName;
+    }
+
+    static NPlusOneDetections register(String persistenceUnitName) {
+        NPlusOneDetections detections = new NPlusOneDetections(persistenceUnitName);
+        PERSISTENCE_UNITS.put(persistenceUnitName, detections);
+        return detections;
+    }
+
+    static void unregister(String persistenceUnitName) {
+        PERSISTENCE_UNITS.remove(persistenceUnitName);
+    }
+
+    /**
+     *
+     * @param persistenceUnitName the name of the persistence unit
+     * @return the detections of the persistence unit, or {@code null} if the detection is not enabled for it
+     */
+    public static NPlusOneDetections get(String persistenceUnitName) {
+        return PERSISTENCE_UNITS.get(persistenceUnitName);
+    }
+
+    /**
+     *
+     * @return the detections, ordered by role
+     */
+    public List<Detection> getDetections() {
+        List<Detection> result = new ArrayList<>(detections.values());
+        result.sort(Comparator.comparing(Detection::getRole));
+        return result;
+    }
+
+    /**
+     * Publishes a counter of the sessions in which each pattern was detected, tagged with the entity name or collection role.
+     * The counters of the patterns detected later on are published when they are first detected.
+     */
+    public synchronized void publishMetrics(MetricsFactory metricsFactory) {
+        this.metricsFactory = metricsFactory;
+        for (Detection detection : detections.values()) {
+            publishMetric(detection);
+        }
+    }
+
+    Detection record(String role, boolean collection, int loads, String callSite, boolean batched) {
+        Detection detection = detections.get(role);
+        if (detection == null) {
+            detection = createDetection(role, collection);
+        }
+        detection.record(loads, callSite, batched);
+        return detection;
+    }
+
+    private synchronized Detection createDetection(String role, boolean collection) {
+        Detection detection = detections.get(role);
+        if (detection == null) {
+            detection = new Detection(role, collection);
+            detections.put(role, detection);
+            if (metricsFactory != null) {
+                publishMetric(detection);
+            }
+        }
+        return detection;
+    }
+
+    private void publishMetric(Detection detection) {
+        metricsFactory.builder("hibernate.n.plus.one")
+                .description("The number of sessions in which an entity or a collection was loaded one at a time repeatedly")
+                .tag(SESSION_FACTORY_TAG_NAME, persistenceUnitName)
+                .tag("role", detection.getRole())
+                .buildCounter(detection, Detection::getCount);
+    }
+
+    public static final class Detection {
+
+        private final String role;
+        private final boolean collection;
+        private final AtomicLong count = new AtomicLong();
+        private volatile int maxLoads;
+        private volatile String callSite;
+        private volatile boolean batched;
+
+        Detection(String role, boolean collection) {
+            this.role = role;
+            this.collection = collection;
+        }
+
+        void record(int loads, String callSite, boolean batched) {
+            count.incrementAndGet();
+            if (loads > maxLoads) {
+                maxLoads = loads;
+            }
+            this.callSite = callSite;
+            this.batched = batched;
+        }
+
+        /**
+         *
+         * @return the entity name or the collection role
+         */
+        public String getRole() {
+            return role;
+        }
+
+        public boolean isCollection() {
+            return collection;
+        }
+
+        /**
+         *
+         * @return the number of sessions in which the pattern was detected
+         */
+        public long getCount() {
+            return count.get();
+        }
+
+        /**
+         *
+         * @return the highest number of loads of the role in a single session
+         */
+        public int getMaxLoads() {
+            return maxLoads;
+        }
+
+        /**
+         *
+         * @return the application code which triggered the last detected loads
+         */
+        public String getCallSite() {
+            return callSite;
+        }
+
+        /**
+         *
+         * @return whether the remaining loads were batched the last time the pattern was detected
+         */
+        public boolean isBatched() {
+            return batched;
+        }
+
+        public String getSuggestion() {
+            if (collection) {
+                return "Fetch the collection with a join fetch in the query loading its owners,"
+                        + " or annotate it with @BatchSize or @Fetch(FetchMode.SUBSELECT)";
+            }
+            return "Fetch the association with a join fetch in the query loading the referencing entities,"
+                    + " or annotate the entity with @BatchSize";
+        }
+    }
+
+}
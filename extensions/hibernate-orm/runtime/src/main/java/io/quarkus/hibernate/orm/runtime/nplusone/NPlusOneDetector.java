@@ -0,0 +1,227 @@
+package io.quarkus.hibernate.orm.runtime.nplusone;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.FlushMode;
+import org.hibernate.HibernateException;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.jboss.logging.Logger;
+
+/**
+ * Counts, for each session, the loads of a single entity or collection triggered by the navigation of the object graph,
+ * by entity name or collection role: reaching the threshold means the application iterates over entities and loads
+ * one of their associations at a time, each load executing a query.
+ * <p>
+ * The listener runs before the default ones. If a batch size is configured, once the threshold is reached for a
+ * collection role, it initializes the requested collection together with the other uninitialized collections of the
+ * same role in the session, with a single query, so that the default listener finds it initialized.
+ */
+final class NPlusOneDetector implements LoadEventListener, InitializeCollectionEventListener {
+
+    private static final Logger LOG = Logger.getLogger(NPlusOneDetector.class);
+
+    private final NPlusOneDetections detections;
+    private final int threshold;
+    private final int batchSize;
+    private final Map<EventSource, SessionLoads> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Optional<String>> batchQueries = new ConcurrentHashMap<>();
+
+    NPlusOneDetector(NPlusOneDetections detections, int threshold, int batchSize) {
+        this.detections = detections;
+        this.threshold = threshold;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void onLoad(LoadEvent event, LoadType loadType) throws HibernateException {
+        // Proxies being initialized and eager associations being resolved, explicit loads are up to the application
+        if (loadType != IMMEDIATE_LOAD && loadType != INTERNAL_LOAD_EAGER && loadType != INTERNAL_LOAD_NULLABLE) {
+            return;
+        }
+        EventSource session = event.getSession();
+        if (loadType != IMMEDIATE_LOAD) {
+            EntityPersister persister = session.getFactory().getMetamodel().entityPersister(event.getEntityClassName());
+            EntityKey key = session.generateEntityKey(event.getEntityId(), persister);
+            if (session.getPersistenceContext().getEntity(key) != null) {
+                // Already loaded, no query
+                return;
+            }
+        }
+        SessionLoads loads = getSessionLoads(session);
+        if (!loads.batching) {
+            loads.increment(event.getEntityClassName(), false);
+        }
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) throws HibernateException {
+        PersistentCollection collection = event.getCollection();
+        if (collection.wasInitialized()) {
+            return;
+        }
+        EventSource session = event.getSession();
+        SessionLoads loads = getSessionLoads(session);
+        if (loads.batching) {
+            return;
+        }
+        CollectionEntry entry = session.getPersistenceContext().getCollectionEntry(collection);
+        if (entry == null || entry.getLoadedPersister() == null) {
+            return;
+        }
+        CollectionPersister persister = entry.getLoadedPersister();
+        int count = loads.increment(persister.getRole(), true);
+        if (batchSize > 1 && count >= threshold) {
+            batchInitialize(session, loads, collection, entry);
+        }
+    }
+
+    void sessionEnded(EventSource session) {
+        sessions.remove(session);
+    }
+
+    private SessionLoads getSessionLoads(EventSource session) {
+        SessionLoads loads = sessions.get(session);
+        if (loads == null) {
+            loads = new SessionLoads(session);
+            sessions.put(session, loads);
+            session.addEventListeners(loads);
+        }
+        return loads;
+    }
+
+    private void batchInitialize(EventSource session, SessionLoads loads, PersistentCollection collection,
+            CollectionEntry entry) {
+        CollectionPersister persister = entry.getLoadedPersister();
+        Optional<String> batchQuery = batchQueries.computeIfAbsent(persister.getRole(),
+                role -> createBatchQuery(persister));
+        if (batchQuery.isEmpty()) {
+            return;
+        }
+
+        List<Serializable> keys = new ArrayList<>();
+        keys.add(entry.getLoadedKey());
+        PersistenceContext persistenceContext = session.getPersistenceContext();
+        persistenceContext.forEachCollectionEntry((otherCollection, otherEntry) -> {
+            if (keys.size() < batchSize && otherCollection != collection && !otherCollection.wasInitialized()
+                    && otherEntry.getLoadedPersister() == persister && otherEntry.getLoadedKey() != null) {
+                keys.add(otherEntry.getLoadedKey());
+            }
+        }, false);
+        if (keys.size() == 1) {
+            return;
+        }
+
+        LOG.debugf("Initializing %d collections of role %s with a single query", keys.size(), persister.getRole());
+        loads.batching = true;
+        loads.batched.add(persister.getRole());
+        try {
+            session.createQuery(batchQuery.get())
+                    .setParameterList("keys", keys)
+                    .setHibernateFlushMode(FlushMode.MANUAL)
+                    .list();
+        } finally {
+            loads.batching = false;
+        }
+    }
+
+    private static Optional<String> createBatchQuery(CollectionPersister persister) {
+        EntityPersister ownerPersister = persister.getOwnerEntityPersister();
+        String ownerEntityName = ownerPersister.getEntityName();
+        String identifierName = ownerPersister.getIdentifierPropertyName();
+        if (persister.getCollectionType().getLHSPropertyName() != null || identifierName == null
+                || !persister.getRole().startsWith(ownerEntityName + ".")) {
+            // The collection is not keyed by the identifier of its owner
+            return Optional.empty();
+        }
+        String path = persister.getRole().substring(ownerEntityName.length() + 1);
+        return Optional.of("select o from " + ownerEntityName + " o left join fetch o." + path
+                + " where o." + identifierName + " in (:keys)");
+    }
+
+    private static String callSite() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> !isFrameworkFrame(frame))
+                .findFirst()
+                .map(frame -> frame.getClassName() + "." + frame.getMethodName() + "(" + frame.getFileName() + ":"
+                        + frame.getLineNumber() + ")")
+                .orElse("unknown"));
+    }
+
+    private static boolean isFrameworkFrame(StackWalker.StackFrame frame) {
+        String className = frame.getClassName();
+        return className.startsWith("org.hibernate.")
+                || className.startsWith("io.quarkus.hibernate.orm.")
+                || className.startsWith("java.")
+                || className.startsWith("jdk.")
+                || className.startsWith("sun.")
+                || className.contains("$HibernateProxy$")
+                || frame.getMethodName().startsWith("$$_hibernate_");
+    }
+
+    /**
+     * The loads of a session, reported when the session ends.
+     */
+    private final class SessionLoads extends BaseSessionEventListener {
+
+        private final EventSource session;
+        private final Map<String, Integer> counts = new HashMap<>();
+        private final Map<String, String> callSites = new HashMap<>();
+        private final Map<String, Boolean> collections = new HashMap<>();
+        private final Set<String> batched = new HashSet<>();
+        private boolean batching;
+
+        SessionLoads(EventSource session) {
+            this.session = session;
+        }
+
+        int increment(String role, boolean collection) {
+            int count = counts.merge(role, 1, Integer::sum);
+            if (count == threshold) {
+                // Walking the stack is costly, only do it once per role
+                callSites.put(role, callSite());
+                collections.put(role, collection);
+            }
+            return count;
+        }
+
+        @Override
+        public void end() {
+            sessionEnded(session);
+            for (Map.Entry<String, String> callSite : callSites.entrySet()) {
+                String role = callSite.getKey();
+                int count = counts.get(role);
+                boolean wasBatched = batched.contains(role);
+                NPlusOneDetections.Detection detection = detections.record(role, collections.get(role), count,
+                        callSite.getValue(), wasBatched);
+                if (detection.getCount() == 1) {
+                    LOG.warnf("N+1 loading detected: %s was loaded %d times one at a time in a single session, from %s%s."
+                            + " %s.", role, count, callSite.getValue(),
+                            wasBatched ? " (the remaining loads were batched)" : "", detection.getSuggestion());
+                } else {
+                    LOG.debugf("N+1 loading detected: %s was loaded %d times one at a time in a single session, from %s",
+                            role, count, callSite.getValue());
+                }
+            }
+        }
+    }
+
+}
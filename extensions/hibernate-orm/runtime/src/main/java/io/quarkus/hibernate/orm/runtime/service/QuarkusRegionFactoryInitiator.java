@@ -10,7 +10,8 @@
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
-import org.infinispan.quarkus.hibernate.cache.QuarkusInfinispanRegionFactory;
+
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusCaffeineRegionFactory;
 
 public final class QuarkusRegionFactoryInitiator implements StandardServiceInitiator<RegionFactory> {
 
@@ -44,7 +45,7 @@ public RegionFactory initiateService(Map configurationValues, ServiceRegistryImp
             }
         }
 
-        return new QuarkusInfinispanRegionFactory();
+        return new QuarkusCaffeineRegionFactory();
     }
 
 }
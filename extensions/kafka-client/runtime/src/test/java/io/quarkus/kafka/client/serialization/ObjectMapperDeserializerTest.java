@@ -9,6 +9,8 @@
 import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 class ObjectMapperDeserializerTest {
     @Test
@@ -31,6 +33,14 @@ void shouldDeserializeListOfEntities() {
         assertEquals(2, actuals.size());
     }
 
+    @Test
+    void shouldUseTheProvidedObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        ObjectMapperDeserializer<MyEntity> deserializer = new ObjectMapperDeserializer<>(MyEntity.class, objectMapper);
+        MyEntity actual = deserializer.deserialize("topic", "{\"id\":1,\"name\":\"entity1\",\"unknown\":true}".getBytes());
+        assertEquals(new MyEntity(1, "entity1"), actual);
+    }
+
     @Test
     void shouldDeserializeNullAsNullString() {
         ObjectMapperDeserializer<MyEntity> deserializer = new ObjectMapperDeserializer<>(MyEntity.class);
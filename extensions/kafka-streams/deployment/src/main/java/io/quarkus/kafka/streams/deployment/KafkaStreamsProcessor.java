@@ -3,6 +3,7 @@
 import static io.quarkus.kafka.streams.runtime.KafkaStreamsPropertiesUtil.buildKafkaStreamsProperties;
 
 import java.io.IOException;
+import java.util.Optional;
 import java.util.Properties;
 
 import javax.inject.Singleton;
@@ -19,6 +20,8 @@
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -30,7 +33,11 @@
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeReinitializedClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.deployment.pkg.NativeConfig;
+import io.quarkus.kafka.streams.runtime.BoundedMemoryRocksDBConfigSetter;
+import io.quarkus.kafka.streams.runtime.InteractiveQueriesRoute;
 import io.quarkus.kafka.streams.runtime.KafkaStreamsProducer;
 import io.quarkus.kafka.streams.runtime.KafkaStreamsRecorder;
 import io.quarkus.kafka.streams.runtime.KafkaStreamsRuntimeConfig;
@@ -75,6 +82,7 @@ private void registerCompulsoryClasses(BuildProducer<ReflectiveClassBuildItem> r
                 org.apache.kafka.streams.processor.internals.assignment.StickyTaskAssignor.class));
         reflectiveClasses.produce(new ReflectiveClassBuildItem(true, true, true,
                 org.apache.kafka.streams.processor.internals.assignment.FallbackPriorTaskAssignor.class));
+        reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, false, BoundedMemoryRocksDBConfigSetter.class));
     }
 
     private void registerClassesThatClientMaySpecify(BuildProducer<ReflectiveClassBuildItem> reflectiveClasses,
@@ -166,6 +174,14 @@ void processBuildTimeConfig(KafkaStreamsRecorder recorder, LaunchModeBuildItem l
                 .produce(AdditionalBeanBuildItem.builder().addBeanClasses(KafkaStreamsProducer.class).setUnremovable().build());
     }
 
+    @BuildStep
+    void registerInteractiveQueriesRoute(Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        // the lookups of the keys hosted by the other instances are routed over HTTP
+        if (capabilities.isPresent(Capability.VERTX_HTTP)) {
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(InteractiveQueriesRoute.class));
+        }
+    }
+
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     void loadRocksDb(KafkaStreamsRecorder recorder, KafkaStreamsRuntimeConfig runtimeConfig) {
@@ -174,6 +190,15 @@ void loadRocksDb(KafkaStreamsRecorder recorder, KafkaStreamsRuntimeConfig runtim
         recorder.loadRocksDb();
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerRocksDBMetrics(KafkaStreamsRecorder recorder, Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerRocksDBMetrics()));
+        }
+    }
+
     @BuildStep
     void addHealthChecks(KafkaStreamsBuildTimeConfig buildTimeConfig, BuildProducer<HealthBuildItem> healthChecks) {
         healthChecks.produce(
@@ -0,0 +1,82 @@
+package io.quarkus.kafka.streams.runtime;
+
+import java.util.Map;
+
+import org.apache.kafka.streams.state.RocksDBConfigSetter;
+import org.jboss.logging.Logger;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.Cache;
+import org.rocksdb.LRUCache;
+import org.rocksdb.Options;
+import org.rocksdb.WriteBufferManager;
+
+/**
+ * Bounds the off-heap memory used by all the RocksDB state stores.
+ * <p>
+ * The block cache is shared by all the state stores, and the memtables, index and filter blocks are charged to it. Kafka
+ * Streams instantiates this class for each state store, so the cache and the write buffer manager are static. They are
+ * created by the first store and released once Kafka Streams is closed.
+ *
+ * @see RocksDBConfig
+ */
+public class BoundedMemoryRocksDBConfigSetter implements RocksDBConfigSetter {
+
+    private static final Logger LOGGER = Logger.getLogger(BoundedMemoryRocksDBConfigSetter.class.getName());
+
+    private static RocksDBConfig config;
+    private static Cache cache;
+    private static WriteBufferManager writeBufferManager;
+
+    static synchronized void configure(RocksDBConfig rocksDBConfig) {
+        config = rocksDBConfig;
+    }
+
+    static synchronized boolean isConfigured() {
+        return config != null;
+    }
+
+    static synchronized void release() {
+        if (writeBufferManager != null) {
+            writeBufferManager.close();
+            writeBufferManager = null;
+        }
+        if (cache != null) {
+            cache.close();
+            cache = null;
+        }
+        config = null;
+    }
+
+    private static synchronized void init() {
+        if (cache != null) {
+            return;
+        }
+        if (config == null) {
+            throw new IllegalStateException("The bounded memory of the RocksDB state stores is not configured");
+        }
+        long totalMemory = config.totalMemory.get().asLongValue();
+        long writeBufferMemory = (long) (totalMemory * config.writeBufferRatio);
+        LOGGER.debugf("Bounding the memory of the RocksDB state stores to %s bytes, including %s bytes of memtables",
+                totalMemory, writeBufferMemory);
+        cache = new LRUCache(totalMemory, -1, config.strictCapacityLimit, config.indexFilterBlockRatio);
+        writeBufferManager = new WriteBufferManager(writeBufferMemory, cache);
+    }
+
+    @Override
+    public void setConfig(String storeName, Options options, Map<String, Object> configs) {
+        init();
+        BlockBasedTableConfig tableConfig = (BlockBasedTableConfig) options.tableFormatConfig();
+        tableConfig.setBlockCache(cache);
+        // Charge the index and filter blocks to the block cache, with a high priority
+        tableConfig.setCacheIndexAndFilterBlocks(true);
+        tableConfig.setCacheIndexAndFilterBlocksWithHighPriority(true);
+        tableConfig.setPinTopLevelIndexAndFilter(true);
+        options.setWriteBufferManager(writeBufferManager);
+        options.setTableFormatConfig(tableConfig);
+    }
+
+    @Override
+    public void close(String storeName, Options options) {
+        // The cache and the write buffer manager are shared by all the state stores
+    }
+}
@@ -0,0 +1,233 @@
+package io.quarkus.kafka.streams.runtime;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.kafka.common.errors.InterruptException;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.StoreQueryParameters;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.state.HostInfo;
+import org.eclipse.microprofile.config.ConfigProvider;
+
+import io.quarkus.kafka.streams.runtime.SerializedKeyValueStoreType.SerializedKeyValueStore;
+
+/**
+ * Holds the queryable state stores of the application and routes the lookups to the instances hosting the keys.
+ * <p>
+ * The lookups are routed with a {@code POST} request to the {@link InteractiveQueriesConfig#path} of the owning instance,
+ * over HTTPS if {@link InteractiveQueriesConfig#tls} is set.
+ * Both the request and the response bodies are a list of serialized keys or values, each prefixed by its length, a
+ * length of {@code -1} denoting a missing value.
+ */
+final class InteractiveQueries {
+
+    static final String CONTENT_TYPE = "application/octet-stream";
+
+    private final KafkaStreams kafkaStreams;
+    private final InteractiveQueriesConfig config;
+    private final HostInfo localHost;
+    private final String rootPath;
+    private final Map<String, QueryableKeyValueStore<?, ?>> stores = new ConcurrentHashMap<>();
+
+    private volatile HttpClient httpClient;
+
+    InteractiveQueries(KafkaStreams kafkaStreams, InteractiveQueriesConfig config, HostInfo localHost) {
+        this.kafkaStreams = kafkaStreams;
+        this.config = config;
+        this.localHost = localHost;
+        this.rootPath = ConfigProvider.getConfig().getOptionalValue("quarkus.http.root-path", String.class).orElse("/");
+    }
+
+    @SuppressWarnings("unchecked")
+    <K, V> QueryableKeyValueStore<K, V> keyValueStore(String storeName, Serde<K> keySerde, Serde<V> valueSerde) {
+        return (QueryableKeyValueStore<K, V>) stores.computeIfAbsent(storeName,
+                name -> new QueryableKeyValueStore<>(this, name, keySerde, valueSerde));
+    }
+
+    /**
+     * Looks up the given serialized keys in the local store, on behalf of another instance. The store does not need to
+     * have been obtained with {@link #keyValueStore(String, Serde, Serde)} on this instance.
+     *
+     * @return the serialized values, {@code null} for the keys without value
+     * @throws org.apache.kafka.streams.errors.UnknownStateStoreException if the topology has no such store
+     * @throws InvalidStateStoreException if the store is not queryable
+     */
+    List<byte[]> getLocal(String storeName, List<byte[]> keys) {
+        SerializedKeyValueStore store = kafkaStreams
+                .store(StoreQueryParameters.fromNameAndType(storeName, SerializedKeyValueStoreType.INSTANCE));
+        List<byte[]> values = new ArrayList<>(keys.size());
+        for (byte[] key : keys) {
+            values.add(store.get(key));
+        }
+        return values;
+    }
+
+    KafkaStreams getKafkaStreams() {
+        return kafkaStreams;
+    }
+
+    InteractiveQueriesConfig getConfig() {
+        return config;
+    }
+
+    /**
+     *
+     * @return whether the given host is this instance, all the keys are local if {@code application-server} is not set
+     */
+    boolean isLocal(HostInfo host) {
+        return localHost == null || localHost.equals(host);
+    }
+
+    /**
+     * Blocks until the given instance answers.
+     */
+    List<byte[]> lookup(HostInfo host, String storeName, List<byte[]> keys) {
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient().send(request(host, storeName, keys), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to look up the state store " + storeName + " on " + host, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptException(e);
+        }
+        return values(host, storeName, response);
+    }
+
+    CompletableFuture<List<byte[]>> lookupAsync(HostInfo host, String storeName, List<byte[]> keys) {
+        return httpClient().sendAsync(request(host, storeName, keys), HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, failure) -> {
+                    if (failure != null) {
+                        Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+                        throw new UncheckedIOException("Unable to look up the state store " + storeName + " on " + host,
+                                cause instanceof IOException ? (IOException) cause : new IOException(cause));
+                    }
+                    return values(host, storeName, response);
+                });
+    }
+
+    private HttpRequest request(HostInfo host, String storeName, List<byte[]> keys) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri(host, storeName))
+                .timeout(config.timeout)
+                .header("Content-Type", CONTENT_TYPE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(encode(keys)));
+        if (config.authorization.isPresent()) {
+            request.header("Authorization", config.authorization.get());
+        }
+        return request.build();
+    }
+
+    private static List<byte[]> values(HostInfo host, String storeName, HttpResponse<byte[]> response) {
+        switch (response.statusCode()) {
+            case 200:
+                return decode(response.body());
+            case 401:
+            case 403:
+                throw new IllegalStateException("The lookup of the state store " + storeName + " on " + host
+                        + " was not authorized, check the interactive-queries.authorization configuration");
+            case 404:
+            case 503:
+                // The store is not queryable on this instance yet, e.g. during a rebalance
+                throw new InvalidStateStoreException("The state store " + storeName + " is not available on " + host);
+            default:
+                throw new IllegalStateException("Unable to look up the state store " + storeName + " on " + host
+                        + ", status code: " + response.statusCode());
+        }
+    }
+
+    private URI uri(HostInfo host, String storeName) {
+        StringBuilder uri = new StringBuilder(config.tls ? "https://" : "http://").append(host.host()).append(':')
+                .append(host.port());
+        appendPath(uri, rootPath);
+        appendPath(uri, config.path);
+        appendPath(uri, storeName);
+        return URI.create(uri.toString());
+    }
+
+    private static void appendPath(StringBuilder uri, String path) {
+        if (uri.charAt(uri.length() - 1) != '/') {
+            uri.append('/');
+        }
+        uri.append(path.startsWith("/") ? path.substring(1) : path);
+    }
+
+    private HttpClient httpClient() {
+        HttpClient client = httpClient;
+        if (client == null) {
+            synchronized (this) {
+                client = httpClient;
+                if (client == null) {
+                    client = HttpClient.newBuilder().connectTimeout(config.timeout).build();
+                    httpClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    static byte[] encode(List<byte[]> items) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(items.size());
+            for (byte[] item : items) {
+                if (item == null) {
+                    out.writeInt(-1);
+                } else {
+                    out.writeInt(item.length);
+                    out.write(item);
+                }
+            }
+        } catch (IOException e) {
+            // Cannot happen with a byte array
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     *
+     * @throws IllegalArgumentException if the bytes are not a list encoded with {@link #encode(List)}
+     */
+    static List<byte[]> decode(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            int size = buffer.getInt();
+            if (size < 0 || size > buffer.remaining() / Integer.BYTES) {
+                throw new IllegalArgumentException("Invalid number of items: " + size);
+            }
+            List<byte[]> items = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                int length = buffer.getInt();
+                if (length < 0) {
+                    items.add(null);
+                } else if (length > buffer.remaining()) {
+                    throw new IllegalArgumentException("Invalid item length: " + length);
+                } else {
+                    byte[] item = new byte[length];
+                    buffer.get(item);
+                    items.add(item);
+                }
+            }
+            return items;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated list of items", e);
+        }
+    }
+
+}
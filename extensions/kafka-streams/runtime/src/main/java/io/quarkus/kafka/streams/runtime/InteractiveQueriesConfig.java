@@ -0,0 +1,62 @@
+package io.quarkus.kafka.streams.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+@ConfigGroup
+public class InteractiveQueriesConfig {
+
+    /**
+     * The path of the endpoint serving the lookups routed from the other instances of the application.
+     * The endpoint is only registered if {@code application-server} is set and the HTTP extension is present.
+     * <p>
+     * The endpoint is exposed on the main HTTP server and returns the raw content of the state stores. Protect it with an
+     * HTTP security policy, and set {@code authorization} accordingly.
+     */
+    @ConfigItem(defaultValue = "/kafka-streams/stores")
+    public String path;
+
+    /**
+     * The maximum size of the body of the lookups routed from the other instances of the application.
+     */
+    @ConfigItem(defaultValue = "1M")
+    public MemorySize maxBodySize;
+
+    /**
+     * The value of the {@code Authorization} header of the lookups routed to the other instances of the application,
+     * e.g. the {@code Basic} credentials of a user allowed by the HTTP security policy protecting the endpoint.
+     */
+    @ConfigItem
+    public Optional<String> authorization;
+
+    /**
+     * Whether the lookups are routed to the other instances of the application over HTTPS, in which case
+     * {@code application-server} must be set to the HTTPS port of the instances.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean tls;
+
+    /**
+     * The timeout of the lookups routed to the other instances of the application.
+     */
+    @ConfigItem(defaultValue = "10S")
+    public Duration timeout;
+
+    /**
+     * How long the values looked up in a state store are cached.
+     * If not set, the values are not cached.
+     */
+    @ConfigItem(name = "cache.expire-after")
+    public Optional<Duration> cacheExpireAfter;
+
+    /**
+     * The maximum number of values cached per state store.
+     */
+    @ConfigItem(name = "cache.max-size", defaultValue = "10000")
+    public int cacheMaxSize;
+
+}
@@ -0,0 +1,79 @@
+package io.quarkus.kafka.streams.runtime;
+
+import java.util.List;
+
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.errors.UnknownStateStoreException;
+import org.jboss.logging.Logger;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.BodyHandler;
+
+/**
+ * Serves the state store lookups routed from the other instances of the application.
+ *
+ * @see InteractiveQueries
+ */
+public class InteractiveQueriesRoute {
+
+    private static final Logger LOGGER = Logger.getLogger(InteractiveQueriesRoute.class.getName());
+
+    @Inject
+    KafkaStreamsTopologyManager topologyManager;
+
+    @Inject
+    KafkaStreamsRuntimeConfig runtimeConfig;
+
+    public void setup(@Observes Router router) {
+        if (topologyManager == null || runtimeConfig.applicationServer.isEmpty()) {
+            // No topology or a single instance, the lookups are never routed
+            return;
+        }
+        String path = runtimeConfig.interactiveQueries.path;
+        router.post((path.endsWith("/") ? path : path + "/") + ":store")
+                .handler(BodyHandler.create().setBodyLimit(runtimeConfig.interactiveQueries.maxBodySize.asLongValue()))
+                .blockingHandler(new Handler<RoutingContext>() {
+                    @Override
+                    public void handle(RoutingContext context) {
+                        lookup(context);
+                    }
+                }, false);
+    }
+
+    private void lookup(RoutingContext context) {
+        String storeName = context.pathParam("store");
+        InteractiveQueries interactiveQueries = topologyManager.getInteractiveQueries();
+        if (interactiveQueries == null) {
+            context.response().setStatusCode(404).end();
+            return;
+        }
+        Buffer body = context.getBody();
+        List<byte[]> keys;
+        try {
+            keys = InteractiveQueries.decode(body != null ? body.getBytes() : new byte[0]);
+        } catch (IllegalArgumentException e) {
+            context.response().setStatusCode(400).end(e.getMessage());
+            return;
+        }
+        try {
+            byte[] values = InteractiveQueries.encode(interactiveQueries.getLocal(storeName, keys));
+            context.response()
+                    .putHeader(HttpHeaders.CONTENT_TYPE, InteractiveQueries.CONTENT_TYPE)
+                    .end(Buffer.buffer(values));
+        } catch (UnknownStateStoreException e) {
+            LOGGER.debugf("Lookup of the state store %s, which is not part of the topology", storeName);
+            context.response().setStatusCode(404).end();
+        } catch (InvalidStateStoreException e) {
+            LOGGER.debugf("The state store %s is not available: %s", storeName, e.getMessage());
+            context.response().setStatusCode(503).end();
+        }
+    }
+
+}
@@ -41,6 +41,7 @@
 import org.apache.kafka.streams.Topology;
 import org.apache.kafka.streams.errors.StreamsUncaughtExceptionHandler;
 import org.apache.kafka.streams.processor.StateRestoreListener;
+import org.apache.kafka.streams.state.HostInfo;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.jboss.logging.Logger;
 
@@ -99,6 +100,7 @@ public KafkaStreamsProducer(KafkaStreamsSupport kafkaStreamsSupport, KafkaStream
         }
         Properties kafkaStreamsProperties = getStreamsProperties(buildTimeProperties, cfg, bootstrapServersConfig,
                 runtimeConfig);
+        configureRocksDB(kafkaStreamsProperties, runtimeConfig.rocksdb);
         this.kafkaAdminClient = Admin.create(getAdminClientConfig(kafkaStreamsProperties));
 
         this.executorService = Executors.newSingleThreadExecutor();
@@ -106,7 +108,10 @@ public KafkaStreamsProducer(KafkaStreamsSupport kafkaStreamsSupport, KafkaStream
         this.kafkaStreams = initializeKafkaStreams(kafkaStreamsProperties, runtimeConfig, kafkaAdminClient, topology.get(),
                 kafkaClientSupplier, stateListener, globalStateRestoreListener, uncaughtExceptionHandlerListener,
                 executorService);
-        this.kafkaStreamsTopologyManager = new KafkaStreamsTopologyManager(kafkaAdminClient);
+        this.kafkaStreamsTopologyManager = new KafkaStreamsTopologyManager(kafkaAdminClient,
+                new InteractiveQueries(kafkaStreams, runtimeConfig.interactiveQueries,
+                        runtimeConfig.applicationServer.map(HostInfo::buildFromEndpoint).orElse(null)));
+        RocksDBMetrics.setKafkaStreams(kafkaStreams);
     }
 
     @PostConstruct
@@ -140,6 +145,9 @@ void onStop(@Observes ShutdownEvent event) {
         if (kafkaStreams != null) {
             LOGGER.debug("Stopping Kafka Streams pipeline");
             kafkaStreams.close();
+            RocksDBMetrics.setKafkaStreams(null);
+            // The state stores are closed, release the shared RocksDB memory
+            BoundedMemoryRocksDBConfigSetter.release();
         }
         if (kafkaAdminClient != null) {
             kafkaAdminClient.close(Duration.ZERO);
@@ -271,6 +279,19 @@ private static Properties getStreamsProperties(Properties properties,
         return streamsProperties;
     }
 
+    private static void configureRocksDB(Properties properties, RocksDBConfig rocksDBConfig) {
+        if (rocksDBConfig == null || rocksDBConfig.totalMemory.isEmpty()) {
+            return;
+        }
+        if (properties.containsKey(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG)) {
+            LOGGER.warnf("The RocksDB memory is not bounded as the %s property is set",
+                    StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG);
+            return;
+        }
+        BoundedMemoryRocksDBConfigSetter.configure(rocksDBConfig);
+        properties.put(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG, BoundedMemoryRocksDBConfigSetter.class.getName());
+    }
+
     private static void setTrustStoreConfig(TrustStoreConfig tsc, Properties properties) {
         if (tsc != null) {
             setProperty(tsc.type, properties, SslConfigs.SSL_TRUSTSTORE_TYPE_CONFIG);
@@ -1,11 +1,13 @@
 package io.quarkus.kafka.streams.runtime;
 
 import java.util.Properties;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.rocksdb.RocksDB;
 
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 @Recorder
 public class KafkaStreamsRecorder {
@@ -22,4 +24,13 @@ public KafkaStreamsSupport get() {
             }
         };
     }
+
+    public Consumer<MetricsFactory> registerRocksDBMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                RocksDBMetrics.register(metricsFactory);
+            }
+        };
+    }
 }
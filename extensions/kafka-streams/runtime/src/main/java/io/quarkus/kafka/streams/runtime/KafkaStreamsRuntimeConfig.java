@@ -88,6 +88,16 @@ public class KafkaStreamsRuntimeConfig {
      */
     public SslConfig ssl;
 
+    /**
+     * RocksDB state stores config
+     */
+    public RocksDBConfig rocksdb;
+
+    /**
+     * Interactive queries config
+     */
+    public InteractiveQueriesConfig interactiveQueries;
+
     @Override
     public String toString() {
         return "KafkaStreamsRuntimeConfig{" +
@@ -11,6 +11,7 @@
 
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.common.serialization.Serde;
 import org.jboss.logging.Logger;
 
 public class KafkaStreamsTopologyManager {
@@ -18,9 +19,15 @@ public class KafkaStreamsTopologyManager {
     private static final Logger LOGGER = Logger.getLogger(KafkaStreamsTopologyManager.class.getName());
 
     private final Admin adminClient;
+    private final InteractiveQueries interactiveQueries;
 
     public KafkaStreamsTopologyManager(Admin adminClient) {
+        this(adminClient, null);
+    }
+
+    KafkaStreamsTopologyManager(Admin adminClient, InteractiveQueries interactiveQueries) {
         this.adminClient = adminClient;
+        this.interactiveQueries = interactiveQueries;
     }
 
     public Set<String> getMissingTopics(Collection<String> topicsToCheck) throws InterruptedException {
@@ -45,4 +52,24 @@ public Set<String> getMissingTopics(Collection<String> topicsToCheck, Duration t
 
         return missing;
     }
+
+    /**
+     * Returns the read-only access to a key-value state store of the topology.
+     * The same instance is returned for a given store name, the serdes must be those of the store.
+     *
+     * @param storeName the name of the state store
+     * @param keySerde the serde of the keys
+     * @param valueSerde the serde of the values
+     * @return the queryable state store
+     */
+    public <K, V> QueryableKeyValueStore<K, V> keyValueStore(String storeName, Serde<K> keySerde, Serde<V> valueSerde) {
+        if (interactiveQueries == null) {
+            throw new IllegalStateException("The state stores are not queryable with this topology manager");
+        }
+        return interactiveQueries.keyValueStore(storeName, keySerde, valueSerde);
+    }
+
+    InteractiveQueries getInteractiveQueries() {
+        return interactiveQueries;
+    }
 }
@@ -0,0 +1,197 @@
+package io.quarkus.kafka.streams.runtime;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.KeyQueryMetadata;
+import org.apache.kafka.streams.StoreQueryParameters;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.state.HostInfo;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+
+/**
+ * Read-only access to a key-value state store of the application.
+ * <p>
+ * The keys hosted by another instance of the application are looked up on that instance, provided that
+ * {@code quarkus.kafka-streams.application-server} is set to the HTTP host and port of each instance. The values
+ * looked up are cached if {@code quarkus.kafka-streams.interactive-queries.cache.expire-after} is set.
+ * <p>
+ * The lookups throw an {@link InvalidStateStoreException} while the store is not queryable, e.g. before the pipeline
+ * is started or during a rebalance, they can be retried.
+ * <p>
+ * The remote lookups of {@link #get(Object)} and {@link #getAll(Collection)} block the calling thread, the non-blocking
+ * {@link #getAsync(Object)} and {@link #getAllAsync(Collection)} variants are meant for the I/O threads, e.g. in a
+ * reactive endpoint.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @see KafkaStreamsTopologyManager#keyValueStore(String, Serde, Serde)
+ */
+public final class QueryableKeyValueStore<K, V> {
+
+    private final InteractiveQueries interactiveQueries;
+    private final String storeName;
+    private final Serializer<K> keySerializer;
+    private final Deserializer<V> valueDeserializer;
+    private final StoreLookupCache<K, V> cache;
+
+    QueryableKeyValueStore(InteractiveQueries interactiveQueries, String storeName, Serde<K> keySerde,
+            Serde<V> valueSerde) {
+        this.interactiveQueries = interactiveQueries;
+        this.storeName = storeName;
+        this.keySerializer = keySerde.serializer();
+        this.valueDeserializer = valueSerde.deserializer();
+        InteractiveQueriesConfig config = interactiveQueries.getConfig();
+        this.cache = config.cacheExpireAfter.isPresent()
+                ? new StoreLookupCache<>(config.cacheExpireAfter.get().toNanos(), config.cacheMaxSize, System::nanoTime)
+                : null;
+    }
+
+    public String getStoreName() {
+        return storeName;
+    }
+
+    /**
+     * Blocks until the instance hosting the key answers, it must not be called on an I/O thread, use
+     * {@link #getAsync(Object)} instead.
+     *
+     * @return the value associated with the given key, or {@code null} if there is none
+     */
+    public V get(K key) {
+        return getAll(Collections.singletonList(key)).get(key);
+    }
+
+    /**
+     * Looks up the given keys, with at most one request per instance hosting some of the keys.
+     * <p>
+     * Blocks until the instances hosting the keys answer, it must not be called on an I/O thread, use
+     * {@link #getAllAsync(Collection)} instead.
+     *
+     * @return the values associated with the given keys, the keys without value are absent from the map
+     */
+    public Map<K, V> getAll(Collection<K> keys) {
+        Map<K, V> values = new HashMap<>();
+        Map<HostInfo, List<K>> remoteKeys = getAllLocal(keys, values);
+        for (Map.Entry<HostInfo, List<K>> entry : remoteKeys.entrySet()) {
+            List<K> hostKeys = entry.getValue();
+            found(values, entry.getKey(), hostKeys,
+                    interactiveQueries.lookup(entry.getKey(), storeName, serialize(hostKeys)));
+        }
+        return values;
+    }
+
+    /**
+     * The non-blocking variant of {@link #get(Object)}.
+     *
+     * @return the value associated with the given key, completed with {@code null} if there is none
+     */
+    public CompletionStage<V> getAsync(K key) {
+        return getAllAsync(Collections.singletonList(key)).thenApply(values -> values.get(key));
+    }
+
+    /**
+     * The non-blocking variant of {@link #getAll(Collection)}, the requests to the instances hosting the keys are sent
+     * concurrently. The keys hosted by this instance are looked up in the local store on the calling thread.
+     *
+     * @return the values associated with the given keys, the keys without value are absent from the map
+     */
+    public CompletionStage<Map<K, V>> getAllAsync(Collection<K> keys) {
+        // The lookups may complete concurrently
+        Map<K, V> values = new ConcurrentHashMap<>();
+        Map<HostInfo, List<K>> remoteKeys;
+        try {
+            remoteKeys = getAllLocal(keys, values);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        List<CompletableFuture<Void>> lookups = new ArrayList<>(remoteKeys.size());
+        for (Map.Entry<HostInfo, List<K>> entry : remoteKeys.entrySet()) {
+            List<K> hostKeys = entry.getValue();
+            lookups.add(interactiveQueries.lookupAsync(entry.getKey(), storeName, serialize(hostKeys))
+                    .thenAccept(serializedValues -> found(values, entry.getKey(), hostKeys, serializedValues)));
+        }
+        return CompletableFuture.allOf(lookups.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> new HashMap<>(values));
+    }
+
+    /**
+     * Looks up the cached and the local keys.
+     *
+     * @return the keys hosted by the other instances, grouped by instance
+     */
+    private Map<HostInfo, List<K>> getAllLocal(Collection<K> keys, Map<K, V> values) {
+        List<K> localKeys = new ArrayList<>();
+        Map<HostInfo, List<K>> remoteKeys = new LinkedHashMap<>();
+        KafkaStreams kafkaStreams = interactiveQueries.getKafkaStreams();
+        for (K key : keys) {
+            V cached = cache != null ? cache.get(key) : null;
+            if (cached != null) {
+                values.put(key, cached);
+                continue;
+            }
+            KeyQueryMetadata metadata = kafkaStreams.queryMetadataForKey(storeName, key, keySerializer);
+            if (metadata == null || KeyQueryMetadata.NOT_AVAILABLE.equals(metadata)) {
+                throw new InvalidStateStoreException("The state store " + storeName + " is not available for key " + key);
+            }
+            if (interactiveQueries.isLocal(metadata.activeHost())) {
+                localKeys.add(key);
+            } else {
+                remoteKeys.computeIfAbsent(metadata.activeHost(), host -> new ArrayList<>()).add(key);
+            }
+        }
+        if (!localKeys.isEmpty()) {
+            ReadOnlyKeyValueStore<K, V> store = localStore();
+            for (K key : localKeys) {
+                found(values, key, store.get(key));
+            }
+        }
+        return remoteKeys;
+    }
+
+    private List<byte[]> serialize(List<K> keys) {
+        List<byte[]> serializedKeys = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            serializedKeys.add(keySerializer.serialize(null, key));
+        }
+        return serializedKeys;
+    }
+
+    private void found(Map<K, V> values, HostInfo host, List<K> keys, List<byte[]> serializedValues) {
+        if (serializedValues.size() != keys.size()) {
+            throw new IllegalStateException("Expected " + keys.size() + " values from " + host
+                    + " but received " + serializedValues.size());
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] value = serializedValues.get(i);
+            found(values, keys.get(i), value != null ? valueDeserializer.deserialize(null, value) : null);
+        }
+    }
+
+    private ReadOnlyKeyValueStore<K, V> localStore() {
+        return interactiveQueries.getKafkaStreams()
+                .store(StoreQueryParameters.fromNameAndType(storeName, QueryableStoreTypes.<K, V> keyValueStore()));
+    }
+
+    private void found(Map<K, V> values, K key, V value) {
+        if (value != null) {
+            values.put(key, value);
+            if (cache != null) {
+                cache.put(key, value);
+            }
+        }
+    }
+
+}
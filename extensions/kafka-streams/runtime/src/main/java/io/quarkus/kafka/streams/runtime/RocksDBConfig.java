@@ -0,0 +1,38 @@
+package io.quarkus.kafka.streams.runtime;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+@ConfigGroup
+public class RocksDBConfig {
+
+    /**
+     * The off-heap memory shared by the block cache and the memtables of all the RocksDB state stores.
+     * If not set, each state store allocates its own block cache and memtables.
+     * This setting is ignored if {@code rocksdb.config.setter} is configured.
+     */
+    @ConfigItem
+    public Optional<MemorySize> totalMemory;
+
+    /**
+     * The fraction of {@code total-memory} that can be used by the memtables.
+     */
+    @ConfigItem(defaultValue = "0.5")
+    public double writeBufferRatio;
+
+    /**
+     * The fraction of the block cache reserved for the index and filter blocks.
+     */
+    @ConfigItem(defaultValue = "0.1")
+    public double indexFilterBlockRatio;
+
+    /**
+     * Whether the reads of the state stores fail instead of exceeding {@code total-memory}.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean strictCapacityLimit;
+
+}
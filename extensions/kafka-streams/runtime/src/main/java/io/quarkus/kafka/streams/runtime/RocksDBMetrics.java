@@ -0,0 +1,95 @@
+package io.quarkus.kafka.streams.runtime;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.streams.KafkaStreams;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Aggregates the RocksDB metrics of all the state stores of the Kafka Streams application.
+ * <p>
+ * The metrics of each state store are recorded by Kafka Streams in the {@code stream-state-metrics} group.
+ */
+final class RocksDBMetrics {
+
+    static final String STATE_METRICS_GROUP = "stream-state-metrics";
+
+    private static volatile KafkaStreams kafkaStreams;
+
+    private RocksDBMetrics() {
+    }
+
+    static void setKafkaStreams(KafkaStreams streams) {
+        kafkaStreams = streams;
+    }
+
+    static void register(MetricsFactory factory) {
+        // The block cache is shared by all the state stores if the memory is bounded
+        gauge(factory, "kafka.streams.rocksdb.block.cache.usage", "Memory used by the block caches in bytes.",
+                () -> blockCache("block-cache-usage"));
+        gauge(factory, "kafka.streams.rocksdb.block.cache.pinned.usage",
+                "Memory used by the entries pinned in the block caches in bytes.",
+                () -> blockCache("block-cache-pinned-usage"));
+        gauge(factory, "kafka.streams.rocksdb.memtables.size", "Memory used by the memtables in bytes.",
+                () -> sum(kafkaStreams, "size-all-mem-tables"));
+        gauge(factory, "kafka.streams.rocksdb.table.readers.memory",
+                "Memory used by the table readers, excluding the block caches, in bytes.",
+                () -> sum(kafkaStreams, "estimate-table-readers-mem"));
+        gauge(factory, "kafka.streams.rocksdb.sst.files.size", "Size of the SST files of the state stores in bytes.",
+                () -> sum(kafkaStreams, "total-sst-files-size"));
+        gauge(factory, "kafka.streams.rocksdb.keys", "Estimated number of keys of the state stores.",
+                () -> sum(kafkaStreams, "estimate-num-keys"));
+        gauge(factory, "kafka.streams.rocksdb.compaction.pending.bytes",
+                "Estimated number of bytes to be rewritten by the pending compactions.",
+                () -> sum(kafkaStreams, "estimate-pending-compaction-bytes"));
+        gauge(factory, "kafka.streams.rocksdb.compaction.running", "Number of running compactions.",
+                () -> sum(kafkaStreams, "num-running-compactions"));
+    }
+
+    private static void gauge(MetricsFactory factory, String name, String description, Supplier<Number> supplier) {
+        factory.builder(name).description(description).buildGauge(supplier);
+    }
+
+    private static double blockCache(String name) {
+        return BoundedMemoryRocksDBConfigSetter.isConfigured() ? max(kafkaStreams, name) : sum(kafkaStreams, name);
+    }
+
+    static double sum(KafkaStreams streams, String name) {
+        double sum = 0;
+        for (double value : values(streams, name)) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    static double max(KafkaStreams streams, String name) {
+        double max = 0;
+        for (double value : values(streams, name)) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    private static double[] values(KafkaStreams streams, String name) {
+        if (streams == null) {
+            return new double[0];
+        }
+        return streams.metrics().entrySet().stream()
+                .filter(entry -> isStateStoreMetric(entry.getKey(), name))
+                .map(Map.Entry::getValue)
+                .map(Metric::metricValue)
+                .filter(value -> value instanceof Number)
+                .mapToDouble(value -> ((Number) value).doubleValue())
+                .filter(value -> !Double.isNaN(value))
+                .toArray();
+    }
+
+    private static boolean isStateStoreMetric(MetricName metricName, String name) {
+        return STATE_METRICS_GROUP.equals(metricName.group()) && name.equals(metricName.name());
+    }
+
+}
@@ -0,0 +1,76 @@
+package io.quarkus.kafka.streams.runtime;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.processor.StateStore;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.state.QueryableStoreType;
+import org.apache.kafka.streams.state.TimestampedKeyValueStore;
+import org.apache.kafka.streams.state.internals.StateStoreProvider;
+import org.apache.kafka.streams.state.internals.WrappedStateStore;
+
+/**
+ * Queries a key-value state store with serialized keys and values, without knowing the serdes of the store.
+ * <p>
+ * The lookups routed from the other instances are served this way, so that an instance does not need to have queried a
+ * store itself before serving it. The serialized store is the one wrapped by the metered store registered in the
+ * topology, the values of the timestamped stores are prefixed by the timestamp of the record, which is removed.
+ */
+final class SerializedKeyValueStoreType implements QueryableStoreType<SerializedKeyValueStoreType.SerializedKeyValueStore> {
+
+    static final SerializedKeyValueStoreType INSTANCE = new SerializedKeyValueStoreType();
+
+    // The timestamp prefix of the values of the timestamped stores
+    private static final int TIMESTAMP_SIZE = Long.BYTES;
+
+    private SerializedKeyValueStoreType() {
+    }
+
+    @Override
+    public boolean accepts(StateStore stateStore) {
+        return stateStore instanceof KeyValueStore && stateStore instanceof WrappedStateStore;
+    }
+
+    @Override
+    public SerializedKeyValueStore create(StateStoreProvider storeProvider, String storeName) {
+        return key -> {
+            // The elements are the stores registered in the topology, one per local task hosting the store
+            List<?> stores = storeProvider.stores(storeName, this);
+            for (Object store : stores) {
+                byte[] value = get((WrappedStateStore<?, ?, ?>) store, key);
+                if (value != null) {
+                    return value;
+                }
+            }
+            return null;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static byte[] get(WrappedStateStore<?, ?, ?> store, byte[] key) {
+        if (!(store.wrapped() instanceof KeyValueStore)) {
+            throw new InvalidStateStoreException("The state store " + store.name() + " is not a serialized key-value store");
+        }
+        byte[] value = ((KeyValueStore<Bytes, byte[]>) store.wrapped()).get(Bytes.wrap(key));
+        if (value == null || !(store instanceof TimestampedKeyValueStore)) {
+            return value;
+        }
+        return Arrays.copyOfRange(value, TIMESTAMP_SIZE, value.length);
+    }
+
+    /**
+     * A key-value store of serialized keys and values.
+     */
+    interface SerializedKeyValueStore {
+
+        /**
+         *
+         * @return the serialized value associated with the given serialized key, or {@code null} if there is none
+         */
+        byte[] get(byte[] key);
+    }
+
+}
@@ -0,0 +1,63 @@
+package io.quarkus.kafka.streams.runtime;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * A bounded cache of the values looked up in a state store, the least recently used entries are evicted first.
+ */
+final class StoreLookupCache<K, V> {
+
+    private final long expireAfterNanos;
+    private final LongSupplier clock;
+    // guarded by this
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    StoreLookupCache(long expireAfterNanos, int maxSize, LongSupplier clock) {
+        this.expireAfterNanos = expireAfterNanos;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     *
+     * @return the cached value, or {@code null} if the key is not cached or has expired
+     */
+    synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (clock.getAsLong() - entry.timestamp >= expireAfterNanos) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, clock.getAsLong()));
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private static final class Entry<V> {
+
+        final V value;
+        final long timestamp;
+
+        Entry(V value, long timestamp) {
+            this.value = value;
+            this.timestamp = timestamp;
+        }
+    }
+
+}
@@ -0,0 +1,174 @@
+package io.quarkus.kafka.streams.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.KeyQueryMetadata;
+import org.apache.kafka.streams.StoreQueryParameters;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.processor.StateStore;
+import org.apache.kafka.streams.state.HostInfo;
+import org.apache.kafka.streams.state.QueryableStoreType;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+import org.apache.kafka.streams.state.Stores;
+import org.apache.kafka.streams.state.internals.StateStoreProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class QueryableKeyValueStoreTest {
+
+    private static final HostInfo LOCAL_HOST = new HostInfo("localhost", 8080);
+
+    private final KafkaStreams streams = Mockito.mock(KafkaStreams.class);
+    @SuppressWarnings("unchecked")
+    private final ReadOnlyKeyValueStore<String, Long> store = Mockito.mock(ReadOnlyKeyValueStore.class);
+    private final InteractiveQueriesConfig config = new InteractiveQueriesConfig();
+
+    @BeforeEach
+    public void setUp() {
+        config.path = "/kafka-streams/stores";
+        config.timeout = Duration.ofSeconds(1);
+        config.cacheExpireAfter = Optional.empty();
+        config.cacheMaxSize = 100;
+        Mockito.when(streams.queryMetadataForKey(anyString(), any(), Mockito.<Serializer<Object>> any()))
+                .thenReturn(new KeyQueryMetadata(LOCAL_HOST, Collections.emptySet(), 0));
+        Mockito.doReturn(store).when(streams).store(any(StoreQueryParameters.class));
+        Mockito.when(store.get("a")).thenReturn(1L);
+        Mockito.when(store.get("b")).thenReturn(2L);
+    }
+
+    @Test
+    public void shouldLookUpLocalKeys() {
+        QueryableKeyValueStore<String, Long> queryable = queryableStore();
+
+        assertThat(queryable.get("a")).isEqualTo(1L);
+        assertThat(queryable.get("missing")).isNull();
+        assertThat(queryable.getAll(Arrays.asList("a", "b", "missing"))).isEqualTo(Map.of("a", 1L, "b", 2L));
+    }
+
+    @Test
+    public void shouldLookUpLocalKeysAsynchronously() throws Exception {
+        QueryableKeyValueStore<String, Long> queryable = queryableStore();
+
+        assertThat(queryable.getAsync("a").toCompletableFuture().get(1, TimeUnit.SECONDS)).isEqualTo(1L);
+        assertThat(queryable.getAllAsync(Arrays.asList("a", "b", "missing")).toCompletableFuture().get(1, TimeUnit.SECONDS))
+                .isEqualTo(Map.of("a", 1L, "b", 2L));
+    }
+
+    @Test
+    public void shouldFailAsynchronouslyIfTheKeyIsNotAvailable() {
+        Mockito.when(streams.queryMetadataForKey(eq("store"), eq("a"), Mockito.<Serializer<String>> any()))
+                .thenReturn(KeyQueryMetadata.NOT_AVAILABLE);
+
+        assertThatThrownBy(() -> queryableStore().getAsync("a").toCompletableFuture().get(1, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(InvalidStateStoreException.class);
+    }
+
+    @Test
+    public void shouldServeSerializedLookupsOfStoresNeverQueriedLocally() {
+        StreamsBuilder builder = new StreamsBuilder();
+        builder.table("prices", Consumed.with(Serdes.String(), Serdes.Long()),
+                Materialized.as(Stores.inMemoryKeyValueStore("prices-store")));
+        Properties properties = new Properties();
+        properties.put(StreamsConfig.APPLICATION_ID_CONFIG, "test");
+        properties.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "dummy:9092");
+        try (TopologyTestDriver driver = new TopologyTestDriver(builder.build(), properties)) {
+            driver.createInputTopic("prices", Serdes.String().serializer(), Serdes.Long().serializer()).pipeInput("b", 2L);
+            StateStore registered = driver.getStateStore("prices-store");
+            Mockito.doAnswer(invocation -> {
+                StoreQueryParameters<?> parameters = invocation.getArgument(0);
+                return parameters.queryableStoreType().create(new StateStoreProvider() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <T> List<T> stores(String storeName, QueryableStoreType<T> queryableStoreType) {
+                        return queryableStoreType.accepts(registered) ? List.of((T) registered) : List.of();
+                    }
+                }, parameters.storeName());
+            }).when(streams).store(any(StoreQueryParameters.class));
+            Serializer<String> keySerializer = Serdes.String().serializer();
+
+            // No QueryableKeyValueStore was obtained for the store on this instance
+            List<byte[]> values = new InteractiveQueries(streams, config, LOCAL_HOST).getLocal("prices-store",
+                    Arrays.asList(keySerializer.serialize(null, "b"), keySerializer.serialize(null, "missing")));
+
+            assertThat(values).hasSize(2);
+            assertThat(Serdes.Long().deserializer().deserialize(null, values.get(0))).isEqualTo(2L);
+            assertThat(values.get(1)).isNull();
+        }
+    }
+
+    @Test
+    public void shouldCacheValues() {
+        config.cacheExpireAfter = Optional.of(Duration.ofMinutes(1));
+        QueryableKeyValueStore<String, Long> queryable = queryableStore();
+
+        assertThat(queryable.get("a")).isEqualTo(1L);
+        Mockito.when(store.get("a")).thenReturn(10L);
+        assertThat(queryable.get("a")).isEqualTo(1L);
+        Mockito.verify(store, Mockito.times(1)).get("a");
+    }
+
+    @Test
+    public void shouldFailIfTheKeyIsNotAvailable() {
+        Mockito.when(streams.queryMetadataForKey(eq("store"), eq("a"), Mockito.<Serializer<String>> any()))
+                .thenReturn(KeyQueryMetadata.NOT_AVAILABLE);
+
+        assertThatThrownBy(() -> queryableStore().get("a")).isInstanceOf(InvalidStateStoreException.class);
+    }
+
+    @Test
+    public void shouldEncodeAndDecodeLists() {
+        List<byte[]> items = Arrays.asList(new byte[] { 1, 2 }, null, new byte[0]);
+
+        List<byte[]> decoded = InteractiveQueries.decode(InteractiveQueries.encode(items));
+
+        assertThat(decoded).hasSize(3);
+        assertThat(decoded.get(0)).containsExactly(1, 2);
+        assertThat(decoded.get(1)).isNull();
+        assertThat(decoded.get(2)).isEmpty();
+        assertThatThrownBy(() -> InteractiveQueries.decode(new byte[] { 0, 0, 0, 1, 0, 0, 0, 5 }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldExpireAndEvictCachedValues() {
+        long[] now = { 0 };
+        StoreLookupCache<String, Long> cache = new StoreLookupCache<>(100, 2, () -> now[0]);
+        cache.put("a", 1L);
+        cache.put("b", 2L);
+        cache.get("a");
+        cache.put("c", 3L);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isEqualTo(1L);
+        now[0] = 100;
+        assertThat(cache.get("a")).isNull();
+    }
+
+    private QueryableKeyValueStore<String, Long> queryableStore() {
+        InteractiveQueries interactiveQueries = new InteractiveQueries(streams, config, LOCAL_HOST);
+        return interactiveQueries.keyValueStore("store", Serdes.String(), Serdes.Long());
+    }
+}
@@ -0,0 +1,51 @@
+package io.quarkus.kafka.streams.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.streams.KafkaStreams;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class RocksDBMetricsTest {
+
+    private final Map<MetricName, Metric> metrics = new HashMap<>();
+    private final KafkaStreams streams = Mockito.mock(KafkaStreams.class);
+
+    @BeforeEach
+    public void setUp() {
+        Mockito.doReturn(metrics).when(streams).metrics();
+    }
+
+    @Test
+    public void shouldAggregateStateStoreMetrics() {
+        addMetric(RocksDBMetrics.STATE_METRICS_GROUP, "total-sst-files-size", "store-1", 100L);
+        addMetric(RocksDBMetrics.STATE_METRICS_GROUP, "total-sst-files-size", "store-2", 250L);
+        addMetric(RocksDBMetrics.STATE_METRICS_GROUP, "estimate-num-keys", "store-1", 7L);
+        addMetric("stream-thread-metrics", "total-sst-files-size", "thread-1", 1000L);
+
+        assertThat(RocksDBMetrics.sum(streams, "total-sst-files-size")).isEqualTo(350.0);
+        assertThat(RocksDBMetrics.max(streams, "total-sst-files-size")).isEqualTo(250.0);
+        assertThat(RocksDBMetrics.sum(streams, "estimate-num-keys")).isEqualTo(7.0);
+    }
+
+    @Test
+    public void shouldIgnoreMissingValues() {
+        addMetric(RocksDBMetrics.STATE_METRICS_GROUP, "block-cache-usage", "store-1", Double.NaN);
+        addMetric(RocksDBMetrics.STATE_METRICS_GROUP, "block-cache-usage", "store-2", null);
+
+        assertThat(RocksDBMetrics.sum(streams, "block-cache-usage")).isEqualTo(0.0);
+        assertThat(RocksDBMetrics.sum(null, "block-cache-usage")).isEqualTo(0.0);
+    }
+
+    private void addMetric(String group, String name, String store, Object value) {
+        Metric metric = Mockito.mock(Metric.class);
+        Mockito.when(metric.metricValue()).thenReturn(value);
+        metrics.put(new MetricName(name, group, "", Map.of("rocksdb-state-id", store)), metric);
+    }
+}
@@ -7,6 +7,7 @@
 
 import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
@@ -143,6 +144,13 @@ public <T> Supplier<T> buildTimer(Supplier<T> f) {
 
             return timer.wrap(f);
         }
+
+        @Override
+        public void remove() {
+            for (Meter meter : globalRegistry.find(name).tags(tags).meters()) {
+                globalRegistry.remove(meter);
+            }
+        }
     }
 
     static class MicrometerTimeRecorder implements TimeRecorder {
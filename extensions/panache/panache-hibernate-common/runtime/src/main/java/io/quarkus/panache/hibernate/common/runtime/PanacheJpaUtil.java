@@ -17,7 +17,18 @@ public class PanacheJpaUtil {
     static final Pattern FROM_PATTERN = Pattern.compile("^\\s*FROM\\s+.*",
             Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
 
+    // the translations only depend on whether there is a single parameter
+    static final TranslatedQueryCache COUNT_QUERIES_FROM_SELECT = new TranslatedQueryCache();
+    static final TranslatedQueryCache FIND_QUERIES = new TranslatedQueryCache();
+    static final TranslatedQueryCache COUNT_QUERIES = new TranslatedQueryCache();
+    static final TranslatedQueryCache UPDATE_QUERIES = new TranslatedQueryCache();
+    static final TranslatedQueryCache DELETE_QUERIES = new TranslatedQueryCache();
+
     public static String getCountQuery(String query) {
+        return COUNT_QUERIES_FROM_SELECT.get(null, query, false, key -> translateCountQuery(key.query));
+    }
+
+    private static String translateCountQuery(String query) {
         // try to generate a good count query from the existing query
         Matcher selectMatcher = SELECT_PATTERN.matcher(query);
         String countQuery;
@@ -58,12 +69,20 @@ public static String getEntityName(Class<?> entityClass) {
 
     public static String createFindQuery(Class<?> entityClass, String query, int paramCount) {
         if (query == null) {
-            return "FROM " + getEntityName(entityClass);
+            return translateFindQuery(getEntityName(entityClass), null, paramCount);
+        }
+        return FIND_QUERIES.get(getEntityName(entityClass), query, paramCount == 1,
+                key -> translateFindQuery(key.entityName, key.query, key.singleParameter ? 1 : 0));
+    }
+
+    private static String translateFindQuery(String entityName, String query, int paramCount) {
+        if (query == null) {
+            return "FROM " + entityName;
         }
 
         String trimmed = query.trim();
         if (trimmed.isEmpty()) {
-            return "FROM " + getEntityName(entityClass);
+            return "FROM " + entityName;
         }
 
         if (isNamedQuery(query)) {
@@ -76,12 +95,12 @@ public static String createFindQuery(Class<?> entityClass, String query, int par
             return query;
         }
         if (trimmedLc.startsWith("order by ")) {
-            return "FROM " + getEntityName(entityClass) + " " + query;
+            return "FROM " + entityName + " " + query;
         }
         if (trimmedLc.indexOf(' ') == -1 && trimmedLc.indexOf('=') == -1 && paramCount == 1) {
             query += " = ?1";
         }
-        return "FROM " + getEntityName(entityClass) + " WHERE " + query;
+        return "FROM " + entityName + " WHERE " + query;
     }
 
     public static boolean isNamedQuery(String query) {
@@ -92,12 +111,20 @@ public static boolean isNamedQuery(String query) {
     }
 
     public static String createCountQuery(Class<?> entityClass, String query, int paramCount) {
+        if (query == null) {
+            return translateCountQuery(getEntityName(entityClass), null, paramCount);
+        }
+        return COUNT_QUERIES.get(getEntityName(entityClass), query, paramCount == 1,
+                key -> translateCountQuery(key.entityName, key.query, key.singleParameter ? 1 : 0));
+    }
+
+    private static String translateCountQuery(String entityName, String query, int paramCount) {
         if (query == null)
-            return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
+            return "SELECT COUNT(*) FROM " + entityName;
 
         String trimmed = query.trim();
         if (trimmed.isEmpty())
-            return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
+            return "SELECT COUNT(*) FROM " + entityName;
 
         String trimmedLc = trimmed.toLowerCase();
         if (trimmedLc.startsWith("from ")) {
@@ -105,15 +132,23 @@ public static String createCountQuery(Class<?> entityClass, String query, int pa
         }
         if (trimmedLc.startsWith("order by ")) {
             // ignore it
-            return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
+            return "SELECT COUNT(*) FROM " + entityName;
         }
         if (trimmedLc.indexOf(' ') == -1 && trimmedLc.indexOf('=') == -1 && paramCount == 1) {
             query += " = ?1";
         }
-        return "SELECT COUNT(*) FROM " + getEntityName(entityClass) + " WHERE " + query;
+        return "SELECT COUNT(*) FROM " + entityName + " WHERE " + query;
     }
 
     public static String createUpdateQuery(Class<?> entityClass, String query, int paramCount) {
+        if (query == null) {
+            return translateUpdateQuery(getEntityName(entityClass), null, paramCount);
+        }
+        return UPDATE_QUERIES.get(getEntityName(entityClass), query, paramCount == 1,
+                key -> translateUpdateQuery(key.entityName, key.query, key.singleParameter ? 1 : 0));
+    }
+
+    private static String translateUpdateQuery(String entityName, String query, int paramCount) {
         if (query == null) {
             throw new PanacheQueryException("Query string cannot be null");
         }
@@ -134,18 +169,26 @@ public static String createUpdateQuery(Class<?> entityClass, String query, int p
             query += " = ?1";
         }
         if (trimmedLc.startsWith("set ")) {
-            return "UPDATE FROM " + getEntityName(entityClass) + " " + query;
+            return "UPDATE FROM " + entityName + " " + query;
         }
-        return "UPDATE FROM " + getEntityName(entityClass) + " SET " + query;
+        return "UPDATE FROM " + entityName + " SET " + query;
     }
 
     public static String createDeleteQuery(Class<?> entityClass, String query, int paramCount) {
+        if (query == null) {
+            return translateDeleteQuery(getEntityName(entityClass), null, paramCount);
+        }
+        return DELETE_QUERIES.get(getEntityName(entityClass), query, paramCount == 1,
+                key -> translateDeleteQuery(key.entityName, key.query, key.singleParameter ? 1 : 0));
+    }
+
+    private static String translateDeleteQuery(String entityName, String query, int paramCount) {
         if (query == null)
-            return "DELETE FROM " + getEntityName(entityClass);
+            return "DELETE FROM " + entityName;
 
         String trimmed = query.trim();
         if (trimmed.isEmpty())
-            return "DELETE FROM " + getEntityName(entityClass);
+            return "DELETE FROM " + entityName;
 
         String trimmedLc = trimmed.toLowerCase();
         if (trimmedLc.startsWith("delete ")) {
@@ -156,12 +199,12 @@ public static String createDeleteQuery(Class<?> entityClass, String query, int p
         }
         if (trimmedLc.startsWith("order by ")) {
             // ignore it
-            return "DELETE FROM " + getEntityName(entityClass);
+            return "DELETE FROM " + entityName;
         }
         if (trimmedLc.indexOf(' ') == -1 && trimmedLc.indexOf('=') == -1 && paramCount == 1) {
             query += " = ?1";
         }
-        return "DELETE FROM " + getEntityName(entityClass) + " WHERE " + query;
+        return "DELETE FROM " + entityName + " WHERE " + query;
     }
 
     public static String toOrderBy(Sort sort) {
@@ -0,0 +1,109 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Caches the queries translated from the Panache shorthand queries, which are usually constant strings.
+ * <p>
+ * The lookups are lock-free: a lookup only marks the query as used. Once the cache is full, the queries which were not
+ * used since the previous eviction are evicted before a new query is added, so that applications building query strings
+ * dynamically do not make it grow without bounds. The queries are keyed by entity name rather than entity class, so that
+ * the cache does not retain the application class loader across dev mode reloads.
+ */
+final class TranslatedQueryCache {
+
+    static final int MAX_SIZE = 2048;
+
+    private final ConcurrentHashMap<Key, Entry> queries = new ConcurrentHashMap<>();
+
+    String get(String entityName, String query, boolean singleParameter, Function<Key, String> translation) {
+        Key key = new Key(entityName, query, singleParameter);
+        Entry entry = queries.get(key);
+        if (entry != null) {
+            // avoid writing to a shared field on every lookup
+            if (!entry.used) {
+                entry.used = true;
+            }
+            return entry.translated;
+        }
+        if (queries.size() >= MAX_SIZE) {
+            evictUnused();
+        }
+        // concurrent translations of the same query yield the same result
+        entry = new Entry(translation.apply(key));
+        Entry previous = queries.putIfAbsent(key, entry);
+        return previous != null ? previous.translated : entry.translated;
+    }
+
+    /**
+     * Evicts the queries which were not used since the previous eviction, and clears the used mark of the others.
+     */
+    private synchronized void evictUnused() {
+        if (queries.size() < MAX_SIZE) {
+            // another thread evicted the queries in the meantime
+            return;
+        }
+        for (Iterator<Entry> it = queries.values().iterator(); it.hasNext();) {
+            Entry entry = it.next();
+            if (entry.used) {
+                entry.used = false;
+            } else {
+                it.remove();
+            }
+        }
+    }
+
+    boolean contains(String entityName, String query, boolean singleParameter) {
+        return queries.containsKey(new Key(entityName, query, singleParameter));
+    }
+
+    int size() {
+        return queries.size();
+    }
+
+    private static final class Entry {
+
+        final String translated;
+        volatile boolean used;
+
+        Entry(String translated) {
+            this.translated = translated;
+        }
+    }
+
+    static final class Key {
+
+        final String entityName;
+        final String query;
+        final boolean singleParameter;
+
+        Key(String entityName, String query, boolean singleParameter) {
+            this.entityName = entityName;
+            this.query = query;
+            this.singleParameter = singleParameter;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return singleParameter == other.singleParameter && query.equals(other.query)
+                    && (entityName != null ? entityName.equals(other.entityName) : other.entityName == null);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = query.hashCode();
+            result = 31 * result + (entityName != null ? entityName.hashCode() : 0);
+            return 31 * result + (singleParameter ? 1 : 0);
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TranslatedQueryCacheTest {
+
+    @Test
+    public void testTranslationIsCached() {
+        TranslatedQueryCache cache = new TranslatedQueryCache();
+        AtomicInteger translations = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals("FROM Foo WHERE bar = ?1", cache.get("Foo", "bar", true, key -> {
+                translations.incrementAndGet();
+                return "FROM " + key.entityName + " WHERE " + key.query + " = ?1";
+            }));
+        }
+        Assertions.assertEquals(1, translations.get());
+
+        cache.get("Foo", "bar", false, key -> "FROM Foo WHERE bar");
+        cache.get("Bar", "bar", true, key -> "FROM Bar WHERE bar = ?1");
+        Assertions.assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void testUnusedQueriesAreEvicted() {
+        TranslatedQueryCache cache = new TranslatedQueryCache();
+        cache.get("Foo", "bar", true, key -> "FROM Foo WHERE bar = ?1");
+        for (int i = 0; i < TranslatedQueryCache.MAX_SIZE + 10; i++) {
+            String query = "bar = " + i;
+            Assertions.assertEquals("FROM Foo WHERE " + query,
+                    cache.get("Foo", query, false, key -> "FROM Foo WHERE " + key.query));
+            // keep the constant query in use
+            cache.get("Foo", "bar", true, key -> "FROM Foo WHERE bar = ?1");
+            Assertions.assertTrue(cache.size() <= TranslatedQueryCache.MAX_SIZE);
+        }
+        Assertions.assertTrue(cache.contains("Foo", "bar", true));
+        Assertions.assertFalse(cache.contains("Foo", "bar = 0", false));
+        // the new queries are still cached once full
+        String last = "bar = " + (TranslatedQueryCache.MAX_SIZE + 9);
+        Assertions.assertTrue(cache.contains("Foo", last, false));
+    }
+
+    @Test
+    public void testPanacheQueriesAreStable() {
+        String first = PanacheJpaUtil.createFindQuery(Foo.class, "bar", 1);
+        Assertions.assertSame(first, PanacheJpaUtil.createFindQuery(Foo.class, "bar", 1));
+        Assertions.assertEquals("FROM " + Foo.class.getName() + " WHERE bar = ?1", first);
+        Assertions.assertEquals("FROM " + Foo.class.getName() + " WHERE bar",
+                PanacheJpaUtil.createFindQuery(Foo.class, "bar", 2));
+        // the entity class is not retained
+        Assertions.assertTrue(PanacheJpaUtil.FIND_QUERIES.contains(Foo.class.getName(), "bar", true));
+    }
+
+    static class Foo {
+    }
+}
@@ -0,0 +1,50 @@
+package io.quarkus.quartz.test;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ProgrammaticOneShotJobTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withEmptyApplication()
+            .overrideConfigKey("quarkus.quartz.start-mode", "forced");
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testJobIsRemovedOnceCompleted() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        scheduler.newJob("oneShot")
+                .setFireAt(Instant.now().plusMillis(200))
+                .setTask(execution -> {
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                })
+                .schedule();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        // The job is still scheduled while its last execution is running
+        assertNotNull(scheduler.getScheduledJob("oneShot"));
+        release.countDown();
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> scheduler.getScheduledJob("oneShot") == null);
+    }
+}
@@ -5,12 +5,14 @@
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.OptionalLong;
 import java.util.Properties;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -51,7 +53,6 @@
 import com.cronutils.mapper.CronMapper;
 import com.cronutils.model.Cron;
 import com.cronutils.model.CronType;
-import com.cronutils.model.definition.CronDefinition;
 import com.cronutils.model.definition.CronDefinitionBuilder;
 import com.cronutils.parser.CronParser;
 
@@ -61,11 +62,14 @@
 import io.quarkus.scheduler.FailedExecution;
 import io.quarkus.scheduler.Scheduled;
 import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import io.quarkus.scheduler.Scheduled.SkipPredicate;
 import io.quarkus.scheduler.ScheduledExecution;
 import io.quarkus.scheduler.Scheduler;
 import io.quarkus.scheduler.SkippedExecution;
 import io.quarkus.scheduler.SuccessfulExecution;
 import io.quarkus.scheduler.Trigger;
+import io.quarkus.scheduler.common.runtime.AbstractJobDefinition;
+import io.quarkus.scheduler.common.runtime.LimitConcurrentExecutionInvoker;
 import io.quarkus.scheduler.common.runtime.ScheduledInvoker;
 import io.quarkus.scheduler.common.runtime.ScheduledMethodMetadata;
 import io.quarkus.scheduler.common.runtime.SchedulerContext;
@@ -73,6 +77,7 @@
 import io.quarkus.scheduler.common.runtime.SkipPredicateInvoker;
 import io.quarkus.scheduler.common.runtime.StatusEmitterInvoker;
 import io.quarkus.scheduler.common.runtime.util.SchedulerUtils;
+import io.quarkus.scheduler.runtime.JobExecutionConfig;
 import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig;
 import io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle;
 import io.smallrye.common.vertx.VertxContext;
@@ -85,18 +90,32 @@ public class QuartzScheduler implements Scheduler {
 
     private static final Logger LOGGER = Logger.getLogger(QuartzScheduler.class.getName());
     private static final String INVOKER_KEY = "invoker";
+    private static final int DEFAULT_MAX_QUEUED_EXECUTIONS = 100;
 
     private final org.quartz.Scheduler scheduler;
     private final boolean enabled;
     private final boolean startHalted;
-    private final Map<String, QuartzTrigger> scheduledTasks = new HashMap<>();
+    private final Map<String, QuartzTrigger> scheduledTasks = new ConcurrentHashMap<>();
+    private final CronType cronType;
+    private final CronParser cronParser;
+    private final Duration defaultOverdueGracePeriod;
+    private final Event<SkippedExecution> skippedExecutionEvent;
+    private final Event<SuccessfulExecution> successfulExecutionEvent;
+    private final Event<FailedExecution> failedExecutionEvent;
+    private final Map<String, JobExecutionConfig> jobConfigs;
 
     public QuartzScheduler(SchedulerContext context, QuartzSupport quartzSupport, SchedulerRuntimeConfig schedulerRuntimeConfig,
             Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successfulExecutionEvent,
             Event<FailedExecution> failedExecutionEvent, Instance<Job> jobs, Instance<UserTransaction> userTransaction,
             Vertx vertx) {
         enabled = schedulerRuntimeConfig.enabled;
-        final Duration defaultOverdueGracePeriod = schedulerRuntimeConfig.overdueGracePeriod;
+        defaultOverdueGracePeriod = schedulerRuntimeConfig.overdueGracePeriod;
+        cronType = context.getCronType();
+        cronParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(cronType));
+        this.skippedExecutionEvent = skippedExecutionEvent;
+        this.successfulExecutionEvent = successfulExecutionEvent;
+        this.failedExecutionEvent = failedExecutionEvent;
+        this.jobConfigs = schedulerRuntimeConfig.jobs;
         final QuartzRuntimeConfig runtimeConfig = quartzSupport.getRuntimeConfig();
 
         boolean forceStart;
@@ -130,9 +149,6 @@ public QuartzScheduler(SchedulerContext context, QuartzSupport quartzSupport, Sc
 
                 // Set custom job factory
                 scheduler.setJobFactory(new InvokerJobFactory(scheduledTasks, jobs, vertx));
-                CronType cronType = context.getCronType();
-                CronDefinition def = CronDefinitionBuilder.instanceDefinitionFor(cronType);
-                CronParser parser = new CronParser(def);
                 if (transaction != null) {
                     transaction.begin();
                 }
@@ -144,16 +160,10 @@ public QuartzScheduler(SchedulerContext context, QuartzSupport quartzSupport, Sc
                         if (identity.isEmpty()) {
                             identity = ++nameSequence + "_" + method.getInvokerClassName();
                         }
-                        ScheduledInvoker invoker = new StatusEmitterInvoker(context.createInvoker(method.getInvokerClassName()),
-                                successfulExecutionEvent, failedExecutionEvent);
-                        if (scheduled.concurrentExecution() == ConcurrentExecution.SKIP) {
-                            invoker = new SkipConcurrentExecutionInvoker(invoker, skippedExecutionEvent);
-                        }
-                        if (!scheduled.skipExecutionIf().equals(Scheduled.Never.class)) {
-                            invoker = new SkipPredicateInvoker(invoker,
-                                    Arc.container().select(scheduled.skipExecutionIf(), Any.Literal.INSTANCE).get(),
-                                    skippedExecutionEvent);
-                        }
+                        ScheduledInvoker invoker = initInvoker(identity, context.createInvoker(method.getInvokerClassName()),
+                                scheduled.concurrentExecution(),
+                                scheduled.skipExecutionIf().equals(Scheduled.Never.class) ? null
+                                        : Arc.container().select(scheduled.skipExecutionIf(), Any.Literal.INSTANCE).get());
 
                         JobBuilder jobBuilder = JobBuilder.newJob(InvokerJob.class)
                                 // new JobKey(identity, "io.quarkus.scheduler.Scheduler")
@@ -170,21 +180,7 @@ public QuartzScheduler(SchedulerContext context, QuartzSupport quartzSupport, Sc
                                 this.pause(identity);
                                 continue;
                             }
-                            if (!CronType.QUARTZ.equals(cronType)) {
-                                // Migrate the expression
-                                Cron cronExpr = parser.parse(cron);
-                                switch (cronType) {
-                                    case UNIX:
-                                        cron = CronMapper.fromUnixToQuartz().map(cronExpr).asString();
-                                        break;
-                                    case CRON4J:
-                                        cron = CronMapper.fromCron4jToQuartz().map(cronExpr).asString();
-                                        break;
-                                    default:
-                                        break;
-                                }
-                            }
-                            CronScheduleBuilder cronScheduleBuilder = CronScheduleBuilder.cronSchedule(cron);
+                            CronScheduleBuilder cronScheduleBuilder = CronScheduleBuilder.cronSchedule(toQuartzCron(cron));
                             if (perJobConfig != null) {
                                 switch (perJobConfig.misfirePolicy) {
                                     case SMART_POLICY:
@@ -303,17 +299,7 @@ public QuartzScheduler(SchedulerContext context, QuartzSupport quartzSupport, Sc
                                         scheduled, oldTrigger.getKey().getName());
                             }
                         }
-                        scheduledTasks.put(identity, new QuartzTrigger(trigger.getKey(),
-                                new Function<>() {
-                                    @Override
-                                    public org.quartz.Trigger apply(TriggerKey triggerKey) {
-                                        try {
-                                            return scheduler.getTrigger(triggerKey);
-                                        } catch (SchedulerException e) {
-                                            throw new IllegalStateException(e);
-                                        }
-                                    }
-                                }, invoker,
+                        scheduledTasks.put(identity, new QuartzTrigger(trigger.getKey(), this::getQuartzTrigger, invoker,
                                 SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultOverdueGracePeriod)));
                     }
                 }
@@ -443,6 +429,34 @@ public boolean isRunning() {
         }
     }
 
+    @Override
+    public JobDefinition newJob(String identity) {
+        if (scheduler == null) {
+            throw new IllegalStateException(
+                    "Quartz scheduler is not started; set quarkus.quartz.start-mode=forced to schedule jobs programmatically");
+        }
+        return new QuartzJobDefinition(SchedulerUtils.lookUpPropertyValue(identity));
+    }
+
+    @Override
+    public Trigger unscheduleJob(String identity) {
+        if (scheduler == null || identity == null || identity.isEmpty()) {
+            return null;
+        }
+        String parsedIdentity = SchedulerUtils.lookUpPropertyValue(identity);
+        QuartzTrigger trigger = scheduledTasks.get(parsedIdentity);
+        if (trigger == null || !trigger.programmatic) {
+            return null;
+        }
+        try {
+            scheduler.deleteJob(new JobKey(parsedIdentity, Scheduler.class.getName()));
+        } catch (SchedulerException e) {
+            throw new IllegalStateException("Unable to unschedule job " + parsedIdentity, e);
+        }
+        scheduledTasks.remove(parsedIdentity);
+        return trigger;
+    }
+
     @Override
     public List<Trigger> getScheduledJobs() {
         return List.copyOf(scheduledTasks.values());
@@ -564,6 +578,113 @@ private Properties getAdditionalConfigurationProperties(String prefix, Map<Strin
         return props;
     }
 
+    private org.quartz.Trigger getQuartzTrigger(TriggerKey triggerKey) {
+        try {
+            return scheduler.getTrigger(triggerKey);
+        } catch (SchedulerException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ScheduledInvoker initInvoker(String identity, ScheduledInvoker invoker, ConcurrentExecution concurrentExecution,
+            SkipPredicate skipPredicate) {
+        invoker = new StatusEmitterInvoker(invoker, successfulExecutionEvent, failedExecutionEvent);
+        JobExecutionConfig jobConfig = jobConfigs.get(identity);
+        if (concurrentExecution == ConcurrentExecution.SKIP) {
+            invoker = new SkipConcurrentExecutionInvoker(invoker, skippedExecutionEvent);
+        } else if (concurrentExecution == ConcurrentExecution.QUEUE) {
+            invoker = new LimitConcurrentExecutionInvoker(invoker,
+                    jobConfig != null ? jobConfig.maxConcurrentExecutions.orElse(1) : 1,
+                    jobConfig != null ? jobConfig.maxQueuedExecutions : DEFAULT_MAX_QUEUED_EXECUTIONS, skippedExecutionEvent);
+        } else if (jobConfig != null && jobConfig.maxConcurrentExecutions.isPresent()) {
+            invoker = new LimitConcurrentExecutionInvoker(invoker, jobConfig.maxConcurrentExecutions.getAsInt(), 0,
+                    skippedExecutionEvent);
+        }
+        if (skipPredicate != null) {
+            invoker = new SkipPredicateInvoker(invoker, skipPredicate, skippedExecutionEvent);
+        }
+        return invoker;
+    }
+
+    private String toQuartzCron(String cron) {
+        if (!CronType.QUARTZ.equals(cronType)) {
+            // Migrate the expression
+            Cron cronExpr = cronParser.parse(cron);
+            switch (cronType) {
+                case UNIX:
+                    return CronMapper.fromUnixToQuartz().map(cronExpr).asString();
+                case CRON4J:
+                    return CronMapper.fromCron4jToQuartz().map(cronExpr).asString();
+                default:
+                    break;
+            }
+        }
+        return cron;
+    }
+
+    class QuartzJobDefinition extends AbstractJobDefinition {
+
+        QuartzJobDefinition(String identity) {
+            super(identity);
+        }
+
+        @Override
+        public Trigger schedule() {
+            validate();
+            if (scheduledTasks.containsKey(identity)) {
+                throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
+            }
+            Scheduled annotation = toScheduled();
+            ScheduleBuilder<?> scheduleBuilder;
+            String parsedCron = SchedulerUtils.lookUpPropertyValue(cron);
+            if (fireAt != null) {
+                scheduleBuilder = SimpleScheduleBuilder.simpleSchedule();
+            } else if (!parsedCron.isEmpty()) {
+                if (SchedulerUtils.isOff(parsedCron)) {
+                    return null;
+                }
+                scheduleBuilder = CronScheduleBuilder.cronSchedule(toQuartzCron(parsedCron));
+            } else {
+                OptionalLong everyMillis = SchedulerUtils.parseEveryAsMillis(annotation);
+                if (everyMillis.isEmpty()) {
+                    return null;
+                }
+                scheduleBuilder = SimpleScheduleBuilder.simpleSchedule()
+                        .withIntervalInMilliseconds(everyMillis.getAsLong())
+                        .repeatForever();
+            }
+            JobDetail jobDetail = JobBuilder.newJob(InvokerJob.class)
+                    .withIdentity(identity, Scheduler.class.getName())
+                    .build();
+            TriggerBuilder<?> triggerBuilder = TriggerBuilder.newTrigger()
+                    .withIdentity(identity, Scheduler.class.getName())
+                    .forJob(jobDetail)
+                    .withSchedule(scheduleBuilder);
+            if (fireAt != null) {
+                triggerBuilder.startAt(Date.from(fireAt));
+            } else if (!delayed.isEmpty()) {
+                triggerBuilder.startAt(Date.from(Instant.now().plusMillis(SchedulerUtils.parseDelayedAsMillis(annotation))));
+            }
+            org.quartz.Trigger trigger = triggerBuilder.build();
+            QuartzTrigger quartzTrigger = new QuartzTrigger(trigger.getKey(), QuartzScheduler.this::getQuartzTrigger,
+                    initInvoker(identity, createInvoker(), concurrentExecution, skipPredicate),
+                    SchedulerUtils.parseOverdueGracePeriod(annotation, defaultOverdueGracePeriod), true,
+                    () -> scheduledTasks.remove(identity));
+            if (scheduledTasks.putIfAbsent(identity, quartzTrigger) != null) {
+                throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
+            }
+            try {
+                scheduler.scheduleJob(jobDetail, trigger);
+            } catch (SchedulerException e) {
+                scheduledTasks.remove(identity);
+                throw new IllegalStateException("Unable to schedule job " + identity, e);
+            }
+            LOGGER.debugf("Scheduled job %s programmatically", identity);
+            return quartzTrigger;
+        }
+
+    }
+
     static class InvokerJob implements Job {
 
         final QuartzTrigger trigger;
@@ -577,9 +698,11 @@ static class InvokerJob implements Job {
         @Override
         public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
             if (trigger != null && trigger.invoker != null) { // could be null from previous runs
+                // The trigger will never fire again and the job is deleted by Quartz
+                boolean lastExecution = trigger.programmatic && jobExecutionContext.getNextFireTime() == null;
                 if (trigger.invoker.isBlocking()) {
                     try {
-                        trigger.invoker.invoke(new QuartzScheduledExecution(trigger, jobExecutionContext));
+                        invoke(jobExecutionContext, lastExecution);
                     } catch (Exception e) {
                         throw new JobExecutionException(e);
                     }
@@ -590,7 +713,7 @@ public void execute(JobExecutionContext jobExecutionContext) throws JobExecution
                         @Override
                         public void handle(Void event) {
                             try {
-                                trigger.invoker.invoke(new QuartzScheduledExecution(trigger, jobExecutionContext));
+                                invoke(jobExecutionContext, lastExecution);
                             } catch (Exception e) {
                                 // already logged by the StatusEmitterInvoker
                             }
@@ -604,6 +727,27 @@ public void handle(Void event) {
                         "Scheduled method with the identity matching the job's name", jobName);
             }
         }
+
+        private void invoke(JobExecutionContext jobExecutionContext, boolean lastExecution) throws Exception {
+            CompletionStage<Void> result;
+            try {
+                result = trigger.invoker.invoke(new QuartzScheduledExecution(trigger, jobExecutionContext));
+            } catch (Exception e) {
+                if (lastExecution) {
+                    trigger.onCompleted.run();
+                }
+                throw e;
+            }
+            if (lastExecution) {
+                // The job is completed once its last execution is completed
+                result.whenComplete(new BiConsumer<Void, Throwable>() {
+                    @Override
+                    public void accept(Void ignored, Throwable failure) {
+                        trigger.onCompleted.run();
+                    }
+                });
+            }
+        }
     }
 
     static class QuartzTrigger implements Trigger {
@@ -612,13 +756,23 @@ static class QuartzTrigger implements Trigger {
         final Function<TriggerKey, org.quartz.Trigger> triggerFunction;
         final ScheduledInvoker invoker;
         final Duration gracePeriod;
+        // Registered with the Scheduler API, i.e. may be unscheduled
+        final boolean programmatic;
+        final Runnable onCompleted;
 
         QuartzTrigger(org.quartz.TriggerKey triggerKey, Function<TriggerKey, org.quartz.Trigger> triggerFunction,
                 ScheduledInvoker invoker, Duration gracePeriod) {
+            this(triggerKey, triggerFunction, invoker, gracePeriod, false, null);
+        }
+
+        QuartzTrigger(org.quartz.TriggerKey triggerKey, Function<TriggerKey, org.quartz.Trigger> triggerFunction,
+                ScheduledInvoker invoker, Duration gracePeriod, boolean programmatic, Runnable onCompleted) {
             this.triggerKey = triggerKey;
             this.triggerFunction = triggerFunction;
             this.invoker = invoker;
             this.gracePeriod = gracePeriod;
+            this.programmatic = programmatic;
+            this.onCompleted = onCompleted;
         }
 
         @Override
@@ -22,6 +22,7 @@
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.redis.datasource.ReactiveRedisDataSource;
 import io.quarkus.redis.datasource.RedisDataSource;
 import io.quarkus.redis.runtime.client.RedisClientRecorder;
@@ -40,6 +41,7 @@ public void init(RedisClientRecorder recorder,
             BeanDiscoveryFinishedBuildItem beans,
             ShutdownContextBuildItem shutdown,
             BuildProducer<SyntheticBeanBuildItem> syntheticBeans,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics,
             VertxBuildItem vertxBuildItem) {
 
         // Collect the used redis datasource, the unused clients will not be instantiated.
@@ -66,6 +68,8 @@ public void init(RedisClientRecorder recorder,
                     recorder.getBlockingDataSource(name)));
             syntheticBeans.produce(configureAndCreateSyntheticBean(name, ReactiveRedisDataSource.class,
                     recorder.getReactiveDataSource(name)));
+            // Client-side caching metrics, only registered if the client-side caching is enabled for this client
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerClientSideCacheMetrics(name)));
         }
 
         recorder.cleanup(shutdown);
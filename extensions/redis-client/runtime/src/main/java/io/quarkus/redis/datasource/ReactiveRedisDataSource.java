@@ -11,6 +11,7 @@
 import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands;
 import io.quarkus.redis.datasource.set.ReactiveSetCommands;
 import io.quarkus.redis.datasource.sortedset.ReactiveSortedSetCommands;
+import io.quarkus.redis.datasource.stream.ReactiveStreamCommands;
 import io.quarkus.redis.datasource.string.ReactiveStringCommands;
 import io.quarkus.redis.datasource.transactions.ReactiveTransactionalRedisDataSource;
 import io.quarkus.redis.datasource.transactions.TransactionResult;
@@ -73,6 +74,23 @@ public interface ReactiveRedisDataSource {
      */
     Uni<TransactionResult> withTransaction(Function<ReactiveTransactionalRedisDataSource, Uni<Void>> tx, String... watchedKeys);
 
+    /**
+     * Retrieves a {@link RedisDataSource} enqueuing commands in a pipeline.
+     * The commands are accumulated and only sent when the passed block emits the {@code null} item. They are then sent to the
+     * Redis server with a single write, and their responses are read in a single round trip. Unlike transactions, the
+     * commands are not executed atomically: commands from other clients may be interleaved.
+     *
+     * The commands are enqueued using the same API as transactions, and the results of the commands are retrieved using
+     * the produced {@link TransactionResult}.
+     *
+     * The user can discard the pipeline using the {@link TransactionalRedisDataSource#discard()} method. In this case,
+     * no command is sent and the produced {@link TransactionResult} will be empty.
+     *
+     * @param pipeline the function receiving the data source enqueuing commands in the pipeline. The enqueued commands are
+     *        only sent at the end of the block.
+     */
+    Uni<TransactionResult> withPipeline(Function<ReactiveTransactionalRedisDataSource, Uni<Void>> pipeline);
+
     /**
      * Execute the command <a href="https://redis.io/commands/select">SELECT</a>.
      * Summary: Change the selected database for the current connection
@@ -296,6 +314,32 @@ default ReactiveBitMapCommands<String> bitmap() {
         return bitmap(String.class);
     }
 
+    /**
+     * Gets the object to execute commands manipulating streams.
+     *
+     * @param redisKeyType the type of the keys
+     * @param fieldType the type of the fields of the messages
+     * @param valueType the type of the values of the messages
+     * @param <K> the type of the key
+     * @param <F> the type of the fields
+     * @param <V> the type of the values
+     * @return the object to manipulate streams.
+     */
+    <K, F, V> ReactiveStreamCommands<K, F, V> stream(Class<K> redisKeyType, Class<F> fieldType, Class<V> valueType);
+
+    /**
+     * Gets the object to execute commands manipulating streams.
+     * <p>
+     * This is a shortcut on {@code stream(String.class, String.class, V)}
+     *
+     * @param valueType the type of the values of the messages
+     * @param <V> the type of the values
+     * @return the object to manipulate streams.
+     */
+    default <V> ReactiveStreamCommands<String, String, V> stream(Class<V> valueType) {
+        return stream(String.class, String.class, valueType);
+    }
+
     /**
      * Gets the objects to publish and receive messages.
      *
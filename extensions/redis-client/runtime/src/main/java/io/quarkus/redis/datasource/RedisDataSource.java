@@ -11,6 +11,7 @@
 import io.quarkus.redis.datasource.pubsub.PubSubCommands;
 import io.quarkus.redis.datasource.set.SetCommands;
 import io.quarkus.redis.datasource.sortedset.SortedSetCommands;
+import io.quarkus.redis.datasource.stream.StreamCommands;
 import io.quarkus.redis.datasource.string.StringCommands;
 import io.quarkus.redis.datasource.transactions.TransactionResult;
 import io.quarkus.redis.datasource.transactions.TransactionalRedisDataSource;
@@ -68,6 +69,23 @@ public interface RedisDataSource {
      */
     TransactionResult withTransaction(Consumer<TransactionalRedisDataSource> tx, String... watchedKeys);
 
+    /**
+     * Retrieves a {@link RedisDataSource} enqueuing commands in a pipeline.
+     * The commands are accumulated and only sent when the passed block completes. They are then sent to the Redis server with
+     * a single write, and their responses are read in a single round trip. Unlike transactions, the commands are not
+     * executed atomically: commands from other clients may be interleaved.
+     * <p>
+     * The commands are enqueued using the same API as transactions, and the results of the commands are retrieved using the
+     * returned {@link TransactionResult}.
+     * <p>
+     * The user can discard the pipeline using the {@link TransactionalRedisDataSource#discard()} method. In this case, no
+     * command is sent and the produced {@link TransactionResult} will be empty.
+     *
+     * @param pipeline the consumer receiving the data source enqueuing commands in the pipeline. The enqueued commands are
+     *        only sent at the end of the block.
+     */
+    TransactionResult withPipeline(Consumer<TransactionalRedisDataSource> pipeline);
+
     /**
      * Execute the command <a href="https://redis.io/commands/select">SELECT</a>.
      * Summary: Change the selected database for the current connection
@@ -291,6 +309,32 @@ default BitMapCommands<String> bitmap() {
         return bitmap(String.class);
     }
 
+    /**
+     * Gets the object to execute commands manipulating streams.
+     *
+     * @param redisKeyType the type of the keys
+     * @param fieldType the type of the fields of the messages
+     * @param valueType the type of the values of the messages
+     * @param <K> the type of the key
+     * @param <F> the type of the fields
+     * @param <V> the type of the values
+     * @return the object to manipulate streams.
+     */
+    <K, F, V> StreamCommands<K, F, V> stream(Class<K> redisKeyType, Class<F> fieldType, Class<V> valueType);
+
+    /**
+     * Gets the object to execute commands manipulating streams.
+     * <p>
+     * This is a shortcut on {@code stream(String.class, String.class, V)}
+     *
+     * @param valueType the type of the values of the messages
+     * @param <V> the type of the values
+     * @return the object to manipulate streams.
+     */
+    default <V> StreamCommands<String, String, V> stream(Class<V> valueType) {
+        return stream(String.class, String.class, valueType);
+    }
+
     /**
      * Gets the objects to publish and receive messages.
      *
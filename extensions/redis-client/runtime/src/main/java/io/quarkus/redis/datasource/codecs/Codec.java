@@ -1,9 +1,38 @@
 package io.quarkus.redis.datasource.codecs;
 
+import io.vertx.core.buffer.Buffer;
+
 public interface Codec<T> {
 
     byte[] encode(T item);
 
     T decode(byte[] item);
 
+    /**
+     * Encodes the given item into a buffer which is written as is into the Redis request.
+     * <p>
+     * Codecs producing a buffer natively (such as JSON) should override this method to avoid copying the encoded item
+     * into an intermediate {@code byte[]}.
+     *
+     * @param item the item, not {@code null}
+     * @return the encoded item
+     */
+    default Buffer encodeToBuffer(T item) {
+        byte[] encoded = encode(item);
+        return encoded == null ? null : Buffer.buffer(encoded);
+    }
+
+    /**
+     * Decodes the given buffer, a view of the Redis response. The buffer must not be retained after the invocation.
+     * <p>
+     * Codecs able to read from a buffer (such as JSON or {@code String}) should override this method to avoid copying
+     * the response into an intermediate {@code byte[]}.
+     *
+     * @param item the buffer, not {@code null}
+     * @return the decoded item
+     */
+    default T decodeFromBuffer(Buffer item) {
+        return decode(item.getBytes());
+    }
+
 }
@@ -1,5 +1,9 @@
 package io.quarkus.redis.datasource.codecs;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 import io.vertx.core.buffer.Buffer;
@@ -19,9 +23,18 @@ public static <T> Codec<T> getDefaultCodecFor(Class<T> clazz) {
         if (clazz.equals(Integer.class) || clazz.equals(Integer.TYPE)) {
             return (Codec<T>) IntegerCodec.INSTANCE;
         }
+        if (clazz.equals(Long.class) || clazz.equals(Long.TYPE)) {
+            return (Codec<T>) LongCodec.INSTANCE;
+        }
         if (clazz.equals(String.class)) {
             return (Codec<T>) StringCodec.INSTANCE;
         }
+        if (Buffer.class.isAssignableFrom(clazz)) {
+            return (Codec<T>) BufferCodec.INSTANCE;
+        }
+        if (ProtobufCodec.isProtobufMessage(clazz)) {
+            return new ProtobufCodec<>(clazz);
+        }
         // JSON by default
         return new JsonCodec<>(clazz);
     }
@@ -43,6 +56,16 @@ public byte[] encode(T item) {
         public T decode(byte[] payload) {
             return Json.decodeValue(Buffer.buffer(payload), clazz);
         }
+
+        @Override
+        public Buffer encodeToBuffer(T item) {
+            return Json.encodeToBuffer(item);
+        }
+
+        @Override
+        public T decodeFromBuffer(Buffer item) {
+            return Json.decodeValue(item, clazz);
+        }
     }
 
     public static class StringCodec implements Codec<String> {
@@ -62,6 +85,11 @@ public byte[] encode(String item) {
         public String decode(byte[] item) {
             return new String(item, StandardCharsets.UTF_8);
         }
+
+        @Override
+        public String decodeFromBuffer(Buffer item) {
+            return item.toString(StandardCharsets.UTF_8);
+        }
     }
 
     public static class DoubleCodec implements Codec<Double> {
@@ -114,4 +142,157 @@ public Integer decode(byte[] item) {
         }
     }
 
+    public static class LongCodec implements Codec<Long> {
+
+        public static LongCodec INSTANCE = new LongCodec();
+
+        private LongCodec() {
+            // Avoid direct instantiation;
+        }
+
+        @Override
+        public byte[] encode(Long item) {
+            if (item == null) {
+                return null;
+            }
+            return Long.toString(item).getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Long decode(byte[] item) {
+            if (item == null) {
+                return 0L;
+            }
+            return Long.parseLong(new String(item, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Stores Vert.x {@link Buffer} values as is, this is the codec to use to store raw binary content. {@code byte[]}
+     * values are still encoded in JSON, to keep reading the values written by the previous versions.
+     * <p>
+     * The buffers are written into the requests without copy, and copied once from the responses.
+     */
+    public static class BufferCodec implements Codec<Buffer> {
+
+        public static BufferCodec INSTANCE = new BufferCodec();
+
+        private BufferCodec() {
+            // Avoid direct instantiation;
+        }
+
+        @Override
+        public byte[] encode(Buffer item) {
+            if (item == null) {
+                return null;
+            }
+            return item.getBytes();
+        }
+
+        @Override
+        public Buffer decode(byte[] item) {
+            if (item == null) {
+                return null;
+            }
+            return Buffer.buffer(item);
+        }
+
+        @Override
+        public Buffer encodeToBuffer(Buffer item) {
+            return item;
+        }
+
+        @Override
+        public Buffer decodeFromBuffer(Buffer item) {
+            // The response buffer must not be retained
+            return item.copy();
+        }
+    }
+
+    /**
+     * Stores Protocol Buffers messages using their binary encoding. This codec is selected automatically for the classes
+     * generated by {@code protoc}, without requiring a dependency on the protobuf runtime.
+     * <p>
+     * The messages are decoded directly from the response buffer using the generated {@code parseFrom(ByteBuffer)}
+     * method. In native mode, the message classes must be registered for reflection.
+     */
+    public static class ProtobufCodec<T> implements Codec<T> {
+
+        private static final String MESSAGE_LITE = "com.google.protobuf.MessageLite";
+
+        private final MethodHandle toByteArray;
+        private final MethodHandle parseFromBytes;
+        private final MethodHandle parseFromByteBuffer;
+
+        public ProtobufCodec(Class<T> clazz) {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                this.toByteArray = lookup.findVirtual(clazz, "toByteArray", MethodType.methodType(byte[].class));
+                this.parseFromBytes = lookup.findStatic(clazz, "parseFrom", MethodType.methodType(clazz, byte[].class));
+                this.parseFromByteBuffer = lookup.findStatic(clazz, "parseFrom",
+                        MethodType.methodType(clazz, ByteBuffer.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new IllegalArgumentException("Unable to use " + clazz + " as a Protocol Buffers message", e);
+            }
+        }
+
+        static boolean isProtobufMessage(Class<?> clazz) {
+            for (Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+                for (Class<?> itf : c.getInterfaces()) {
+                    if (implementsMessageLite(itf)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private static boolean implementsMessageLite(Class<?> itf) {
+            if (itf.getName().equals(MESSAGE_LITE)) {
+                return true;
+            }
+            for (Class<?> parent : itf.getInterfaces()) {
+                if (implementsMessageLite(parent)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public byte[] encode(T item) {
+            if (item == null) {
+                return null;
+            }
+            try {
+                return (byte[]) toByteArray.invoke(item);
+            } catch (Throwable e) {
+                throw new IllegalArgumentException("Unable to encode the Protocol Buffers message", e);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T decode(byte[] item) {
+            if (item == null) {
+                return null;
+            }
+            try {
+                return (T) parseFromBytes.invoke(item);
+            } catch (Throwable e) {
+                throw new IllegalArgumentException("Unable to decode the Protocol Buffers message", e);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T decodeFromBuffer(Buffer item) {
+            try {
+                return (T) parseFromByteBuffer.invoke(item.getByteBuf().nioBuffer());
+            } catch (Throwable e) {
+                throw new IllegalArgumentException("Unable to decode the Protocol Buffers message", e);
+            }
+        }
+    }
+
 }
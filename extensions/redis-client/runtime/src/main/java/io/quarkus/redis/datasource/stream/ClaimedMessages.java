@@ -0,0 +1,45 @@
+package io.quarkus.redis.datasource.stream;
+
+import java.util.List;
+
+/**
+ * The result of the <a href="https://redis.io/commands/xautoclaim">XAUTOCLAIM</a> command: the claimed messages and the
+ * id to use as start for the next call.
+ *
+ * @param <K> the type of the key
+ * @param <F> the type of the fields of the payload
+ * @param <V> the type of the values of the payload
+ */
+public class ClaimedMessages<K, F, V> {
+
+    private final String nextId;
+    private final List<StreamMessage<K, F, V>> messages;
+
+    public ClaimedMessages(String nextId, List<StreamMessage<K, F, V>> messages) {
+        this.nextId = nextId;
+        this.messages = messages;
+    }
+
+    /**
+     * @return the id to pass as start to the next {@code XAUTOCLAIM} call, {@code 0-0} once the whole pending entries list
+     *         has been scanned
+     */
+    public String getNextId() {
+        return nextId;
+    }
+
+    /**
+     * @return the claimed messages, the messages deleted from the stream in the meantime are not included
+     */
+    public List<StreamMessage<K, F, V>> getMessages() {
+        return messages;
+    }
+
+    @Override
+    public String toString() {
+        return "ClaimedMessages{" +
+                "nextId='" + nextId + '\'' +
+                ", messages=" + messages +
+                '}';
+    }
+}
@@ -0,0 +1,234 @@
+package io.quarkus.redis.datasource.stream;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Allows executing commands from the {@code stream} group.
+ * See <a href="https://redis.io/commands/?group=stream">the stream command list</a> for further information about these
+ * commands.
+ * <p>
+ * A {@code stream} is an append-only log of messages, each message being a map of fields and values. Messages are
+ * consumed by consumer groups, and must be acknowledged once processed.
+ *
+ * @param <K> the type of the key
+ * @param <F> the type of the fields of the messages
+ * @param <V> the type of the values of the messages
+ */
+public interface ReactiveStreamCommands<K, F, V> {
+
+    /**
+     * Execute the command <a href="https://redis.io/commands/xadd">XADD</a>.
+     * Summary: Appends a new message to a stream. The stream is created if it does not exist.
+     * Group: stream
+     * Requires Redis 5.0.0
+     *
+     * @param key the key
+     * @param payload the message payload, must not be empty
+     * @return the id of the added message
+     **/
+    Uni<String> xadd(K key, Map<F, V> payload);
+
+    /**
+     * Execute the command <a href="https://redis.io/commands/xadd">XADD</a>.
+     * Summary: Appends a new message to a stream.
+     * Group: stream
+     * Requires Redis 5.0.0
+     *
+     * @param key the key
+     * @param args the extra arguments
+     * @param payload the message payload, must not be empty
+     * @return the id of the added message, {@code null} if {@code NOMKSTREAM} is used and the stream does not exist
+     **/
+    Uni<String> xadd(K key, XAddArgs args, Map<F, V> payload);
+
+    /**
+     * Execute the command <a href="https://redis.io/commands/xlen">XLEN</a>.
+     * Summary: Returns the number of messages in a stream.
+     * Group: stream
+     * Requires Redis 5.0.0
+     *
+     * @param key the key
+     * @return the number of messages, 0 if the stream does not exist
+     **/
+    Uni<Long> xlen(K key);
+
+    /**
+     * Execute the command <a href="https://redis.io/commands/xgroup-create">XGROUP CREATE</a>.
+     * Summary: Creates a consumer group.
+     * Group: stream
+     * Requires Redis 5.0.0
+     *
+     * @param key the key
+     * @param group the group name
+     * @param from the id of the last delivered message, {@code $} to only deliver the new messages, {@code 0} to deliver
+     *        the whole stream
+     * @return a Uni emitting {@code null} when the group is created, a failure otherwise
+     **/
+    Uni<Void> xgroupCreate(K key, String group, String from);
+
+    /**
+     * Execute the command <a href="https://redis.io/commands/xgroup-create">XGROUP CREATE</a>.
+     * Summary: Creates a consumer group.
+     * Group: stream
+     * Requires Redis 5.0.0
+     *
+     * @param key the key
+     * @param group the group name
+     * @param from the id of the last delivered message, {@code $} to only deliver the new messages, {@code 0} to deliver
+     *        the whole stream
+     * @param args the extra arguments
+     * @return a Uni emitting {@code null} when the group is created, a failure otherwise
+     **/
+    Uni<Void> xgroupCreate(K key, String group, String from, XGroupCreateArgs args);
+
+    /**
+     * Execute the command <a href="https://redis.io/commands/xgroup-destroy">XGROUP DESTROY</a>.
+     * Summary: Destroys a consumer group.
+     * Group: stream
+     * Requires Redis 5.0.0
+     *
+     * @param key the key
+     * @param group the group name
+     * @return {@code true} if the group was destroyed, {@code false} if it did not exist
+     **/
+    Uni<Boolean> xgroupDestroy(K key, String group);
+
+    /**
+     * Execute the command <a href="https://redis.io/commands/xreadgroup">XREADGROUP</a>.
+     * Summary: Reads messages from a stream on behalf of a consumer of a consumer group.
+     * Group: stream
+     * Requires Redis 5.0.0
+     *
+     * @param group the group name
+     * @param consumer the consumer name
+     * @param key the key
+     * @param id the id, {@code >} to read the messages never delivered to the other consumers of the group, any other id
+     *        to read the messages pending for this consumer
+     * @return the messages, empty if none
+     **/
+    Uni<List<StreamMessage<K, F, V>>> xreadgroup(String group, String consumer, K key, String id);
+
+    /**
+     * Execute the command <a href="https://redis.io/commands/xreadgroup">XREADGROUP</a>.
+     * Summary: Reads messages from a stream on behalf of a consumer of a consumer group.
+     * Group: stream
+     * Requires Redis 5.0.0
+     *
+     * @param group the group name
+     * @param consumer the consumer name
+     * @param key the key
+     * @param id the id, {@code >} to read the messages never delivered to the other consumers of the group, any other id
+     *        to read the messages pending for this consumer
+     * @param args the extra arguments
+     * @return the messages, empty if none
+     **/
+    Uni<List<StreamMessage<K, F, V>>> xreadgroup(String group, String consumer, K key, String id, XReadGroupArgs args);
+
+    /**
+     * Execute the command <a href="https://redis.io/commands/xreadgroup">XREADGROUP</a>.
+     * Summary: Reads messages from multiple streams on behalf of a consumer of a consumer group.
+     * Group: stream
+     * Requires Redis 5.0.0
+     *
+     * @param group the group name
+     * @param consumer the consumer name
+     * @param lastIdsPerStream the id to read from, per stream key
+     * @param args the extra arguments
+     * @return the messages of all the streams, empty if none
+     **/
+    Uni<List<StreamMessage<K, F, V>>> xreadgroup(String group, String consumer, Map<K, String> lastIdsPerStream,
+            XReadGroupArgs args);
+
+    /**
+     * Execute the command <a href="https://redis.io/commands/xack">XACK</a>.
+     * Summary: Acknowledges messages, removing them from the pending entries list of the group.
+     * Group: stream
+     * Requires Redis 5.0.0
+     *
+     * @param key the key
+     * @param group the group name
+     * @param ids the message ids
+     * @return the number of acknowledged messages
+     **/
+    Uni<Integer> xack(K key, String group, String... ids);
+
+    /**
+     * Execute the command <a href="https://redis.io/commands/xautoclaim">XAUTOCLAIM</a>.
+     * Summary: Transfers the ownership of the messages pending for longer than {@code minIdleTime} to the given consumer.
+     * Group: stream
+     * Requires Redis 6.2.0
+     *
+     * @param key the key
+     * @param group the group name
+     * @param consumer the consumer name
+     * @param minIdleTime the min idle time
+     * @param start the id to start scanning the pending entries list from, {@code 0-0} to start from the beginning
+     * @param count the maximum number of messages to claim
+     * @return the claimed messages and the id to start the next call from
+     **/
+    Uni<ClaimedMessages<K, F, V>> xautoclaim(K key, String group, String consumer, Duration minIdleTime, String start,
+            int count);
+
+    /**
+     * Starts consuming the given stream on behalf of the given consumer of the given group.
+     * <p>
+     * The messages are read in batches. The messages of a batch are processed concurrently, and the messages whose
+     * processing succeeded are acknowledged with a single {@code XACK}. The messages whose processing failed stay in the
+     * pending entries list, and are redelivered if {@link StreamConsumerArgs#claimMinIdleTime(Duration)} is set.
+     * <p>
+     * The group is created, starting at the end of the stream, if it does not exist.
+     *
+     * @param key the key
+     * @param group the group name
+     * @param consumer the consumer name
+     * @param args the consumer configuration
+     * @param processor the function processing a message. Be aware that this function may be invoked on the
+     *        <strong>I/O thread</strong>, so you must not block.
+     * @return a Uni emitting the consumer once started, which lets you stop it
+     */
+    Uni<ReactiveStreamConsumer> consume(K key, String group, String consumer, StreamConsumerArgs args,
+            Function<StreamMessage<K, F, V>, Uni<Void>> processor);
+
+    /**
+     * Starts consuming the given stream on behalf of the given consumer of the given group, preserving the processing
+     * order of the messages sharing the same ordering key.
+     * <p>
+     * Like {@link #consume(Object, String, String, StreamConsumerArgs, Function)}, but the messages of a batch with the
+     * same ordering key are processed sequentially, in the stream order. When the processing of a message fails, the
+     * message and the following ones with the same ordering key stay pending and are held back by the consumer: they are
+     * processed again at the next read, before any newer message with the same ordering key. Once more than
+     * {@link StreamConsumerArgs#batchSize(int)} messages are held back, no new message is read until their processing
+     * succeeds. If {@link StreamConsumerArgs#claimMinIdleTime(Duration)} is not set, the messages pending for more than
+     * 30 seconds, for instance those of a dead consumer, are claimed.
+     *
+     * @param key the key
+     * @param group the group name
+     * @param consumer the consumer name
+     * @param args the consumer configuration
+     * @param orderingKey the function extracting the ordering key of a message
+     * @param processor the function processing a message. Be aware that this function may be invoked on the
+     *        <strong>I/O thread</strong>, so you must not block.
+     * @return a Uni emitting the consumer once started, which lets you stop it
+     */
+    Uni<ReactiveStreamConsumer> consume(K key, String group, String consumer, StreamConsumerArgs args,
+            Function<StreamMessage<K, F, V>, Object> orderingKey, Function<StreamMessage<K, F, V>, Uni<Void>> processor);
+
+    /**
+     * A stream consumer
+     */
+    interface ReactiveStreamConsumer {
+
+        /**
+         * Stops reading new messages. The messages being processed are processed and acknowledged.
+         *
+         * @return a Uni emitting {@code null} when the consumer is stopped
+         */
+        Uni<Void> stop();
+
+    }
+}
@@ -0,0 +1,174 @@
+package io.quarkus.redis.datasource.stream;
+
+import java.time.Duration;
+import java.util.Map;
+
+import io.smallrye.mutiny.Uni;
+
+public interface ReactiveTransactionalStreamCommands<K, F, V> {
+
+    /**
+     * Execute the command <a href="https://redis.io/commands/xadd">XADD</a>.
+     * Summary: Appends a new message to a stream. The stream is created if it does not exist.
+     * Group: stream
+     * Requires Redis 5.0.0
+     *
+     * @param key the key
+     * @param payload the message payload, must not be empty
+     * @return A {@code Uni} emitting {@code null} when the command has been enqueued successfully in the transaction, a failure
+     *         otherwise. In the case of failure, the transaction is discarded.
+     **/
+    Uni<Void> xadd(K key, Map<F, V> payload);
+
+    /**
+     * Execute the command <a href="https://redis.io/commands/xadd">XADD</a>.
+     * Summary: Appends a new message to a stream.
+     * Group: stream
+     * Requires Redis 5.0.0
+     *
+     * @param key the key
+     * @param args the extra arguments
+     * @param payload the message payload, must not be empty
+     * @return A {@code Uni} emitting {@code null} when the command has been enqueued successfully in the transaction, a failure
+     *         otherwise. In the case of failure, the transaction is discarded.
+     **/
+    Uni<Void> xadd(K key, XAddArgs args, Map<F, V> payload);
+
+    /**
+     * Execute the command <a href="https://redis.io/commands/xlen">XLEN</a>.
+     * Summary: Returns the number of messages in a stream.
+     * Group: stream
+     * Requires Redis 5.0.0
+     *
+     * @param key the key
+     * @return A {@code Uni} emitting {@code null} when the command has been enqueued successfully in the transaction, a failure
+     *         otherwise. In the case of failure, the transaction is discarded.
+     **/
+    Uni<Void> xlen(K key);
+
+    /**
+     * Execute the command <a href="https://redis.io/commands/xgroup-create">XGROUP CREATE</a>.
+     * Summary: Creates a consumer group.
+     * Group: stream
+     * Requires Redis 5.0.0
+     *
+     * @param key the key
+     * @param group the group name
+     * @param from the id of the last delivered message, {@code $} to only deliver the new messages, {@code 0} to deliver
+     *        the whole stream
+     * @return A {@code Uni} emitting {@code null} when the command has been enqueued successfully in the transaction, a failure
+     *         otherwise. In the case of failure, the transaction is discarded.
+     **/
+    Uni<Void> xgroupCreate(K key, String group, String from);
+
+    /**
+     * Execute the command <a href="https://redis.io/commands/xgroup-create">XGROUP CREATE</a>.
+     * Summary: Creates a consumer group.
+     * Group: stream
+     * Requires Redis 5.0.0
+     *
+     * @param key the key
+     * @param group the group name
+     * @param from the id of the last delivered message, {@code $} to only deliver the new messages, {@code 0} to deliver
+     *        the whole stream
+     * @param args the extra arguments
+     * @return A {@code Uni} emitting {@code null} when the command has been enqueued successfully in the transaction, a failure
+     *         otherwise. In the case of failure, the transaction is discarded.
+     **/
+    Uni<Void> xgroupCreate(K key, String group, String from, XGroupCreateArgs args);
+
+    /**
+     * Execute the command <a href="https://redis.io/commands/xgroup-destroy">XGROUP DESTROY</a>.
+     * Summary: Destroys a consumer group.
+     * Group: stream
+     * Requires Redis 5.0.0
+     *
+     * @param key the key
+     * @param group the group name
+     * @return A {@code Uni} emitting {@code null} when the command has been enqueued successfully in the transaction, a failure
+     *         otherwise. In the case of failure, the transaction is discarded.
+     **/
+    Uni<Void> xgroupDestroy(K key, String group);
+
+    /**
+     * Execute the command <a href="https://redis.io/commands/xreadgroup">XREADGROUP</a>.
+     * Summary: Reads messages from a stream on behalf of a consumer of a consumer group.
+     * Group: stream
+     * Requires Redis 5.0.0
+     *
+     * @param group the group name
+     * @param consumer the consumer name
+     * @param key the key
+     * @param id the id, {@code >} to read the messages never delivered to the other consumers of the group, any other id
+     *        to read the messages pending for this consumer
+     * @return A {@code Uni} emitting {@code null} when the command has been enqueued successfully in the transaction, a failure
+     *         otherwise. In the case of failure, the transaction is discarded.
+     **/
+    Uni<Void> xreadgroup(String group, String consumer, K key, String id);
+
+    /**
+     * Execute the command <a href="https://redis.io/commands/xreadgroup">XREADGROUP</a>.
+     * Summary: Reads messages from a stream on behalf of a consumer of a consumer group.
+     * Group: stream
+     * Requires Redis 5.0.0
+     *
+     * @param group the group name
+     * @param consumer the consumer name
+     * @param key the key
+     * @param id the id, {@code >} to read the messages never delivered to the other consumers of the group, any other id
+     *        to read the messages pending for this consumer
+     * @param args the extra arguments
+     * @return A {@code Uni} emitting {@code null} when the command has been enqueued successfully in the transaction, a failure
+     *         otherwise. In the case of failure, the transaction is discarded.
+     **/
+    Uni<Void> xreadgroup(String group, String consumer, K key, String id, XReadGroupArgs args);
+
+    /**
+     * Execute the command <a href="https://redis.io/commands/xreadgroup">XREADGROUP</a>.
+     * Summary: Reads messages from multiple streams on behalf of a consumer of a consumer group.
+     * Group: stream
+     * Requires Redis 5.0.0
+     *
+     * @param group the group name
+     * @param consumer the consumer name
+     * @param lastIdsPerStream the id to read from, per stream key
+     * @param args the extra arguments
+     * @return A {@code Uni} emitting {@code null} when the command has been enqueued successfully in the transaction, a failure
+     *         otherwise. In the case of failure, the transaction is discarded.
+     **/
+    Uni<Void> xreadgroup(String group, String consumer, Map<K, String> lastIdsPerStream,
+            XReadGroupArgs args);
+
+    /**
+     * Execute the command <a href="https://redis.io/commands/xack">XACK</a>.
+     * Summary: Acknowledges messages, removing them from the pending entries list of the group.
+     * Group: stream
+     * Requires Redis 5.0.0
+     *
+     * @param key the key
+     * @param group the group name
+     * @param ids the message ids
+     * @return A {@code Uni} emitting {@code null} when the command has been enqueued successfully in the transaction, a failure
+     *         otherwise. In the case of failure, the transaction is discarded.
+     **/
+    Uni<Void> xack(K key, String group, String... ids);
+
+    /**
+     * Execute the command <a href="https://redis.io/commands/xautoclaim">XAUTOCLAIM</a>.
+     * Summary: Transfers the ownership of the messages pending for longer than {@code minIdleTime} to the given consumer.
+     * Group: stream
+     * Requires Redis 6.2.0
+     *
+     * @param key the key
+     * @param group the group name
+     * @param consumer the consumer name
+     * @param minIdleTime the min idle time
+     * @param start the id to start scanning the pending entries list from, {@code 0-0} to start from the beginning
+     * @param count the maximum number of messages to claim
+     * @return A {@code Uni} emitting {@code null} when the command has been enqueued successfully in the transaction, a failure
+     *         otherwise. In the case of failure, the transaction is discarded.
+     **/
+    Uni<Void> xautoclaim(K key, String group, String consumer, Duration minIdleTime, String start,
+            int count);
+
+}
@@ -0,0 +1,83 @@
+package io.quarkus.redis.datasource.stream;
+
+import java.time.Duration;
+
+import io.quarkus.redis.runtime.datasource.Validation;
+
+/**
+ * Configures a stream consumer created with {@code consume}.
+ */
+public class StreamConsumerArgs {
+
+    private int batchSize = 100;
+    private Duration block = Duration.ofSeconds(1);
+    private int concurrency = 16;
+    private Duration claimMinIdleTime;
+
+    /**
+     * Sets the maximum number of messages read, and then acknowledged, at once. Defaults to 100.
+     *
+     * @param batchSize the batch size, must be positive
+     * @return the current {@code StreamConsumerArgs}
+     **/
+    public StreamConsumerArgs batchSize(int batchSize) {
+        Validation.positive(batchSize, "batchSize");
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Sets how long a read waits for new messages. Defaults to 1 second. It also bounds the time needed to stop the
+     * consumer, and must be lower than the timeout of the blocking data source.
+     *
+     * @param block the duration, must be positive
+     * @return the current {@code StreamConsumerArgs}
+     **/
+    public StreamConsumerArgs block(Duration block) {
+        Validation.positive(block.toMillis(), "block");
+        this.block = block;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of messages processed concurrently. Defaults to 16.
+     *
+     * @param concurrency the concurrency, must be positive
+     * @return the current {@code StreamConsumerArgs}
+     **/
+    public StreamConsumerArgs concurrency(int concurrency) {
+        Validation.positive(concurrency, "concurrency");
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * Enables the redelivery of the messages that were not acknowledged, because their processing failed or because their
+     * consumer died: before each read, the messages pending for longer than {@code minIdleTime} are claimed with
+     * {@code XAUTOCLAIM} and processed again. Disabled by default, unless an ordering key is used, in which case it
+     * defaults to 30 seconds.
+     *
+     * @param minIdleTime the min idle time
+     * @return the current {@code StreamConsumerArgs}
+     **/
+    public StreamConsumerArgs claimMinIdleTime(Duration minIdleTime) {
+        this.claimMinIdleTime = minIdleTime;
+        return this;
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
+    public Duration block() {
+        return block;
+    }
+
+    public int concurrency() {
+        return concurrency;
+    }
+
+    public Duration claimMinIdleTime() {
+        return claimMinIdleTime;
+    }
+}
@@ -0,0 +1,60 @@
+package io.quarkus.redis.datasource.stream;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A message read from a stream: the stream key, the message id and the message payload.
+ *
+ * @param <K> the type of the key
+ * @param <F> the type of the fields of the payload
+ * @param <V> the type of the values of the payload
+ */
+public class StreamMessage<K, F, V> {
+
+    public final K key;
+    public final String id;
+    public final Map<F, V> payload;
+
+    public StreamMessage(K key, String id, Map<F, V> payload) {
+        this.key = key;
+        this.id = id;
+        this.payload = payload;
+    }
+
+    public K key() {
+        return key;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public Map<F, V> payload() {
+        return payload;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        StreamMessage<?, ?, ?> that = (StreamMessage<?, ?, ?>) o;
+        return key.equals(that.key) && id.equals(that.id) && Objects.equals(payload, that.payload);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key, id, payload);
+    }
+
+    @Override
+    public String toString() {
+        return "StreamMessage{" +
+                "key=" + key +
+                ", id='" + id + '\'' +
+                ", payload=" + payload +
+                '}';
+    }
+}
@@ -0,0 +1,119 @@
+package io.quarkus.redis.datasource.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.quarkus.redis.datasource.RedisCommandExtraArguments;
+import io.quarkus.redis.runtime.datasource.Validation;
+
+/**
+ * Represents the extra parameter of the <a href="https://redis.io/commands/xadd/">XADD</a> command.
+ */
+public class XAddArgs implements RedisCommandExtraArguments {
+
+    private String id;
+    private long maxlen = -1;
+    private String minid;
+    private boolean nearlyExactTrimming;
+    private boolean nomkstream;
+    private long limit = -1;
+
+    /**
+     * Sets the id of the added message. By default, the id is generated by the server ({@code *}).
+     *
+     * @param id the id, must be greater than the id of the last message of the stream
+     * @return the current {@code XAddArgs}
+     **/
+    public XAddArgs id(String id) {
+        this.id = id;
+        return this;
+    }
+
+    /**
+     * Trims the stream so that it contains at most {@code maxlen} messages.
+     *
+     * @param maxlen the max length of the stream
+     * @return the current {@code XAddArgs}
+     **/
+    public XAddArgs maxlen(long maxlen) {
+        Validation.positiveOrZero(maxlen, "maxlen");
+        this.maxlen = maxlen;
+        return this;
+    }
+
+    /**
+     * Evicts the messages with an id lower than {@code minid}.
+     *
+     * @param minid the min id
+     * @return the current {@code XAddArgs}
+     **/
+    public XAddArgs minid(String minid) {
+        this.minid = minid;
+        return this;
+    }
+
+    /**
+     * Uses the nearly exact trimming ({@code ~}): the stream may contain a few more messages than the threshold, but the
+     * trimming is much more efficient.
+     *
+     * @return the current {@code XAddArgs}
+     **/
+    public XAddArgs nearlyExactTrimming() {
+        this.nearlyExactTrimming = true;
+        return this;
+    }
+
+    /**
+     * Does not create the stream if it does not exist.
+     *
+     * @return the current {@code XAddArgs}
+     **/
+    public XAddArgs nomkstream() {
+        this.nomkstream = true;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of messages evicted by the trimming. Requires the nearly exact trimming.
+     *
+     * @param limit the limit
+     * @return the current {@code XAddArgs}
+     **/
+    public XAddArgs limit(long limit) {
+        Validation.positive(limit, "limit");
+        this.limit = limit;
+        return this;
+    }
+
+    @Override
+    public List<String> toArgs() {
+        if (maxlen >= 0 && minid != null) {
+            throw new IllegalArgumentException("Cannot use MAXLEN and MINID together");
+        }
+        if (limit > 0 && !nearlyExactTrimming) {
+            throw new IllegalArgumentException("LIMIT requires the nearly exact trimming");
+        }
+
+        List<String> args = new ArrayList<>();
+        if (nomkstream) {
+            args.add("NOMKSTREAM");
+        }
+        if (maxlen >= 0 || minid != null) {
+            if (maxlen >= 0) {
+                args.add("MAXLEN");
+            } else {
+                args.add("MINID");
+            }
+            if (nearlyExactTrimming) {
+                args.add("~");
+            }
+            args.add(maxlen >= 0 ? Long.toString(maxlen) : minid);
+            if (limit > 0) {
+                args.add("LIMIT");
+                args.add(Long.toString(limit));
+            }
+        }
+        args.add(id == null ? "*" : id);
+        return args;
+    }
+}
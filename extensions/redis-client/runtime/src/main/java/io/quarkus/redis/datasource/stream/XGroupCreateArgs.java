@@ -0,0 +1,33 @@
+package io.quarkus.redis.datasource.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.quarkus.redis.datasource.RedisCommandExtraArguments;
+
+/**
+ * Represents the extra parameter of the <a href="https://redis.io/commands/xgroup-create/">XGROUP CREATE</a> command.
+ */
+public class XGroupCreateArgs implements RedisCommandExtraArguments {
+
+    private boolean mkstream;
+
+    /**
+     * Creates the stream if it does not exist.
+     *
+     * @return the current {@code XGroupCreateArgs}
+     **/
+    public XGroupCreateArgs mkstream() {
+        this.mkstream = true;
+        return this;
+    }
+
+    @Override
+    public List<String> toArgs() {
+        List<String> args = new ArrayList<>();
+        if (mkstream) {
+            args.add("MKSTREAM");
+        }
+        return args;
+    }
+}
@@ -0,0 +1,68 @@
+package io.quarkus.redis.datasource.stream;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.quarkus.redis.datasource.RedisCommandExtraArguments;
+import io.quarkus.redis.runtime.datasource.Validation;
+
+/**
+ * Represents the extra parameter of the <a href="https://redis.io/commands/xreadgroup/">XREADGROUP</a> command.
+ */
+public class XReadGroupArgs implements RedisCommandExtraArguments {
+
+    private int count;
+    private Duration block;
+    private boolean noack;
+
+    /**
+     * Sets the maximum number of messages returned per stream.
+     *
+     * @param count the count, must be positive
+     * @return the current {@code XReadGroupArgs}
+     **/
+    public XReadGroupArgs count(int count) {
+        Validation.positive(count, "count");
+        this.count = count;
+        return this;
+    }
+
+    /**
+     * Waits up to the given duration for new messages if none is available.
+     *
+     * @param block the duration, {@link Duration#ZERO} to wait forever
+     * @return the current {@code XReadGroupArgs}
+     **/
+    public XReadGroupArgs block(Duration block) {
+        this.block = block;
+        return this;
+    }
+
+    /**
+     * Does not add the read messages to the pending entries list, the messages are acknowledged when read.
+     *
+     * @return the current {@code XReadGroupArgs}
+     **/
+    public XReadGroupArgs noack() {
+        this.noack = true;
+        return this;
+    }
+
+    @Override
+    public List<String> toArgs() {
+        List<String> args = new ArrayList<>();
+        if (count > 0) {
+            args.add("COUNT");
+            args.add(Integer.toString(count));
+        }
+        if (block != null) {
+            args.add("BLOCK");
+            args.add(Long.toString(block.toMillis()));
+        }
+        if (noack) {
+            args.add("NOACK");
+        }
+        return args;
+    }
+}
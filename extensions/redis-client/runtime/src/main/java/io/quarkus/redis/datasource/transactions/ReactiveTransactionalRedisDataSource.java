@@ -8,6 +8,7 @@
 import io.quarkus.redis.datasource.list.ReactiveTransactionalListCommands;
 import io.quarkus.redis.datasource.set.ReactiveTransactionalSetCommands;
 import io.quarkus.redis.datasource.sortedset.ReactiveTransactionalSortedSetCommands;
+import io.quarkus.redis.datasource.stream.ReactiveTransactionalStreamCommands;
 import io.quarkus.redis.datasource.string.ReactiveTransactionalStringCommands;
 import io.smallrye.mutiny.Uni;
 import io.vertx.mutiny.redis.client.Command;
@@ -234,6 +235,33 @@ default ReactiveTransactionalBitMapCommands<String> bitmap() {
         return bitmap(String.class);
     }
 
+    /**
+     * Gets the object to execute commands manipulating streams.
+     *
+     * @param redisKeyType the type of the keys
+     * @param fieldType the type of the fields of the messages
+     * @param valueType the type of the values of the messages
+     * @param <K> the type of the key
+     * @param <F> the type of the fields
+     * @param <V> the type of the values
+     * @return the object to manipulate streams.
+     */
+    <K, F, V> ReactiveTransactionalStreamCommands<K, F, V> stream(Class<K> redisKeyType, Class<F> fieldType,
+            Class<V> valueType);
+
+    /**
+     * Gets the object to execute commands manipulating streams.
+     * <p>
+     * This is a shortcut on {@code stream(String.class, String.class, V)}
+     *
+     * @param valueType the type of the values of the messages
+     * @param <V> the type of the values
+     * @return the object to manipulate streams.
+     */
+    default <V> ReactiveTransactionalStreamCommands<String, String, V> stream(Class<V> valueType) {
+        return stream(String.class, String.class, valueType);
+    }
+
     /**
      * Executes a command.
      * This method is used to execute commands not offered by the API.
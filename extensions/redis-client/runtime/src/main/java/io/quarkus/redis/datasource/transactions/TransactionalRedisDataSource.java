@@ -8,6 +8,7 @@
 import io.quarkus.redis.datasource.list.TransactionalListCommands;
 import io.quarkus.redis.datasource.set.TransactionalSetCommands;
 import io.quarkus.redis.datasource.sortedset.TransactionalSortedSetCommands;
+import io.quarkus.redis.datasource.stream.TransactionalStreamCommands;
 import io.quarkus.redis.datasource.string.TransactionalStringCommands;
 import io.vertx.mutiny.redis.client.Command;
 
@@ -232,6 +233,32 @@ default TransactionalBitMapCommands<String> bitmap() {
         return bitmap(String.class);
     }
 
+    /**
+     * Gets the object to execute commands manipulating streams.
+     *
+     * @param redisKeyType the type of the keys
+     * @param fieldType the type of the fields of the messages
+     * @param valueType the type of the values of the messages
+     * @param <K> the type of the key
+     * @param <F> the type of the fields
+     * @param <V> the type of the values
+     * @return the object to manipulate streams.
+     */
+    <K, F, V> TransactionalStreamCommands<K, F, V> stream(Class<K> redisKeyType, Class<F> fieldType, Class<V> valueType);
+
+    /**
+     * Gets the object to execute commands manipulating streams.
+     * <p>
+     * This is a shortcut on {@code stream(String.class, String.class, V)}
+     *
+     * @param valueType the type of the values of the messages
+     * @param <V> the type of the values
+     * @return the object to manipulate streams.
+     */
+    default <V> TransactionalStreamCommands<String, String, V> stream(Class<V> valueType) {
+        return stream(String.class, String.class, valueType);
+    }
+
     /**
      * Executes a command.
      * This method is used to execute commands not offered by the API.
@@ -4,23 +4,29 @@
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import io.quarkus.redis.client.RedisClient;
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
 import io.quarkus.redis.datasource.ReactiveRedisDataSource;
 import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.runtime.client.config.ClientSideCachingConfig;
 import io.quarkus.redis.runtime.client.config.RedisClientConfig;
 import io.quarkus.redis.runtime.client.config.RedisConfig;
 import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
 import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.RedisClientSideCache;
+import io.quarkus.redis.runtime.datasource.RedisCommandBatcher;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.vertx.mutiny.core.Vertx;
 import io.vertx.mutiny.redis.client.Redis;
 import io.vertx.mutiny.redis.client.RedisAPI;
@@ -34,6 +40,7 @@ public class RedisClientRecorder {
     private final Map<String, RedisClientAndApi> clients = new HashMap<>();
 
     private final Map<String, ReactiveRedisDataSourceImpl> dataSources = new HashMap<>();
+    private final Map<String, RedisClientSideCache> clientSideCaches = new HashMap<>();
 
     public RedisClientRecorder(RedisConfig rc) {
         this.config = rc;
@@ -129,12 +136,71 @@ public ReactiveRedisDataSource get() {
                     RedisClientAndApi redisClientAndApi = clients.get(name);
                     Redis redis = redisClientAndApi.redis;
                     RedisAPI api = redisClientAndApi.api;
-                    return new ReactiveRedisDataSourceImpl(redis, api);
+                    Optional<RedisClientConfig> clientConfig = getConfigForName(config, name);
+                    RedisCommandBatcher batcher = null;
+                    if (clientConfig.isPresent() && clientConfig.get().autoBatchingWindow.isPresent()) {
+                        batcher = new RedisCommandBatcher(redis,
+                                clientConfig.get().autoBatchingWindow.get().toMillis(),
+                                clientConfig.get().autoBatchingMaxSize);
+                    }
+                    return new ReactiveRedisDataSourceImpl(redis, api, batcher, getClientSideCache(name));
                 });
             }
         };
     }
 
+    /**
+     * Returns the client-side cache of the given client, or {@code null} if client-side caching is not enabled.
+     */
+    private RedisClientSideCache getClientSideCache(String name) {
+        Optional<RedisClientConfig> clientConfig = getConfigForName(config, name);
+        if (clientConfig.isEmpty() || !clientConfig.get().clientSideCaching.enabled) {
+            return null;
+        }
+        return clientSideCaches.computeIfAbsent(name, k -> {
+            RedisClientConfig actualConfig = clientConfig.get();
+            if (!actualConfig.protocolNegotiation) {
+                throw new ConfigurationException("The client-side caching of the Redis client `" + name
+                        + "` requires the RESP3 protocol, `protocol-negotiation` must not be disabled");
+            }
+            ClientSideCachingConfig cachingConfig = actualConfig.clientSideCaching;
+            return new RedisClientSideCache(clients.get(name).redis, cachingConfig.maxSize,
+                    cachingConfig.mode == ClientSideCachingConfig.TrackingMode.BROADCAST,
+                    cachingConfig.prefixes.orElse(List.of()));
+        });
+    }
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerClientSideCacheMetrics(String name) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                RedisClientSideCache cache = getClientSideCache(name);
+                if (cache == null) {
+                    return;
+                }
+                metricsFactory.builder("redis.client.cache.requests")
+                        .description("Number of cacheable commands served from the client-side cache.")
+                        .tag("client", name)
+                        .tag("result", "hit")
+                        .buildCounter(cache::getHits);
+                metricsFactory.builder("redis.client.cache.requests")
+                        .description("Number of cacheable commands sent to the Redis server.")
+                        .tag("client", name)
+                        .tag("result", "miss")
+                        .buildCounter(cache::getMisses);
+                metricsFactory.builder("redis.client.cache.invalidations")
+                        .description("Number of invalidation messages received from the Redis server.")
+                        .tag("client", name)
+                        .buildCounter(cache::getInvalidations);
+                metricsFactory.builder("redis.client.cache.size")
+                        .description("Number of responses held by the client-side cache.")
+                        .tag("client", name)
+                        .buildGauge(cache::getSize);
+            }
+        };
+    }
+
     public Supplier<RedisDataSource> getBlockingDataSource(String name) {
         return new Supplier<RedisDataSource>() {
             @Override
@@ -0,0 +1,56 @@
+package io.quarkus.redis.runtime.client.config;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+@ConfigGroup
+public class ClientSideCachingConfig {
+
+    /**
+     * Whether the data source caches the responses of the {@code GET} and {@code HGET} commands locally. The cached responses
+     * are invalidated by the Redis server using the {@code CLIENT TRACKING} invalidation messages, which requires the RESP3
+     * protocol (Redis 6+) and the protocol negotiation to be enabled.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The maximum number of responses kept in the local cache. The least recently used keys are evicted first.
+     */
+    @ConfigItem(defaultValue = "10000")
+    public int maxSize;
+
+    /**
+     * The tracking mode. In the {@code default} mode, the server remembers the keys read by the client and only sends
+     * invalidation messages for these keys. In the {@code broadcast} mode, the server does not remember anything and sends
+     * invalidation messages for every modified key matching the configured prefixes.
+     */
+    @ConfigItem(defaultValue = "default")
+    public TrackingMode mode;
+
+    /**
+     * The key prefixes for which the invalidation messages are sent in the {@code broadcast} mode. Only the keys matching
+     * these prefixes are cached. All the keys are tracked if not set.
+     */
+    @ConfigItem
+    public Optional<List<String>> prefixes;
+
+    public enum TrackingMode {
+        DEFAULT,
+        BROADCAST
+    }
+
+    @Override
+    public String toString() {
+        return "ClientSideCachingConfig{" +
+                "enabled=" + enabled +
+                ", maxSize=" + maxSize +
+                ", mode=" + mode +
+                ", prefixes=" + prefixes +
+                '}';
+    }
+}
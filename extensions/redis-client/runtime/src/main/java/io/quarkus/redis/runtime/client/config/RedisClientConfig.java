@@ -122,6 +122,22 @@ public class RedisClientConfig {
     @ConfigItem(defaultValue = "32")
     public int maxNestedArrays;
 
+    /**
+     * Enables the automatic batching of the data source commands. The commands executed from the same event loop during this
+     * time window are sent to the Redis server with a single write. A value of {@code 0} accumulates the commands executed
+     * during the current event loop task only. Commands executed from worker threads, on a single connection or in a
+     * transaction are never batched. If a batch fails, all its commands fail.
+     */
+    @ConfigItem
+    public Optional<Duration> autoBatchingWindow;
+
+    /**
+     * The maximum number of commands sent in a single batch when the automatic batching is enabled. A batch is sent as soon as
+     * it reaches this size.
+     */
+    @ConfigItem(defaultValue = "128")
+    public int autoBatchingMaxSize;
+
     /**
      * The number of reconnection attempts when a pooled connection cannot be established on first try.
      */
@@ -140,6 +156,13 @@ public class RedisClientConfig {
     @ConfigItem(defaultValue = "true")
     public boolean protocolNegotiation;
 
+    /**
+     * Client-side caching config.
+     */
+    @ConfigItem
+    @ConfigDocSection
+    public ClientSideCachingConfig clientSideCaching;
+
     /**
      * TCP config.
      */
@@ -171,9 +194,12 @@ public String toString() {
                 ", poolRecycleTimeout=" + poolRecycleTimeout +
                 ", maxWaitingHandlers=" + maxWaitingHandlers +
                 ", maxNestedArrays=" + maxNestedArrays +
+                ", autoBatchingWindow=" + autoBatchingWindow +
+                ", autoBatchingMaxSize=" + autoBatchingMaxSize +
                 ", reconnectAttempts=" + reconnectAttempts +
                 ", reconnectInterval=" + reconnectInterval +
                 ", protocolNegotiation=" + protocolNegotiation +
+                ", clientSideCaching=" + clientSideCaching +
                 ", tcp=" + tcp +
                 ", tls=" + tls +
                 '}';
@@ -47,7 +47,9 @@ Uni<Response> _hexists(K key, F field) {
     Uni<Response> _hget(K key, F field) {
         nonNull(key, "key");
         nonNull(field, "field");
-        return execute(RedisCommand.of(Command.HGET).put(marshaller.encode(key)).put(marshaller.encode(field)));
+        byte[] encodedKey = marshaller.encode(key);
+        byte[] encodedField = marshaller.encode(field);
+        return executeCacheable(RedisCommand.of(Command.HGET).put(encodedKey).put(encodedField), encodedKey, encodedField);
     }
 
     Uni<Response> _hincrby(K key, F field, long amount) {
@@ -101,7 +103,7 @@ Uni<Response> _hmset(K key, Map<F, V> map) {
         cmd.put(marshaller.encode(key));
         for (Map.Entry<F, V> entry : map.entrySet()) {
             cmd.put(marshaller.encode(entry.getKey()));
-            cmd.putNullable(marshaller.encode(entry.getValue()));
+            cmd.putNullable(marshaller.encodeToBuffer(entry.getValue()));
         }
         return execute(cmd);
     }
@@ -129,7 +131,7 @@ Uni<Response> _hset(K key, F field, V value) {
         return execute(RedisCommand.of(Command.HSET)
                 .put(marshaller.encode(key))
                 .put(marshaller.encode(field))
-                .put(marshaller.encode(value)));
+                .put(marshaller.encodeToBuffer(value)));
     }
 
     Uni<Response> _hset(K key, Map<F, V> map) {
@@ -143,7 +145,7 @@ Uni<Response> _hset(K key, Map<F, V> map) {
         for (Map.Entry<F, V> entry : map.entrySet()) {
             cmd
                     .put(marshaller.encode(entry.getKey()))
-                    .put(marshaller.encode(entry.getValue()));
+                    .put(marshaller.encodeToBuffer(entry.getValue()));
         }
         return execute(cmd);
     }
@@ -154,7 +156,7 @@ Uni<Response> _hsetnx(K key, F field, V value) {
         return execute(RedisCommand.of(Command.HSETNX)
                 .put(marshaller.encode(key))
                 .put(marshaller.encode(field))
-                .put(marshaller.encode(value)));
+                .put(marshaller.encodeToBuffer(value)));
     }
 
     Uni<Response> _hstrlen(K key, F field) {
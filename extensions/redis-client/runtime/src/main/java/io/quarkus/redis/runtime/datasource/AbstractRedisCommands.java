@@ -17,4 +17,8 @@ public Uni<Response> execute(RedisCommand cmd) {
         return redis.execute(cmd.toRequest());
     }
 
+    public Uni<Response> executeCacheable(RedisCommand cmd, byte[] key, byte[] field) {
+        return redis.executeCacheable(cmd, key, field);
+    }
+
 }
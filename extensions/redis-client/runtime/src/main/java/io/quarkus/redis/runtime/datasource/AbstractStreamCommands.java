@@ -0,0 +1,181 @@
+package io.quarkus.redis.runtime.datasource;
+
+import static io.quarkus.redis.runtime.datasource.Validation.notNullOrEmpty;
+import static io.quarkus.redis.runtime.datasource.Validation.positive;
+import static io.smallrye.mutiny.helpers.ParameterValidation.doesNotContainNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.quarkus.redis.datasource.stream.ClaimedMessages;
+import io.quarkus.redis.datasource.stream.StreamMessage;
+import io.quarkus.redis.datasource.stream.XAddArgs;
+import io.quarkus.redis.datasource.stream.XGroupCreateArgs;
+import io.quarkus.redis.datasource.stream.XReadGroupArgs;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Response;
+
+class AbstractStreamCommands<K, F, V> extends AbstractRedisCommands {
+
+    public static final Command XAUTOCLAIM = Command.create("xautoclaim");
+
+    protected static final XAddArgs DEFAULT_INSTANCE_XADD = new XAddArgs();
+    protected static final XReadGroupArgs DEFAULT_INSTANCE_XREADGROUP = new XReadGroupArgs();
+
+    protected final Class<K> typeOfKey;
+    protected final Class<F> typeOfField;
+    protected final Class<V> typeOfValue;
+
+    AbstractStreamCommands(RedisCommandExecutor redis, Class<K> k, Class<F> f, Class<V> v) {
+        super(redis, new Marshaller(k, f, v));
+        this.typeOfKey = k;
+        this.typeOfField = f;
+        this.typeOfValue = v;
+    }
+
+    Uni<Response> _xadd(K key, XAddArgs args, Map<F, V> payload) {
+        nonNull(key, "key");
+        nonNull(args, "args");
+        notNullOrEmpty(payload, "payload");
+        RedisCommand cmd = RedisCommand.of(Command.XADD)
+                .put(marshaller.encode(key))
+                .putArgs(args);
+        for (Map.Entry<F, V> entry : payload.entrySet()) {
+            cmd.put(marshaller.encode(entry.getKey()));
+            cmd.putNullable(marshaller.encodeToBuffer(entry.getValue()));
+        }
+        return execute(cmd);
+    }
+
+    Uni<Response> _xlen(K key) {
+        nonNull(key, "key");
+        return execute(RedisCommand.of(Command.XLEN).put(marshaller.encode(key)));
+    }
+
+    Uni<Response> _xgroupCreate(K key, String group, String from, XGroupCreateArgs args) {
+        nonNull(key, "key");
+        nonNull(group, "group");
+        nonNull(from, "from");
+        nonNull(args, "args");
+        return execute(RedisCommand.of(Command.XGROUP).put("CREATE")
+                .put(marshaller.encode(key))
+                .put(group)
+                .put(from)
+                .putArgs(args));
+    }
+
+    Uni<Response> _xgroupDestroy(K key, String group) {
+        nonNull(key, "key");
+        nonNull(group, "group");
+        return execute(RedisCommand.of(Command.XGROUP).put("DESTROY")
+                .put(marshaller.encode(key))
+                .put(group));
+    }
+
+    Uni<Response> _xreadgroup(String group, String consumer, Map<K, String> lastIdsPerStream, XReadGroupArgs args) {
+        nonNull(group, "group");
+        nonNull(consumer, "consumer");
+        notNullOrEmpty(lastIdsPerStream, "lastIdsPerStream");
+        nonNull(args, "args");
+        RedisCommand cmd = RedisCommand.of(Command.XREADGROUP)
+                .put("GROUP").put(group).put(consumer)
+                .putArgs(args)
+                .put("STREAMS");
+        for (K key : lastIdsPerStream.keySet()) {
+            cmd.put(marshaller.encode(key));
+        }
+        for (String id : lastIdsPerStream.values()) {
+            nonNull(id, "id");
+            cmd.put(id);
+        }
+        return execute(cmd);
+    }
+
+    Uni<Response> _xack(K key, String group, String... ids) {
+        nonNull(key, "key");
+        nonNull(group, "group");
+        notNullOrEmpty(ids, "ids");
+        doesNotContainNull(ids, "ids");
+        RedisCommand cmd = RedisCommand.of(Command.XACK)
+                .put(marshaller.encode(key))
+                .put(group);
+        for (String id : ids) {
+            cmd.put(id);
+        }
+        return execute(cmd);
+    }
+
+    Uni<Response> _xautoclaim(K key, String group, String consumer, Duration minIdleTime, String start, int count) {
+        nonNull(key, "key");
+        nonNull(group, "group");
+        nonNull(consumer, "consumer");
+        nonNull(minIdleTime, "minIdleTime");
+        nonNull(start, "start");
+        positive(count, "count");
+        return execute(RedisCommand.of(XAUTOCLAIM)
+                .put(marshaller.encode(key))
+                .put(group)
+                .put(consumer)
+                .put(minIdleTime.toMillis())
+                .put(start)
+                .put("COUNT").put(count));
+    }
+
+    String decodeId(Response r) {
+        if (r == null || r.getDelegate() == null) {
+            return null;
+        }
+        return r.toString();
+    }
+
+    List<StreamMessage<K, F, V>> decodeMessages(Response r) {
+        if (r == null || r.getDelegate() == null) {
+            return Collections.emptyList();
+        }
+        // With RESP3, the messages are returned as a map: stream -> messages
+        Set<String> streams = new LinkedHashSet<>();
+        for (Response member : r) {
+            streams.addAll(member.getKeys());
+        }
+        List<StreamMessage<K, F, V>> messages = new ArrayList<>();
+        for (String stream : streams) {
+            K key = marshaller.decode(typeOfKey, stream.getBytes(StandardCharsets.UTF_8));
+            decodeMessages(key, r.get(stream), messages);
+        }
+        return messages;
+    }
+
+    ClaimedMessages<K, F, V> decodeClaimedMessages(K key, Response r) {
+        List<StreamMessage<K, F, V>> messages = new ArrayList<>();
+        decodeMessages(key, r.get(1), messages);
+        return new ClaimedMessages<>(r.get(0).toString(), messages);
+    }
+
+    private void decodeMessages(K key, Response entries, List<StreamMessage<K, F, V>> messages) {
+        if (entries == null) {
+            return;
+        }
+        for (Response entry : entries) {
+            // Messages deleted from the stream while being pending are returned as null (Redis 6.2) or skipped (Redis 7)
+            if (entry == null || entry.get(1) == null) {
+                continue;
+            }
+            Response fields = entry.get(1);
+            Map<F, V> payload = new LinkedHashMap<>();
+            for (int i = 0; i + 1 < fields.size(); i += 2) {
+                payload.put(marshaller.decode(typeOfField, fields.get(i)),
+                        marshaller.decode(typeOfValue, fields.get(i + 1)));
+            }
+            messages.add(new StreamMessage<>(key, entry.get(0).toString(), payload));
+        }
+    }
+}
@@ -30,7 +30,7 @@ Uni<Response> _set(K key, V value) {
         nonNull(value, "value");
         RedisCommand cmd = RedisCommand.of(Command.SET)
                 .put(marshaller.encode(key))
-                .put(marshaller.encode(value));
+                .put(marshaller.encodeToBuffer(value));
         return execute(cmd);
     }
 
@@ -40,7 +40,7 @@ Uni<Response> _set(K key, V value, SetArgs setArgs) {
         nonNull(setArgs, "setArgs");
         RedisCommand cmd = RedisCommand.of(Command.SET);
         cmd.put(marshaller.encode(key));
-        cmd.put(marshaller.encode(value));
+        cmd.put(marshaller.encodeToBuffer(value));
         cmd.putArgs(setArgs);
         return execute(cmd);
     }
@@ -50,7 +50,7 @@ Uni<Response> _setGet(K key, V value) {
         nonNull(value, "value");
         RedisCommand cmd = RedisCommand.of(Command.SET);
         cmd.put(marshaller.encode(key));
-        cmd.put(marshaller.encode(value));
+        cmd.put(marshaller.encodeToBuffer(value));
         cmd.putArgs(new SetArgs().get());
         return execute(cmd);
     }
@@ -65,7 +65,7 @@ Uni<Response> _setGet(K key, V value, SetArgs setArgs) {
         nonNull(setArgs, "setArgs");
         RedisCommand cmd = RedisCommand.of(Command.SET);
         cmd.put(marshaller.encode(key));
-        cmd.put(marshaller.encode(value));
+        cmd.put(marshaller.encodeToBuffer(value));
         cmd.putArgs(setArgs.get());
         return execute(cmd);
     }
@@ -77,7 +77,7 @@ Uni<Response> _setex(K key, long seconds, V value) {
         return execute(RedisCommand.of(Command.SETEX)
                 .put(marshaller.encode(key))
                 .put(seconds)
-                .put(marshaller.encode(value)));
+                .put(marshaller.encodeToBuffer(value)));
     }
 
     Uni<Response> _psetex(K key, long milliseconds, V value) {
@@ -87,7 +87,7 @@ Uni<Response> _psetex(K key, long milliseconds, V value) {
         return execute(RedisCommand.of(Command.PSETEX)
                 .put(marshaller.encode(key))
                 .put(milliseconds)
-                .put(marshaller.encode(value)));
+                .put(marshaller.encodeToBuffer(value)));
     }
 
     Uni<Response> _setnx(K key, V value) {
@@ -95,7 +95,7 @@ Uni<Response> _setnx(K key, V value) {
         nonNull(value, "value");
         return execute(RedisCommand.of(Command.SETNX)
                 .put(marshaller.encode(key))
-                .put(marshaller.encode(value)));
+                .put(marshaller.encodeToBuffer(value)));
     }
 
     Uni<Response> _setrange(K key, long offset, V value) {
@@ -105,7 +105,7 @@ Uni<Response> _setrange(K key, long offset, V value) {
         return execute(RedisCommand.of(Command.SETRANGE)
                 .put(marshaller.encode(key))
                 .put(offset)
-                .put(marshaller.encode(value)));
+                .put(marshaller.encodeToBuffer(value)));
     }
 
     Uni<Response> _strlen(K key) {
@@ -129,8 +129,9 @@ Uni<Response> _decrby(K key, long amount) {
 
     Uni<Response> _get(K key) {
         nonNull(key, "key");
-        return execute(RedisCommand.of(Command.GET)
-                .put(marshaller.encode(key)));
+        byte[] encodedKey = marshaller.encode(key);
+        return executeCacheable(RedisCommand.of(Command.GET)
+                .put(encodedKey), encodedKey, null);
     }
 
     Uni<Response> _getdel(K key) {
@@ -162,7 +163,7 @@ Uni<Response> _getset(K key, V value) {
         nonNull(value, "value");
         return execute(RedisCommand.of(Command.GETSET)
                 .put(marshaller.encode(key))
-                .put(marshaller.encode(value)));
+                .put(marshaller.encodeToBuffer(value)));
     }
 
     Uni<Response> _incr(K key) {
@@ -186,7 +187,7 @@ Uni<Response> _incrbyfloat(K key, double amount) {
     Uni<Response> _append(K key, V value) {
         nonNull(key, "key");
         return execute(RedisCommand.of(Command.APPEND)
-                .put(marshaller.encode(key)).put(marshaller.encode(value)));
+                .put(marshaller.encode(key)).put(marshaller.encodeToBuffer(value)));
     }
 
     Uni<Response> _mget(K... keys) {
@@ -204,7 +205,7 @@ Uni<Response> _mset(Map<K, V> map) {
         notNullOrEmpty(map, "map");
         RedisCommand cmd = RedisCommand.of(Command.MSET);
         for (Map.Entry<K, V> entry : map.entrySet()) {
-            cmd.put(marshaller.encode(entry.getKey())).put(marshaller.encode(entry.getValue()));
+            cmd.put(marshaller.encode(entry.getKey())).put(marshaller.encodeToBuffer(entry.getValue()));
         }
         return execute(cmd);
     }
@@ -213,7 +214,7 @@ Uni<Response> _msetnx(Map<K, V> map) {
         notNullOrEmpty(map, "map");
         RedisCommand cmd = RedisCommand.of(Command.MSETNX);
         for (Map.Entry<K, V> entry : map.entrySet()) {
-            cmd.put(marshaller.encode(entry.getKey())).put(marshaller.encode(entry.getValue()));
+            cmd.put(marshaller.encode(entry.getKey())).put(marshaller.encodeToBuffer(entry.getValue()));
         }
         return execute(cmd);
     }
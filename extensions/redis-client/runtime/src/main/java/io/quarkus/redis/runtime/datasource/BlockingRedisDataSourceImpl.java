@@ -1,5 +1,6 @@
 package io.quarkus.redis.runtime.datasource;
 
+import static io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl.toPipelineResult;
 import static io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl.toTransactionResult;
 
 import java.time.Duration;
@@ -16,6 +17,7 @@
 import io.quarkus.redis.datasource.pubsub.PubSubCommands;
 import io.quarkus.redis.datasource.set.SetCommands;
 import io.quarkus.redis.datasource.sortedset.SortedSetCommands;
+import io.quarkus.redis.datasource.stream.StreamCommands;
 import io.quarkus.redis.datasource.string.StringCommands;
 import io.quarkus.redis.datasource.transactions.TransactionResult;
 import io.quarkus.redis.datasource.transactions.TransactionalRedisDataSource;
@@ -98,6 +100,19 @@ public TransactionResult withTransaction(Consumer<TransactionalRedisDataSource>
         }
     }
 
+    @Override
+    public TransactionResult withPipeline(Consumer<TransactionalRedisDataSource> ds) {
+        ReactivePipelinedRedisDataSourceImpl pipeline = new ReactivePipelinedRedisDataSourceImpl(reactive.redis, connection);
+        TransactionHolder th = new TransactionHolder();
+        BlockingTransactionalRedisDataSourceImpl source = new BlockingTransactionalRedisDataSourceImpl(
+                new ReactiveTransactionalRedisDataSourceImpl(pipeline, th), timeout);
+        ds.accept(source);
+        if (source.discarded()) {
+            return toTransactionResult(null, th);
+        }
+        return toPipelineResult(pipeline.flush().await().atMost(timeout), th);
+    }
+
     @Override
     public void withConnection(Consumer<RedisDataSource> consumer) {
         if (connection != null) {
@@ -174,6 +189,11 @@ public <K> BitMapCommands<K> bitmap(Class<K> redisKeyType) {
         return new BlockingBitmapCommandsImpl<>(reactive.bitmap(redisKeyType), timeout);
     }
 
+    @Override
+    public <K1, F, V1> StreamCommands<K1, F, V1> stream(Class<K1> redisKeyType, Class<F> fieldType, Class<V1> valueType) {
+        return new BlockingStreamCommandsImpl<>(reactive.stream(redisKeyType, fieldType, valueType), timeout);
+    }
+
     @Override
     public <V> PubSubCommands<V> pubsub(Class<V> messageType) {
         return new BlockingPubSubCommandsImpl<>(reactive.pubsub(messageType), timeout);
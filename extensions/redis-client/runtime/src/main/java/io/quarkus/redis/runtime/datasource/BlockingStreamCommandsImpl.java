@@ -0,0 +1,133 @@
+package io.quarkus.redis.runtime.datasource;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.quarkus.redis.datasource.stream.ClaimedMessages;
+import io.quarkus.redis.datasource.stream.ReactiveStreamCommands;
+import io.quarkus.redis.datasource.stream.StreamCommands;
+import io.quarkus.redis.datasource.stream.StreamConsumerArgs;
+import io.quarkus.redis.datasource.stream.StreamMessage;
+import io.quarkus.redis.datasource.stream.XAddArgs;
+import io.quarkus.redis.datasource.stream.XGroupCreateArgs;
+import io.quarkus.redis.datasource.stream.XReadGroupArgs;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+public class BlockingStreamCommandsImpl<K, F, V> implements StreamCommands<K, F, V> {
+
+    private final ReactiveStreamCommands<K, F, V> reactive;
+    private final Duration timeout;
+
+    public BlockingStreamCommandsImpl(ReactiveStreamCommands<K, F, V> reactive, Duration timeout) {
+        this.reactive = reactive;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public String xadd(K key, Map<F, V> payload) {
+        return reactive.xadd(key, payload)
+                .await().atMost(timeout);
+    }
+
+    @Override
+    public String xadd(K key, XAddArgs args, Map<F, V> payload) {
+        return reactive.xadd(key, args, payload)
+                .await().atMost(timeout);
+    }
+
+    @Override
+    public long xlen(K key) {
+        return reactive.xlen(key)
+                .await().atMost(timeout);
+    }
+
+    @Override
+    public void xgroupCreate(K key, String group, String from) {
+        reactive.xgroupCreate(key, group, from)
+                .await().atMost(timeout);
+    }
+
+    @Override
+    public void xgroupCreate(K key, String group, String from, XGroupCreateArgs args) {
+        reactive.xgroupCreate(key, group, from, args)
+                .await().atMost(timeout);
+    }
+
+    @Override
+    public boolean xgroupDestroy(K key, String group) {
+        return reactive.xgroupDestroy(key, group)
+                .await().atMost(timeout);
+    }
+
+    @Override
+    public List<StreamMessage<K, F, V>> xreadgroup(String group, String consumer, K key, String id) {
+        return reactive.xreadgroup(group, consumer, key, id)
+                .await().atMost(timeout);
+    }
+
+    @Override
+    public List<StreamMessage<K, F, V>> xreadgroup(String group, String consumer, K key, String id, XReadGroupArgs args) {
+        return reactive.xreadgroup(group, consumer, key, id, args)
+                .await().atMost(timeout);
+    }
+
+    @Override
+    public List<StreamMessage<K, F, V>> xreadgroup(String group, String consumer, Map<K, String> lastIdsPerStream,
+            XReadGroupArgs args) {
+        return reactive.xreadgroup(group, consumer, lastIdsPerStream, args)
+                .await().atMost(timeout);
+    }
+
+    @Override
+    public int xack(K key, String group, String... ids) {
+        return reactive.xack(key, group, ids)
+                .await().atMost(timeout);
+    }
+
+    @Override
+    public ClaimedMessages<K, F, V> xautoclaim(K key, String group, String consumer, Duration minIdleTime, String start,
+            int count) {
+        return reactive.xautoclaim(key, group, consumer, minIdleTime, start, count)
+                .await().atMost(timeout);
+    }
+
+    @Override
+    public StreamConsumer consume(K key, String group, String consumer, StreamConsumerArgs args,
+            Consumer<StreamMessage<K, F, V>> processor) {
+        return consume(key, group, consumer, args, null, processor);
+    }
+
+    @Override
+    public StreamConsumer consume(K key, String group, String consumer, StreamConsumerArgs args,
+            Function<StreamMessage<K, F, V>, Object> orderingKey, Consumer<StreamMessage<K, F, V>> processor) {
+        nonNull(processor, "processor");
+        // The processor may block, so it is invoked on a worker thread
+        Function<StreamMessage<K, F, V>, Uni<Void>> offloaded = message -> Uni.createFrom().<Void> item(() -> {
+            processor.accept(message);
+            return null;
+        }).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+        return reactive.consume(key, group, consumer, args, orderingKey, offloaded)
+                .map(BlockingStreamConsumer::new)
+                .await().atMost(timeout);
+    }
+
+    private class BlockingStreamConsumer implements StreamConsumer {
+        private final ReactiveStreamCommands.ReactiveStreamConsumer reactiveStreamConsumer;
+
+        public BlockingStreamConsumer(ReactiveStreamCommands.ReactiveStreamConsumer reactiveStreamConsumer) {
+            this.reactiveStreamConsumer = reactiveStreamConsumer;
+        }
+
+        @Override
+        public void stop() {
+            reactiveStreamConsumer.stop()
+                    .await().indefinitely();
+        }
+    }
+}
@@ -10,6 +10,7 @@
 import io.quarkus.redis.datasource.list.TransactionalListCommands;
 import io.quarkus.redis.datasource.set.TransactionalSetCommands;
 import io.quarkus.redis.datasource.sortedset.TransactionalSortedSetCommands;
+import io.quarkus.redis.datasource.stream.TransactionalStreamCommands;
 import io.quarkus.redis.datasource.string.TransactionalStringCommands;
 import io.quarkus.redis.datasource.transactions.ReactiveTransactionalRedisDataSource;
 import io.quarkus.redis.datasource.transactions.TransactionalRedisDataSource;
@@ -81,6 +82,12 @@ public <K> TransactionalBitMapCommands<K> bitmap(Class<K> redisKeyType) {
         return new BlockingTransactionalBitMapCommandsImpl<>(reactive.bitmap(redisKeyType), timeout);
     }
 
+    @Override
+    public <K, F, V> TransactionalStreamCommands<K, F, V> stream(Class<K> redisKeyType, Class<F> fieldType,
+            Class<V> valueType) {
+        return new BlockingTransactionalStreamCommandsImpl<>(reactive.stream(redisKeyType, fieldType, valueType), timeout);
+    }
+
     @Override
     public void execute(String command, String... args) {
         reactive.execute(command, args).await().atMost(timeout);
@@ -0,0 +1,78 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+
+import io.quarkus.redis.datasource.stream.ReactiveTransactionalStreamCommands;
+import io.quarkus.redis.datasource.stream.TransactionalStreamCommands;
+import io.quarkus.redis.datasource.stream.XAddArgs;
+import io.quarkus.redis.datasource.stream.XGroupCreateArgs;
+import io.quarkus.redis.datasource.stream.XReadGroupArgs;
+
+public class BlockingTransactionalStreamCommandsImpl<K, F, V> implements TransactionalStreamCommands<K, F, V> {
+
+    private final ReactiveTransactionalStreamCommands<K, F, V> reactive;
+
+    private final Duration timeout;
+
+    public BlockingTransactionalStreamCommandsImpl(ReactiveTransactionalStreamCommands<K, F, V> reactive,
+            Duration timeout) {
+        this.reactive = reactive;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void xadd(K key, Map<F, V> payload) {
+        this.reactive.xadd(key, payload).await().atMost(this.timeout);
+    }
+
+    @Override
+    public void xadd(K key, XAddArgs args, Map<F, V> payload) {
+        this.reactive.xadd(key, args, payload).await().atMost(this.timeout);
+    }
+
+    @Override
+    public void xlen(K key) {
+        this.reactive.xlen(key).await().atMost(this.timeout);
+    }
+
+    @Override
+    public void xgroupCreate(K key, String group, String from) {
+        this.reactive.xgroupCreate(key, group, from).await().atMost(this.timeout);
+    }
+
+    @Override
+    public void xgroupCreate(K key, String group, String from, XGroupCreateArgs args) {
+        this.reactive.xgroupCreate(key, group, from, args).await().atMost(this.timeout);
+    }
+
+    @Override
+    public void xgroupDestroy(K key, String group) {
+        this.reactive.xgroupDestroy(key, group).await().atMost(this.timeout);
+    }
+
+    @Override
+    public void xreadgroup(String group, String consumer, K key, String id) {
+        this.reactive.xreadgroup(group, consumer, key, id).await().atMost(this.timeout);
+    }
+
+    @Override
+    public void xreadgroup(String group, String consumer, K key, String id, XReadGroupArgs args) {
+        this.reactive.xreadgroup(group, consumer, key, id, args).await().atMost(this.timeout);
+    }
+
+    @Override
+    public void xreadgroup(String group, String consumer, Map<K, String> lastIdsPerStream, XReadGroupArgs args) {
+        this.reactive.xreadgroup(group, consumer, lastIdsPerStream, args).await().atMost(this.timeout);
+    }
+
+    @Override
+    public void xack(K key, String group, String... ids) {
+        this.reactive.xack(key, group, ids).await().atMost(this.timeout);
+    }
+
+    @Override
+    public void xautoclaim(K key, String group, String consumer, Duration minIdleTime, String start, int count) {
+        this.reactive.xautoclaim(key, group, consumer, minIdleTime, start, count).await().atMost(this.timeout);
+    }
+}
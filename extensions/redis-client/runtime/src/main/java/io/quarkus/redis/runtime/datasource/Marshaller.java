@@ -17,7 +17,9 @@
 
 import io.quarkus.redis.datasource.codecs.Codec;
 import io.quarkus.redis.datasource.codecs.Codecs;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
 
 public class Marshaller {
 
@@ -28,6 +30,7 @@ public class Marshaller {
         DEFAULT_CODECS.put(String.class, Codecs.StringCodec.INSTANCE);
         DEFAULT_CODECS.put(Integer.class, Codecs.IntegerCodec.INSTANCE);
         DEFAULT_CODECS.put(Double.class, Codecs.DoubleCodec.INSTANCE);
+        DEFAULT_CODECS.put(Long.class, Codecs.LongCodec.INSTANCE);
     }
 
     Map<Class<?>, Codec<?>> codecs = new HashMap<>();
@@ -57,6 +60,24 @@ public byte[] encode(Object o) {
         }
     }
 
+    /**
+     * Encodes the given object into a buffer, written as is into the request. Used for the values, which may be large,
+     * to avoid the intermediate {@code byte[]} when the codec produces a buffer natively.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public Buffer encodeToBuffer(Object o) {
+        if (o == null) {
+            return null;
+        }
+        Class<?> clazz = o.getClass();
+        Codec codec = codec(clazz);
+        if (codec != null) {
+            return codec.encodeToBuffer(o);
+        } else {
+            throw new IllegalArgumentException("Unable to encode object of type " + clazz);
+        }
+    }
+
     @SafeVarargs
     public final <T> List<byte[]> encode(T... objects) {
         nonNull(objects, "objects");
@@ -76,10 +97,20 @@ Codec<?> codec(Class<?> clazz) {
         return codec;
     }
 
+    @SuppressWarnings("unchecked")
     final <T> T decode(Class<T> clazz, Response r) {
         if (r == null) {
             return null;
         }
+        if (r.type() == ResponseType.BULK) {
+            // Decode from the response buffer, without copying it into a byte[] first
+            io.vertx.mutiny.core.buffer.Buffer buffer = r.toBuffer();
+            if (buffer == null) {
+                return null;
+            }
+            Codec<?> codec = codec(clazz);
+            return (T) codec.decodeFromBuffer(buffer.getDelegate());
+        }
         return decode(clazz, r.toBytes());
     }
 
@@ -0,0 +1,57 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.impl.types.SimpleStringType;
+
+/**
+ * A data source accumulating the executed commands instead of sending them. The accumulated commands are sent with a single
+ * write, without {@code MULTI}/{@code EXEC}, when the pipeline is flushed.
+ * <p>
+ * Each command is acknowledged with a {@code QUEUED} response so that the transactional command groups can be used to
+ * enqueue commands in a pipeline.
+ */
+public class ReactivePipelinedRedisDataSourceImpl extends ReactiveRedisDataSourceImpl {
+
+    private static final Response QUEUED = Response.newInstance(SimpleStringType.create("QUEUED"));
+
+    private final List<Request> requests = new ArrayList<>();
+
+    public ReactivePipelinedRedisDataSourceImpl(Redis redis, RedisConnection connection) {
+        super(redis, connection, null);
+    }
+
+    @Override
+    public Uni<Response> execute(Request request) {
+        synchronized (requests) {
+            requests.add(request);
+        }
+        return Uni.createFrom().item(QUEUED);
+    }
+
+    /**
+     * Sends all the accumulated commands in a single round trip.
+     *
+     * @return the responses, in the order of the commands
+     */
+    public Uni<List<Response>> flush() {
+        List<Request> batch;
+        synchronized (requests) {
+            batch = new ArrayList<>(requests);
+            requests.clear();
+        }
+        if (batch.isEmpty()) {
+            return Uni.createFrom().item(List.of());
+        }
+        if (connection != null) {
+            return connection.batch(batch);
+        }
+        return redis.batch(batch);
+    }
+}
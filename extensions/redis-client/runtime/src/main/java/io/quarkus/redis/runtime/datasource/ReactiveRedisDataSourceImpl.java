@@ -18,6 +18,7 @@
 import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands;
 import io.quarkus.redis.datasource.set.ReactiveSetCommands;
 import io.quarkus.redis.datasource.sortedset.ReactiveSortedSetCommands;
+import io.quarkus.redis.datasource.stream.ReactiveStreamCommands;
 import io.quarkus.redis.datasource.string.ReactiveStringCommands;
 import io.quarkus.redis.datasource.transactions.ReactiveTransactionalRedisDataSource;
 import io.quarkus.redis.datasource.transactions.TransactionResult;
@@ -33,12 +34,27 @@ public class ReactiveRedisDataSourceImpl implements ReactiveRedisDataSource, Red
 
     final Redis redis;
     final RedisConnection connection;
+    // Only set when the automatic batching is enabled, never used on a single connection.
+    final RedisCommandBatcher batcher;
+    // Only set when the client-side caching is enabled, never used on a single connection.
+    final RedisClientSideCache clientSideCache;
 
     public ReactiveRedisDataSourceImpl(Redis redis, RedisAPI api) {
+        this(redis, api, null, null);
+    }
+
+    public ReactiveRedisDataSourceImpl(Redis redis, RedisAPI api, RedisCommandBatcher batcher) {
+        this(redis, api, batcher, null);
+    }
+
+    public ReactiveRedisDataSourceImpl(Redis redis, RedisAPI api, RedisCommandBatcher batcher,
+            RedisClientSideCache clientSideCache) {
         nonNull(redis, "redis");
         nonNull(api, "api");
         this.redis = redis;
         this.connection = null;
+        this.batcher = batcher;
+        this.clientSideCache = clientSideCache;
     }
 
     public ReactiveRedisDataSourceImpl(Redis redis, RedisConnection connection) {
@@ -46,6 +62,16 @@ public ReactiveRedisDataSourceImpl(Redis redis, RedisConnection connection) {
         nonNull(connection, "connection");
         this.redis = redis;
         this.connection = connection;
+        this.batcher = null;
+        this.clientSideCache = null;
+    }
+
+    protected ReactiveRedisDataSourceImpl(Redis redis, RedisConnection connection, RedisCommandBatcher batcher) {
+        nonNull(redis, "redis");
+        this.redis = redis;
+        this.connection = connection;
+        this.batcher = batcher;
+        this.clientSideCache = null;
     }
 
     @Override
@@ -53,9 +79,20 @@ public Uni<Response> execute(Request request) {
         if (connection != null) {
             return connection.send(request);
         }
+        if (batcher != null) {
+            return batcher.execute(request);
+        }
         return redis.send(request);
     }
 
+    @Override
+    public Uni<Response> executeCacheable(RedisCommand cmd, byte[] key, byte[] field) {
+        if (clientSideCache != null) {
+            return clientSideCache.execute(cmd.toRequest(), key, field);
+        }
+        return execute(cmd.toRequest());
+    }
+
     @Override
     public Uni<TransactionResult> withTransaction(Function<ReactiveTransactionalRedisDataSource, Uni<Void>> function) {
         nonNull(function, "function");
@@ -108,6 +145,25 @@ public Uni<TransactionResult> withTransaction(Function<ReactiveTransactionalRedi
                 });
     }
 
+    @Override
+    public Uni<TransactionResult> withPipeline(Function<ReactiveTransactionalRedisDataSource, Uni<Void>> function) {
+        nonNull(function, "function");
+        ReactivePipelinedRedisDataSourceImpl pipeline = new ReactivePipelinedRedisDataSourceImpl(redis, connection);
+        TransactionHolder th = new TransactionHolder();
+        return function.apply(new ReactiveTransactionalRedisDataSourceImpl(pipeline, th))
+                .chain(ignored -> {
+                    if (th.discarded()) {
+                        return Uni.createFrom().item(TransactionResultImpl.DISCARDED);
+                    }
+                    return pipeline.flush()
+                            .map(responses -> toPipelineResult(responses, th));
+                });
+    }
+
+    public static TransactionResult toPipelineResult(List<Response> responses, TransactionHolder th) {
+        return new TransactionResultImpl(false, th.map(responses));
+    }
+
     public static TransactionResult toTransactionResult(Response response, TransactionHolder th) {
         if (response == null) {
             // Discarded
@@ -212,6 +268,11 @@ public <K> ReactiveBitMapCommands<K> bitmap(Class<K> redisKeyType) {
         return new ReactiveBitMapCommandsImpl<>(this, redisKeyType);
     }
 
+    @Override
+    public <K, F, V> ReactiveStreamCommands<K, F, V> stream(Class<K> redisKeyType, Class<F> fieldType, Class<V> valueType) {
+        return new ReactiveStreamCommandsImpl<>(this, redisKeyType, fieldType, valueType);
+    }
+
     @Override
     public <V> ReactivePubSubCommands<V> pubsub(Class<V> messageType) {
         return new ReactivePubSubCommandsImpl<>(this, messageType);
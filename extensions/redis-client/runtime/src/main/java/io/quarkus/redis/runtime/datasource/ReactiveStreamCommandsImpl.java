@@ -0,0 +1,120 @@
+package io.quarkus.redis.runtime.datasource;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import io.quarkus.redis.datasource.stream.ClaimedMessages;
+import io.quarkus.redis.datasource.stream.ReactiveStreamCommands;
+import io.quarkus.redis.datasource.stream.StreamConsumerArgs;
+import io.quarkus.redis.datasource.stream.StreamMessage;
+import io.quarkus.redis.datasource.stream.XAddArgs;
+import io.quarkus.redis.datasource.stream.XGroupCreateArgs;
+import io.quarkus.redis.datasource.stream.XReadGroupArgs;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Response;
+
+public class ReactiveStreamCommandsImpl<K, F, V> extends AbstractStreamCommands<K, F, V>
+        implements ReactiveStreamCommands<K, F, V> {
+
+    public ReactiveStreamCommandsImpl(RedisCommandExecutor redis, Class<K> k, Class<F> f, Class<V> v) {
+        super(redis, k, f, v);
+    }
+
+    @Override
+    public Uni<String> xadd(K key, Map<F, V> payload) {
+        return xadd(key, DEFAULT_INSTANCE_XADD, payload);
+    }
+
+    @Override
+    public Uni<String> xadd(K key, XAddArgs args, Map<F, V> payload) {
+        return super._xadd(key, args, payload)
+                .map(this::decodeId);
+    }
+
+    @Override
+    public Uni<Long> xlen(K key) {
+        return super._xlen(key)
+                .map(Response::toLong);
+    }
+
+    @Override
+    public Uni<Void> xgroupCreate(K key, String group, String from) {
+        return xgroupCreate(key, group, from, new XGroupCreateArgs());
+    }
+
+    @Override
+    public Uni<Void> xgroupCreate(K key, String group, String from, XGroupCreateArgs args) {
+        return super._xgroupCreate(key, group, from, args)
+                .replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Boolean> xgroupDestroy(K key, String group) {
+        return super._xgroupDestroy(key, group)
+                .map(Response::toBoolean);
+    }
+
+    @Override
+    public Uni<List<StreamMessage<K, F, V>>> xreadgroup(String group, String consumer, K key, String id) {
+        return xreadgroup(group, consumer, key, id, DEFAULT_INSTANCE_XREADGROUP);
+    }
+
+    @Override
+    public Uni<List<StreamMessage<K, F, V>>> xreadgroup(String group, String consumer, K key, String id,
+            XReadGroupArgs args) {
+        nonNull(key, "key");
+        nonNull(id, "id");
+        return xreadgroup(group, consumer, Map.of(key, id), args);
+    }
+
+    @Override
+    public Uni<List<StreamMessage<K, F, V>>> xreadgroup(String group, String consumer, Map<K, String> lastIdsPerStream,
+            XReadGroupArgs args) {
+        return super._xreadgroup(group, consumer, lastIdsPerStream, args)
+                .map(this::decodeMessages);
+    }
+
+    @Override
+    public Uni<Integer> xack(K key, String group, String... ids) {
+        return super._xack(key, group, ids)
+                .map(Response::toInteger);
+    }
+
+    @Override
+    public Uni<ClaimedMessages<K, F, V>> xautoclaim(K key, String group, String consumer, Duration minIdleTime,
+            String start, int count) {
+        return super._xautoclaim(key, group, consumer, minIdleTime, start, count)
+                .map(r -> decodeClaimedMessages(key, r));
+    }
+
+    @Override
+    public Uni<ReactiveStreamConsumer> consume(K key, String group, String consumer, StreamConsumerArgs args,
+            Function<StreamMessage<K, F, V>, Uni<Void>> processor) {
+        return consume(key, group, consumer, args, null, processor);
+    }
+
+    @Override
+    public Uni<ReactiveStreamConsumer> consume(K key, String group, String consumer, StreamConsumerArgs args,
+            Function<StreamMessage<K, F, V>, Object> orderingKey, Function<StreamMessage<K, F, V>, Uni<Void>> processor) {
+        nonNull(key, "key");
+        nonNull(group, "group");
+        nonNull(consumer, "consumer");
+        nonNull(args, "args");
+        nonNull(processor, "processor");
+        ReactiveStreamConsumerImpl<K, F, V> streamConsumer = new ReactiveStreamConsumerImpl<>(this, key, group, consumer,
+                args, orderingKey, processor);
+        return xgroupCreate(key, group, "$", new XGroupCreateArgs().mkstream())
+                .onFailure(ReactiveStreamCommandsImpl::isBusyGroup).recoverWithNull()
+                .invoke(streamConsumer::start)
+                .replaceWith(streamConsumer);
+    }
+
+    private static boolean isBusyGroup(Throwable failure) {
+        // The group already exists
+        return failure.getMessage() != null && failure.getMessage().startsWith("BUSYGROUP");
+    }
+}
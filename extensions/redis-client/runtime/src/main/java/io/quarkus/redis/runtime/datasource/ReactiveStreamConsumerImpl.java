@@ -0,0 +1,246 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.redis.datasource.stream.ReactiveStreamCommands;
+import io.quarkus.redis.datasource.stream.StreamConsumerArgs;
+import io.quarkus.redis.datasource.stream.StreamMessage;
+import io.quarkus.redis.datasource.stream.XReadGroupArgs;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Consumes a stream on behalf of a consumer of a consumer group.
+ * <p>
+ * Each iteration claims the messages pending for too long (if enabled), reads a batch of new messages, processes the
+ * messages concurrently (sequentially for the messages sharing the same ordering key), and acknowledges the processed
+ * messages with a single {@code XACK}.
+ * <p>
+ * When an ordering key is used and the processing of a message fails, the message and the following messages with the
+ * same ordering key are held back, still pending, and processed again at the next iteration, before any newer message
+ * with that key.
+ */
+public class ReactiveStreamConsumerImpl<K, F, V> implements ReactiveStreamCommands.ReactiveStreamConsumer {
+
+    private static final Logger LOGGER = Logger.getLogger(ReactiveStreamConsumerImpl.class);
+
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+    // Used when an ordering key is set without claim time, so that the messages of a dead consumer are redelivered
+    static final Duration DEFAULT_ORDERED_CLAIM_MIN_IDLE_TIME = Duration.ofSeconds(30);
+    private static final Comparator<StreamMessage<?, ?, ?>> STREAM_ORDER = new Comparator<>() {
+        @Override
+        public int compare(StreamMessage<?, ?, ?> m1, StreamMessage<?, ?, ?> m2) {
+            return compareIds(m1.id(), m2.id());
+        }
+    };
+
+    private final ReactiveStreamCommandsImpl<K, F, V> commands;
+    private final K key;
+    private final String group;
+    private final String consumer;
+    private final StreamConsumerArgs args;
+    private final XReadGroupArgs readArgs;
+    private final Duration claimMinIdleTime;
+    private final Function<StreamMessage<K, F, V>, Object> orderingKey;
+    private final Function<StreamMessage<K, F, V>, Uni<Void>> processor;
+
+    private final CompletableFuture<Void> stopped = new CompletableFuture<>();
+    private volatile boolean running = true;
+    // Only accessed from the polling loop
+    private String claimStart = "0-0";
+    // The messages held back because the processing of a previous message with the same ordering key failed, also only
+    // accessed from the polling loop
+    private final Map<Object, List<StreamMessage<K, F, V>>> heldBack = new LinkedHashMap<>();
+    private final Set<String> heldBackIds = new HashSet<>();
+
+    ReactiveStreamConsumerImpl(ReactiveStreamCommandsImpl<K, F, V> commands, K key, String group, String consumer,
+            StreamConsumerArgs args, Function<StreamMessage<K, F, V>, Object> orderingKey,
+            Function<StreamMessage<K, F, V>, Uni<Void>> processor) {
+        this.commands = commands;
+        this.key = key;
+        this.group = group;
+        this.consumer = consumer;
+        this.args = args;
+        this.readArgs = new XReadGroupArgs().count(args.batchSize()).block(args.block());
+        if (args.claimMinIdleTime() == null && orderingKey != null) {
+            this.claimMinIdleTime = DEFAULT_ORDERED_CLAIM_MIN_IDLE_TIME;
+        } else {
+            this.claimMinIdleTime = args.claimMinIdleTime();
+        }
+        this.orderingKey = orderingKey;
+        this.processor = processor;
+    }
+
+    void start() {
+        Multi.createBy().repeating().uni(this::poll).whilst(ignored -> running)
+                .subscribe().with(ignored -> {
+                }, failure -> {
+                    LOGGER.errorf(failure, "The consumer `%s` of the stream group `%s` failed", consumer, group);
+                    stopped.complete(null);
+                }, () -> stopped.complete(null));
+    }
+
+    @Override
+    public Uni<Void> stop() {
+        running = false;
+        return Uni.createFrom().completionStage(stopped);
+    }
+
+    private Uni<Integer> poll() {
+        return claim()
+                .chain(claimed -> read()
+                        .map(read -> {
+                            if (claimed.isEmpty()) {
+                                return read;
+                            }
+                            List<StreamMessage<K, F, V>> all = new ArrayList<>(claimed);
+                            all.addAll(read);
+                            return all;
+                        }))
+                .chain(this::process)
+                .chain(this::acknowledge)
+                .onFailure().recoverWithUni(failure -> {
+                    if (!running) {
+                        return Uni.createFrom().item(0);
+                    }
+                    LOGGER.warnf(failure, "Unable to consume the stream group `%s`, retrying in %s", group, RETRY_DELAY);
+                    return Uni.createFrom().item(0).onItem().delayIt().by(RETRY_DELAY);
+                });
+    }
+
+    private Uni<List<StreamMessage<K, F, V>>> claim() {
+        if (claimMinIdleTime == null) {
+            return Uni.createFrom().item(Collections.emptyList());
+        }
+        return commands.xautoclaim(key, group, consumer, claimMinIdleTime, claimStart, args.batchSize())
+                .map(claimed -> {
+                    claimStart = claimed.getNextId();
+                    return claimed.getMessages();
+                });
+    }
+
+    private Uni<List<StreamMessage<K, F, V>>> read() {
+        if (heldBackIds.size() >= args.batchSize()) {
+            // Too many messages are held back, only retry them (and the claimed ones) until their processing succeeds
+            return Uni.createFrom().item(Collections.<StreamMessage<K, F, V>> emptyList())
+                    .onItem().delayIt().by(RETRY_DELAY);
+        }
+        return commands.xreadgroup(group, consumer, key, ">", readArgs);
+    }
+
+    private Uni<List<String>> process(List<StreamMessage<K, F, V>> messages) {
+        if (messages.isEmpty() && heldBack.isEmpty()) {
+            return Uni.createFrom().item(Collections.emptyList());
+        }
+        // Group the messages per ordering key, the messages of a group are processed in the stream order, after the
+        // messages held back with the same key
+        Map<Object, List<StreamMessage<K, F, V>>> groups = new LinkedHashMap<>(heldBack);
+        boolean sort = !heldBack.isEmpty();
+        heldBack.clear();
+        for (StreamMessage<K, F, V> message : messages) {
+            if (heldBackIds.contains(message.id())) {
+                // A held back message claimed again
+                continue;
+            }
+            Object groupKey = orderingKey == null ? null : orderingKey.apply(message);
+            groups.computeIfAbsent(groupKey == null ? message.id() : groupKey, k -> new ArrayList<>()).add(message);
+        }
+        heldBackIds.clear();
+        // The claimed messages are older than the new ones, but may be older than the held back ones too
+        if (sort) {
+            for (List<StreamMessage<K, F, V>> messagesOfGroup : groups.values()) {
+                messagesOfGroup.sort(STREAM_ORDER);
+            }
+        }
+        return Multi.createFrom().iterable(groups.entrySet())
+                .onItem().transformToUni(entry -> processInOrder(entry.getKey(), entry.getValue()))
+                .merge(args.concurrency())
+                .collect().in(ArrayList::new, List::add)
+                .map(results -> {
+                    List<String> processed = new ArrayList<>();
+                    for (GroupResult<K, F, V> result : results) {
+                        processed.addAll(result.processed);
+                        if (orderingKey != null && !result.remaining.isEmpty()) {
+                            heldBack.put(result.groupKey, result.remaining);
+                            for (StreamMessage<K, F, V> message : result.remaining) {
+                                heldBackIds.add(message.id());
+                            }
+                        }
+                    }
+                    return processed;
+                });
+    }
+
+    private Uni<GroupResult<K, F, V>> processInOrder(Object groupKey, List<StreamMessage<K, F, V>> messages) {
+        GroupResult<K, F, V> result = new GroupResult<>(groupKey, messages.size());
+        Uni<Boolean> chain = Uni.createFrom().item(true);
+        for (StreamMessage<K, F, V> message : messages) {
+            chain = chain.chain(previousSucceeded -> {
+                if (!previousSucceeded) {
+                    // Keep the following messages pending to preserve the order
+                    result.remaining.add(message);
+                    return Uni.createFrom().item(false);
+                }
+                return Uni.createFrom().deferred(() -> processor.apply(message))
+                        .map(ignored -> {
+                            result.processed.add(message.id());
+                            return true;
+                        })
+                        .onFailure().recoverWithItem(failure -> {
+                            LOGGER.warnf(failure, "Unable to process the message `%s` of the stream group `%s`",
+                                    message.id(), group);
+                            result.remaining.add(message);
+                            return false;
+                        });
+            });
+        }
+        return chain.replaceWith(result);
+    }
+
+    private Uni<Integer> acknowledge(List<String> ids) {
+        if (ids.isEmpty()) {
+            return Uni.createFrom().item(0);
+        }
+        return commands.xack(key, group, ids.toArray(new String[0]));
+    }
+
+    static int compareIds(String id1, String id2) {
+        int separator1 = id1.indexOf('-');
+        int separator2 = id2.indexOf('-');
+        int result = Long.compareUnsigned(Long.parseUnsignedLong(id1.substring(0, separator1)),
+                Long.parseUnsignedLong(id2.substring(0, separator2)));
+        if (result != 0) {
+            return result;
+        }
+        return Long.compareUnsigned(Long.parseUnsignedLong(id1.substring(separator1 + 1)),
+                Long.parseUnsignedLong(id2.substring(separator2 + 1)));
+    }
+
+    /**
+     * The outcome of the processing of the messages of a group: the ids of the processed messages, and the messages left
+     * pending after a failure.
+     */
+    private static final class GroupResult<K, F, V> {
+
+        private final Object groupKey;
+        private final List<String> processed;
+        private final List<StreamMessage<K, F, V>> remaining = new ArrayList<>();
+
+        GroupResult(Object groupKey, int size) {
+            this.groupKey = groupKey;
+            this.processed = new ArrayList<>(size);
+        }
+    }
+}
@@ -13,6 +13,7 @@
 import io.quarkus.redis.datasource.list.ReactiveTransactionalListCommands;
 import io.quarkus.redis.datasource.set.ReactiveTransactionalSetCommands;
 import io.quarkus.redis.datasource.sortedset.ReactiveTransactionalSortedSetCommands;
+import io.quarkus.redis.datasource.stream.ReactiveTransactionalStreamCommands;
 import io.quarkus.redis.datasource.string.ReactiveTransactionalStringCommands;
 import io.quarkus.redis.datasource.transactions.ReactiveTransactionalRedisDataSource;
 import io.smallrye.mutiny.Uni;
@@ -90,6 +91,13 @@ public <K> ReactiveTransactionalBitMapCommands<K> bitmap(Class<K> redisKeyType)
                 (ReactiveBitMapCommandsImpl<K>) this.reactive.bitmap(redisKeyType), tx);
     }
 
+    @Override
+    public <K, F, V> ReactiveTransactionalStreamCommands<K, F, V> stream(Class<K> redisKeyType, Class<F> fieldType,
+            Class<V> valueType) {
+        return new ReactiveTransactionalStreamCommandsImpl<>(
+                (ReactiveStreamCommandsImpl<K, F, V>) this.reactive.stream(redisKeyType, fieldType, valueType), tx);
+    }
+
     @Override
     public <K> ReactiveTransactionalKeyCommands<K> key(Class<K> redisKeyType) {
         return new ReactiveTransactionalKeyCommandsImpl<>(
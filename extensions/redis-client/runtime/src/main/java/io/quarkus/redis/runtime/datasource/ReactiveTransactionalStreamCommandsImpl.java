@@ -0,0 +1,90 @@
+package io.quarkus.redis.runtime.datasource;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+
+import java.time.Duration;
+import java.util.Map;
+
+import io.quarkus.redis.datasource.stream.ReactiveTransactionalStreamCommands;
+import io.quarkus.redis.datasource.stream.XAddArgs;
+import io.quarkus.redis.datasource.stream.XGroupCreateArgs;
+import io.quarkus.redis.datasource.stream.XReadGroupArgs;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Response;
+
+public class ReactiveTransactionalStreamCommandsImpl<K, F, V> extends AbstractTransactionalCommands
+        implements ReactiveTransactionalStreamCommands<K, F, V> {
+
+    private final ReactiveStreamCommandsImpl<K, F, V> reactive;
+
+    public ReactiveTransactionalStreamCommandsImpl(ReactiveStreamCommandsImpl<K, F, V> reactive, TransactionHolder tx) {
+        super(tx);
+        this.reactive = reactive;
+    }
+
+    @Override
+    public Uni<Void> xadd(K key, Map<F, V> payload) {
+        return xadd(key, AbstractStreamCommands.DEFAULT_INSTANCE_XADD, payload);
+    }
+
+    @Override
+    public Uni<Void> xadd(K key, XAddArgs args, Map<F, V> payload) {
+        this.tx.enqueue(this.reactive::decodeId);
+        return this.reactive._xadd(key, args, payload).invoke(this::queuedOrDiscard).replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Void> xlen(K key) {
+        this.tx.enqueue(Response::toLong);
+        return this.reactive._xlen(key).invoke(this::queuedOrDiscard).replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Void> xgroupCreate(K key, String group, String from) {
+        return xgroupCreate(key, group, from, new XGroupCreateArgs());
+    }
+
+    @Override
+    public Uni<Void> xgroupCreate(K key, String group, String from, XGroupCreateArgs args) {
+        this.tx.enqueue(resp -> null);
+        return this.reactive._xgroupCreate(key, group, from, args).invoke(this::queuedOrDiscard).replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Void> xgroupDestroy(K key, String group) {
+        this.tx.enqueue(Response::toBoolean);
+        return this.reactive._xgroupDestroy(key, group).invoke(this::queuedOrDiscard).replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Void> xreadgroup(String group, String consumer, K key, String id) {
+        return xreadgroup(group, consumer, key, id, AbstractStreamCommands.DEFAULT_INSTANCE_XREADGROUP);
+    }
+
+    @Override
+    public Uni<Void> xreadgroup(String group, String consumer, K key, String id, XReadGroupArgs args) {
+        nonNull(key, "key");
+        nonNull(id, "id");
+        return xreadgroup(group, consumer, Map.of(key, id), args);
+    }
+
+    @Override
+    public Uni<Void> xreadgroup(String group, String consumer, Map<K, String> lastIdsPerStream, XReadGroupArgs args) {
+        this.tx.enqueue(this.reactive::decodeMessages);
+        return this.reactive._xreadgroup(group, consumer, lastIdsPerStream, args).invoke(this::queuedOrDiscard)
+                .replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Void> xack(K key, String group, String... ids) {
+        this.tx.enqueue(Response::toInteger);
+        return this.reactive._xack(key, group, ids).invoke(this::queuedOrDiscard).replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Void> xautoclaim(K key, String group, String consumer, Duration minIdleTime, String start, int count) {
+        this.tx.enqueue(resp -> this.reactive.decodeClaimedMessages(key, resp));
+        return this.reactive._xautoclaim(key, group, consumer, minIdleTime, start, count).invoke(this::queuedOrDiscard)
+                .replaceWithVoid();
+    }
+}
@@ -0,0 +1,197 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * A bounded local cache of read responses, invalidated by the Redis server using the {@code CLIENT TRACKING} invalidation
+ * messages (RESP3 push messages).
+ * <p>
+ * The cacheable commands are sent on a dedicated connection on which the tracking is enabled. As the responses and the
+ * invalidation messages are received on the same connection, an invalidation message is always received after the response
+ * it invalidates. When this connection is lost, the whole cache is cleared as invalidation messages may have been missed.
+ */
+public class RedisClientSideCache {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisClientSideCache.class);
+
+    private final Redis redis;
+    private final int maxSize;
+    private final boolean broadcast;
+    private final List<String> prefixes;
+
+    // Cached responses per Redis key, then per hash field. Guarded by `this`.
+    private final LinkedHashMap<String, Map<String, Response>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private int size;
+    // Incremented every time the connection is lost, to ignore the responses received on the previous connection.
+    private long epoch;
+    private Uni<RedisConnection> connection;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public RedisClientSideCache(Redis redis, int maxSize, boolean broadcast, List<String> prefixes) {
+        this.redis = redis;
+        this.maxSize = maxSize;
+        this.broadcast = broadcast;
+        this.prefixes = prefixes;
+    }
+
+    /**
+     * Returns the cached response of the given command, or sends the command on the tracking connection and caches the
+     * response.
+     *
+     * @param request the read-only command
+     * @param key the Redis key read by the command
+     * @param field the field read by the command, {@code null} if none
+     * @return the response
+     */
+    public Uni<Response> execute(Request request, byte[] key, byte[] field) {
+        String redisKey = new String(key, StandardCharsets.ISO_8859_1);
+        if (broadcast && !matchesPrefixes(redisKey)) {
+            // The server will never invalidate this key.
+            return redis.send(request);
+        }
+        // A key holds either a string or a hash, and the server invalidates the key when its type changes.
+        String entryKey = field == null ? "" : new String(field, StandardCharsets.ISO_8859_1);
+        long currentEpoch;
+        synchronized (this) {
+            Map<String, Response> responses = entries.get(redisKey);
+            Response cached = responses == null ? null : responses.get(entryKey);
+            if (cached != null) {
+                hits.increment();
+                return Uni.createFrom().item(cached);
+            }
+            currentEpoch = epoch;
+        }
+        misses.increment();
+        return connection()
+                .chain(c -> c.send(request))
+                .invoke(response -> {
+                    if (response != null) {
+                        store(currentEpoch, redisKey, entryKey, response);
+                    }
+                });
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    public synchronized int getSize() {
+        return size;
+    }
+
+    private boolean matchesPrefixes(String redisKey) {
+        if (prefixes.isEmpty()) {
+            return true;
+        }
+        for (String prefix : prefixes) {
+            if (redisKey.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized void store(long responseEpoch, String redisKey, String entryKey, Response response) {
+        if (responseEpoch != epoch) {
+            // The connection was lost in the meantime, the invalidation of this response may have been missed.
+            return;
+        }
+        Map<String, Response> responses = entries.computeIfAbsent(redisKey, k -> new HashMap<>(2));
+        if (responses.put(entryKey, response) == null) {
+            size++;
+        }
+        Iterator<Map<String, Response>> eldest = entries.values().iterator();
+        while (size > maxSize && eldest.hasNext()) {
+            size -= eldest.next().size();
+            eldest.remove();
+        }
+    }
+
+    private synchronized void invalidate(String redisKey) {
+        Map<String, Response> removed = entries.remove(redisKey);
+        if (removed != null) {
+            size -= removed.size();
+        }
+        invalidations.increment();
+    }
+
+    private synchronized void clear() {
+        entries.clear();
+        size = 0;
+        epoch++;
+    }
+
+    private synchronized void reset() {
+        clear();
+        connection = null;
+    }
+
+    private synchronized Uni<RedisConnection> connection() {
+        if (connection == null) {
+            connection = redis.connect()
+                    .call(c -> c.send(trackingRequest()))
+                    .invoke(c -> c.handler(this::onMessage)
+                            .exceptionHandler(failure -> {
+                                LOGGER.debugf(failure, "Client-side caching connection failed, clearing the cache");
+                                reset();
+                            })
+                            .endHandler(this::reset))
+                    .onFailure().invoke(failure -> reset())
+                    .memoize().indefinitely();
+        }
+        return connection;
+    }
+
+    private Request trackingRequest() {
+        Request request = Request.cmd(Command.CLIENT).arg("TRACKING").arg("ON");
+        if (broadcast) {
+            request.arg("BCAST");
+            for (String prefix : prefixes) {
+                request.arg("PREFIX").arg(prefix);
+            }
+        }
+        return request;
+    }
+
+    private void onMessage(Response message) {
+        // Invalidation messages are push messages: ["invalidate", [key1, key2...]] or ["invalidate", null] on flush.
+        if (message == null || message.size() < 2 || !"invalidate".equalsIgnoreCase(message.get(0).toString())) {
+            return;
+        }
+        Response keys = message.get(1);
+        if (keys == null) {
+            invalidations.increment();
+            clear();
+            return;
+        }
+        for (Response key : keys) {
+            invalidate(new String(key.toBytes(), StandardCharsets.ISO_8859_1));
+        }
+    }
+}
@@ -35,7 +35,9 @@ public RedisCommand put(Object x) {
         } else if (x instanceof Boolean) {
             this.request.arg((boolean) x);
         } else if (x instanceof byte[]) {
-            this.request.arg(Buffer.buffer((byte[]) x));
+            this.request.arg((byte[]) x);
+        } else if (x instanceof io.vertx.core.buffer.Buffer) {
+            this.request.arg(Buffer.newInstance((io.vertx.core.buffer.Buffer) x));
         } else if (x instanceof RedisCommandExtraArguments) {
             putArgs((RedisCommandExtraArguments) x);
         } else if (x instanceof List) {
@@ -83,4 +85,12 @@ public void putNullable(byte[] encoded) {
         }
 
     }
+
+    public void putNullable(io.vertx.core.buffer.Buffer encoded) {
+        if (encoded == null) {
+            this.request.nullArg();
+        } else {
+            this.request.arg(Buffer.newInstance(encoded));
+        }
+    }
 }
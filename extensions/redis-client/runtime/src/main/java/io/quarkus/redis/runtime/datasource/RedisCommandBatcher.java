@@ -0,0 +1,91 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * Accumulates the commands sent from an event loop during a configurable time window and sends them to the Redis server with
+ * a single write. Commands sent from other threads are sent immediately.
+ * <p>
+ * The pending commands are stored per event loop thread, so accumulating and flushing them never requires any
+ * synchronization. Note that if the batch fails, all the commands of the batch fail.
+ */
+public class RedisCommandBatcher {
+
+    private final Redis redis;
+    private final long windowInMillis;
+    private final int maxBatchSize;
+    private final ThreadLocal<PendingBatch> pending = new ThreadLocal<>();
+
+    public RedisCommandBatcher(Redis redis, long windowInMillis, int maxBatchSize) {
+        this.redis = redis;
+        this.windowInMillis = windowInMillis;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public Uni<Response> execute(Request request) {
+        return Uni.createFrom().emitter(emitter -> {
+            Context context = Vertx.currentContext();
+            if (context == null || !Context.isOnEventLoopThread()) {
+                redis.send(request).subscribe().with(emitter::complete, emitter::fail);
+                return;
+            }
+            PendingBatch batch = pending.get();
+            if (batch == null) {
+                PendingBatch newBatch = new PendingBatch();
+                pending.set(newBatch);
+                // Timers and tasks scheduled from an event loop context run on the same event loop thread.
+                if (windowInMillis <= 0) {
+                    context.runOnContext(ignored -> flush(newBatch));
+                } else {
+                    context.owner().setTimer(windowInMillis, ignored -> flush(newBatch));
+                }
+                batch = newBatch;
+            }
+            batch.requests.add(request);
+            batch.emitters.add(emitter);
+            if (batch.requests.size() >= maxBatchSize) {
+                flush(batch);
+            }
+        });
+    }
+
+    private void flush(PendingBatch batch) {
+        if (pending.get() == batch) {
+            pending.remove();
+        }
+        if (batch.flushed) {
+            // Already flushed because the maximum size was reached.
+            return;
+        }
+        batch.flushed = true;
+        if (batch.requests.size() == 1) {
+            UniEmitter<? super Response> emitter = batch.emitters.get(0);
+            redis.send(batch.requests.get(0)).subscribe().with(emitter::complete, emitter::fail);
+            return;
+        }
+        redis.batch(batch.requests).subscribe().with(responses -> {
+            for (int i = 0; i < batch.emitters.size(); i++) {
+                batch.emitters.get(i).complete(responses.get(i));
+            }
+        }, failure -> {
+            for (UniEmitter<? super Response> emitter : batch.emitters) {
+                emitter.fail(failure);
+            }
+        });
+    }
+
+    private static class PendingBatch {
+        private final List<Request> requests = new ArrayList<>();
+        private final List<UniEmitter<? super Response>> emitters = new ArrayList<>();
+        private boolean flushed;
+    }
+}
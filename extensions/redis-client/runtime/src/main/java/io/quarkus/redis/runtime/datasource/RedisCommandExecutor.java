@@ -12,4 +12,16 @@ default Uni<Response> execute(RedisCommand cmd) {
 
     Uni<Response> execute(Request toRequest);
 
+    /**
+     * Executes a read-only command whose response may be cached locally if the client-side caching is enabled.
+     *
+     * @param cmd the read-only command
+     * @param key the encoded Redis key read by the command
+     * @param field the encoded field read by the command, {@code null} if none
+     * @return the response
+     */
+    default Uni<Response> executeCacheable(RedisCommand cmd, byte[] key, byte[] field) {
+        return execute(cmd);
+    }
+
 }
@@ -0,0 +1,89 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.datasource.hash.HashCommands;
+import io.quarkus.redis.datasource.string.StringCommands;
+import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.RedisClientSideCache;
+
+public class ClientSideCachingTest extends DatasourceTestBase {
+
+    private RedisDataSource other;
+    private RedisClientSideCache cache;
+    private RedisDataSource ds;
+
+    @BeforeEach
+    void initialize() {
+        other = new BlockingRedisDataSourceImpl(redis, api, Duration.ofSeconds(60));
+        cache = new RedisClientSideCache(redis, 100, false, List.of());
+        ds = new BlockingRedisDataSourceImpl(new ReactiveRedisDataSourceImpl(redis, api, null, cache),
+                Duration.ofSeconds(60));
+    }
+
+    @AfterEach
+    public void clear() {
+        other.flushall();
+    }
+
+    @Test
+    public void getIsCachedAndInvalidated() {
+        StringCommands<String, String> string = ds.string(String.class);
+        other.string(String.class).set(key, "hello");
+
+        assertThat(string.get(key)).isEqualTo("hello");
+        assertThat(string.get(key)).isEqualTo("hello");
+        assertThat(cache.getMisses()).isEqualTo(1);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getSize()).isEqualTo(1);
+
+        // Modified by another connection: the server sends an invalidation message.
+        other.string(String.class).set(key, "bonjour");
+        await().untilAsserted(() -> assertThat(cache.getSize()).isZero());
+        assertThat(cache.getInvalidations()).isGreaterThanOrEqualTo(1);
+        assertThat(string.get(key)).isEqualTo("bonjour");
+    }
+
+    @Test
+    public void hgetIsCachedPerField() {
+        HashCommands<String, String, String> hash = ds.hash(String.class);
+        other.hash(String.class).hset(key, "a", "1");
+        other.hash(String.class).hset(key, "b", "2");
+
+        assertThat(hash.hget(key, "a")).isEqualTo("1");
+        assertThat(hash.hget(key, "b")).isEqualTo("2");
+        assertThat(hash.hget(key, "a")).isEqualTo("1");
+        assertThat(cache.getMisses()).isEqualTo(2);
+        assertThat(cache.getHits()).isEqualTo(1);
+
+        other.hash(String.class).hdel(key, "a");
+        await().untilAsserted(() -> assertThat(cache.getSize()).isZero());
+        assertThat(hash.hget(key, "a")).isNull();
+        assertThat(hash.hget(key, "b")).isEqualTo("2");
+    }
+
+    @Test
+    public void missingKeysAreNotCached() {
+        assertThat(ds.string(String.class).get(key)).isNull();
+        assertThat(cache.getSize()).isZero();
+    }
+
+    @Test
+    public void maxSizeIsEnforced() {
+        StringCommands<String, String> string = ds.string(String.class);
+        for (int i = 0; i < 150; i++) {
+            other.string(String.class).set(key + i, "v" + i);
+            assertThat(string.get(key + i)).isEqualTo("v" + i);
+        }
+        assertThat(cache.getSize()).isEqualTo(100);
+    }
+}
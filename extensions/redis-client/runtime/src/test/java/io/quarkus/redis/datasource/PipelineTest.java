@@ -0,0 +1,103 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.datasource.string.ReactiveTransactionalStringCommands;
+import io.quarkus.redis.datasource.string.TransactionalStringCommands;
+import io.quarkus.redis.datasource.transactions.TransactionResult;
+import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.RedisCommandBatcher;
+import io.smallrye.mutiny.Uni;
+
+public class PipelineTest extends DatasourceTestBase {
+
+    private RedisDataSource blocking;
+    private ReactiveRedisDataSource reactive;
+
+    @BeforeEach
+    void initialize() {
+        blocking = new BlockingRedisDataSourceImpl(redis, api, Duration.ofSeconds(60));
+        reactive = new ReactiveRedisDataSourceImpl(redis, api);
+    }
+
+    @AfterEach
+    public void clear() {
+        blocking.flushall();
+    }
+
+    @Test
+    public void pipelineBlocking() {
+        TransactionResult result = blocking.withPipeline(pipeline -> {
+            TransactionalStringCommands<String, String> string = pipeline.string(String.class);
+            string.set(key, "hello");
+            string.append(key, "-1");
+            string.get(key);
+            string.incr("counter");
+        });
+        assertThat(result.size()).isEqualTo(4);
+        assertThat(result.discarded()).isFalse();
+        assertThat(result.<Void> get(0)).isNull();
+        assertThat((long) result.get(1)).isEqualTo(7L);
+        assertThat((String) result.get(2)).isEqualTo("hello-1");
+        assertThat((long) result.get(3)).isEqualTo(1L);
+    }
+
+    @Test
+    public void pipelineReactive() {
+        TransactionResult result = reactive.withPipeline(pipeline -> {
+            ReactiveTransactionalStringCommands<String, String> string = pipeline.string(String.class);
+            return string.set(key, "hello")
+                    .chain(() -> string.append(key, "-1"))
+                    .chain(() -> string.get(key));
+        }).await().atMost(Duration.ofSeconds(5));
+        assertThat(result.size()).isEqualTo(3);
+        assertThat(result.<Void> get(0)).isNull();
+        assertThat((long) result.get(1)).isEqualTo(7L);
+        assertThat((String) result.get(2)).isEqualTo("hello-1");
+    }
+
+    @Test
+    public void pipelineDiscarded() {
+        TransactionResult result = blocking.withPipeline(pipeline -> {
+            pipeline.string(String.class).set(key, "hello");
+            pipeline.discard();
+        });
+        assertThat(result.discarded()).isTrue();
+        assertThat(result.isEmpty()).isTrue();
+        assertThat(blocking.string(String.class).get(key)).isNull();
+    }
+
+    @Test
+    public void emptyPipeline() {
+        TransactionResult result = blocking.withPipeline(pipeline -> {
+        });
+        assertThat(result.discarded()).isFalse();
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void autoBatching() {
+        ReactiveRedisDataSource batching = new ReactiveRedisDataSourceImpl(redis, api,
+                new RedisCommandBatcher(redis, 1, 16));
+        List<Long> results = Uni.createFrom().<List<Long>> emitter(emitter -> vertx.runOnContext(() -> {
+            // All these commands are executed from the same event loop task.
+            List<Uni<Long>> increments = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                increments.add(batching.string(Long.class).incr(key));
+            }
+            Uni.join().all(increments).andFailFast().subscribe().with(emitter::complete, emitter::fail);
+        })).await().atMost(Duration.ofSeconds(5));
+
+        assertThat(results).hasSize(50).doesNotHaveDuplicates();
+        assertThat(blocking.string(Long.class).get(key)).isEqualTo(50L);
+    }
+}
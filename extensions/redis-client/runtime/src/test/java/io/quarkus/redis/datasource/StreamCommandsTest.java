@@ -0,0 +1,178 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.datasource.stream.ClaimedMessages;
+import io.quarkus.redis.datasource.stream.StreamCommands;
+import io.quarkus.redis.datasource.stream.StreamConsumerArgs;
+import io.quarkus.redis.datasource.stream.StreamMessage;
+import io.quarkus.redis.datasource.stream.XAddArgs;
+import io.quarkus.redis.datasource.stream.XGroupCreateArgs;
+import io.quarkus.redis.datasource.stream.XReadGroupArgs;
+import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+
+public class StreamCommandsTest extends DatasourceTestBase {
+
+    private RedisDataSource ds;
+    private StreamCommands<String, String, String> stream;
+
+    @BeforeEach
+    void initialize() {
+        ds = new BlockingRedisDataSourceImpl(redis, api, Duration.ofSeconds(5));
+        stream = ds.stream(String.class);
+    }
+
+    @AfterEach
+    void clear() {
+        ds.flushall();
+    }
+
+    @Test
+    void xaddAndXlen() {
+        String id1 = stream.xadd(key, Map.of("a", "1"));
+        String id2 = stream.xadd(key, new XAddArgs().id("999999999999-0"), Map.of("b", "2"));
+        assertThat(id1).isNotNull();
+        assertThat(id2).isEqualTo("999999999999-0");
+        assertThat(stream.xlen(key)).isEqualTo(2);
+
+        assertThat(stream.xadd("missing", new XAddArgs().nomkstream(), Map.of("a", "1"))).isNull();
+        assertThat(stream.xlen("missing")).isZero();
+
+        for (int i = 0; i < 10; i++) {
+            stream.xadd(key, new XAddArgs().maxlen(5), Map.of("i", Integer.toString(i)));
+        }
+        assertThat(stream.xlen(key)).isEqualTo(5);
+
+        assertThatThrownBy(() -> stream.xadd(key, Map.of())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void xreadgroupAndXack() {
+        stream.xgroupCreate(key, "group", "0", new XGroupCreateArgs().mkstream());
+        String id1 = stream.xadd(key, Map.of("a", "1"));
+        String id2 = stream.xadd(key, Map.of("b", "2"));
+
+        List<StreamMessage<String, String, String>> messages = stream.xreadgroup("group", "c1", key, ">");
+        assertThat(messages).hasSize(2);
+        assertThat(messages.get(0).key()).isEqualTo(key);
+        assertThat(messages.get(0).id()).isEqualTo(id1);
+        assertThat(messages.get(0).payload()).containsExactly(Map.entry("a", "1"));
+        assertThat(messages.get(1).id()).isEqualTo(id2);
+
+        // Nothing new
+        assertThat(stream.xreadgroup("group", "c1", key, ">", new XReadGroupArgs().block(Duration.ofMillis(10))))
+                .isEmpty();
+
+        // Pending messages of the consumer
+        assertThat(stream.xreadgroup("group", "c1", key, "0")).hasSize(2);
+        assertThat(stream.xack(key, "group", id1)).isEqualTo(1);
+        assertThat(stream.xreadgroup("group", "c1", key, "0")).hasSize(1);
+
+        assertThat(stream.xgroupDestroy(key, "group")).isTrue();
+        assertThat(stream.xgroupDestroy(key, "group")).isFalse();
+    }
+
+    @Test
+    void xautoclaim() {
+        stream.xgroupCreate(key, "group", "0", new XGroupCreateArgs().mkstream());
+        String id = stream.xadd(key, Map.of("a", "1"));
+        assertThat(stream.xreadgroup("group", "c1", key, ">")).hasSize(1);
+
+        ClaimedMessages<String, String, String> claimed = stream.xautoclaim(key, "group", "c2", Duration.ZERO, "0-0", 10);
+        assertThat(claimed.getNextId()).isEqualTo("0-0");
+        assertThat(claimed.getMessages()).hasSize(1);
+        assertThat(claimed.getMessages().get(0).id()).isEqualTo(id);
+        assertThat(claimed.getMessages().get(0).payload()).containsEntry("a", "1");
+
+        // Now pending for c2
+        assertThat(stream.xreadgroup("group", "c1", key, "0")).isEmpty();
+        assertThat(stream.xreadgroup("group", "c2", key, "0")).hasSize(1);
+    }
+
+    @Test
+    void consumeInBatches() {
+        Map<String, List<Integer>> processed = new ConcurrentHashMap<>();
+        StreamCommands.StreamConsumer consumer = stream.consume(key, "group", "c1",
+                new StreamConsumerArgs().batchSize(10).block(Duration.ofMillis(100)),
+                message -> message.payload().get("account"),
+                message -> processed.computeIfAbsent(message.payload().get("account"), k -> new CopyOnWriteArrayList<>())
+                        .add(Integer.parseInt(message.payload().get("seq"))));
+        try {
+            for (int i = 0; i < 100; i++) {
+                stream.xadd(key, Map.of("account", "account-" + (i % 4), "seq", Integer.toString(i)));
+            }
+            await().untilAsserted(() -> assertThat(processed.values().stream().mapToInt(List::size).sum()).isEqualTo(100));
+            // The messages of an account are processed in order
+            for (List<Integer> sequence : processed.values()) {
+                assertThat(sequence).isSorted();
+            }
+            // And acknowledged
+            await().untilAsserted(() -> assertThat(stream.xreadgroup("group", "c1", key, "0")).isEmpty());
+        } finally {
+            consumer.stop();
+        }
+    }
+
+    @Test
+    void consumeRedeliversFailedMessages() {
+        AtomicBoolean failed = new AtomicBoolean();
+        List<String> processed = new CopyOnWriteArrayList<>();
+        StreamCommands.StreamConsumer consumer = stream.consume(key, "group", "c1",
+                new StreamConsumerArgs().block(Duration.ofMillis(100)).claimMinIdleTime(Duration.ofMillis(200)),
+                message -> {
+                    if (failed.compareAndSet(false, true)) {
+                        throw new IllegalStateException("boom");
+                    }
+                    processed.add(message.payload().get("a"));
+                });
+        try {
+            stream.xadd(key, Map.of("a", "1"));
+            await().untilAsserted(() -> assertThat(processed).containsExactly("1"));
+            await().untilAsserted(() -> assertThat(stream.xreadgroup("group", "c1", key, "0")).isEmpty());
+        } finally {
+            consumer.stop();
+        }
+    }
+
+    @Test
+    void consumeKeepsOrderAfterFailure() {
+        AtomicBoolean failed = new AtomicBoolean();
+        List<Integer> processed = new CopyOnWriteArrayList<>();
+        // Small batches, so that the following messages of the key are read after the failure
+        StreamCommands.StreamConsumer consumer = stream.consume(key, "group", "c1",
+                new StreamConsumerArgs().batchSize(2).block(Duration.ofMillis(100)),
+                message -> message.payload().get("account"),
+                message -> {
+                    int seq = Integer.parseInt(message.payload().get("seq"));
+                    if (seq == 3 && failed.compareAndSet(false, true)) {
+                        throw new IllegalStateException("boom");
+                    }
+                    processed.add(seq);
+                });
+        try {
+            for (int i = 0; i < 10; i++) {
+                stream.xadd(key, Map.of("account", "account-1", "seq", Integer.toString(i)));
+            }
+            // The failed message is processed again, without claim time, before the newer messages
+            await().untilAsserted(() -> assertThat(processed).hasSize(10));
+            assertThat(failed).isTrue();
+            assertThat(processed).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+            await().untilAsserted(() -> assertThat(stream.xreadgroup("group", "c1", key, "0")).isEmpty());
+        } finally {
+            consumer.stop();
+        }
+    }
+}
@@ -20,6 +20,8 @@
 import io.quarkus.redis.datasource.string.SetArgs;
 import io.quarkus.redis.datasource.string.StringCommands;
 import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.Json;
 
 public class StringCommandsTest extends DatasourceTestBase {
 
@@ -267,5 +269,32 @@ void binary() {
         commands.set(key, content);
         byte[] bytes = commands.get(key);
         assertThat(bytes).isEqualTo(content);
+        // The content is stored in JSON, as a base64 string
+        assertThat(strings.get(key)).isEqualTo(Json.encode(content));
+    }
+
+    @Test
+    void binaryWrittenByPreviousVersions() {
+        // byte[] { 1, 2, 3 } as written by the JSON codec
+        strings.set(key, "\"AQID\"");
+        assertThat(ds.string(byte[].class).get(key)).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void buffer() {
+        byte[] content = new byte[2048];
+        new Random().nextBytes(content);
+        StringCommands<String, Buffer> commands = ds.string(Buffer.class);
+        commands.set(key, Buffer.buffer(content));
+        Buffer buffer = commands.get(key);
+        assertThat(buffer.getBytes()).isEqualTo(content);
+    }
+
+    @Test
+    void longValues() {
+        StringCommands<String, Long> commands = ds.string(Long.class);
+        commands.set(key, Long.MAX_VALUE);
+        assertThat(commands.get(key)).isEqualTo(Long.MAX_VALUE);
+        assertThat(strings.get(key)).isEqualTo(Long.toString(Long.MAX_VALUE));
     }
 }
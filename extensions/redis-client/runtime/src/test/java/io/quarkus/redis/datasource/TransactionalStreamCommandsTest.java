@@ -0,0 +1,72 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.datasource.stream.ReactiveTransactionalStreamCommands;
+import io.quarkus.redis.datasource.stream.StreamMessage;
+import io.quarkus.redis.datasource.stream.TransactionalStreamCommands;
+import io.quarkus.redis.datasource.stream.XAddArgs;
+import io.quarkus.redis.datasource.stream.XGroupCreateArgs;
+import io.quarkus.redis.datasource.transactions.TransactionResult;
+import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+
+public class TransactionalStreamCommandsTest extends DatasourceTestBase {
+
+    private RedisDataSource blocking;
+    private ReactiveRedisDataSource reactive;
+
+    @BeforeEach
+    void initialize() {
+        blocking = new BlockingRedisDataSourceImpl(redis, api, Duration.ofSeconds(60));
+        reactive = new ReactiveRedisDataSourceImpl(redis, api);
+    }
+
+    @AfterEach
+    public void clear() {
+        blocking.flushall();
+    }
+
+    @Test
+    public void streamBlocking() {
+        TransactionResult result = blocking.withTransaction(tx -> {
+            TransactionalStreamCommands<String, String, String> stream = tx.stream(String.class);
+            stream.xgroupCreate(key, "group", "0", new XGroupCreateArgs().mkstream()); // 0 -> null
+            stream.xadd(key, new XAddArgs().id("1-0"), Map.of("a", "1")); // 1 -> 1-0
+            stream.xlen(key); // 2 -> 1
+            stream.xreadgroup("group", "c1", key, ">"); // 3 -> [1-0]
+            stream.xack(key, "group", "1-0"); // 4 -> 1
+        });
+        assertThat(result.size()).isEqualTo(5);
+        assertThat(result.discarded()).isFalse();
+        assertThat((String) result.get(1)).isEqualTo("1-0");
+        assertThat((long) result.get(2)).isEqualTo(1);
+        List<StreamMessage<String, String, String>> messages = result.get(3);
+        assertThat(messages).hasSize(1);
+        assertThat(messages.get(0).payload()).containsEntry("a", "1");
+        assertThat((int) result.get(4)).isEqualTo(1);
+    }
+
+    @Test
+    public void streamReactive() {
+        TransactionResult result = reactive.withTransaction(tx -> {
+            ReactiveTransactionalStreamCommands<String, String, String> stream = tx.stream(String.class);
+            return stream.xadd(key, new XAddArgs().id("1-0"), Map.of("a", "1"))
+                    .chain(() -> stream.xadd(key, new XAddArgs().id("2-0"), Map.of("b", "2")))
+                    .chain(() -> stream.xlen(key));
+        }).await().atMost(Duration.ofSeconds(5));
+        assertThat(result.size()).isEqualTo(3);
+        assertThat(result.discarded()).isFalse();
+        assertThat((String) result.get(0)).isEqualTo("1-0");
+        assertThat((String) result.get(1)).isEqualTo("2-0");
+        assertThat((long) result.get(2)).isEqualTo(2);
+    }
+}
@@ -87,7 +87,8 @@
      * <p>
      * The value is parsed with {@link Duration#parse(CharSequence)}. However, if an expression starts with a digit, "PT" prefix
      * is added automatically, so for example, {@code 15m} can be used instead of {@code PT15M} and is parsed as "15 minutes".
-     * Note that the absolute value of the value is always used.
+     * Note that the absolute value of the value is always used. The period may be shorter than one second, e.g.
+     * {@code 0.1s}.
      * <p>
      * The value can be a property expression. In this case, the scheduler attempts to use the configured value instead:
      * {@code @Scheduled(every = "${myJob.everyExpression}")}.
@@ -197,6 +198,16 @@ enum ConcurrentExecution {
          */
         SKIP,
 
+        /**
+         * The scheduled method is never executed concurrently, i.e. a method execution is queued until the previous
+         * invocation completes. The queue is bounded, the executions that do not fit in the queue are skipped.
+         * <p>
+         * The number of concurrent executions and the size of the queue can be set with the
+         * {@code quarkus.scheduler.job."identity".max-concurrent-executions} and
+         * {@code quarkus.scheduler.job."identity".max-queued-executions} configuration properties.
+         */
+        QUEUE,
+
     }
 
     /**
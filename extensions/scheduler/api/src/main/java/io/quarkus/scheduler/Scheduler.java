@@ -1,6 +1,13 @@
 package io.quarkus.scheduler;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import io.quarkus.scheduler.Scheduled.SkipPredicate;
+import io.smallrye.mutiny.Uni;
 
 /**
  * The container provides a built-in bean with bean type {@link Scheduler} and qualifier
@@ -57,4 +64,137 @@ public interface Scheduler {
      * @return the trigger of a specific job or null for non-existent identity.
      */
     Trigger getScheduledJob(String identity);
+
+    /**
+     * Creates a new job definition. The job is not scheduled until the {@link JobDefinition#schedule()} method is called.
+     * <p>
+     * The properties of the job definition have the same semantics as their equivalents in the {@link Scheduled}
+     * annotation.
+     *
+     * @param identity The identity must be unique for the scheduler
+     * @return a new job definition
+     * @see Scheduled#identity()
+     */
+    JobDefinition newJob(String identity);
+
+    /**
+     * Removes the job previously added via {@link #newJob(String)}.
+     * <p>
+     * It is a no-op if the identifier is null or there's no such job. The jobs declared with {@link Scheduled} cannot be
+     * removed.
+     *
+     * @param identity
+     * @return the trigger or {@code null} if no such job exists
+     */
+    Trigger unscheduleJob(String identity);
+
+    /**
+     * The job definition is a builder-like API that can be used to define a job programmatically.
+     * <p>
+     * No job is scheduled until the {@link #schedule()} method is called.
+     * <p>
+     * Exactly one schedule ({@link #setCron(String)}, {@link #setInterval(String)} or {@link #setFireAt(Instant)}) and
+     * exactly one task ({@link #setTask(Consumer)}, {@link #setAsyncTask(Function)} or {@link #setTaskBean(Class)}) must be
+     * set.
+     *
+     * @see Scheduler#newJob(String)
+     */
+    interface JobDefinition {
+
+        /**
+         * The schedule is defined either by {@link #setCron(String)}, {@link #setInterval(String)} or
+         * {@link #setFireAt(Instant)}.
+         *
+         * @param cron the cron expression
+         * @return self
+         * @see Scheduled#cron()
+         */
+        JobDefinition setCron(String cron);
+
+        /**
+         * The schedule is defined either by {@link #setCron(String)}, {@link #setInterval(String)} or
+         * {@link #setFireAt(Instant)}.
+         *
+         * @param every the period expression
+         * @return self
+         * @see Scheduled#every()
+         */
+        JobDefinition setInterval(String every);
+
+        /**
+         * Defines a one-shot job, executed once at the given time. The job is removed from the scheduler after the
+         * execution.
+         *
+         * @param fireTime
+         * @return self
+         */
+        JobDefinition setFireAt(Instant fireTime);
+
+        /**
+         * @param period the delay expression
+         * @return self
+         * @see Scheduled#delayed()
+         */
+        JobDefinition setDelayed(String period);
+
+        /**
+         * @param concurrentExecution
+         * @return self
+         * @see Scheduled#concurrentExecution()
+         */
+        JobDefinition setConcurrentExecution(ConcurrentExecution concurrentExecution);
+
+        /**
+         * @param skipPredicate
+         * @return self
+         * @see Scheduled#skipExecutionIf()
+         */
+        JobDefinition setSkipPredicate(SkipPredicate skipPredicate);
+
+        /**
+         * @param period the grace period expression
+         * @return self
+         * @see Scheduled#overdueGracePeriod()
+         */
+        JobDefinition setOverdueGracePeriod(String period);
+
+        /**
+         * The task is executed on the main executor for blocking tasks.
+         *
+         * @param task
+         * @return self
+         */
+        JobDefinition setTask(Consumer<ScheduledExecution> task);
+
+        /**
+         * The task is executed on the event loop and must not block.
+         *
+         * @param asyncTask
+         * @return self
+         */
+        JobDefinition setAsyncTask(Function<ScheduledExecution, Uni<Void>> asyncTask);
+
+        /**
+         * The task is the bean that has the given class in its set of bean types. It is executed on the main executor for
+         * blocking tasks.
+         * <p>
+         * Unlike a job defined with a task instance, a job defined with a task bean can be persisted by the scheduler, if
+         * supported.
+         * <p>
+         * The beans that implement {@code Consumer<ScheduledExecution>} are never removed, even if they are not injected
+         * anywhere.
+         *
+         * @param taskBeanClass
+         * @return self
+         */
+        JobDefinition setTaskBean(Class<? extends Consumer<ScheduledExecution>> taskBeanClass);
+
+        /**
+         * Attempts to schedule the job.
+         *
+         * @return the trigger
+         * @throws IllegalStateException if the definition is incomplete or a job with the same identity already exists
+         */
+        Trigger schedule();
+    }
 }
@@ -0,0 +1,205 @@
+package io.quarkus.scheduler.common.runtime;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import io.quarkus.scheduler.Scheduled.SkipPredicate;
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.Scheduler.JobDefinition;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * The common implementation of {@link JobDefinition}; the subclasses implement {@link #schedule()}.
+ */
+public abstract class AbstractJobDefinition implements JobDefinition {
+
+    protected final String identity;
+    protected String cron = "";
+    protected String every = "";
+    protected Instant fireAt;
+    protected String delayed = "";
+    protected String overdueGracePeriod = "";
+    protected ConcurrentExecution concurrentExecution = ConcurrentExecution.PROCEED;
+    protected SkipPredicate skipPredicate;
+    protected Consumer<ScheduledExecution> task;
+    protected Function<ScheduledExecution, Uni<Void>> asyncTask;
+    protected Class<? extends Consumer<ScheduledExecution>> taskBeanClass;
+    protected boolean scheduled;
+
+    public AbstractJobDefinition(String identity) {
+        Objects.requireNonNull(identity, "Identity must not be null");
+        if (identity.isEmpty()) {
+            throw new IllegalArgumentException("Identity must not be empty");
+        }
+        this.identity = identity;
+    }
+
+    @Override
+    public JobDefinition setCron(String cron) {
+        checkScheduled();
+        this.cron = Objects.requireNonNull(cron);
+        return this;
+    }
+
+    @Override
+    public JobDefinition setInterval(String every) {
+        checkScheduled();
+        this.every = Objects.requireNonNull(every);
+        return this;
+    }
+
+    @Override
+    public JobDefinition setFireAt(Instant fireTime) {
+        checkScheduled();
+        this.fireAt = Objects.requireNonNull(fireTime);
+        return this;
+    }
+
+    @Override
+    public JobDefinition setDelayed(String period) {
+        checkScheduled();
+        this.delayed = Objects.requireNonNull(period);
+        return this;
+    }
+
+    @Override
+    public JobDefinition setConcurrentExecution(ConcurrentExecution concurrentExecution) {
+        checkScheduled();
+        this.concurrentExecution = Objects.requireNonNull(concurrentExecution);
+        return this;
+    }
+
+    @Override
+    public JobDefinition setSkipPredicate(SkipPredicate skipPredicate) {
+        checkScheduled();
+        this.skipPredicate = Objects.requireNonNull(skipPredicate);
+        return this;
+    }
+
+    @Override
+    public JobDefinition setOverdueGracePeriod(String period) {
+        checkScheduled();
+        this.overdueGracePeriod = Objects.requireNonNull(period);
+        return this;
+    }
+
+    @Override
+    public JobDefinition setTask(Consumer<ScheduledExecution> task) {
+        checkScheduled();
+        this.task = Objects.requireNonNull(task);
+        return this;
+    }
+
+    @Override
+    public JobDefinition setAsyncTask(Function<ScheduledExecution, Uni<Void>> asyncTask) {
+        checkScheduled();
+        this.asyncTask = Objects.requireNonNull(asyncTask);
+        return this;
+    }
+
+    @Override
+    public JobDefinition setTaskBean(Class<? extends Consumer<ScheduledExecution>> taskBeanClass) {
+        checkScheduled();
+        this.taskBeanClass = Objects.requireNonNull(taskBeanClass);
+        return this;
+    }
+
+    protected void checkScheduled() {
+        if (scheduled) {
+            throw new IllegalStateException("Cannot modify a job that was already scheduled");
+        }
+    }
+
+    /**
+     * Validates the definition and marks it as scheduled.
+     *
+     * @throws IllegalStateException if the definition is incomplete
+     */
+    protected void validate() {
+        checkScheduled();
+        int schedules = (cron.isEmpty() ? 0 : 1) + (every.isEmpty() ? 0 : 1) + (fireAt == null ? 0 : 1);
+        if (schedules != 1) {
+            throw new IllegalStateException("Exactly one of cron, interval or fire time must be set for job: " + identity);
+        }
+        int tasks = (task == null ? 0 : 1) + (asyncTask == null ? 0 : 1) + (taskBeanClass == null ? 0 : 1);
+        if (tasks != 1) {
+            throw new IllegalStateException("Exactly one of task, async task or task bean must be set for job: " + identity);
+        }
+        scheduled = true;
+    }
+
+    public String getIdentity() {
+        return identity;
+    }
+
+    public Instant getFireAt() {
+        return fireAt;
+    }
+
+    public SkipPredicate getSkipPredicate() {
+        return skipPredicate;
+    }
+
+    public Class<? extends Consumer<ScheduledExecution>> getTaskBeanClass() {
+        return taskBeanClass;
+    }
+
+    /**
+     *
+     * @return the {@link Scheduled} instance equivalent to this definition
+     */
+    public Scheduled toScheduled() {
+        return new SyntheticScheduled(identity, cron, every, delayed, concurrentExecution, overdueGracePeriod);
+    }
+
+    /**
+     *
+     * @return the invoker of the task
+     */
+    public ScheduledInvoker createInvoker() {
+        if (asyncTask != null) {
+            return new DefaultInvoker() {
+
+                @Override
+                protected CompletionStage<Void> invokeBean(ScheduledExecution execution) {
+                    return asyncTask.apply(execution).subscribeAsCompletionStage();
+                }
+
+                @Override
+                public boolean isBlocking() {
+                    return false;
+                }
+            };
+        }
+        Consumer<ScheduledExecution> consumer = task;
+        Class<? extends Consumer<ScheduledExecution>> beanClass = taskBeanClass;
+        return new DefaultInvoker() {
+
+            @Override
+            protected CompletionStage<Void> invokeBean(ScheduledExecution execution) {
+                if (consumer != null) {
+                    consumer.accept(execution);
+                } else {
+                    try (InstanceHandle<? extends Consumer<ScheduledExecution>> handle = Arc.container()
+                            .instance(beanClass)) {
+                        if (!handle.isAvailable()) {
+                            throw new IllegalStateException("No bean found for the task of job " + identity + ": "
+                                    + beanClass.getName());
+                        }
+                        handle.get().accept(execution);
+                    }
+                }
+                return CompletableFuture.completedStage(null);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,127 @@
+package io.quarkus.scheduler.common.runtime;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.enterprise.event.Event;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.SkippedExecution;
+
+/**
+ * An invoker wrapper that limits the number of concurrent executions. The executions that exceed the limit are queued, up
+ * to the maximum number of queued executions, and skipped afterwards.
+ *
+ * @see io.quarkus.scheduler.Scheduled.ConcurrentExecution#QUEUE
+ */
+public final class LimitConcurrentExecutionInvoker extends DelegateInvoker {
+
+    private static final Logger LOG = Logger.getLogger(LimitConcurrentExecutionInvoker.class);
+
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final Event<SkippedExecution> event;
+
+    // Guarded by this
+    private int running;
+    private final Queue<QueuedExecution> queue;
+
+    public LimitConcurrentExecutionInvoker(ScheduledInvoker delegate, int maxConcurrent, int maxQueued,
+            Event<SkippedExecution> event) {
+        super(delegate);
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("The maximum number of concurrent executions must be greater than zero");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = Math.max(0, maxQueued);
+        this.event = event;
+        this.queue = new ArrayDeque<>();
+    }
+
+    @Override
+    public CompletionStage<Void> invoke(ScheduledExecution execution) throws Exception {
+        CompletableFuture<Void> queued;
+        synchronized (this) {
+            if (running < maxConcurrent) {
+                running++;
+                queued = null;
+            } else if (queue.size() < maxQueued) {
+                queued = new CompletableFuture<>();
+                queue.add(new QueuedExecution(execution, queued));
+            } else {
+                LOG.debugf("Skipped scheduled invoker execution: %s", delegate.getClass().getName());
+                SkippedExecution payload = new SkippedExecution(execution,
+                        "The maximum number of concurrent executions was reached");
+                event.fire(payload);
+                event.fireAsync(payload);
+                return CompletableFuture.completedStage(null);
+            }
+        }
+        if (queued != null) {
+            LOG.tracef("Queued scheduled invoker execution: %s", delegate.getClass().getName());
+            return queued;
+        }
+        return proceed(execution);
+    }
+
+    /**
+     *
+     * @return the number of executions in progress
+     */
+    public synchronized int getRunning() {
+        return running;
+    }
+
+    /**
+     *
+     * @return the number of queued executions
+     */
+    public synchronized int getQueued() {
+        return queue.size();
+    }
+
+    private CompletionStage<Void> proceed(ScheduledExecution execution) {
+        CompletionStage<Void> result;
+        try {
+            result = delegate.invoke(execution);
+        } catch (Throwable t) {
+            result = CompletableFuture.failedStage(t);
+        }
+        return result.whenComplete((r, t) -> next());
+    }
+
+    private void next() {
+        QueuedExecution next;
+        synchronized (this) {
+            next = queue.poll();
+            if (next == null) {
+                running--;
+                return;
+            }
+        }
+        // The slot of the completed execution is passed to the queued execution
+        proceed(next.execution).whenComplete((r, t) -> {
+            if (t != null) {
+                next.result.completeExceptionally(t);
+            } else {
+                next.result.complete(r);
+            }
+        });
+    }
+
+    private static final class QueuedExecution {
+
+        final ScheduledExecution execution;
+        final CompletableFuture<Void> result;
+
+        QueuedExecution(ScheduledExecution execution, CompletableFuture<Void> result) {
+            this.execution = execution;
+            this.result = result;
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+package io.quarkus.scheduler.common.runtime;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.util.AnnotationLiteral;
+
+import io.quarkus.scheduler.Scheduled;
+
+/**
+ * A {@link Scheduled} instance that represents a job defined programmatically.
+ *
+ * @see AbstractJobDefinition
+ */
+public final class SyntheticScheduled extends AnnotationLiteral<Scheduled> implements Scheduled {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String identity;
+    private final String cron;
+    private final String every;
+    private final String delayed;
+    private final ConcurrentExecution concurrentExecution;
+    private final String overdueGracePeriod;
+
+    public SyntheticScheduled(String identity, String cron, String every, String delayed,
+            ConcurrentExecution concurrentExecution, String overdueGracePeriod) {
+        this.identity = identity;
+        this.cron = cron;
+        this.every = every;
+        this.delayed = delayed;
+        this.concurrentExecution = concurrentExecution;
+        this.overdueGracePeriod = overdueGracePeriod;
+    }
+
+    @Override
+    public String identity() {
+        return identity;
+    }
+
+    @Override
+    public String cron() {
+        return cron;
+    }
+
+    @Override
+    public String every() {
+        return every;
+    }
+
+    @Override
+    public long delay() {
+        return 0;
+    }
+
+    @Override
+    public TimeUnit delayUnit() {
+        return TimeUnit.MINUTES;
+    }
+
+    @Override
+    public String delayed() {
+        return delayed;
+    }
+
+    @Override
+    public ConcurrentExecution concurrentExecution() {
+        return concurrentExecution;
+    }
+
+    @Override
+    public Class<? extends SkipPredicate> skipExecutionIf() {
+        // The skip predicate of a job definition is an instance
+        return Never.class;
+    }
+
+    @Override
+    public String overdueGracePeriod() {
+        return overdueGracePeriod;
+    }
+
+}
@@ -1,10 +1,12 @@
 package io.quarkus.scheduler.deployment;
 
 import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 
 import org.jboss.jandex.DotName;
 
 import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.ScheduledExecution;
 import io.smallrye.common.annotation.NonBlocking;
 
 class SchedulerDotNames {
@@ -17,6 +19,8 @@ class SchedulerDotNames {
     static final DotName UNI = DotName.createSimple("io.smallrye.mutiny.Uni");
     static final DotName COMPLETION_STAGE = DotName.createSimple(CompletionStage.class.getName());
     static final DotName VOID = DotName.createSimple(Void.class.getName());
+    static final DotName CONSUMER = DotName.createSimple(Consumer.class.getName());
+    static final DotName SCHEDULED_EXECUTION = DotName.createSimple(ScheduledExecution.class.getName());
 
     static final DotName CONTINUATION = DotName.createSimple("kotlin.coroutines.Continuation");
     static final DotName KOTLIN_UNIT = DotName.createSimple("kotlin.Unit");
@@ -14,6 +14,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
@@ -66,6 +67,7 @@
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.devconsole.spi.DevConsoleRouteBuildItem;
 import io.quarkus.devconsole.spi.DevConsoleRuntimeTemplateInfoBuildItem;
@@ -77,6 +79,7 @@
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.gizmo.TryBlock;
+import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.scheduler.Scheduled;
@@ -86,6 +89,8 @@
 import io.quarkus.scheduler.common.runtime.ScheduledMethodMetadata;
 import io.quarkus.scheduler.common.runtime.SchedulerContext;
 import io.quarkus.scheduler.common.runtime.util.SchedulerUtils;
+import io.quarkus.scheduler.runtime.JobStore;
+import io.quarkus.scheduler.runtime.LeaseStore;
 import io.quarkus.scheduler.runtime.SchedulerConfig;
 import io.quarkus.scheduler.runtime.SchedulerRecorder;
 import io.quarkus.scheduler.runtime.SimpleScheduler;
@@ -101,10 +106,41 @@ public class SchedulerProcessor {
     static final String INVOKER_SUFFIX = "_ScheduledInvoker";
     static final String NESTED_SEPARATOR = "$_";
 
+    static final String REDIS_DATA_SOURCE = "io.quarkus.redis.datasource.ReactiveRedisDataSource";
+    // The lease stores are referenced by name as their optional dependencies may be missing
+    static final String JDBC_LEASE_STORE = "io.quarkus.scheduler.runtime.JdbcLeaseStore";
+    static final String REDIS_LEASE_STORE = "io.quarkus.scheduler.runtime.RedisLeaseStore";
+
     @BuildStep
-    void beans(Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+    void beans(Capabilities capabilities, SchedulerConfig config, BuildProducer<AdditionalBeanBuildItem> additionalBeans,
+            BuildProducer<UnremovableBeanBuildItem> unremovableBeans) {
         if (capabilities.isMissing(Capability.QUARTZ)) {
             additionalBeans.produce(new AdditionalBeanBuildItem(SimpleScheduler.class, Scheduled.ApplicationNotRunning.class));
+            // The job store is optional and only injected via Instance<JobStore>
+            unremovableBeans.produce(UnremovableBeanBuildItem.beanTypes(JobStore.class));
+            if (config.cluster.enabled) {
+                switch (config.cluster.store) {
+                    case JDBC:
+                        if (capabilities.isMissing(Capability.AGROAL)) {
+                            throw new ConfigurationException(
+                                    "The JDBC lease store requires the quarkus-agroal extension",
+                                    Set.of("quarkus.scheduler.cluster.store"));
+                        }
+                        additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(JDBC_LEASE_STORE));
+                        break;
+                    case REDIS:
+                        if (!QuarkusClassLoader.isClassPresentAtRuntime(REDIS_DATA_SOURCE)) {
+                            throw new ConfigurationException(
+                                    "The Redis lease store requires the quarkus-redis-client extension",
+                                    Set.of("quarkus.scheduler.cluster.store"));
+                        }
+                        additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(REDIS_LEASE_STORE));
+                        break;
+                    default:
+                        // The application provides the store
+                        unremovableBeans.produce(UnremovableBeanBuildItem.beanTypes(LeaseStore.class));
+                }
+            }
         }
     }
 
@@ -330,6 +366,27 @@ public DevConsoleRouteBuildItem devConsole(BuildProducer<DevConsoleRuntimeTempla
         return new DevConsoleRouteBuildItem("schedules", "POST", recorder.invokeHandler());
     }
 
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    void clusterMetrics(SchedulerConfig config, Capabilities capabilities, SchedulerRecorder recorder,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (config.metricsEnabled && config.cluster.enabled && metricsCapability.isPresent()
+                && capabilities.isMissing(Capability.QUARTZ)) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerClusterMetrics()));
+        }
+    }
+
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    void jobMetrics(SchedulerConfig config, Capabilities capabilities, SchedulerRecorder recorder,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (config.metricsEnabled && metricsCapability.isPresent() && capabilities.isMissing(Capability.QUARTZ)) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerJobMetrics()));
+        }
+    }
+
     @BuildStep
     public AnnotationsTransformerBuildItem metrics(SchedulerConfig config,
             Optional<MetricsCapabilityBuildItem> metricsCapability) {
@@ -600,6 +657,24 @@ UnremovableBeanBuildItem unremoveableSkipPredicates() {
         return new UnremovableBeanBuildItem(new UnremovableBeanBuildItem.BeanTypeExclusion(SchedulerDotNames.SKIP_PREDICATE));
     }
 
+    @BuildStep
+    UnremovableBeanBuildItem unremoveableTaskBeans() {
+        // The task beans of programmatic jobs are only looked up when the job is fired, see JobDefinition#setTaskBean()
+        return new UnremovableBeanBuildItem(SchedulerProcessor::isTaskBean);
+    }
+
+    static boolean isTaskBean(BeanInfo bean) {
+        for (Type type : bean.getTypes()) {
+            if (type.kind() == Kind.PARAMETERIZED_TYPE && SchedulerDotNames.CONSUMER.equals(type.name())) {
+                Type argument = type.asParameterizedType().arguments().get(0);
+                if (SchedulerDotNames.SCHEDULED_EXECUTION.equals(argument.name())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     @BuildStep
     void produceCoroutineScope(BuildProducer<AdditionalBeanBuildItem> buildItemBuildProducer) {
         if (!QuarkusClassLoader.isClassPresentAtRuntime("kotlinx.coroutines.CoroutineScope")) {
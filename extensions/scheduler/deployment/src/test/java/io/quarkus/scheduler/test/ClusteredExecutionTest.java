@@ -0,0 +1,125 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.SkippedExecution;
+import io.quarkus.scheduler.runtime.LeaseStore;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ClusteredExecutionTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class, InMemoryLeaseStore.class))
+            .overrideConfigKey("quarkus.scheduler.cluster.enabled", "true")
+            .overrideConfigKey("quarkus.scheduler.cluster.store", "custom");
+
+    @Inject
+    InMemoryLeaseStore store;
+
+    @Test
+    public void testExecution() throws InterruptedException {
+        assertTrue(Jobs.EXECUTED_LATCH.await(5, TimeUnit.SECONDS));
+        // The lease is released after the execution
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> store.leases.get("leased").expiresAt == 0);
+        assertNotEquals("other", store.leases.get("leased").owner);
+        // The interval trigger fires at the multiples of the interval, like the other instances of the cluster
+        assertEquals(0, store.leases.get("leased").slot % 1000);
+
+        // Another instance holds the lease
+        store.leases.put("leased", new Lease(Long.MAX_VALUE, "other", System.currentTimeMillis() + 60_000));
+        assertTrue(Jobs.SKIPPED_LATCH.await(5, TimeUnit.SECONDS));
+        int executions = Jobs.COUNTER.get();
+        Thread.sleep(1500);
+        assertEquals(executions, Jobs.COUNTER.get());
+    }
+
+    static class Jobs {
+
+        static final AtomicInteger COUNTER = new AtomicInteger(0);
+        static final CountDownLatch EXECUTED_LATCH = new CountDownLatch(1);
+        static final CountDownLatch SKIPPED_LATCH = new CountDownLatch(1);
+
+        @Scheduled(every = "1s", identity = "leased")
+        void leased() {
+            COUNTER.incrementAndGet();
+            EXECUTED_LATCH.countDown();
+        }
+
+        void onSkip(@Observes SkippedExecution event) {
+            if (event.triggerId.equals("leased")) {
+                SKIPPED_LATCH.countDown();
+            }
+        }
+    }
+
+    static class Lease {
+
+        final long slot;
+        final String owner;
+        final long expiresAt;
+
+        Lease(long slot, String owner, long expiresAt) {
+            this.slot = slot;
+            this.owner = owner;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    @Singleton
+    static class InMemoryLeaseStore implements LeaseStore {
+
+        final Map<String, Lease> leases = new ConcurrentHashMap<>();
+
+        @Override
+        public synchronized CompletionStage<Boolean> tryAcquire(String jobId, long slot, String owner, Duration duration) {
+            long now = System.currentTimeMillis();
+            Lease lease = leases.get(jobId);
+            if (lease != null && (lease.slot >= slot || lease.expiresAt > now)) {
+                return CompletableFuture.completedStage(false);
+            }
+            leases.put(jobId, new Lease(slot, owner, now + duration.toMillis()));
+            return CompletableFuture.completedStage(true);
+        }
+
+        @Override
+        public synchronized CompletionStage<Boolean> renew(String jobId, String owner, Duration duration) {
+            Lease lease = leases.get(jobId);
+            if (lease == null || !lease.owner.equals(owner)) {
+                return CompletableFuture.completedStage(false);
+            }
+            leases.put(jobId, new Lease(lease.slot, owner, System.currentTimeMillis() + duration.toMillis()));
+            return CompletableFuture.completedStage(true);
+        }
+
+        @Override
+        public synchronized CompletionStage<Void> release(String jobId, String owner) {
+            Lease lease = leases.get(jobId);
+            if (lease != null && lease.owner.equals(owner)) {
+                leases.put(jobId, new Lease(lease.slot, owner, 0));
+            }
+            return CompletableFuture.completedStage(null);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package io.quarkus.scheduler.test;
+
+import static io.quarkus.scheduler.Scheduled.ConcurrentExecution.QUEUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.event.Observes;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.SkippedExecution;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ConcurrentExecutionQueueTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class))
+            .overrideConfigKey("quarkus.scheduler.job.queued.max-queued-executions", "2")
+            .overrideConfigKey("quarkus.scheduler.job.queued.executor", "batch")
+            .overrideConfigKey("quarkus.scheduler.executor.batch.max-threads", "2");
+
+    @Test
+    public void testExecution() {
+        try {
+            // Wait until Jobs#queued() is executed 1x, queued 2x and skipped 1x
+            if (Jobs.SKIPPED_LATCH.await(10, TimeUnit.SECONDS)) {
+                // Exactly one job is running
+                assertEquals(1, Jobs.COUNTER.get());
+                assertTrue(Jobs.THREAD_NAME.startsWith("quarkus-scheduler-batch-"), Jobs.THREAD_NAME);
+                // Unblock all executions, the queued executions are performed afterwards
+                Jobs.BLOCKING_LATCH.countDown();
+                assertTrue(Jobs.COMPLETED_LATCH.await(5, TimeUnit.SECONDS));
+                // The queued executions are never performed concurrently
+                assertEquals(1, Jobs.MAX_CONCURRENT.get());
+            } else {
+                fail("Jobs were not executed in 10 seconds!");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch BLOCKING_LATCH = new CountDownLatch(1);
+        static final CountDownLatch SKIPPED_LATCH = new CountDownLatch(1);
+        static final CountDownLatch COMPLETED_LATCH = new CountDownLatch(3);
+
+        static final AtomicInteger COUNTER = new AtomicInteger(0);
+        static final AtomicInteger RUNNING = new AtomicInteger(0);
+        static final AtomicInteger MAX_CONCURRENT = new AtomicInteger(0);
+        static volatile String THREAD_NAME;
+
+        @Scheduled(identity = "queued", every = "0.2s", concurrentExecution = QUEUE)
+        void queued() throws InterruptedException {
+            COUNTER.incrementAndGet();
+            MAX_CONCURRENT.accumulateAndGet(RUNNING.incrementAndGet(), Math::max);
+            THREAD_NAME = Thread.currentThread().getName();
+            try {
+                if (!BLOCKING_LATCH.await(10, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("queued() execution blocked too long...");
+                }
+            } finally {
+                RUNNING.decrementAndGet();
+                COMPLETED_LATCH.countDown();
+            }
+        }
+
+        void onSkip(@Observes SkippedExecution event) {
+            SKIPPED_LATCH.countDown();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.scheduler.Trigger;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+
+public class ProgrammaticJobsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class, TaskBean.class));
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testManyJobs() throws InterruptedException {
+        int count = 1000;
+        CountDownLatch latch = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            scheduler.newJob("bulk" + i)
+                    .setInterval("1h")
+                    .setTask(execution -> latch.countDown())
+                    .schedule();
+        }
+        // The first execution of an interval job is performed immediately
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        // + the @Scheduled method
+        assertEquals(count + 1, scheduler.getScheduledJobs().size());
+        for (int i = 0; i < count; i++) {
+            assertNotNull(scheduler.unscheduleJob("bulk" + i));
+        }
+        assertEquals(1, scheduler.getScheduledJobs().size());
+    }
+
+    @Test
+    public void testOneShotJob() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Trigger trigger = scheduler.newJob("oneShot")
+                .setFireAt(Instant.now().plusMillis(200))
+                .setTask(execution -> latch.countDown())
+                .schedule();
+        assertEquals("oneShot", trigger.getId());
+        assertNotNull(scheduler.getScheduledJob("oneShot"));
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        // The job is removed once fired
+        Awaitility.await().until(() -> scheduler.getScheduledJob("oneShot") == null);
+    }
+
+    @Test
+    public void testAsyncTaskAndTaskBean() throws InterruptedException {
+        CountDownLatch asyncLatch = new CountDownLatch(2);
+        scheduler.newJob("async")
+                .setInterval("0.1s")
+                .setAsyncTask(execution -> {
+                    if (Context.isOnEventLoopThread()) {
+                        asyncLatch.countDown();
+                    }
+                    return Uni.createFrom().voidItem();
+                })
+                .schedule();
+        scheduler.newJob("bean")
+                .setInterval("0.1s")
+                .setTaskBean(TaskBean.class)
+                .schedule();
+        assertTrue(asyncLatch.await(5, TimeUnit.SECONDS));
+        assertTrue(TaskBean.LATCH.await(5, TimeUnit.SECONDS));
+        scheduler.unscheduleJob("async");
+        scheduler.unscheduleJob("bean");
+    }
+
+    @Test
+    public void testInvalidDefinitions() {
+        // No task
+        assertThrows(IllegalStateException.class, () -> scheduler.newJob("invalid").setInterval("1s").schedule());
+        // Two schedules
+        assertThrows(IllegalStateException.class,
+                () -> scheduler.newJob("invalid").setInterval("1s").setCron("0/1 * * * * ?").setTask(e -> {
+                }).schedule());
+        // Duplicate identity
+        assertThrows(IllegalStateException.class, () -> scheduler.newJob("scheduled").setInterval("1s").setTask(e -> {
+        }).schedule());
+        // Jobs declared with @Scheduled cannot be removed
+        assertNull(scheduler.unscheduleJob("scheduled"));
+        assertNull(scheduler.unscheduleJob("nonexistent"));
+    }
+
+    static class Jobs {
+
+        @Scheduled(identity = "scheduled", every = "1h")
+        void scheduled() {
+        }
+    }
+
+    @Singleton
+    static class TaskBean implements Consumer<ScheduledExecution> {
+
+        static final CountDownLatch LATCH = new CountDownLatch(2);
+
+        @Override
+        public void accept(ScheduledExecution execution) {
+            LATCH.countDown();
+        }
+    }
+}
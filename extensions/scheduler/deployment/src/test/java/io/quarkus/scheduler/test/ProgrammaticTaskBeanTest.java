@@ -0,0 +1,52 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ProgrammaticTaskBeanTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(NotInjectedTask.class));
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testTaskBeanNotInjectedAnywhere() throws InterruptedException {
+        // The bean is only referenced by the job definition
+        assertTrue(Arc.container().instance(NotInjectedTask.class).isAvailable());
+        scheduler.newJob("notInjected")
+                .setInterval("0.1s")
+                .setTaskBean(NotInjectedTask.class)
+                .schedule();
+        assertTrue(NotInjectedTask.LATCH.await(5, TimeUnit.SECONDS));
+        scheduler.unscheduleJob("notInjected");
+    }
+
+    @Singleton
+    public static class NotInjectedTask implements Consumer<ScheduledExecution> {
+
+        static final CountDownLatch LATCH = new CountDownLatch(2);
+
+        @Override
+        public void accept(ScheduledExecution execution) {
+            LATCH.countDown();
+        }
+    }
+}
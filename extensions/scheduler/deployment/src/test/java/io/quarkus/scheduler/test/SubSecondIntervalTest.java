@@ -0,0 +1,48 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.common.annotation.NonBlocking;
+import io.vertx.core.Context;
+
+public class SubSecondIntervalTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class));
+
+    @Test
+    public void testSubSecondIntervals() throws InterruptedException {
+        // Both methods are executed 10x in less than 2 seconds
+        assertTrue(Jobs.BLOCKING_LATCH.await(2, TimeUnit.SECONDS));
+        assertTrue(Jobs.NON_BLOCKING_LATCH.await(2, TimeUnit.SECONDS));
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch BLOCKING_LATCH = new CountDownLatch(10);
+        static final CountDownLatch NON_BLOCKING_LATCH = new CountDownLatch(10);
+
+        @Scheduled(every = "0.05s")
+        void blocking() {
+            BLOCKING_LATCH.countDown();
+        }
+
+        @NonBlocking
+        @Scheduled(every = "0.05s")
+        void nonBlocking() {
+            if (Context.isOnEventLoopThread()) {
+                NON_BLOCKING_LATCH.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class ClusterConfig {
+
+    /**
+     * If set to {@code true} each execution of a scheduled method is performed by a single application instance of the
+     * cluster. An instance acquires a lease in the configured store before the execution and the executions for which the
+     * lease is held by another instance are skipped.
+     * <p>
+     * This feature is only supported by the simple scheduler, the Quartz extension provides its own clustering.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The store used to hold the leases.
+     * <p>
+     * The {@code jdbc} store requires the Agroal extension and the {@code redis} store requires the Redis client extension.
+     * With the {@code custom} store, the application must provide a bean that implements
+     * {@link io.quarkus.scheduler.runtime.LeaseStore}.
+     */
+    @ConfigItem(defaultValue = "jdbc")
+    public StoreType store;
+
+    /**
+     * The name of the datasource used by the {@code jdbc} store. The default datasource is used if not set.
+     */
+    @ConfigItem
+    public Optional<String> datasource;
+
+    /**
+     * The name of the table used by the {@code jdbc} store.
+     */
+    @ConfigItem(defaultValue = "QUARKUS_SCHEDULER_LEASES")
+    public String tableName;
+
+    /**
+     * The prefix of the keys used by the {@code redis} store.
+     */
+    @ConfigItem(defaultValue = "quarkus:scheduler:lease:")
+    public String keyPrefix;
+
+    /**
+     * The duration of a lease. The lease is renewed every half of this duration while the scheduled method is executed, so
+     * that another instance can take over if the holder disappears without releasing it.
+     */
+    @ConfigItem(defaultValue = "30S")
+    public Duration leaseDuration;
+
+    public enum StoreType {
+        JDBC,
+        REDIS,
+        CUSTOM
+    }
+}
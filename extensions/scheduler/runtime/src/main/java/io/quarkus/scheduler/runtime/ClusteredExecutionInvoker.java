@@ -0,0 +1,146 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.enterprise.event.Event;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.SkippedExecution;
+import io.quarkus.scheduler.common.runtime.ScheduledInvoker;
+import io.quarkus.scheduler.runtime.SimpleScheduler.SimpleTrigger;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * An invoker wrapper that skips the executions for which the lease is held by another application instance.
+ * <p>
+ * The lease is renewed while the scheduled method is executed and released afterwards.
+ *
+ * @see ClusterConfig
+ */
+final class ClusteredExecutionInvoker implements ScheduledInvoker {
+
+    private static final Logger LOG = Logger.getLogger(ClusteredExecutionInvoker.class);
+
+    private final ScheduledInvoker delegate;
+    private final LeaseStore store;
+    private final String owner;
+    private final Duration leaseDuration;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final ExecutorService executor;
+    private final Event<SkippedExecution> event;
+    private final LongAdder leased;
+    private final LongAdder skipped;
+
+    ClusteredExecutionInvoker(ScheduledInvoker delegate, LeaseStore store, String owner, Duration leaseDuration,
+            ScheduledExecutorService scheduledExecutor, ExecutorService executor, Event<SkippedExecution> event,
+            LongAdder leased, LongAdder skipped) {
+        this.delegate = delegate;
+        this.store = store;
+        this.owner = owner;
+        this.leaseDuration = leaseDuration;
+        this.scheduledExecutor = scheduledExecutor;
+        this.executor = executor;
+        this.event = event;
+        this.leased = leased;
+        this.skipped = skipped;
+    }
+
+    @Override
+    public CompletionStage<Void> invoke(ScheduledExecution execution) throws Exception {
+        SimpleTrigger trigger = (SimpleTrigger) execution.getTrigger();
+        String jobId = trigger.getId();
+        CompletionStage<Boolean> lease = store.tryAcquire(jobId, trigger.getExecutionSlot(execution), owner, leaseDuration)
+                .exceptionally(t -> {
+                    LOG.warnf(t, "Unable to acquire the lease of %s", jobId);
+                    return false;
+                });
+        if (delegate.isBlocking()) {
+            // Blocking invokers are executed on a worker thread
+            if (lease.toCompletableFuture().join()) {
+                return execute(execution, jobId);
+            }
+            return skip(execution);
+        }
+        Context context = Vertx.currentContext();
+        return lease.thenCompose(acquired -> {
+            if (!acquired) {
+                return skip(execution);
+            }
+            if (context == null || context == Vertx.currentContext()) {
+                return execute(execution, jobId);
+            }
+            // Non-blocking invokers must be executed on the original context
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            context.runOnContext(ignored -> execute(execution, jobId).whenComplete((r, t) -> {
+                if (t != null) {
+                    result.completeExceptionally(t);
+                } else {
+                    result.complete(r);
+                }
+            }));
+            return result;
+        });
+    }
+
+    @Override
+    public boolean isBlocking() {
+        return delegate.isBlocking();
+    }
+
+    private CompletionStage<Void> execute(ScheduledExecution execution, String jobId) {
+        leased.increment();
+        long renewalPeriod = leaseDuration.toMillis() / 2;
+        ScheduledFuture<?> renewal = scheduledExecutor.scheduleAtFixedRate(() -> renew(jobId), renewalPeriod,
+                renewalPeriod, TimeUnit.MILLISECONDS);
+        CompletionStage<Void> result;
+        try {
+            result = delegate.invoke(execution);
+        } catch (Throwable t) {
+            result = CompletableFuture.failedStage(t);
+        }
+        return result.whenComplete((r, t) -> {
+            renewal.cancel(false);
+            store.release(jobId, owner).exceptionally(e -> {
+                LOG.warnf(e, "Unable to release the lease of %s", jobId);
+                return null;
+            });
+        });
+    }
+
+    private void renew(String jobId) {
+        try {
+            // Do not block the scheduler thread
+            executor.execute(() -> store.renew(jobId, owner, leaseDuration).whenComplete((renewed, t) -> {
+                if (t != null) {
+                    LOG.warnf(t, "Unable to renew the lease of %s", jobId);
+                } else if (!renewed) {
+                    LOG.warnf("The lease of %s was lost during the execution", jobId);
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            LOG.warnf("Rejected renewal of the lease of %s", jobId);
+        }
+    }
+
+    private CompletionStage<Void> skip(ScheduledExecution execution) {
+        LOG.debugf("Skipped scheduled invoker execution: %s", delegate.getClass().getName());
+        skipped.increment();
+        SkippedExecution payload = new SkippedExecution(execution,
+                "The lease of the scheduled method is held by another application instance");
+        event.fire(payload);
+        event.fireAsync(payload);
+        return CompletableFuture.completedStage(null);
+    }
+
+}
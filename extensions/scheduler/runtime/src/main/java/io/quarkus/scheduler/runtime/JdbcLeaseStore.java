@@ -0,0 +1,172 @@
+package io.quarkus.scheduler.runtime;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+
+import javax.inject.Singleton;
+import javax.sql.DataSource;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource.DataSourceLiteral;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.scheduler.common.runtime.SchedulerContext;
+import io.vertx.core.Context;
+
+/**
+ * A {@link LeaseStore} backed by a database table:
+ *
+ * <pre>
+ * CREATE TABLE QUARKUS_SCHEDULER_LEASES (
+ *     JOB_ID VARCHAR(255) NOT NULL PRIMARY KEY,
+ *     SLOT BIGINT NOT NULL,
+ *     OWNER VARCHAR(64) NOT NULL,
+ *     EXPIRES_AT BIGINT NOT NULL
+ * )
+ * </pre>
+ *
+ * The statements are executed on the main executor for blocking tasks if called from an event loop.
+ */
+@Singleton
+public class JdbcLeaseStore implements LeaseStore {
+
+    private final ExecutorService executor;
+    private final String acquireSql;
+    private final String selectSql;
+    private final String insertSql;
+    private final String renewSql;
+    private final String releaseSql;
+    private final String dataSourceName;
+    private volatile DataSource dataSource;
+
+    public JdbcLeaseStore(SchedulerConfig config, SchedulerContext context) {
+        this.executor = context.getExecutor();
+        this.dataSourceName = config.cluster.datasource.orElse(null);
+        String table = config.cluster.tableName;
+        this.acquireSql = "UPDATE " + table
+                + " SET SLOT = ?, OWNER = ?, EXPIRES_AT = ? WHERE JOB_ID = ? AND SLOT < ? AND EXPIRES_AT <= ?";
+        this.selectSql = "SELECT SLOT FROM " + table + " WHERE JOB_ID = ?";
+        this.insertSql = "INSERT INTO " + table + " (JOB_ID, SLOT, OWNER, EXPIRES_AT) VALUES (?, ?, ?, ?)";
+        this.renewSql = "UPDATE " + table + " SET EXPIRES_AT = ? WHERE JOB_ID = ? AND OWNER = ?";
+        this.releaseSql = "UPDATE " + table + " SET EXPIRES_AT = 0 WHERE JOB_ID = ? AND OWNER = ?";
+    }
+
+    @Override
+    public CompletionStage<Boolean> tryAcquire(String jobId, long slot, String owner, Duration duration) {
+        return execute(new Callable<Boolean>() {
+            @Override
+            public Boolean call() throws Exception {
+                long now = System.currentTimeMillis();
+                try (Connection connection = getDataSource().getConnection()) {
+                    try (PreparedStatement update = connection.prepareStatement(acquireSql)) {
+                        update.setLong(1, slot);
+                        update.setString(2, owner);
+                        update.setLong(3, now + duration.toMillis());
+                        update.setString(4, jobId);
+                        update.setLong(5, slot);
+                        update.setLong(6, now);
+                        if (update.executeUpdate() == 1) {
+                            return true;
+                        }
+                    }
+                    try (PreparedStatement select = connection.prepareStatement(selectSql)) {
+                        select.setString(1, jobId);
+                        try (ResultSet result = select.executeQuery()) {
+                            if (result.next()) {
+                                // The lease exists and is either held or already used for this slot
+                                return false;
+                            }
+                        }
+                    }
+                    try (PreparedStatement insert = connection.prepareStatement(insertSql)) {
+                        insert.setString(1, jobId);
+                        insert.setLong(2, slot);
+                        insert.setString(3, owner);
+                        insert.setLong(4, now + duration.toMillis());
+                        return insert.executeUpdate() == 1;
+                    } catch (SQLException e) {
+                        // The lease was created by another instance in the meantime
+                        return false;
+                    }
+                }
+            }
+        });
+    }
+
+    @Override
+    public CompletionStage<Boolean> renew(String jobId, String owner, Duration duration) {
+        return execute(new Callable<Boolean>() {
+            @Override
+            public Boolean call() throws Exception {
+                try (Connection connection = getDataSource().getConnection();
+                        PreparedStatement update = connection.prepareStatement(renewSql)) {
+                    update.setLong(1, System.currentTimeMillis() + duration.toMillis());
+                    update.setString(2, jobId);
+                    update.setString(3, owner);
+                    return update.executeUpdate() == 1;
+                }
+            }
+        });
+    }
+
+    @Override
+    public CompletionStage<Void> release(String jobId, String owner) {
+        return execute(new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                try (Connection connection = getDataSource().getConnection();
+                        PreparedStatement update = connection.prepareStatement(releaseSql)) {
+                    update.setString(1, jobId);
+                    update.setString(2, owner);
+                    update.executeUpdate();
+                    return null;
+                }
+            }
+        });
+    }
+
+    private <T> CompletionStage<T> execute(Callable<T> action) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    result.complete(action.call());
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            }
+        };
+        if (Context.isOnEventLoopThread()) {
+            executor.execute(task);
+        } else {
+            task.run();
+        }
+        return result;
+    }
+
+    private DataSource getDataSource() {
+        DataSource ds = dataSource;
+        if (ds == null) {
+            InstanceHandle<AgroalDataSource> handle = dataSourceName == null
+                    ? Arc.container().instance(AgroalDataSource.class)
+                    : Arc.container().instance(AgroalDataSource.class, new DataSourceLiteral(dataSourceName));
+            if (!handle.isAvailable()) {
+                throw new IllegalStateException(String.format(
+                        "JDBC lease store configured but '%s' datasource is missing",
+                        dataSourceName == null ? "default" : dataSourceName));
+            }
+            ds = handle.get();
+            dataSource = ds;
+        }
+        return ds;
+    }
+
+}
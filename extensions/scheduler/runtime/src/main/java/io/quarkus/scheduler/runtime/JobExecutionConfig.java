@@ -0,0 +1,40 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class JobExecutionConfig {
+
+    /**
+     * The maximum number of concurrent executions of the job.
+     * <p>
+     * By default, the executions of a job with the {@code PROCEED} strategy are not limited and a job with the {@code QUEUE}
+     * strategy is executed by one thread at a time. If set for a job with the {@code PROCEED} strategy, the executions that
+     * exceed the limit are skipped.
+     *
+     * @see io.quarkus.scheduler.Scheduled#concurrentExecution()
+     */
+    @ConfigItem
+    public OptionalInt maxConcurrentExecutions;
+
+    /**
+     * The maximum number of executions of a job with the {@code QUEUE} strategy that wait for a previous execution to
+     * complete. The executions that do not fit in the queue are skipped.
+     */
+    @ConfigItem(defaultValue = "100")
+    public int maxQueuedExecutions;
+
+    /**
+     * The name of the executor used to execute the blocking job, as configured by
+     * {@code quarkus.scheduler.executor."executor-name".*}. The default worker thread pool is used if not set.
+     * <p>
+     * This feature is only supported by the simple scheduler.
+     */
+    @ConfigItem
+    public Optional<String> executor;
+
+}
@@ -0,0 +1,37 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class JobExecutorConfig {
+
+    /**
+     * The maximum number of threads of the executor.
+     */
+    @ConfigItem(defaultValue = "1")
+    public int maxThreads;
+
+    /**
+     * The maximum number of executions waiting for a thread. The executions that do not fit in the queue are rejected.
+     */
+    @ConfigItem(defaultValue = "1000")
+    public int queueSize;
+
+    /**
+     * The time after which an idle thread is terminated.
+     */
+    @ConfigItem(defaultValue = "60S")
+    public Duration keepAliveTime;
+
+    /**
+     * If set to {@code true} each execution is performed by a new virtual thread, and the other settings are ignored.
+     * <p>
+     * Virtual threads require a JDK that supports them. A platform thread pool is used if virtual threads are not available.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean virtualThreads;
+
+}
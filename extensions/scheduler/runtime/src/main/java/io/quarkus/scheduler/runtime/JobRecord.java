@@ -0,0 +1,45 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Instant;
+
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+
+/**
+ * The persistent form of a job scheduled programmatically.
+ * <p>
+ * Exactly one of {@link #cron}, {@link #every} and {@link #fireAt} is set. The optional values are {@code null} if not set.
+ *
+ * @see JobStore
+ */
+public final class JobRecord {
+
+    public final String identity;
+    public final String cron;
+    public final String every;
+    public final Instant fireAt;
+    public final String delayed;
+    public final String overdueGracePeriod;
+    public final ConcurrentExecution concurrentExecution;
+    /**
+     * The name of the bean class that implements the task.
+     */
+    public final String taskBeanClass;
+
+    public JobRecord(String identity, String cron, String every, Instant fireAt, String delayed, String overdueGracePeriod,
+            ConcurrentExecution concurrentExecution, String taskBeanClass) {
+        this.identity = identity;
+        this.cron = cron;
+        this.every = every;
+        this.fireAt = fireAt;
+        this.delayed = delayed;
+        this.overdueGracePeriod = overdueGracePeriod;
+        this.concurrentExecution = concurrentExecution;
+        this.taskBeanClass = taskBeanClass;
+    }
+
+    @Override
+    public String toString() {
+        return "JobRecord [identity=" + identity + ", taskBeanClass=" + taskBeanClass + "]";
+    }
+
+}
@@ -0,0 +1,35 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.List;
+
+/**
+ * Persists the jobs scheduled programmatically by means of {@link io.quarkus.scheduler.Scheduler#newJob(String)} so that
+ * they can be restored by the simple scheduler when the application starts.
+ * <p>
+ * Only the jobs whose task is a bean, i.e. defined with
+ * {@link io.quarkus.scheduler.Scheduler.JobDefinition#setTaskBean(Class)}, are persisted. If a bean that implements this
+ * interface is available then it is used automatically.
+ * <p>
+ * The methods are called from the thread that schedules or unschedules a job and may block.
+ */
+public interface JobStore {
+
+    /**
+     *
+     * @param job the job to save, replaces any job with the same identity
+     */
+    void save(JobRecord job);
+
+    /**
+     *
+     * @param identity the job identity
+     */
+    void remove(String identity);
+
+    /**
+     *
+     * @return all the saved jobs
+     */
+    List<JobRecord> loadAll();
+
+}
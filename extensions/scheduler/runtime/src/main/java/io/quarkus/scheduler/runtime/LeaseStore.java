@@ -0,0 +1,48 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Holds the leases used by the simple scheduler to perform each execution of a scheduled method on a single application
+ * instance when the cluster-aware execution is enabled.
+ * <p>
+ * There is one lease per job identity. The lease for an execution slot can only be acquired if the slot is greater than the
+ * slot of the previous lease and if the previous lease is released or expired. The slots of a job are derived from the
+ * scheduled fire times, so that all the instances compute the same slot for the same execution.
+ * <p>
+ * The methods may be called on a Vert.x event loop and must not block it.
+ *
+ * @see ClusterConfig
+ */
+public interface LeaseStore {
+
+    /**
+     *
+     * @param jobId the job identity
+     * @param slot the execution slot
+     * @param owner the application instance
+     * @param duration the lease duration
+     * @return {@code true} if the lease was acquired, {@code false} otherwise
+     */
+    CompletionStage<Boolean> tryAcquire(String jobId, long slot, String owner, Duration duration);
+
+    /**
+     *
+     * @param jobId the job identity
+     * @param owner the application instance
+     * @param duration the new lease duration, starting now
+     * @return {@code true} if the lease is still held by the owner, {@code false} otherwise
+     */
+    CompletionStage<Boolean> renew(String jobId, String owner, Duration duration);
+
+    /**
+     * Releases the lease if still held by the owner. The slot of the lease is kept.
+     *
+     * @param jobId the job identity
+     * @param owner the application instance
+     * @return the result
+     */
+    CompletionStage<Void> release(String jobId, String owner);
+
+}
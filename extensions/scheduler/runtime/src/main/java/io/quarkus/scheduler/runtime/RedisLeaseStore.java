@@ -0,0 +1,67 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+
+import javax.inject.Singleton;
+
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * A {@link LeaseStore} backed by a Redis hash per job identity, updated atomically with Lua scripts.
+ * <p>
+ * The default Redis client is used.
+ */
+@Singleton
+public class RedisLeaseStore implements LeaseStore {
+
+    // KEYS[1] = lease, ARGV = slot, owner, now, expiresAt
+    private static final String ACQUIRE_SCRIPT = "local slot = redis.call('HGET', KEYS[1], 'slot') "
+            + "if slot and (tonumber(slot) >= tonumber(ARGV[1]) "
+            + "or tonumber(redis.call('HGET', KEYS[1], 'expires')) > tonumber(ARGV[3])) then return 0 end "
+            + "redis.call('HSET', KEYS[1], 'slot', ARGV[1], 'owner', ARGV[2], 'expires', ARGV[4]) "
+            + "return 1";
+
+    // KEYS[1] = lease, ARGV = owner, expiresAt
+    private static final String UPDATE_SCRIPT = "if redis.call('HGET', KEYS[1], 'owner') == ARGV[1] then "
+            + "redis.call('HSET', KEYS[1], 'expires', ARGV[2]) return 1 end "
+            + "return 0";
+
+    private final ReactiveRedisDataSource redis;
+    private final String keyPrefix;
+
+    public RedisLeaseStore(ReactiveRedisDataSource redis, SchedulerConfig config) {
+        this.redis = redis;
+        this.keyPrefix = config.cluster.keyPrefix;
+    }
+
+    @Override
+    public CompletionStage<Boolean> tryAcquire(String jobId, long slot, String owner, Duration duration) {
+        long now = System.currentTimeMillis();
+        return redis.execute("EVAL", ACQUIRE_SCRIPT, "1", keyPrefix + jobId, Long.toString(slot), owner,
+                Long.toString(now), Long.toString(now + duration.toMillis()))
+                .map(RedisLeaseStore::isTrue)
+                .subscribeAsCompletionStage();
+    }
+
+    @Override
+    public CompletionStage<Boolean> renew(String jobId, String owner, Duration duration) {
+        return redis.execute("EVAL", UPDATE_SCRIPT, "1", keyPrefix + jobId, owner,
+                Long.toString(System.currentTimeMillis() + duration.toMillis()))
+                .map(RedisLeaseStore::isTrue)
+                .subscribeAsCompletionStage();
+    }
+
+    @Override
+    public CompletionStage<Void> release(String jobId, String owner) {
+        return redis.execute("EVAL", UPDATE_SCRIPT, "1", keyPrefix + jobId, owner, "0")
+                .replaceWithVoid()
+                .subscribeAsCompletionStage();
+    }
+
+    private static boolean isTrue(Response response) {
+        return response != null && response.toInteger() == 1;
+    }
+
+}
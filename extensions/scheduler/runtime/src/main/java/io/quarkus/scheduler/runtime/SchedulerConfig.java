@@ -24,4 +24,10 @@ public class SchedulerConfig {
     @ConfigItem(name = "metrics.enabled")
     public boolean metricsEnabled;
 
+    /**
+     * Cluster-aware execution of the scheduled methods.
+     */
+    @ConfigItem
+    public ClusterConfig cluster;
+
 }
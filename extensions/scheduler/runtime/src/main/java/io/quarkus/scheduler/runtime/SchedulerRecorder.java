@@ -2,11 +2,15 @@
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import com.cronutils.model.CronType;
 
+import io.quarkus.arc.Arc;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.scheduler.Scheduler;
 import io.quarkus.scheduler.common.runtime.ScheduledMethodMetadata;
 import io.quarkus.scheduler.common.runtime.SchedulerContext;
 
@@ -38,4 +42,39 @@ public List<ScheduledMethodMetadata> getScheduledMethods() {
             }
         };
     }
+
+    public Consumer<MetricsFactory> registerClusterMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                metricsFactory.builder("scheduled.cluster.executions")
+                        .description("Number of executions performed after acquiring the cluster lease.")
+                        .tag("result", "leased")
+                        .buildCounter(() -> getScheduler().getLeasedExecutions());
+                metricsFactory.builder("scheduled.cluster.executions")
+                        .description("Number of executions skipped because the cluster lease was held by another instance.")
+                        .tag("result", "skipped")
+                        .buildCounter(() -> getScheduler().getClusterSkippedExecutions());
+            }
+        };
+    }
+
+    public Consumer<MetricsFactory> registerJobMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                metricsFactory.builder("scheduled.jobs")
+                        .description("Number of scheduled jobs.")
+                        .buildGauge(() -> getScheduler().getJobsCount());
+                metricsFactory.builder("scheduled.fires")
+                        .description("Number of times a scheduled job was fired.")
+                        .buildCounter(() -> getScheduler().getFires());
+                getScheduler().registerJobMetrics(metricsFactory);
+            }
+        };
+    }
+
+    private static SimpleScheduler getScheduler() {
+        return (SimpleScheduler) Arc.container().instance(Scheduler.class).get();
+    }
 }
@@ -1,7 +1,10 @@
 package io.quarkus.scheduler.runtime;
 
 import java.time.Duration;
+import java.util.Map;
 
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
+import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -20,4 +23,20 @@ public class SchedulerRuntimeConfig {
      */
     @ConfigItem(defaultValue = "1")
     public Duration overdueGracePeriod;
+
+    /**
+     * Execution configuration per job.
+     */
+    @ConfigDocSection
+    @ConfigDocMapKey("identity")
+    @ConfigItem(name = "job")
+    public Map<String, JobExecutionConfig> jobs;
+
+    /**
+     * Dedicated executors for blocking scheduled jobs.
+     */
+    @ConfigDocSection
+    @ConfigDocMapKey("executor-name")
+    @ConfigItem(name = "executor")
+    public Map<String, JobExecutorConfig> executors;
 }
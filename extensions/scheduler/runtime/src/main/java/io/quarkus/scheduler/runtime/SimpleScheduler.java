@@ -2,18 +2,32 @@
 
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import javax.annotation.PreDestroy;
@@ -21,6 +35,7 @@
 import javax.enterprise.event.Event;
 import javax.enterprise.event.Observes;
 import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.Typed;
 import javax.inject.Singleton;
 import javax.interceptor.Interceptor;
@@ -29,21 +44,25 @@
 import org.jboss.threads.JBossScheduledThreadPoolExecutor;
 
 import com.cronutils.model.Cron;
-import com.cronutils.model.definition.CronDefinition;
 import com.cronutils.model.definition.CronDefinitionBuilder;
 import com.cronutils.model.time.ExecutionTime;
 import com.cronutils.parser.CronParser;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.runtime.StartupEvent;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
 import io.quarkus.scheduler.FailedExecution;
 import io.quarkus.scheduler.Scheduled;
 import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import io.quarkus.scheduler.Scheduled.SkipPredicate;
 import io.quarkus.scheduler.ScheduledExecution;
 import io.quarkus.scheduler.Scheduler;
 import io.quarkus.scheduler.SkippedExecution;
 import io.quarkus.scheduler.SuccessfulExecution;
 import io.quarkus.scheduler.Trigger;
+import io.quarkus.scheduler.common.runtime.AbstractJobDefinition;
+import io.quarkus.scheduler.common.runtime.LimitConcurrentExecutionInvoker;
 import io.quarkus.scheduler.common.runtime.ScheduledInvoker;
 import io.quarkus.scheduler.common.runtime.ScheduledMethodMetadata;
 import io.quarkus.scheduler.common.runtime.SchedulerContext;
@@ -63,61 +82,111 @@ public class SimpleScheduler implements Scheduler {
 
     private static final Logger LOG = Logger.getLogger(SimpleScheduler.class);
 
-    // milliseconds
-    private static final long CHECK_PERIOD = 1000L;
+    static final int DEFAULT_MAX_QUEUED_EXECUTIONS = 100;
 
     private final ScheduledExecutorService scheduledExecutor;
     private final ExecutorService executor;
     private final Vertx vertx;
     private volatile boolean running;
-    private final List<ScheduledTask> scheduledTasks;
+    private volatile boolean stopped;
+    // identity -> task
+    private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
     private final boolean enabled;
-
-    public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
-            Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
-            Event<FailedExecution> failedExecutionEvent, Vertx vertx) {
+    private final CronParser cronParser;
+    private final Duration defaultOverdueGracePeriod;
+    private final Event<SkippedExecution> skippedExecutionEvent;
+    private final Event<SuccessfulExecution> successExecutionEvent;
+    private final Event<FailedExecution> failedExecutionEvent;
+    private final LeaseStore leaseStore;
+    private final String owner;
+    private final Duration leaseDuration;
+    private final JobStore jobStore;
+    private final LongAdder leasedExecutions;
+    private final LongAdder clusterSkippedExecutions;
+    private final LongAdder fires;
+    private volatile TimeRecorder fireLag;
+    private final Map<String, JobExecutionConfig> jobConfigs;
+    // executor name -> dedicated executor
+    private final Map<String, ExecutorService> jobExecutors;
+    // identity -> metrics, only for the jobs that have an execution config
+    private final ConcurrentMap<String, JobMetrics> jobMetrics;
+    private volatile MetricsFactory metricsFactory;
+
+    public SimpleScheduler(SchedulerContext context, SchedulerConfig schedulerConfig,
+            SchedulerRuntimeConfig schedulerRuntimeConfig, Event<SkippedExecution> skippedExecutionEvent,
+            Event<SuccessfulExecution> successExecutionEvent, Event<FailedExecution> failedExecutionEvent,
+            Instance<LeaseStore> leaseStores, Instance<JobStore> jobStores, Vertx vertx) {
         this.running = true;
+        this.leasedExecutions = new LongAdder();
+        this.clusterSkippedExecutions = new LongAdder();
+        this.fires = new LongAdder();
         this.enabled = schedulerRuntimeConfig.enabled;
-        this.scheduledTasks = new ArrayList<>();
+        this.scheduledTasks = new ConcurrentHashMap<>();
         this.executor = context.getExecutor();
         this.vertx = vertx;
+        this.cronParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(context.getCronType()));
+        this.defaultOverdueGracePeriod = schedulerRuntimeConfig.overdueGracePeriod;
+        this.skippedExecutionEvent = skippedExecutionEvent;
+        this.successExecutionEvent = successExecutionEvent;
+        this.failedExecutionEvent = failedExecutionEvent;
+        this.leaseDuration = schedulerConfig.cluster.leaseDuration;
+        this.jobStore = jobStores.isResolvable() ? jobStores.get() : null;
+        this.jobConfigs = schedulerRuntimeConfig.jobs;
+        this.jobExecutors = new HashMap<>();
+        this.jobMetrics = new ConcurrentHashMap<>();
 
         if (!schedulerRuntimeConfig.enabled) {
             this.scheduledExecutor = null;
+            this.leaseStore = null;
+            this.owner = null;
             LOG.info("Simple scheduler is disabled by config property and will not be started");
-        } else if (context.getScheduledMethods().isEmpty()) {
-            this.scheduledExecutor = null;
-            LOG.info("No scheduled business methods found - Simple scheduler will not be started");
+            return;
+        }
+        if (context.getScheduledMethods().isEmpty()) {
+            // Jobs may still be scheduled programmatically
+            LOG.debug("No scheduled business methods found");
+        }
+        JBossScheduledThreadPoolExecutor scheduledThreadPool = new JBossScheduledThreadPoolExecutor(1, new Runnable() {
+            @Override
+            public void run() {
+                // noop
+            }
+        });
+        // Remove the cancelled tasks from the queue immediately
+        scheduledThreadPool.setRemoveOnCancelPolicy(true);
+        this.scheduledExecutor = scheduledThreadPool;
+
+        for (Entry<String, JobExecutorConfig> entry : schedulerRuntimeConfig.executors.entrySet()) {
+            jobExecutors.put(entry.getKey(), createJobExecutor(entry.getKey(), entry.getValue()));
+        }
+
+        if (schedulerConfig.cluster.enabled) {
+            if (!leaseStores.isResolvable()) {
+                throw new IllegalStateException(
+                        "Cluster-aware execution is enabled but no unique LeaseStore bean is available for the store: "
+                                + schedulerConfig.cluster.store);
+            }
+            this.leaseStore = leaseStores.get();
+            this.owner = UUID.randomUUID().toString();
+            LOG.debugf("Cluster-aware execution enabled, instance id: %s", owner);
         } else {
-            this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, new Runnable() {
-                @Override
-                public void run() {
-                    // noop
-                }
-            });
-
-            CronDefinition definition = CronDefinitionBuilder.instanceDefinitionFor(context.getCronType());
-            CronParser parser = new CronParser(definition);
-
-            for (ScheduledMethodMetadata method : context.getScheduledMethods()) {
-                int nameSequence = 0;
-                for (Scheduled scheduled : method.getSchedules()) {
-                    nameSequence++;
-                    Optional<SimpleTrigger> trigger = createTrigger(method.getInvokerClassName(), parser, scheduled,
-                            nameSequence, schedulerRuntimeConfig.overdueGracePeriod);
-                    if (trigger.isPresent()) {
-                        ScheduledInvoker invoker = new StatusEmitterInvoker(context.createInvoker(method.getInvokerClassName()),
-                                successExecutionEvent, failedExecutionEvent);
-                        if (scheduled.concurrentExecution() == ConcurrentExecution.SKIP) {
-                            invoker = new SkipConcurrentExecutionInvoker(invoker, skippedExecutionEvent);
-                        }
-                        if (!scheduled.skipExecutionIf().equals(Scheduled.Never.class)) {
-                            invoker = new SkipPredicateInvoker(invoker,
-                                    Arc.container().select(scheduled.skipExecutionIf(), Any.Literal.INSTANCE).get(),
-                                    skippedExecutionEvent);
-                        }
-                        scheduledTasks.add(new ScheduledTask(trigger.get(), invoker));
-                    }
+            this.leaseStore = null;
+            this.owner = null;
+        }
+
+        for (ScheduledMethodMetadata method : context.getScheduledMethods()) {
+            int nameSequence = 0;
+            for (Scheduled scheduled : method.getSchedules()) {
+                nameSequence++;
+                Optional<SimpleTrigger> trigger = createTrigger(method.getInvokerClassName(), cronParser, scheduled,
+                        nameSequence, defaultOverdueGracePeriod);
+                if (trigger.isPresent()) {
+                    SkipPredicate skipPredicate = scheduled.skipExecutionIf().equals(Scheduled.Never.class) ? null
+                            : Arc.container().select(scheduled.skipExecutionIf(), Any.Literal.INSTANCE).get();
+                    ScheduledInvoker invoker = initInvoker(trigger.get().getId(),
+                            context.createInvoker(method.getInvokerClassName()),
+                            scheduled.concurrentExecution(), skipPredicate);
+                    scheduledTasks.put(trigger.get().getId(), new ScheduledTask(trigger.get(), invoker, false));
                 }
             }
         }
@@ -128,37 +197,150 @@ void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEven
         if (scheduledExecutor == null) {
             return;
         }
-        // Try to compute the initial delay to execute the checks near to the whole second
-        // Note that this does not guarantee anything, it's just best effort
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime trunc = now.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
-        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), CHECK_PERIOD,
-                TimeUnit.MILLISECONDS);
+        for (ScheduledTask task : scheduledTasks.values()) {
+            task.schedule();
+        }
+        if (jobStore != null) {
+            restoreJobs();
+        }
     }
 
     @PreDestroy
     void stop() {
+        stopped = true;
         try {
             if (scheduledExecutor != null) {
+                for (ScheduledTask task : scheduledTasks.values()) {
+                    task.cancel();
+                }
                 scheduledExecutor.shutdownNow();
             }
+            for (ExecutorService jobExecutor : jobExecutors.values()) {
+                jobExecutor.shutdownNow();
+            }
         } catch (Exception e) {
             LOG.warn("Unable to shutdown the scheduler executor", e);
         }
     }
 
-    void checkTriggers() {
-        if (!running) {
-            LOG.trace("Skip all triggers - scheduler paused");
+    @Override
+    public JobDefinition newJob(String identity) {
+        if (scheduledExecutor == null) {
+            throw new IllegalStateException("Scheduler is disabled and no job can be scheduled");
+        }
+        return new SimpleJobDefinition(SchedulerUtils.lookUpPropertyValue(identity));
+    }
+
+    @Override
+    public Trigger unscheduleJob(String identity) {
+        if (identity == null || identity.isEmpty()) {
+            return null;
+        }
+        String parsedIdentity = SchedulerUtils.lookUpPropertyValue(identity);
+        ScheduledTask task = scheduledTasks.get(parsedIdentity);
+        if (task == null || !task.programmatic) {
+            return null;
+        }
+        removeTask(task);
+        jobMetrics.remove(parsedIdentity);
+        return task.trigger;
+    }
+
+    private void removeTask(ScheduledTask task) {
+        if (scheduledTasks.remove(task.trigger.getId(), task)) {
+            task.cancel();
+            if (jobStore != null && task.persistent) {
+                try {
+                    jobStore.remove(task.trigger.getId());
+                } catch (Exception e) {
+                    LOG.warnf(e, "Unable to remove job %s from the job store", task.trigger.getId());
+                }
+            }
+        }
+    }
+
+    private void restoreJobs() {
+        List<JobRecord> records;
+        try {
+            records = jobStore.loadAll();
+        } catch (Exception e) {
+            LOG.error("Unable to load the jobs from the job store", e);
             return;
         }
-        ZonedDateTime now = ZonedDateTime.now();
-        LOG.tracef("Check triggers at %s", now);
-        for (ScheduledTask task : scheduledTasks) {
-            task.execute(now, executor, vertx);
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        for (JobRecord record : records) {
+            if (scheduledTasks.containsKey(record.identity)) {
+                continue;
+            }
+            try {
+                @SuppressWarnings("unchecked")
+                Class<? extends Consumer<ScheduledExecution>> taskBeanClass = (Class<? extends Consumer<ScheduledExecution>>) cl
+                        .loadClass(record.taskBeanClass);
+                SimpleJobDefinition definition = new SimpleJobDefinition(record.identity);
+                definition.restored = true;
+                if (record.cron != null) {
+                    definition.setCron(record.cron);
+                } else if (record.every != null) {
+                    definition.setInterval(record.every);
+                } else {
+                    definition.setFireAt(record.fireAt);
+                }
+                if (record.delayed != null) {
+                    definition.setDelayed(record.delayed);
+                }
+                if (record.overdueGracePeriod != null) {
+                    definition.setOverdueGracePeriod(record.overdueGracePeriod);
+                }
+                definition.setConcurrentExecution(record.concurrentExecution).setTaskBean(taskBeanClass).schedule();
+                LOG.debugf("Restored job %s from the job store", record.identity);
+            } catch (Exception e) {
+                LOG.errorf(e, "Unable to restore job %s from the job store", record.identity);
+            }
         }
     }
 
+    private ScheduledInvoker initInvoker(String identity, ScheduledInvoker invoker, ConcurrentExecution concurrentExecution,
+            SkipPredicate skipPredicate) {
+        invoker = new StatusEmitterInvoker(invoker, successExecutionEvent, failedExecutionEvent);
+        JobExecutionConfig jobConfig = jobConfigs.get(identity);
+        JobMetrics metrics = null;
+        if (jobConfig != null) {
+            metrics = new JobMetrics(identity);
+            invoker = new LatencyRecordingInvoker(invoker, metrics);
+        }
+        if (concurrentExecution == ConcurrentExecution.SKIP) {
+            invoker = new SkipConcurrentExecutionInvoker(invoker, skippedExecutionEvent);
+        } else if (concurrentExecution == ConcurrentExecution.QUEUE) {
+            LimitConcurrentExecutionInvoker limiter = new LimitConcurrentExecutionInvoker(invoker,
+                    jobConfig != null ? jobConfig.maxConcurrentExecutions.orElse(1) : 1,
+                    jobConfig != null ? jobConfig.maxQueuedExecutions : DEFAULT_MAX_QUEUED_EXECUTIONS, skippedExecutionEvent);
+            invoker = limiter;
+            if (metrics != null) {
+                metrics.limiter = limiter;
+            }
+        } else if (jobConfig != null && jobConfig.maxConcurrentExecutions.isPresent()) {
+            LimitConcurrentExecutionInvoker limiter = new LimitConcurrentExecutionInvoker(invoker,
+                    jobConfig.maxConcurrentExecutions.getAsInt(), 0, skippedExecutionEvent);
+            invoker = limiter;
+            metrics.limiter = limiter;
+        }
+        if (metrics != null) {
+            jobMetrics.put(identity, metrics);
+            MetricsFactory factory = metricsFactory;
+            if (factory != null) {
+                metrics.register(factory);
+            }
+        }
+        if (leaseStore != null) {
+            invoker = new ClusteredExecutionInvoker(invoker, leaseStore, owner, leaseDuration, scheduledExecutor, executor,
+                    skippedExecutionEvent, leasedExecutions, clusterSkippedExecutions);
+        }
+        if (skipPredicate != null) {
+            invoker = new SkipPredicateInvoker(invoker, skipPredicate, skippedExecutionEvent);
+        }
+        return invoker;
+    }
+
     @Override
     public void pause() {
         if (!enabled) {
@@ -175,12 +357,9 @@ public void pause(String identity) {
             LOG.warn("Cannot pause - identity is empty");
             return;
         }
-        String parsedIdentity = SchedulerUtils.lookUpPropertyValue(identity);
-        for (ScheduledTask task : scheduledTasks) {
-            if (parsedIdentity.equals(task.trigger.id)) {
-                task.trigger.setRunning(false);
-                return;
-            }
+        ScheduledTask task = scheduledTasks.get(SchedulerUtils.lookUpPropertyValue(identity));
+        if (task != null) {
+            task.trigger.setRunning(false);
         }
     }
 
@@ -190,13 +369,8 @@ public boolean isPaused(String identity) {
         if (identity.isEmpty()) {
             return false;
         }
-        String parsedIdentity = SchedulerUtils.lookUpPropertyValue(identity);
-        for (ScheduledTask task : scheduledTasks) {
-            if (parsedIdentity.equals(task.trigger.id)) {
-                return !task.trigger.isRunning();
-            }
-        }
-        return false;
+        ScheduledTask task = scheduledTasks.get(SchedulerUtils.lookUpPropertyValue(identity));
+        return task != null && !task.trigger.isRunning();
     }
 
     @Override
@@ -205,6 +379,9 @@ public void resume() {
             LOG.warn("Scheduler is disabled and cannot be resumed");
         } else {
             running = true;
+            for (ScheduledTask task : scheduledTasks.values()) {
+                task.unpark();
+            }
         }
     }
 
@@ -215,12 +392,10 @@ public void resume(String identity) {
             LOG.warn("Cannot resume - identity is empty");
             return;
         }
-        String parsedIdentity = SchedulerUtils.lookUpPropertyValue(identity);
-        for (ScheduledTask task : scheduledTasks) {
-            if (parsedIdentity.equals(task.trigger.id)) {
-                task.trigger.setRunning(true);
-                return;
-            }
+        ScheduledTask task = scheduledTasks.get(SchedulerUtils.lookUpPropertyValue(identity));
+        if (task != null) {
+            task.trigger.setRunning(true);
+            task.unpark();
         }
     }
 
@@ -229,6 +404,51 @@ public boolean isRunning() {
         return enabled && running;
     }
 
+    long getLeasedExecutions() {
+        return leasedExecutions.sum();
+    }
+
+    long getClusterSkippedExecutions() {
+        return clusterSkippedExecutions.sum();
+    }
+
+    /**
+     * Registers the metrics of the jobs that have an execution config and of the dedicated executors. The metrics of the
+     * jobs scheduled programmatically afterwards are registered when the job is scheduled.
+     *
+     * @param metricsFactory
+     */
+    void registerJobMetrics(MetricsFactory metricsFactory) {
+        this.metricsFactory = metricsFactory;
+        this.fireLag = metricsFactory.builder("scheduled.fire.lag")
+                .description("Delay between the planned and the actual fire times.")
+                .buildTimer();
+        for (JobMetrics metrics : jobMetrics.values()) {
+            metrics.register(metricsFactory);
+        }
+        for (Entry<String, ExecutorService> entry : jobExecutors.entrySet()) {
+            if (entry.getValue() instanceof ThreadPoolExecutor) {
+                ThreadPoolExecutor pool = (ThreadPoolExecutor) entry.getValue();
+                metricsFactory.builder("scheduled.executor.queue")
+                        .description("Number of executions waiting for a thread of the executor.")
+                        .tag("executor", entry.getKey())
+                        .buildGauge(() -> pool.getQueue().size());
+                metricsFactory.builder("scheduled.executor.active")
+                        .description("Number of threads of the executor that are executing a job.")
+                        .tag("executor", entry.getKey())
+                        .buildGauge(pool::getActiveCount);
+            }
+        }
+    }
+
+    int getJobsCount() {
+        return scheduledTasks.size();
+    }
+
+    long getFires() {
+        return fires.sum();
+    }
+
     Optional<SimpleTrigger> createTrigger(String invokerClass, CronParser parser, Scheduled scheduled, int nameSequence,
             Duration defaultGracePeriod) {
         String id = SchedulerUtils.lookUpPropertyValue(scheduled.identity());
@@ -264,8 +484,9 @@ Optional<SimpleTrigger> createTrigger(String invokerClass, CronParser parser, Sc
             if (!everyMillis.isPresent()) {
                 return Optional.empty();
             }
+            // With cluster-aware execution, all the instances must fire at the same times to compute the same slots
             return Optional.of(new IntervalTrigger(id, start, everyMillis.getAsLong(),
-                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod)));
+                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), leaseStore != null));
         } else {
             throw new IllegalArgumentException("Invalid schedule configuration: " + scheduled);
         }
@@ -273,7 +494,7 @@ Optional<SimpleTrigger> createTrigger(String invokerClass, CronParser parser, Sc
 
     @Override
     public List<Trigger> getScheduledJobs() {
-        return scheduledTasks.stream().map(task -> task.trigger).collect(Collectors.toUnmodifiableList());
+        return scheduledTasks.values().stream().map(task -> task.trigger).collect(Collectors.toUnmodifiableList());
     }
 
     @Override
@@ -282,34 +503,142 @@ public Trigger getScheduledJob(String identity) {
         if (identity.isEmpty()) {
             return null;
         }
-        String parsedIdentity = SchedulerUtils.lookUpPropertyValue(identity);
-        for (ScheduledTask task : scheduledTasks) {
-            if (parsedIdentity.equals(task.trigger.id)) {
-                return task.trigger;
+        ScheduledTask task = scheduledTasks.get(SchedulerUtils.lookUpPropertyValue(identity));
+        return task != null ? task.trigger : null;
+    }
+
+    private ExecutorService createJobExecutor(String name, JobExecutorConfig config) {
+        if (config.virtualThreads) {
+            try {
+                // Virtual threads are looked up reflectively so that the extension can be compiled with Java 11
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                LOG.warnf("Virtual threads are not supported by the current JDK, a thread pool is used for executor %s",
+                        name);
             }
         }
-        return null;
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(config.maxThreads, config.maxThreads,
+                config.keepAliveTime.toMillis(), TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(config.queueSize),
+                new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        Thread thread = new Thread(runnable, "quarkus-scheduler-" + name + "-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private ExecutorService getExecutor(String identity) {
+        JobExecutionConfig jobConfig = jobConfigs.get(identity);
+        if (jobConfig == null || jobConfig.executor.isEmpty()) {
+            return executor;
+        }
+        ExecutorService jobExecutor = jobExecutors.get(jobConfig.executor.get());
+        if (jobExecutor == null) {
+            throw new IllegalStateException("Unknown executor " + jobConfig.executor.get() + " configured for job " + identity);
+        }
+        return jobExecutor;
     }
 
-    static class ScheduledTask {
+    /**
+     * A task is registered at the next fire time of its trigger, instead of checking all the triggers periodically.
+     * Blocking tasks are registered in the scheduled executor (a priority queue ordered by the fire time). Non-blocking tasks
+     * are registered as Vert.x timers so that they are fired directly on an event loop.
+     */
+    final class ScheduledTask {
 
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
-
-        ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker) {
+        // The executor of a blocking task
+        final ExecutorService taskExecutor;
+        // Registered with the Scheduler API, i.e. may be unscheduled
+        final boolean programmatic;
+        // Saved in the job store
+        volatile boolean persistent;
+
+        // The pending registration, either a ScheduledFuture or a Vert.x timer id; guarded by this
+        private Object registration;
+        // The task is parked while paused and registered again when resumed; guarded by this
+        private boolean parked;
+
+        ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, boolean programmatic) {
             this.trigger = trigger;
             this.invoker = invoker;
+            this.programmatic = programmatic;
+            this.taskExecutor = getExecutor(trigger.getId());
+        }
+
+        synchronized void schedule() {
+            if (stopped) {
+                return;
+            }
+            Instant nextFireTime = trigger.getNextFireTime();
+            if (nextFireTime == null) {
+                LOG.debugf("%s will never fire again", trigger);
+                registration = null;
+                if (programmatic) {
+                    removeTask(this);
+                }
+                return;
+            }
+            long delay = Math.max(0, nextFireTime.toEpochMilli() - System.currentTimeMillis());
+            if (invoker.isBlocking()) {
+                try {
+                    registration = scheduledExecutor.schedule(this::fire, delay, TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    // The scheduler was stopped
+                    registration = null;
+                }
+            } else {
+                // Vert.x timers require a delay of at least 1 ms
+                registration = vertx.setTimer(Math.max(1, delay), timerId -> fire());
+            }
         }
 
-        void execute(ZonedDateTime now, ExecutorService executor, Vertx vertx) {
-            if (!trigger.isRunning()) {
+        synchronized void cancel() {
+            if (registration instanceof Future) {
+                ((Future<?>) registration).cancel(false);
+            } else if (registration instanceof Long) {
+                vertx.cancelTimer((Long) registration);
+            }
+            registration = null;
+        }
+
+        synchronized void unpark() {
+            if (parked) {
+                parked = false;
+                schedule();
+            }
+        }
+
+        void fire() {
+            if (!running || !trigger.isRunning()) {
+                synchronized (this) {
+                    LOG.tracef("%s parked - paused", trigger);
+                    registration = null;
+                    parked = true;
+                }
+                // The task may have been resumed in the meantime
+                if (running && trigger.isRunning()) {
+                    unpark();
+                }
                 return;
             }
+            ZonedDateTime now = ZonedDateTime.now();
             ZonedDateTime scheduledFireTime = trigger.evaluate(now);
             if (scheduledFireTime != null) {
+                fires.increment();
+                TimeRecorder lag = fireLag;
+                if (lag != null) {
+                    lag.update(Math.max(0, ChronoUnit.MILLIS.between(scheduledFireTime, now)), TimeUnit.MILLISECONDS);
+                }
                 if (invoker.isBlocking()) {
                     try {
-                        executor.execute(new Runnable() {
+                        taskExecutor.execute(new Runnable() {
                             @Override
                             public void run() {
                                 doInvoke(now, scheduledFireTime);
@@ -319,6 +648,7 @@ public void run() {
                         LOG.warnf("Rejected execution of a scheduled task for trigger %s", trigger);
                     }
                 } else {
+                    // We are already on the event loop of the timer, the duplicated context shares this event loop
                     Context context = VertxContext.getOrCreateDuplicatedContext(vertx);
                     VertxContextSafetyToggle.setContextSafe(context, true);
                     context.runOnContext(new Handler<Void>() {
@@ -329,6 +659,7 @@ public void handle(Void event) {
                     });
                 }
             }
+            schedule();
         }
 
         void doInvoke(ZonedDateTime now, ZonedDateTime scheduledFireTime) {
@@ -360,6 +691,14 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * All the application instances of a cluster must compute the same slot for the same execution.
+         *
+         * @param execution
+         * @return the execution slot used to acquire the cluster lease
+         */
+        abstract long getExecutionSlot(ScheduledExecution execution);
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -385,11 +724,14 @@ static class IntervalTrigger extends SimpleTrigger {
         // milliseconds
         private final long interval;
         private final Duration gracePeriod;
+        // Fire at the multiples of the interval since the epoch, instead of relatively to the start of the instance
+        private final boolean aligned;
 
-        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod) {
+        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, boolean aligned) {
             super(id, start);
             this.interval = interval;
             this.gracePeriod = gracePeriod;
+            this.aligned = aligned;
         }
 
         @Override
@@ -398,37 +740,72 @@ ZonedDateTime evaluate(ZonedDateTime now) {
                 return null;
             }
             if (lastFireTime == null) {
-                // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
-                return now;
+                if (!aligned) {
+                    // First execution
+                    lastFireTime = now;
+                    return now;
+                }
+                // The first execution is performed at the first multiple of the interval after the start
+                ZonedDateTime firstFireTime = alignAfter(start.toInstant()).atZone(now.getZone());
+                if (now.isBefore(firstFireTime)) {
+                    return null;
+                }
+                lastFireTime = firstFireTime.minus(Duration.ofMillis(interval));
             }
             long diff = ChronoUnit.MILLIS.between(lastFireTime, now);
             if (diff >= interval) {
                 ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                if (aligned) {
+                    // If an execution was missed, e.g. when paused, fire for the interval the current time belongs to
+                    scheduledFireTime = diff < 2 * interval ? scheduledFireTime : align(now);
+                    lastFireTime = scheduledFireTime;
+                } else {
+                    // Keep a fixed rate unless an execution was missed, e.g. when paused
+                    lastFireTime = diff < 2 * interval ? scheduledFireTime : now;
+                }
                 LOG.tracef("%s fired, diff=%s ms", this, diff);
                 return scheduledFireTime;
             }
             return null;
         }
 
+        @Override
+        long getExecutionSlot(ScheduledExecution execution) {
+            // The triggers are aligned when the cluster-aware execution is enabled
+            return execution.getScheduledFireTime().toEpochMilli();
+        }
+
         @Override
         public Instant getNextFireTime() {
             ZonedDateTime last = lastFireTime;
             if (last == null) {
-                last = start;
+                // The first execution is performed at start, or at the first multiple of the interval after it
+                return aligned ? alignAfter(start.toInstant()) : start.toInstant();
             }
             return last.plus(Duration.ofMillis(interval)).toInstant();
         }
 
+        private ZonedDateTime align(ZonedDateTime time) {
+            long millis = time.toInstant().toEpochMilli();
+            return Instant.ofEpochMilli(millis - Math.floorMod(millis, interval)).atZone(time.getZone());
+        }
+
+        private Instant alignAfter(Instant time) {
+            long millis = time.toEpochMilli();
+            long remainder = Math.floorMod(millis, interval);
+            return Instant.ofEpochMilli(remainder == 0 ? millis : millis - remainder + interval);
+        }
+
         @Override
         public boolean isOverdue() {
             ZonedDateTime now = ZonedDateTime.now();
             if (now.isBefore(start)) {
                 return false;
             }
-            return lastFireTime == null || lastFireTime.plus(Duration.ofMillis(interval))
-                    .plus(gracePeriod).isBefore(now);
+            if (lastFireTime == null) {
+                return !aligned || alignAfter(start.toInstant()).plus(gracePeriod).isBefore(now.toInstant());
+            }
+            return lastFireTime.plus(Duration.ofMillis(interval)).plus(gracePeriod).isBefore(now);
         }
 
         @Override
@@ -454,6 +831,11 @@ static class CronTrigger extends SimpleTrigger {
             this.gracePeriod = gracePeriod;
         }
 
+        @Override
+        long getExecutionSlot(ScheduledExecution execution) {
+            return execution.getScheduledFireTime().toEpochMilli();
+        }
+
         @Override
         public Instant getNextFireTime() {
             Optional<ZonedDateTime> nextFireTime = executionTime.nextExecution(lastFireTime);
@@ -495,6 +877,160 @@ public String toString() {
 
     }
 
+    static class OneShotTrigger extends SimpleTrigger {
+
+        private final Duration gracePeriod;
+
+        OneShotTrigger(String id, ZonedDateTime fireAt, Duration gracePeriod) {
+            super(id, fireAt);
+            this.gracePeriod = gracePeriod;
+        }
+
+        @Override
+        ZonedDateTime evaluate(ZonedDateTime now) {
+            if (now.isBefore(start) || lastFireTime != null) {
+                return null;
+            }
+            lastFireTime = now;
+            return start;
+        }
+
+        @Override
+        long getExecutionSlot(ScheduledExecution execution) {
+            return start.toInstant().toEpochMilli();
+        }
+
+        @Override
+        public Instant getNextFireTime() {
+            return lastFireTime == null ? start.toInstant() : null;
+        }
+
+        @Override
+        public boolean isOverdue() {
+            return lastFireTime == null && start.plus(gracePeriod).isBefore(ZonedDateTime.now());
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            builder.append("OneShotTrigger [id=").append(getId()).append(", fireAt=").append(start).append("]");
+            return builder.toString();
+        }
+
+    }
+
+    final class SimpleJobDefinition extends AbstractJobDefinition {
+
+        // Loaded from the job store, i.e. does not need to be saved again
+        boolean restored;
+
+        SimpleJobDefinition(String identity) {
+            super(identity);
+        }
+
+        @Override
+        public Trigger schedule() {
+            validate();
+            if (scheduledTasks.containsKey(identity)) {
+                throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
+            }
+            Scheduled annotation = toScheduled();
+            SimpleTrigger trigger;
+            if (fireAt != null) {
+                trigger = new OneShotTrigger(identity, fireAt.atZone(ZoneId.systemDefault()),
+                        SchedulerUtils.parseOverdueGracePeriod(annotation, defaultOverdueGracePeriod));
+            } else {
+                Optional<SimpleTrigger> maybeTrigger = createTrigger(identity, cronParser, annotation, 0,
+                        defaultOverdueGracePeriod);
+                if (maybeTrigger.isEmpty()) {
+                    // The schedule is disabled, e.g. cron=off
+                    return null;
+                }
+                trigger = maybeTrigger.get();
+            }
+            ScheduledTask task = new ScheduledTask(trigger,
+                    initInvoker(identity, createInvoker(), concurrentExecution, skipPredicate), true);
+            if (scheduledTasks.putIfAbsent(identity, task) != null) {
+                throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
+            }
+            if (jobStore != null && taskBeanClass != null) {
+                task.persistent = true;
+                if (!restored) {
+                    try {
+                        jobStore.save(new JobRecord(identity, cron.isEmpty() ? null : cron, every.isEmpty() ? null : every,
+                                fireAt, delayed.isEmpty() ? null : delayed,
+                                overdueGracePeriod.isEmpty() ? null : overdueGracePeriod,
+                                concurrentExecution, taskBeanClass.getName()));
+                    } catch (RuntimeException e) {
+                        scheduledTasks.remove(identity, task);
+                        throw e;
+                    }
+                }
+            }
+            task.schedule();
+            return trigger;
+        }
+
+    }
+
+    static final class JobMetrics {
+
+        final String identity;
+        volatile TimeRecorder latency;
+        volatile LimitConcurrentExecutionInvoker limiter;
+
+        JobMetrics(String identity) {
+            this.identity = identity;
+        }
+
+        void register(MetricsFactory metricsFactory) {
+            latency = metricsFactory.builder("scheduled.job.latency")
+                    .description("Delay between the scheduled fire time and the start of an execution.")
+                    .tag("job", identity)
+                    .buildTimer();
+            LimitConcurrentExecutionInvoker invoker = limiter;
+            if (invoker != null) {
+                metricsFactory.builder("scheduled.job.queue")
+                        .description("Number of executions waiting for a previous execution to complete.")
+                        .tag("job", identity)
+                        .buildGauge(invoker::getQueued);
+                metricsFactory.builder("scheduled.job.running")
+                        .description("Number of executions in progress.")
+                        .tag("job", identity)
+                        .buildGauge(invoker::getRunning);
+            }
+        }
+    }
+
+    /**
+     * Records the delay between the scheduled fire time and the start of an execution.
+     */
+    static final class LatencyRecordingInvoker implements ScheduledInvoker {
+
+        private final ScheduledInvoker delegate;
+        private final JobMetrics metrics;
+
+        LatencyRecordingInvoker(ScheduledInvoker delegate, JobMetrics metrics) {
+            this.delegate = delegate;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public boolean isBlocking() {
+            return delegate.isBlocking();
+        }
+
+        @Override
+        public CompletionStage<Void> invoke(ScheduledExecution execution) throws Exception {
+            TimeRecorder latency = metrics.latency;
+            if (latency != null) {
+                latency.update(Math.max(0, System.currentTimeMillis() - execution.getScheduledFireTime().toEpochMilli()),
+                        TimeUnit.MILLISECONDS);
+            }
+            return delegate.invoke(execution);
+        }
+    }
+
     static class SimpleScheduledExecution implements ScheduledExecution {
 
         private final ZonedDateTime fireTime;
@@ -10,6 +10,7 @@
 
 import org.eclipse.microprofile.metrics.Counter;
 import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.MetricID;
 import org.eclipse.microprofile.metrics.MetricRegistry;
 import org.eclipse.microprofile.metrics.MetricType;
 import org.eclipse.microprofile.metrics.SimpleTimer;
@@ -29,11 +30,13 @@ public MetricBuilder builder(String name, MetricsFactory.Type type) {
     }
 
     static class SmallRyeMetricBuilder implements MetricsFactory.MetricBuilder {
+        final String name;
         final MetricRegistry registry;
         final org.eclipse.microprofile.metrics.MetadataBuilder builder;
         List<Tag> tags = new ArrayList<>();
 
         SmallRyeMetricBuilder(String name, MetricsFactory.Type type) {
+            this.name = name;
             switch (type) {
                 case APPLICATION:
                     registry = MetricRegistries.get(MetricRegistry.Type.APPLICATION);
@@ -138,6 +141,11 @@ public T get() {
                 }
             };
         }
+
+        @Override
+        public void remove() {
+            registry.remove(new MetricID(name, tags.toArray(new Tag[0])));
+        }
     }
 
     private static class SmallRyeCounter implements Counter {
@@ -2,8 +2,11 @@
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
@@ -19,10 +22,13 @@
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Consume;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
@@ -31,8 +37,14 @@
 import io.quarkus.deployment.builditem.RuntimeConfigSetupCompleteBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.logging.LogCleanupFilterBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.smallrye.reactivemessaging.deployment.items.ConnectorManagedChannelBuildItem;
+import io.quarkus.smallrye.reactivemessaging.kafka.BatchingAdvisorConfig;
+import io.quarkus.smallrye.reactivemessaging.kafka.BatchingAdvisorManager;
+import io.quarkus.smallrye.reactivemessaging.kafka.KeyOrderedPublisherDecorator;
 import io.quarkus.smallrye.reactivemessaging.kafka.ReactiveMessagingKafkaConfig;
+import io.quarkus.smallrye.reactivemessaging.kafka.ReactiveMessagingKafkaRecorder;
 import io.smallrye.mutiny.tuples.Functions.TriConsumer;
 import io.vertx.kafka.client.consumer.impl.KafkaReadStreamImpl;
 
@@ -108,6 +120,78 @@ public void defaultChannelConfiguration(
         }
     }
 
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    public void keyOrderedChannels(ReactiveMessagingKafkaConfig config,
+            ReactiveMessagingKafkaRecorder recorder,
+            CombinedIndexBuildItem combinedIndex,
+            List<ConnectorManagedChannelBuildItem> channelsManagedByConnectors,
+            BuildProducer<AdditionalBeanBuildItem> additionalBean,
+            BuildProducer<RunTimeConfigurationDefaultBuildItem> defaultConfigProducer) {
+        if (config.keyOrdered.channels.isEmpty()) {
+            return;
+        }
+        DefaultSerdeDiscoveryState discoveryState = new DefaultSerdeDiscoveryState(combinedIndex.getIndex());
+        Set<String> channels = new HashSet<>();
+        for (String channelName : config.keyOrdered.channels.get()) {
+            if (!discoveryState.isKafkaConnector(channelsManagedByConnectors, true, channelName)) {
+                LOGGER.warnf("Key-ordered processing is configured for the channel '%s', "
+                        + "but it is not an incoming channel managed by the Kafka connector", channelName);
+                continue;
+            }
+            // The dispatcher forwards the acks in order, so any commit strategy is safe
+            String key = "mp.messaging.incoming." + channelName + ".commit-strategy";
+            discoveryState.ifNotYetConfigured(key, () -> {
+                defaultConfigProducer.produce(new RunTimeConfigurationDefaultBuildItem(key, "throttled"));
+            });
+            channels.add(channelName);
+        }
+        if (!channels.isEmpty()) {
+            additionalBean.produce(AdditionalBeanBuildItem.unremovableOf(KeyOrderedPublisherDecorator.class));
+            recorder.configureKeyOrderedChannels(channels, config.keyOrdered.maxInFlightRecordsPerPartition);
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    public void batchingAdvisorChannels(ReactiveMessagingKafkaConfig config,
+            ReactiveMessagingKafkaRecorder recorder,
+            CombinedIndexBuildItem combinedIndex,
+            List<ConnectorManagedChannelBuildItem> channelsManagedByConnectors,
+            BuildProducer<AdditionalBeanBuildItem> additionalBean) {
+        BatchingAdvisorConfig batchingAdvisor = config.batchingAdvisor;
+        if (batchingAdvisor.channels.isEmpty()) {
+            return;
+        }
+        DefaultSerdeDiscoveryState discoveryState = new DefaultSerdeDiscoveryState(combinedIndex.getIndex());
+        Set<String> channels = new HashSet<>();
+        for (String channelName : batchingAdvisor.channels.get()) {
+            if (!discoveryState.isKafkaConnector(channelsManagedByConnectors, false, channelName)) {
+                LOGGER.warnf("The batching advisor is configured for the channel '%s', "
+                        + "but it is not an outgoing channel managed by the Kafka connector", channelName);
+                continue;
+            }
+            channels.add(channelName);
+        }
+        if (!channels.isEmpty()) {
+            additionalBean.produce(AdditionalBeanBuildItem.unremovableOf(BatchingAdvisorManager.class));
+            recorder.configureBatchingAdvisor(channels, batchingAdvisor.minLinger.toMillis(),
+                    batchingAdvisor.maxLinger.toMillis(), batchingAdvisor.maxBatchSize,
+                    batchingAdvisor.requestLatencyThreshold.toMillis(), batchingAdvisor.interval.toMillis());
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public void batchingAdvisorMetrics(ReactiveMessagingKafkaConfig config,
+            ReactiveMessagingKafkaRecorder recorder,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (config.batchingAdvisor.channels.isPresent() && metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerBatchingAdvisorMetrics()));
+        }
+    }
+
     // visible for testing
     void discoverDefaultSerdeConfig(DefaultSerdeDiscoveryState discovery,
             List<ConnectorManagedChannelBuildItem> channelsManagedByConnectors,
@@ -0,0 +1,120 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BatchingAdvisorTest {
+
+    private final Map<MetricName, TestMetric> metrics = new HashMap<>();
+    private BatchingAdvisor advisor;
+
+    @BeforeEach
+    public void init() {
+        for (String name : new String[] { "record-send-rate", "record-size-avg", "request-latency-avg",
+                "batch-size-avg" }) {
+            MetricName metricName = new MetricName(name, "producer-metrics", "", Collections.emptyMap());
+            metrics.put(metricName, new TestMetric(metricName));
+        }
+        advisor = new BatchingAdvisor("prices", () -> metrics, 1, 50, 65536, 100);
+    }
+
+    @Test
+    public void testRecommendedBatchSizeGrowsWithTheSendRate() {
+        set("record-size-avg", 100);
+        set("request-latency-avg", 10);
+
+        // 10 KB/s: a batch cannot be filled within the maximum linger
+        set("record-send-rate", 100);
+        advisor.update();
+        assertThat(advisor.getLingerMillis()).isEqualTo(1);
+        assertThat(advisor.getBatchSize()).isEqualTo(16384);
+
+        // 2 MB/s: a batch is filled in 33 ms
+        set("record-send-rate", 20_000);
+        advisor.update();
+        assertThat(advisor.getLingerMillis()).isEqualTo(33);
+        assertThat(advisor.getBatchSize()).isEqualTo(65536);
+
+        // The traffic decreases again
+        set("record-send-rate", 100);
+        advisor.update();
+        assertThat(advisor.getLingerMillis()).isEqualTo(1);
+        assertThat(advisor.getBatchSize()).isEqualTo(16384);
+    }
+
+    @Test
+    public void testRecommendedBatchSizeGrowsWhileTheBrokerIsSlow() {
+        // 1 MB/s: a batch cannot be filled within the maximum linger
+        set("record-size-avg", 100);
+        set("record-send-rate", 10_000);
+        set("request-latency-avg", 500);
+
+        int previous = 0;
+        for (int i = 0; i < 10; i++) {
+            advisor.update();
+            assertThat(advisor.getBatchSize()).isGreaterThanOrEqualTo(previous);
+            previous = advisor.getBatchSize();
+        }
+        assertThat(advisor.getLingerMillis()).isEqualTo(50);
+        assertThat(advisor.getBatchSize()).isEqualTo(50_000);
+    }
+
+    @Test
+    public void testObservedBatchSize() {
+        set("batch-size-avg", 32768);
+        advisor.update();
+        assertThat(advisor.getBatchSizeAvg()).isEqualTo(32768);
+        assertThat(advisor.getBatchFillRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    public void testProducerNotCreatedYet() {
+        BatchingAdvisor notStarted = new BatchingAdvisor("prices", () -> null, 1, 50, 65536, 100);
+        notStarted.update();
+        assertThat(notStarted.getLingerMillis()).isEqualTo(1);
+        assertThat(notStarted.getBatchSize()).isZero();
+    }
+
+    @Test
+    public void testScheduledUpdatesStopOnceTheProducerIsClosed() {
+        BatchingAdvisor closed = new BatchingAdvisor("prices", () -> {
+            throw new KafkaException("Producer closed");
+        }, 1, 50, 65536, 100);
+        // The exception suppresses the subsequent executions of the scheduled task
+        assertThatThrownBy(closed::run).isInstanceOf(KafkaException.class);
+    }
+
+    private void set(String name, double value) {
+        metrics.get(new MetricName(name, "producer-metrics", "", Collections.emptyMap())).value = value;
+    }
+
+    static final class TestMetric implements Metric {
+
+        private final MetricName name;
+        volatile double value = Double.NaN;
+
+        TestMetric(MetricName name) {
+            this.name = name;
+        }
+
+        @Override
+        public MetricName metricName() {
+            return name;
+        }
+
+        @Override
+        public Object metricValue() {
+            return value;
+        }
+    }
+}
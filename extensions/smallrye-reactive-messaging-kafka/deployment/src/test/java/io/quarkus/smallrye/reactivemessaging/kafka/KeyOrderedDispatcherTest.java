@@ -0,0 +1,176 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Metadata;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.kafka.api.IncomingKafkaRecordMetadata;
+
+public class KeyOrderedDispatcherTest {
+
+    // the offsets of the records whose ack or nack reached the connector, in order
+    private final List<Long> acked = Collections.synchronizedList(new ArrayList<>());
+    private final List<Long> nacked = Collections.synchronizedList(new ArrayList<>());
+    private final List<Message<?>> delivered = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void testOrderPerKeyWhileOtherKeysRunInParallel() {
+        KeyOrderedDispatcher dispatcher = new KeyOrderedDispatcher(16);
+        dispatch(dispatcher, record(0, 0, "a"));
+        dispatch(dispatcher, record(0, 1, "b"));
+        dispatch(dispatcher, record(0, 2, "a"));
+        dispatch(dispatcher, record(0, 3, "c"));
+        // The second record with key a waits for the first one
+        assertThat(deliveredOffsets()).containsExactly(0L, 1L, 3L);
+
+        delivered(1).ack();
+        delivered(3).ack();
+        assertThat(deliveredOffsets()).containsExactly(0L, 1L, 3L);
+
+        delivered(0).ack();
+        assertThat(deliveredOffsets()).containsExactly(0L, 1L, 3L, 2L);
+    }
+
+    @Test
+    public void testMaxInFlightRecordsPerPartition() {
+        KeyOrderedDispatcher dispatcher = new KeyOrderedDispatcher(2);
+        dispatch(dispatcher, record(0, 0, "a"));
+        dispatch(dispatcher, record(0, 1, "b"));
+        dispatch(dispatcher, record(0, 2, "c"));
+        // The limit applies per partition
+        dispatch(dispatcher, record(1, 3, "d"));
+        assertThat(deliveredOffsets()).containsExactly(0L, 1L, 3L);
+
+        delivered(1).ack();
+        assertThat(deliveredOffsets()).containsExactly(0L, 1L, 3L, 2L);
+    }
+
+    @Test
+    public void testNextRecordIsReleasedOnAckAndNack() {
+        KeyOrderedDispatcher dispatcher = new KeyOrderedDispatcher(16);
+        dispatch(dispatcher, record(0, 0, "a"));
+        dispatch(dispatcher, record(0, 1, "a"));
+        dispatch(dispatcher, record(0, 2, "a"));
+        assertThat(deliveredOffsets()).containsExactly(0L);
+
+        delivered(0).nack(new IllegalStateException("boom"));
+        assertThat(deliveredOffsets()).containsExactly(0L, 1L);
+        assertThat(nacked).containsExactly(0L);
+
+        delivered(1).ack();
+        assertThat(deliveredOffsets()).containsExactly(0L, 1L, 2L);
+        assertThat(acked).containsExactly(1L);
+
+        // Acking twice does not release another record
+        delivered(1).ack();
+        delivered(2).ack();
+        assertThat(acked).containsExactly(1L, 2L);
+    }
+
+    @Test
+    public void testNullKeysAndRecordsWithoutMetadata() {
+        KeyOrderedDispatcher dispatcher = new KeyOrderedDispatcher(2);
+        // The records without key are only subject to the in-flight limit
+        dispatch(dispatcher, record(0, 0, null));
+        dispatch(dispatcher, record(0, 1, null));
+        dispatch(dispatcher, record(0, 2, null));
+        assertThat(deliveredOffsets()).containsExactly(0L, 1L);
+        delivered(0).ack();
+        assertThat(deliveredOffsets()).containsExactly(0L, 1L, 2L);
+
+        // The messages that are not Kafka records are passed through
+        Message<String> plain = Message.of("plain");
+        assertThat(dispatcher.dispatch(plain).await().indefinitely()).isSameAs(plain);
+    }
+
+    @Test
+    public void testCommitPositionNeverGetsAheadOfAnEarlierRecord() {
+        KeyOrderedDispatcher dispatcher = new KeyOrderedDispatcher(16);
+        dispatch(dispatcher, record(0, 0, "a"));
+        dispatch(dispatcher, record(0, 1, "b"));
+        dispatch(dispatcher, record(0, 2, "a"));
+        dispatch(dispatcher, record(1, 3, "c"));
+
+        CompletionStage<Void> second = delivered(1).ack();
+        // The record 0 is still being processed
+        assertThat(acked).isEmpty();
+        assertThat(second.toCompletableFuture()).isNotDone();
+
+        // Another partition is not held up
+        delivered(3).ack();
+        assertThat(acked).containsExactly(3L);
+
+        CompletionStage<Void> first = delivered(0).ack();
+        // The record 2 is now being processed
+        assertThat(acked).containsExactly(3L, 0L, 1L);
+        assertThat(first.toCompletableFuture()).isCompleted();
+        assertThat(second.toCompletableFuture()).isCompleted();
+
+        delivered(2).nack(new IllegalStateException("boom"));
+        assertThat(nacked).containsExactly(2L);
+    }
+
+    @Test
+    public void testRecordsHeldBackAreBounded() {
+        int maxPendingRecords = 4;
+        AtomicLong requested = new AtomicLong();
+        Multi<Message<String>> records = Multi.createFrom().range(0, 100)
+                .onRequest().invoke(requested::addAndGet)
+                .map(offset -> record(0, offset, "a"));
+        KeyOrderedPublisherDecorator.decorate(records, new KeyOrderedDispatcher(16), maxPendingRecords)
+                .subscribe().with(delivered::add);
+
+        // The records with the same key are held back, no more than maxPendingRecords are requested
+        assertThat(deliveredOffsets()).containsExactly(0L);
+        assertThat(requested.get()).isLessThanOrEqualTo(maxPendingRecords + 1);
+
+        delivered(0).ack();
+        assertThat(deliveredOffsets()).containsExactly(0L, 1L);
+        assertThat(requested.get()).isLessThanOrEqualTo(maxPendingRecords + 2);
+    }
+
+    private void dispatch(KeyOrderedDispatcher dispatcher, Message<?> message) {
+        dispatcher.dispatch(message).subscribe().with(delivered::add);
+    }
+
+    private Message<String> record(int partition, long offset, String key) {
+        IncomingKafkaRecordMetadata<String, String> metadata = new IncomingKafkaRecordMetadata<>(
+                new ConsumerRecord<>("prices", partition, offset, key, "price-" + offset), "prices");
+        return Message.of("price-" + offset, Metadata.of(metadata), () -> {
+            acked.add(offset);
+            return CompletableFuture.completedFuture(null);
+        }, failure -> {
+            nacked.add(offset);
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    private Message<?> delivered(long offset) {
+        synchronized (delivered) {
+            return delivered.stream().filter(message -> offsetOf(message) == offset).findFirst().orElseThrow();
+        }
+    }
+
+    private List<Long> deliveredOffsets() {
+        synchronized (delivered) {
+            return delivered.stream().map(KeyOrderedDispatcherTest::offsetOf).collect(Collectors.toList());
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static long offsetOf(Message<?> message) {
+        return message.getMetadata(IncomingKafkaRecordMetadata.class).orElseThrow().getOffset();
+    }
+}
@@ -0,0 +1,156 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.jboss.logging.Logger;
+
+/**
+ * Computes the linger and batch size recommended for the producer of an outgoing channel from the observed
+ * send rate and request latency.
+ * <p>
+ * The producer configuration cannot be changed once the producer is created, so the recommended values are only reported.
+ * They are meant to be used as the {@code linger.ms} and {@code batch.size} of the channel. The statistics are read from
+ * the producer metrics.
+ *
+ * @see BatchingAdvisorConfig
+ */
+final class BatchingAdvisor implements Runnable {
+
+    private static final Logger LOGGER = Logger.getLogger(BatchingAdvisor.class);
+
+    private static final String PRODUCER_METRICS_GROUP = "producer-metrics";
+    // The default batch.size of the producer
+    private static final int DEFAULT_BATCH_SIZE = 16384;
+
+    private final String channel;
+    private final Supplier<Map<MetricName, ? extends Metric>> metricsSupplier;
+    private final long minLingerMillis;
+    private final long maxLingerMillis;
+    private final int maxBatchSize;
+    private final long requestLatencyThresholdMillis;
+
+    // only accessed by the scheduled updates, which never run concurrently
+    private Map<String, Metric> producerMetrics;
+
+    private volatile long lingerMillis;
+    private volatile int batchSize;
+    private volatile double batchSizeAvg;
+    private volatile double batchFillRatio;
+
+    /**
+     *
+     * @param channel
+     * @param metricsSupplier supplies the metrics of the producer, or {@code null} if the producer is not created yet
+     * @param minLingerMillis
+     * @param maxLingerMillis
+     * @param maxBatchSize
+     * @param requestLatencyThresholdMillis
+     */
+    BatchingAdvisor(String channel, Supplier<Map<MetricName, ? extends Metric>> metricsSupplier,
+            long minLingerMillis, long maxLingerMillis, int maxBatchSize, long requestLatencyThresholdMillis) {
+        this.channel = channel;
+        this.metricsSupplier = metricsSupplier;
+        this.minLingerMillis = minLingerMillis;
+        this.maxLingerMillis = Math.max(minLingerMillis, maxLingerMillis);
+        this.maxBatchSize = maxBatchSize;
+        this.requestLatencyThresholdMillis = requestLatencyThresholdMillis;
+        this.lingerMillis = minLingerMillis;
+    }
+
+    /**
+     * Performs a scheduled update, the subsequent updates are cancelled once the producer is closed.
+     */
+    @Override
+    public void run() {
+        try {
+            update();
+        } catch (KafkaException | IllegalStateException e) {
+            // The producer was closed, rethrow to suppress the subsequent executions
+            LOGGER.debugf(e, "Batching advisor stopped for channel %s", channel);
+            throw e;
+        }
+    }
+
+    private boolean initMetrics() {
+        Map<MetricName, ? extends Metric> candidate = metricsSupplier.get();
+        if (candidate == null) {
+            return false;
+        }
+        Map<String, Metric> metrics = new HashMap<>();
+        for (Map.Entry<MetricName, ? extends Metric> entry : candidate.entrySet()) {
+            if (PRODUCER_METRICS_GROUP.equals(entry.getKey().group())) {
+                metrics.put(entry.getKey().name(), entry.getValue());
+            }
+        }
+        producerMetrics = metrics;
+        return true;
+    }
+
+    void update() {
+        if (producerMetrics == null && !initMetrics()) {
+            // The channel is not started yet
+            return;
+        }
+        double rate = metric("record-send-rate");
+        double recordSize = metric("record-size-avg");
+        double requestLatency = metric("request-latency-avg");
+        double observedBatchSize = metric("batch-size-avg");
+        batchSizeAvg = Double.isNaN(observedBatchSize) ? 0 : observedBatchSize;
+        batchFillRatio = Math.min(1.0, batchSizeAvg / maxBatchSize);
+
+        long linger = minLingerMillis;
+        double bytesPerMillis = rate > 0 && recordSize > 0 ? rate * recordSize / 1000 : 0;
+        if (bytesPerMillis > 0) {
+            // Wait for a batch to fill up, unless it cannot be filled within the maximum linger
+            double fillMillis = maxBatchSize / bytesPerMillis;
+            if (fillMillis <= maxLingerMillis) {
+                linger = Math.max(minLingerMillis, (long) Math.ceil(fillMillis));
+            }
+        }
+        if (requestLatency > requestLatencyThresholdMillis) {
+            // The broker is slow to respond, send fewer and larger requests
+            linger = Math.max(linger, Math.min(maxLingerMillis, Math.max(1, lingerMillis) * 2));
+        }
+        // The bytes accumulated while the records linger, never less than the default batch size
+        int size = (int) Math.min(maxBatchSize, Math.max(DEFAULT_BATCH_SIZE, Math.ceil(bytesPerMillis * linger)));
+        if (linger != lingerMillis || size != batchSize) {
+            LOGGER.debugf("Recommended linger and batch size of channel %s changed to %s ms and %s bytes "
+                    + "[rate=%s/s, record size=%s bytes, request latency=%s ms]", channel, linger, size, rate, recordSize,
+                    requestLatency);
+            lingerMillis = linger;
+            batchSize = size;
+        }
+    }
+
+    private double metric(String name) {
+        Metric metric = producerMetrics.get(name);
+        Object value = metric != null ? metric.metricValue() : null;
+        return value instanceof Number ? ((Number) value).doubleValue() : Double.NaN;
+    }
+
+    String getChannel() {
+        return channel;
+    }
+
+    long getLingerMillis() {
+        return lingerMillis;
+    }
+
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    double getBatchSizeAvg() {
+        return batchSizeAvg;
+    }
+
+    double getBatchFillRatio() {
+        return batchFillRatio;
+    }
+
+}
@@ -0,0 +1,57 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class BatchingAdvisorConfig {
+
+    /**
+     * The Kafka outgoing channels for which the linger and batch size suited to the observed traffic are computed.
+     * <p>
+     * The recommended linger is the time needed to fill a batch at the observed send rate, or the minimum linger if a batch
+     * cannot be filled within the maximum linger. It is doubled while the broker request latency exceeds
+     * {@code request-latency-threshold}. The recommended batch size is the amount of data sent during the recommended
+     * linger.
+     * <p>
+     * The recommended values are only reported, as metrics and in the debug log, the configuration of the producers is not
+     * changed. They are meant to be used as the {@code linger.ms} and {@code batch.size} of the channels.
+     */
+    @ConfigItem
+    public Optional<List<String>> channels;
+
+    /**
+     * The minimum linger recommended.
+     */
+    @ConfigItem(defaultValue = "0.001S")
+    public Duration minLinger;
+
+    /**
+     * The maximum linger recommended.
+     */
+    @ConfigItem(defaultValue = "0.05S")
+    public Duration maxLinger;
+
+    /**
+     * The maximum batch size recommended, in bytes.
+     */
+    @ConfigItem(defaultValue = "65536")
+    public int maxBatchSize;
+
+    /**
+     * The broker request latency above which a longer linger is recommended to send fewer, larger requests.
+     */
+    @ConfigItem(defaultValue = "0.1S")
+    public Duration requestLatencyThreshold;
+
+    /**
+     * The interval at which the recommended values are computed.
+     */
+    @ConfigItem(defaultValue = "1S")
+    public Duration interval;
+
+}
@@ -0,0 +1,111 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.smallrye.reactive.messaging.kafka.KafkaClientService;
+import io.smallrye.reactive.messaging.kafka.KafkaProducer;
+
+/**
+ * Schedules the updates of the {@link BatchingAdvisor} of each advised outgoing channel, on a single thread shared by
+ * all the channels.
+ *
+ * @see BatchingAdvisorConfig
+ */
+@ApplicationScoped
+public class BatchingAdvisorManager {
+
+    private static volatile Set<String> channels = Collections.emptySet();
+    private static volatile long minLingerMillis;
+    private static volatile long maxLingerMillis;
+    private static volatile int maxBatchSize;
+    private static volatile long requestLatencyThresholdMillis;
+    private static volatile long intervalMillis;
+    private static volatile MetricsFactory metricsFactory;
+
+    @Inject
+    KafkaClientService clientService;
+
+    private ScheduledExecutorService executor;
+
+    static void configure(Set<String> advisedChannels, long minLinger, long maxLinger, int batchSize,
+            long requestLatencyThreshold, long interval) {
+        channels = Set.copyOf(advisedChannels);
+        minLingerMillis = minLinger;
+        maxLingerMillis = maxLinger;
+        maxBatchSize = batchSize;
+        requestLatencyThresholdMillis = requestLatencyThreshold;
+        intervalMillis = interval;
+    }
+
+    static void setMetricsFactory(MetricsFactory factory) {
+        metricsFactory = factory;
+    }
+
+    void start(@Observes StartupEvent event) {
+        if (channels.isEmpty()) {
+            return;
+        }
+        // The updates only read the producer metrics, a single thread is enough for all the channels
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kafka-batching-advisor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (String channel : channels) {
+            BatchingAdvisor advisor = new BatchingAdvisor(channel, () -> producerMetrics(channel),
+                    minLingerMillis, maxLingerMillis, maxBatchSize, requestLatencyThresholdMillis);
+            MetricsFactory factory = metricsFactory;
+            if (factory != null) {
+                registerMetrics(factory, advisor);
+            }
+            executor.scheduleWithFixedDelay(advisor, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void stop(@Observes ShutdownEvent event) {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private Map<MetricName, ? extends Metric> producerMetrics(String channel) {
+        KafkaProducer<?, ?> producer = clientService.getProducer(channel);
+        return producer != null ? producer.unwrap().metrics() : null;
+    }
+
+    private static void registerMetrics(MetricsFactory factory, BatchingAdvisor advisor) {
+        factory.builder("kafka.producer.batching.recommended.linger")
+                .description("The linger.ms recommended for the observed traffic.")
+                .tag("channel", advisor.getChannel())
+                .buildGauge(advisor::getLingerMillis);
+        factory.builder("kafka.producer.batching.recommended.batch.size")
+                .description("The batch.size recommended for the observed traffic.")
+                .tag("channel", advisor.getChannel())
+                .buildGauge(advisor::getBatchSize);
+        factory.builder("kafka.producer.batching.batch.size")
+                .description("The average size in bytes of the batches sent.")
+                .tag("channel", advisor.getChannel())
+                .buildGauge(advisor::getBatchSizeAvg);
+        factory.builder("kafka.producer.batching.batch.fill.ratio")
+                .description("The average size of the batches sent relative to the maximum batch size.")
+                .tag("channel", advisor.getChannel())
+                .buildGauge(advisor::getBatchFillRatio);
+    }
+
+}
@@ -0,0 +1,32 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class KeyOrderedConfig {
+
+    /**
+     * The Kafka incoming channels processing the records concurrently while preserving the order per key.
+     * <p>
+     * A record is dispatched as soon as no other record with the same key is being processed, so a slow record only
+     * holds up the records sharing its key. A record is being processed until it is acknowledged or negatively
+     * acknowledged. Records without key are only subject to the {@code max-in-flight-records-per-partition} limit.
+     * <p>
+     * The acknowledgements are passed to the connector in the order of the records in each partition, so the offset of a
+     * record is committed once all the previous records of its partition have been processed, whatever the commit
+     * strategy. The {@code throttled} commit strategy is used by default.
+     */
+    @ConfigItem
+    public Optional<List<String>> channels;
+
+    /**
+     * The maximum number of records of a partition being processed concurrently by a key-ordered channel.
+     */
+    @ConfigItem(defaultValue = "16")
+    public int maxInFlightRecordsPerPartition;
+
+}
@@ -0,0 +1,240 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.smallrye.reactive.messaging.kafka.api.IncomingKafkaRecordMetadata;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Holds back a record while a record with the same key, or {@code maxInFlightRecordsPerPartition} records of its
+ * partition, are being processed.
+ * <p>
+ * A record is being processed from its dispatch until it is acked or nacked. The records held back are dispatched in the
+ * order they were received, on the context of the connector.
+ * <p>
+ * The acks and nacks are forwarded to the records of the connector in the order the records were received in each
+ * partition, so that the committed offset never gets ahead of a record that is still being processed or held back,
+ * whatever the commit strategy.
+ */
+final class KeyOrderedDispatcher {
+
+    private final int maxInFlightRecordsPerPartition;
+    // guarded by this
+    private final Map<TopicPartition, PartitionState> partitions = new HashMap<>();
+    // the completed records whose ack or nack can be forwarded, guarded by this
+    private final Deque<PendingRecord> forwardable = new ArrayDeque<>();
+    // whether a thread is forwarding, guarded by this
+    private boolean forwarding;
+
+    KeyOrderedDispatcher(int maxInFlightRecordsPerPartition) {
+        this.maxInFlightRecordsPerPartition = maxInFlightRecordsPerPartition;
+    }
+
+    @SuppressWarnings("rawtypes")
+    Uni<Message<?>> dispatch(Message<?> message) {
+        Optional<IncomingKafkaRecordMetadata> metadata = message.getMetadata(IncomingKafkaRecordMetadata.class);
+        if (metadata.isEmpty()) {
+            return Uni.createFrom().item(message);
+        }
+        TopicPartition partition = new TopicPartition(metadata.get().getTopic(), metadata.get().getPartition());
+        Object key = keyOf(metadata.get().getKey());
+        Context context = Vertx.currentContext();
+        return Uni.createFrom().emitter(emitter -> {
+            PendingRecord record = new PendingRecord(partition, key, message, emitter, context);
+            boolean dispatched;
+            synchronized (this) {
+                dispatched = partitions.computeIfAbsent(partition, p -> new PartitionState()).offer(record);
+            }
+            if (dispatched) {
+                record.dispatch();
+            }
+        });
+    }
+
+    private void completed(PendingRecord record) {
+        List<PendingRecord> dispatched;
+        boolean forward;
+        synchronized (this) {
+            PartitionState state = partitions.get(record.partition);
+            dispatched = state.complete(record);
+            state.removeForwardable(forwardable);
+            // A single thread forwards at a time, so that the acks are forwarded in order
+            forward = !forwarding && !forwardable.isEmpty();
+            if (forward) {
+                forwarding = true;
+            }
+        }
+        for (PendingRecord next : dispatched) {
+            next.dispatch();
+        }
+        if (forward) {
+            forward();
+        }
+    }
+
+    private void forward() {
+        while (true) {
+            PendingRecord next;
+            synchronized (this) {
+                next = forwardable.poll();
+                if (next == null) {
+                    forwarding = false;
+                    return;
+                }
+            }
+            next.forward();
+        }
+    }
+
+    private static Object keyOf(Object key) {
+        // byte arrays do not implement equals()
+        return key instanceof byte[] ? ByteBuffer.wrap((byte[]) key) : key;
+    }
+
+    /**
+     * Invariant: a record waits either because the partition has reached the in-flight limit or because a record with the
+     * same key is in flight.
+     */
+    private final class PartitionState {
+
+        private final Set<Object> keysInFlight = new HashSet<>();
+        private final Deque<PendingRecord> waiting = new ArrayDeque<>();
+        // the records not forwarded yet, in the order they were received
+        private final Deque<PendingRecord> received = new ArrayDeque<>();
+        private int inFlight;
+
+        boolean offer(PendingRecord record) {
+            received.add(record);
+            if (inFlight < maxInFlightRecordsPerPartition && !isKeyInFlight(record.key)) {
+                start(record);
+                return true;
+            }
+            waiting.add(record);
+            return false;
+        }
+
+        List<PendingRecord> complete(PendingRecord record) {
+            record.done = true;
+            inFlight--;
+            if (record.key != null) {
+                keysInFlight.remove(record.key);
+            }
+            if (waiting.isEmpty()) {
+                return Collections.emptyList();
+            }
+            List<PendingRecord> dispatched = new ArrayList<>();
+            Iterator<PendingRecord> it = waiting.iterator();
+            while (it.hasNext() && inFlight < maxInFlightRecordsPerPartition) {
+                PendingRecord next = it.next();
+                // A record left in the queue blocks the next records with the same key, as its key is in flight
+                if (!isKeyInFlight(next.key)) {
+                    it.remove();
+                    start(next);
+                    dispatched.add(next);
+                }
+            }
+            return dispatched;
+        }
+
+        /**
+         * Moves the completed records that are not preceded by a record being processed or held back.
+         */
+        void removeForwardable(Deque<PendingRecord> forwardable) {
+            while (!received.isEmpty() && received.peek().done) {
+                forwardable.add(received.poll());
+            }
+        }
+
+        private boolean isKeyInFlight(Object key) {
+            return key != null && keysInFlight.contains(key);
+        }
+
+        private void start(PendingRecord record) {
+            inFlight++;
+            if (record.key != null) {
+                keysInFlight.add(record.key);
+            }
+        }
+    }
+
+    private final class PendingRecord {
+
+        final TopicPartition partition;
+        final Object key;
+        final Message<?> message;
+        final UniEmitter<? super Message<?>> emitter;
+        final Context context;
+        final AtomicBoolean completed = new AtomicBoolean();
+        // completed once the ack or nack is forwarded to the record of the connector
+        final CompletableFuture<Void> forwarded = new CompletableFuture<>();
+        // guarded by the dispatcher
+        boolean done;
+        // set before the record is completed
+        volatile Throwable failure;
+
+        PendingRecord(TopicPartition partition, Object key, Message<?> message, UniEmitter<? super Message<?>> emitter,
+                Context context) {
+            this.partition = partition;
+            this.key = key;
+            this.message = message;
+            this.emitter = emitter;
+            this.context = context;
+        }
+
+        void dispatch() {
+            Message<?> tracked = message
+                    .withAck(() -> complete(null))
+                    .withNack(this::complete);
+            if (context == null || context == Vertx.currentContext()) {
+                emitter.complete(tracked);
+            } else {
+                context.runOnContext(ignored -> emitter.complete(tracked));
+            }
+        }
+
+        private CompletionStage<Void> complete(Throwable failure) {
+            if (completed.compareAndSet(false, true)) {
+                this.failure = failure;
+                completed(this);
+            }
+            return forwarded;
+        }
+
+        void forward() {
+            CompletionStage<Void> result;
+            try {
+                result = failure == null ? message.ack() : message.nack(failure);
+            } catch (RuntimeException e) {
+                result = CompletableFuture.failedFuture(e);
+            }
+            result.whenComplete((ignored, f) -> {
+                if (f != null) {
+                    forwarded.completeExceptionally(f);
+                } else {
+                    forwarded.complete(null);
+                }
+            });
+        }
+    }
+
+}
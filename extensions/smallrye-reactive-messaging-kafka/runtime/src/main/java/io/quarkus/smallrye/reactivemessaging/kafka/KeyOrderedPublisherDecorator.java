@@ -0,0 +1,53 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.Collections;
+import java.util.Set;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.PublisherDecorator;
+
+/**
+ * Dispatches the records of the key-ordered channels concurrently while preserving the order per key.
+ * <p>
+ * At most {@code max.poll.records} records of a channel are held back by the dispatcher, the connector stops fetching
+ * records beyond this limit.
+ *
+ * @see KeyOrderedConfig
+ * @see KeyOrderedDispatcher
+ */
+@ApplicationScoped
+public class KeyOrderedPublisherDecorator implements PublisherDecorator {
+
+    // the default value of max.poll.records
+    private static final int DEFAULT_MAX_POLL_RECORDS = 500;
+
+    private static volatile Set<String> channels = Collections.emptySet();
+    private static volatile int maxInFlightRecordsPerPartition;
+
+    static void configure(Set<String> keyOrderedChannels, int maxInFlight) {
+        channels = Set.copyOf(keyOrderedChannels);
+        maxInFlightRecordsPerPartition = maxInFlight;
+    }
+
+    @Override
+    public Multi<? extends Message<?>> decorate(Multi<? extends Message<?>> publisher, String channelName) {
+        if (!channels.contains(channelName)) {
+            return publisher;
+        }
+        int maxPendingRecords = ConfigProvider.getConfig()
+                .getOptionalValue("mp.messaging.incoming." + channelName + ".max.poll.records", Integer.class)
+                .orElse(DEFAULT_MAX_POLL_RECORDS);
+        return decorate(publisher, new KeyOrderedDispatcher(maxInFlightRecordsPerPartition), maxPendingRecords);
+    }
+
+    static Multi<? extends Message<?>> decorate(Multi<? extends Message<?>> publisher, KeyOrderedDispatcher dispatcher,
+            int maxPendingRecords) {
+        return publisher.onItem().transformToUni(dispatcher::dispatch).merge(maxPendingRecords);
+    }
+
+}
@@ -15,4 +15,16 @@ public class ReactiveMessagingKafkaConfig {
     @ConfigItem(defaultValue = "false")
     public boolean enableGracefulShutdownInDevAndTestMode;
 
+    /**
+     * Key-ordered concurrent processing of the incoming channels.
+     */
+    @ConfigItem
+    public KeyOrderedConfig keyOrdered;
+
+    /**
+     * Recommendations of the linger and batch size of the outgoing channels.
+     */
+    @ConfigItem
+    public BatchingAdvisorConfig batchingAdvisor;
+
 }
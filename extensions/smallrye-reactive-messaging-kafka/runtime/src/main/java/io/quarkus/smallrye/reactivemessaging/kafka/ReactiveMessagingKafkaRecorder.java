@@ -0,0 +1,31 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class ReactiveMessagingKafkaRecorder {
+
+    public void configureKeyOrderedChannels(Set<String> channels, int maxInFlightRecordsPerPartition) {
+        KeyOrderedPublisherDecorator.configure(channels, maxInFlightRecordsPerPartition);
+    }
+
+    public void configureBatchingAdvisor(Set<String> channels, long minLingerMillis, long maxLingerMillis,
+            int maxBatchSize, long requestLatencyThresholdMillis, long intervalMillis) {
+        BatchingAdvisorManager.configure(channels, minLingerMillis, maxLingerMillis, maxBatchSize,
+                requestLatencyThresholdMillis, intervalMillis);
+    }
+
+    public Consumer<MetricsFactory> registerBatchingAdvisorMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                BatchingAdvisorManager.setMetricsFactory(metricsFactory);
+            }
+        };
+    }
+
+}
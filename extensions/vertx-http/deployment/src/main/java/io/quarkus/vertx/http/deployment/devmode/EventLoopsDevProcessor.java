@@ -0,0 +1,26 @@
+package io.quarkus.vertx.http.deployment.devmode;
+
+import io.quarkus.deployment.IsDevelopment;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.vertx.http.deployment.NonApplicationRootPathBuildItem;
+import io.quarkus.vertx.http.deployment.RouteBuildItem;
+import io.quarkus.vertx.http.runtime.devmode.EventLoopsDevRecorder;
+
+public class EventLoopsDevProcessor {
+
+    @Record(ExecutionTime.RUNTIME_INIT)
+    @BuildStep(onlyIf = IsDevelopment.class)
+    void registerRoutes(EventLoopsDevRecorder recorder, BuildProducer<RouteBuildItem> routes,
+            NonApplicationRootPathBuildItem nonApplicationRootPathBuildItem) {
+        // The statistics are only available if quarkus.vertx.event-loop-monitor.enabled=true
+        routes.produce(nonApplicationRootPathBuildItem.routeBuilder()
+                .route("vertx/event-loops")
+                .displayOnNotFoundPage("Vert.x Event Loops")
+                .handler(recorder.createEventLoopsHandler())
+                .build());
+    }
+
+}
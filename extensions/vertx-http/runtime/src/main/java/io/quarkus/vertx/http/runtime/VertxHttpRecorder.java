@@ -388,6 +388,11 @@ public void handle(RoutingContext ctx) {
             httpRouteRouter.route().order(Integer.MIN_VALUE + 1).handler(new Handler<RoutingContext>() {
                 @Override
                 public void handle(RoutingContext routingContext) {
+                    if (isGrpcRequest(routingContext.request())) {
+                        // gRPC requests are streamed by the gRPC filter, the body must not be buffered
+                        routingContext.next();
+                        return;
+                    }
                     routingContext.request().resume();
                     bodyHandler.handle(routingContext);
                 }
@@ -1479,6 +1484,24 @@ public void run() {
         };
     }
 
+    private static final String GRPC_CONTENT_TYPE = "application/grpc";
+
+    private static boolean isGrpcRequest(HttpServerRequest request) {
+        if (request.version() != HttpVersion.HTTP_2 || request.method() != HttpMethod.POST) {
+            return false;
+        }
+        String contentType = request.getHeader(HttpHeaders.CONTENT_TYPE);
+        // application/grpc, application/grpc+proto, application/grpc;charset=... but not application/grpc-web
+        if (contentType == null || !contentType.startsWith(GRPC_CONTENT_TYPE)) {
+            return false;
+        }
+        if (contentType.length() == GRPC_CONTENT_TYPE.length()) {
+            return true;
+        }
+        char next = contentType.charAt(GRPC_CONTENT_TYPE.length());
+        return next == '+' || next == ';';
+    }
+
     private static final List<HttpMethod> CAN_HAVE_BODY = Arrays.asList(HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH,
             HttpMethod.DELETE);
 
@@ -0,0 +1,51 @@
+package io.quarkus.vertx.http.runtime.devmode;
+
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.vertx.core.runtime.EventLoopMonitor;
+import io.quarkus.vertx.core.runtime.EventLoopMonitor.EventLoopStats;
+import io.quarkus.vertx.http.runtime.devmode.Json.JsonArrayBuilder;
+import io.quarkus.vertx.http.runtime.devmode.Json.JsonObjectBuilder;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+
+@Recorder
+public class EventLoopsDevRecorder {
+
+    public Handler<RoutingContext> createEventLoopsHandler() {
+        return new Handler<RoutingContext>() {
+
+            @Override
+            public void handle(RoutingContext ctx) {
+                ctx.response().putHeader("Content-Type", "application/json");
+                JsonObjectBuilder result = Json.object();
+                result.put("enabled", EventLoopMonitor.isEnabled());
+                JsonArrayBuilder eventLoops = Json.array();
+                for (EventLoopStats stats : EventLoopMonitor.getEventLoops()) {
+                    JsonObjectBuilder eventLoop = Json.object();
+                    eventLoop.put("index", stats.getIndex());
+                    if (stats.getThreadName() != null) {
+                        eventLoop.put("thread", stats.getThreadName());
+                    }
+                    eventLoop.put("busyPercentage", stats.getBusyPercentage());
+                    eventLoop.put("tasks", stats.getTasks());
+                    eventLoop.put("queueDepth", stats.getQueueDepth());
+                    eventLoop.put("schedulingDelayMillis", Math.round(stats.getSchedulingDelayMillis()));
+                    eventLoop.put("currentTaskMillis", Math.round(stats.getCurrentTaskMillis()));
+                    eventLoop.put("longestTaskMillis", Math.round(stats.getLongestTaskMillis()));
+                    JsonObjectBuilder histogram = Json.object();
+                    long[] counts = stats.getTaskDurationHistogram();
+                    for (int i = 0; i < counts.length; i++) {
+                        histogram.put(i < EventLoopMonitor.TASK_DURATION_BUCKETS_MILLIS.length
+                                ? "le" + EventLoopMonitor.TASK_DURATION_BUCKETS_MILLIS[i] + "ms"
+                                : "inf", counts[i]);
+                    }
+                    eventLoop.put("taskDurations", histogram);
+                    eventLoops.add(eventLoop);
+                }
+                result.put("eventLoops", eventLoops);
+                ctx.response().end(result.build());
+            }
+        };
+    }
+
+}
@@ -5,16 +5,20 @@
 import static io.quarkus.vertx.deployment.VertxConstants.LOCAL_EVENT_BUS_CODEC;
 import static io.quarkus.vertx.deployment.VertxConstants.UNI;
 
+import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
@@ -23,9 +27,20 @@
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.deployment.BeanArchiveIndexBuildItem;
+import io.quarkus.arc.processor.DotNames;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.vertx.runtime.codecs.JacksonEventBusCodec;
+import io.quarkus.vertx.runtime.codecs.ProtobufEventBusCodec;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -37,12 +52,16 @@ public class EventBusCodecProcessor {
     @BuildStep
     public void registerCodecs(
             BeanArchiveIndexBuildItem beanArchiveIndexBuildItem,
+            CombinedIndexBuildItem combinedIndex,
             BuildProducer<MessageCodecBuildItem> messageCodecs,
-            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
+            BuildProducer<GeneratedClassBuildItem> generatedClass) {
 
         final IndexView index = beanArchiveIndexBuildItem.getIndex();
         Collection<AnnotationInstance> consumeEventAnnotationInstances = index.getAnnotations(CONSUME_EVENT);
         Map<Type, DotName> codecByTypes = new HashMap<>();
+        // The payload types delivered across the cluster without an explicit codec
+        Set<Type> clusteredTypes = new HashSet<>();
         for (AnnotationInstance consumeEventAnnotationInstance : consumeEventAnnotationInstances) {
             AnnotationTarget typeTarget = consumeEventAnnotationInstance.target();
             if (typeTarget.kind() != AnnotationTarget.Kind.METHOD) {
@@ -51,7 +70,9 @@ public void registerCodecs(
 
             MethodInfo method = typeTarget.asMethod();
             Type codecTargetFromReturnType = extractPayloadTypeFromReturn(method);
-            Type codecTargetFromParameter = extractPayloadTypeFromParameter(method);
+            Type codecTargetFromParameter = EventBusConsumer.isBatch(consumeEventAnnotationInstance)
+                    ? extractPayloadTypeFromBatchParameter(method)
+                    : extractPayloadTypeFromParameter(method);
 
             // If the @ConsumeEvent set the codec, use this codec. It applies to the parameter
             AnnotationValue codec = consumeEventAnnotationInstance.value("codec");
@@ -63,13 +84,8 @@ public void registerCodecs(
             } else if (codecTargetFromParameter != null) {
                 // Codec is not set, check if we have a built-in codec
                 if (!hasBuiltInCodec(codecTargetFromParameter)) {
-                    // Ensure local delivery.
-                    AnnotationValue local = consumeEventAnnotationInstance.value("local");
-                    if (local != null && !local.asBoolean()) {
-                        throw new UnsupportedOperationException(
-                                "The generic message codec can only be used for local delivery,"
-                                        + ", implement your own event bus codec for " + codecTargetFromParameter.name()
-                                                .toString());
+                    if (!isLocal(consumeEventAnnotationInstance)) {
+                        clusteredTypes.add(codecTargetFromParameter);
                     } else if (!codecByTypes.containsKey(codecTargetFromParameter)) {
                         LOGGER.infof("Local Message Codec registered for type %s",
                                 codecTargetFromParameter.toString());
@@ -78,11 +94,38 @@ public void registerCodecs(
                 }
             }
 
-            if (codecTargetFromReturnType != null && !hasBuiltInCodec(codecTargetFromReturnType)
-                    && !codecByTypes.containsKey(codecTargetFromReturnType)) {
+            if (codecTargetFromReturnType != null && !hasBuiltInCodec(codecTargetFromReturnType)) {
+                if (!isLocal(consumeEventAnnotationInstance)) {
+                    // The reply is sent across the cluster as well
+                    clusteredTypes.add(codecTargetFromReturnType);
+                } else if (!codecByTypes.containsKey(codecTargetFromReturnType)) {
+                    LOGGER.infof("Local Message Codec registered for type %s", codecTargetFromReturnType.toString());
+                    codecByTypes.put(codecTargetFromReturnType, LOCAL_EVENT_BUS_CODEC);
+                }
+            }
+        }
 
-                LOGGER.infof("Local Message Codec registered for type %s", codecTargetFromReturnType.toString());
-                codecByTypes.put(codecTargetFromReturnType, LOCAL_EVENT_BUS_CODEC);
+        // Generate the codecs for the payloads delivered across the cluster
+        // A codec set explicitly takes precedence, a local codec is replaced as the generated codecs support local delivery
+        ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClass, true);
+        for (Type type : clusteredTypes) {
+            DotName codec = codecByTypes.get(type);
+            if (codec != null && !codec.equals(LOCAL_EVENT_BUS_CODEC)) {
+                continue;
+            }
+            if (type.kind() != Type.Kind.CLASS) {
+                throw new UnsupportedOperationException(
+                        "A clustered event bus codec can only be generated for a class, implement your own event bus codec for "
+                                + type);
+            }
+            if (isProtobufMessage(combinedIndex.getIndex(), type.name())) {
+                LOGGER.infof("Protobuf Message Codec registered for type %s", type);
+                codecByTypes.put(type, generateCodec(classOutput, type.name(), PROTOBUF_EVENT_BUS_CODEC));
+            } else {
+                LOGGER.infof("Jackson Message Codec registered for type %s", type);
+                codecByTypes.put(type, generateCodec(classOutput, type.name(), JACKSON_EVENT_BUS_CODEC));
+                // The payload is serialized by Jackson
+                reflectiveClass.produce(new ReflectiveClassBuildItem(true, true, type.name().toString()));
             }
         }
 
@@ -101,6 +144,13 @@ public void accept(String name) {
                 });
     }
 
+    private static final Class<?> JACKSON_EVENT_BUS_CODEC = JacksonEventBusCodec.class;
+    private static final Class<?> PROTOBUF_EVENT_BUS_CODEC = ProtobufEventBusCodec.class;
+    private static final String PROTOBUF_MESSAGE_LITE = "com.google.protobuf.MessageLite";
+    private static final Set<DotName> PROTOBUF_MESSAGES = Set.of(
+            DotName.createSimple("com.google.protobuf.GeneratedMessageV3"),
+            DotName.createSimple("com.google.protobuf.GeneratedMessageLite"));
+
     private static final List<String> BUILT_IN_CODECS = Arrays.asList(
             // Primitive wrapper classes
             Boolean.class.getName(),
@@ -158,6 +208,95 @@ private static Type extractPayloadTypeFromParameter(MethodInfo method) {
         return null;
     }
 
+    private static Type extractPayloadTypeFromBatchParameter(MethodInfo method) {
+        List<Type> parameters = method.parameterTypes();
+        if (parameters.isEmpty()) {
+            return null;
+        }
+        // The payloads of a batch consumer are delivered in a java.util.List
+        Type param = method.parameterType(0);
+        if (param.kind() == Type.Kind.PARAMETERIZED_TYPE && !param.asParameterizedType().arguments().isEmpty()) {
+            return param.asParameterizedType().arguments().get(0);
+        }
+        return null;
+    }
+
+    private static boolean isLocal(AnnotationInstance consumeEvent) {
+        AnnotationValue local = consumeEvent.value("local");
+        return local == null || local.asBoolean();
+    }
+
+    /**
+     *
+     * @param index
+     * @param name
+     * @return {@code true} if the class extends a protobuf generated message base class
+     */
+    static boolean isProtobufMessage(IndexView index, DotName name) {
+        ClassInfo clazz = index.getClassByName(name);
+        while (clazz != null && clazz.superName() != null) {
+            if (PROTOBUF_MESSAGES.contains(clazz.superName())) {
+                return true;
+            }
+            clazz = index.getClassByName(clazz.superName());
+        }
+        return false;
+    }
+
+    /**
+     * Generates a codec for the given payload type, e.g.:
+     *
+     * <pre>
+     * public class Person_JacksonEventBusCodec extends JacksonEventBusCodec {
+     *
+     *     public Person_JacksonEventBusCodec() {
+     *         super(Person.class);
+     *     }
+     * }
+     * </pre>
+     *
+     * The generated protobuf codecs also implement the {@code encode()} and {@code decode()} methods.
+     *
+     * @return the name of the generated codec class
+     */
+    private static DotName generateCodec(ClassOutput classOutput, DotName type, Class<?> superClass) {
+        String typeName = type.toString();
+        String packageName = DotNames.packageName(type);
+        String simpleName = DotNames.simpleName(type).replace('$', '_');
+        if (packageName.startsWith("java.")) {
+            // A class cannot be defined in a java.* package
+            packageName = superClass.getPackage().getName();
+            simpleName = typeName.replace('.', '_');
+        }
+        String codecName = (packageName.isEmpty() ? "" : packageName + ".") + simpleName + "_"
+                + superClass.getSimpleName();
+
+        try (ClassCreator codecCreator = ClassCreator.builder().classOutput(classOutput).className(codecName)
+                .superClass(superClass).build()) {
+            MethodCreator constructor = codecCreator.getMethodCreator("<init>", void.class);
+            constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(superClass, Class.class), constructor.getThis(),
+                    constructor.loadClass(typeName));
+            constructor.returnValue(null);
+
+            if (superClass.equals(PROTOBUF_EVENT_BUS_CODEC)) {
+                // return ((MessageLite) value).toByteArray();
+                MethodCreator encode = codecCreator.getMethodCreator("encode", byte[].class, Object.class);
+                encode.setModifiers(Modifier.PROTECTED);
+                ResultHandle message = encode.checkCast(encode.getMethodParam(0), PROTOBUF_MESSAGE_LITE);
+                encode.returnValue(encode.invokeInterfaceMethod(
+                        MethodDescriptor.ofMethod(PROTOBUF_MESSAGE_LITE, "toByteArray", byte[].class), message));
+
+                // return Type.parseFrom(bytes);
+                MethodCreator decode = codecCreator.getMethodCreator("decode", Object.class, byte[].class);
+                decode.setModifiers(Modifier.PROTECTED);
+                decode.returnValue(decode.invokeStaticMethod(
+                        MethodDescriptor.ofMethod(typeName, "parseFrom", typeName, byte[].class),
+                        decode.getMethodParam(0)));
+            }
+        }
+        return DotName.createSimple(codecName);
+    }
+
     /**
      * Checks whether the given type has a built-in codec.
      *
@@ -7,6 +7,8 @@
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiConsumer;
@@ -32,6 +34,7 @@
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.runtime.util.HashUtil;
+import io.quarkus.vertx.runtime.BatchEventConsumerInvoker;
 import io.quarkus.vertx.runtime.EventConsumerInvoker;
 import io.smallrye.common.annotation.Blocking;
 import io.smallrye.mutiny.Uni;
@@ -60,6 +63,8 @@ class EventBusConsumer {
     private static final MethodDescriptor INSTANCE_HANDLE_DESTROY = MethodDescriptor
             .ofMethod(InstanceHandle.class, "destroy",
                     void.class);
+    private static final MethodDescriptor COLLECTIONS_SINGLETON_LIST = MethodDescriptor.ofMethod(Collections.class,
+            "singletonList", List.class, Object.class);
     protected static final MethodDescriptor WHEN_COMPLETE = MethodDescriptor.ofMethod(CompletionStage.class,
             "whenComplete", CompletionStage.class, BiConsumer.class);
     protected static final MethodDescriptor SUBSCRIBE_AS_COMPLETION_STAGE = MethodDescriptor
@@ -95,8 +100,9 @@ static String generateInvoker(BeanInfo bean, MethodInfo method,
         AnnotationValue blockingValue = consumeEvent.value("blocking");
         blocking = method.hasAnnotation(BLOCKING) || (blockingValue != null && blockingValue.asBoolean());
 
+        boolean batch = isBatch(consumeEvent);
         ClassCreator invokerCreator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
-                .superClass(EventConsumerInvoker.class).build();
+                .superClass(batch ? BatchEventConsumerInvoker.class : EventConsumerInvoker.class).build();
 
         // Initialized state
         FieldCreator beanField = invokerCreator.getFieldCreator("bean", InjectableBean.class)
@@ -117,7 +123,13 @@ static String generateInvoker(BeanInfo bean, MethodInfo method,
         }
 
         implementConstructor(bean, invokerCreator, beanField, containerField);
-        implementInvoke(bean, method, invokerCreator, beanField.getFieldDescriptor(), containerField.getFieldDescriptor());
+        if (batch) {
+            implementBatchInvoke(bean, method, invokerCreator, generatedName, beanField.getFieldDescriptor(),
+                    containerField.getFieldDescriptor());
+        } else {
+            implementInvoke(bean, method, invokerCreator, beanField.getFieldDescriptor(),
+                    containerField.getFieldDescriptor());
+        }
 
         invokerCreator.close();
         return generatedName.replace('/', '.');
@@ -202,6 +214,54 @@ private static void implementInvoke(BeanInfo bean, MethodInfo method, ClassCreat
         invoke.returnValue(result);
     }
 
+    static boolean isBatch(AnnotationInstance consumeEvent) {
+        AnnotationValue batchSizeValue = consumeEvent.value("batchSize");
+        return batchSizeValue != null && batchSizeValue.asInt() > 0;
+    }
+
+    private static void implementBatchInvoke(BeanInfo bean, MethodInfo method, ClassCreator invokerCreator,
+            String invokerName, FieldDescriptor beanField,
+            FieldDescriptor containerField) {
+
+        // The method descriptor is: Object invokeBean(List bodies)
+        MethodCreator invoke = invokerCreator.getMethodCreator("invokeBean", Object.class, List.class)
+                .addException(Exception.class);
+
+        ResultHandle containerHandle = invoke.readInstanceField(containerField, invoke.getThis());
+        ResultHandle beanHandle = invoke.readInstanceField(beanField, invoke.getThis());
+        ResultHandle instanceHandle = invoke.invokeInterfaceMethod(ARC_CONTAINER_INSTANCE_FOR_BEAN, containerHandle,
+                beanHandle);
+        ResultHandle beanInstanceHandle = invoke
+                .invokeInterfaceMethod(INSTANCE_HANDLE_GET, instanceHandle);
+        ResultHandle returnHandle = invoke.invokeVirtualMethod(
+                MethodDescriptor.ofMethod(bean.getImplClazz().name().toString(), method.name(),
+                        method.returnType().name().toString(), List.class.getName()),
+                beanInstanceHandle, invoke.getMethodParam(0));
+        ResultHandle result;
+        if (returnHandle == null) {
+            result = invoke.loadNull();
+        } else if (method.returnType().name().equals(UNI)) {
+            result = invoke.invokeInterfaceMethod(SUBSCRIBE_AS_COMPLETION_STAGE, returnHandle);
+        } else {
+            result = returnHandle;
+        }
+
+        // handle.destroy() - destroy dependent instance afterwards
+        if (BuiltinScope.DEPENDENT.is(bean.getScope())) {
+            invoke.invokeInterfaceMethod(INSTANCE_HANDLE_DESTROY, instanceHandle);
+        }
+        invoke.returnValue(result);
+
+        // A single message is delivered as a batch of one
+        MethodCreator invokeSingle = invokerCreator.getMethodCreator("invokeBean", Object.class, Message.class)
+                .addException(Exception.class);
+        ResultHandle bodiesHandle = invokeSingle.invokeStaticMethod(COLLECTIONS_SINGLETON_LIST,
+                invokeSingle.invokeInterfaceMethod(MESSAGE_BODY, invokeSingle.getMethodParam(0)));
+        invokeSingle.returnValue(invokeSingle.invokeVirtualMethod(
+                MethodDescriptor.ofMethod(invokerName, "invokeBean", Object.class, List.class),
+                invokeSingle.getThis(), bodiesHandle));
+    }
+
     private EventBusConsumer() {
         // Avoid direct instantiation.
     }
@@ -1,5 +1,6 @@
 package io.quarkus.vertx.deployment;
 
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 import org.jboss.jandex.DotName;
@@ -15,6 +16,7 @@ public class VertxConstants {
     static final DotName MUTINY_MESSAGE = DotName
             .createSimple(io.vertx.mutiny.core.eventbus.Message.class.getName());
     static final DotName COMPLETION_STAGE = DotName.createSimple(CompletionStage.class.getName());
+    static final DotName LIST = DotName.createSimple(List.class.getName());
     static final DotName UNI = DotName.createSimple(Uni.class.getName());
     static final DotName LOCAL_EVENT_BUS_CODEC = DotName.createSimple(LocalEventBusCodec.class.getName());
     static final DotName CONSUME_EVENT = DotName.createSimple(ConsumeEvent.class.getName());
@@ -7,6 +7,7 @@
 import java.util.Map;
 
 import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.MethodInfo;
@@ -119,7 +120,9 @@ void collectEventConsumers(
                                 "An event consumer business method must accept exactly one parameter: %s [method: %s, bean:%s]",
                                 params, method, bean));
                     }
-                    if (method.returnType().kind() != Kind.VOID && VertxConstants.isMessage(params.get(0).name())) {
+                    if (EventBusConsumer.isBatch(consumeEvent)) {
+                        validateBatchConsumer(method, consumeEvent, bean);
+                    } else if (method.returnType().kind() != Kind.VOID && VertxConstants.isMessage(params.get(0).name())) {
                         throw new IllegalStateException(String.format(
                                 "An event consumer business method that accepts io.vertx.core.eventbus.Message or io.vertx.mutiny.core.eventbus.Message must return void [method: %s, bean:%s]",
                                 method, bean));
@@ -132,6 +135,29 @@ void collectEventConsumers(
         }
     }
 
+    private static void validateBatchConsumer(MethodInfo method, AnnotationInstance consumeEvent, BeanInfo bean) {
+        Type param = method.parameterType(0);
+        if (!param.name().equals(VertxConstants.LIST)
+                || (param.kind() == Kind.PARAMETERIZED_TYPE
+                        && VertxConstants.isMessage(param.asParameterizedType().arguments().get(0).name()))) {
+            throw new IllegalStateException(String.format(
+                    "A batch event consumer business method must accept a java.util.List of payloads [method: %s, bean:%s]",
+                    method, bean));
+        }
+        DotName returnType = method.returnType().name();
+        if (method.returnType().kind() != Kind.VOID && !returnType.equals(VertxConstants.COMPLETION_STAGE)
+                && !returnType.equals(VertxConstants.UNI)) {
+            throw new IllegalStateException(String.format(
+                    "A batch event consumer business method must return void, CompletionStage or Uni [method: %s, bean:%s]",
+                    method, bean));
+        }
+        AnnotationValue batchTimeout = consumeEvent.value("batchTimeout");
+        if (batchTimeout != null && batchTimeout.asLong() <= 0) {
+            throw new IllegalStateException(String.format(
+                    "The batch timeout of an event consumer must be positive [method: %s, bean:%s]", method, bean));
+        }
+    }
+
     @BuildStep
     AutoAddScopeBuildItem autoAddScope() {
         // Add @Singleton to a class with no scope annotation but with a method annotated with @ConsumeEvent
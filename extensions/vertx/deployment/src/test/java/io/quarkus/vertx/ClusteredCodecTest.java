@@ -0,0 +1,90 @@
+package io.quarkus.vertx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.runtime.codecs.JacksonEventBusCodec;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.core.eventbus.Message;
+
+public class ClusteredCodecTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap
+                    .create(JavaArchive.class).addClasses(Order.class, Receipt.class, MyClusteredBean.class));
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testLocalDelivery() {
+        Receipt receipt = vertx.eventBus().<Receipt> request("order", new Order("coffee", 2))
+                .onItem().transform(Message::body)
+                .await().indefinitely();
+        assertThat(receipt.summary).isEqualTo("2 x coffee");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testWireFormat() throws Exception {
+        MessageCodec<Order, Order> codec = (MessageCodec<Order, Order>) Thread.currentThread().getContextClassLoader()
+                .loadClass(ClusteredCodecTest.class.getName() + "_Order_JacksonEventBusCodec")
+                .getDeclaredConstructor().newInstance();
+        assertThat(codec).isInstanceOf(JacksonEventBusCodec.class);
+
+        Buffer buffer = Buffer.buffer().appendString("header");
+        codec.encodeToWire(buffer, new Order("tea", 3));
+        Order decoded = codec.decodeFromWire("header".length(), buffer);
+        assertThat(decoded.item).isEqualTo("tea");
+        assertThat(decoded.quantity).isEqualTo(3);
+
+        // Local delivery does not copy the payload
+        Order order = new Order("water", 1);
+        assertThat(codec.transform(order)).isSameAs(order);
+    }
+
+    public static class Order {
+
+        public String item;
+        public int quantity;
+
+        public Order() {
+        }
+
+        Order(String item, int quantity) {
+            this.item = item;
+            this.quantity = quantity;
+        }
+    }
+
+    public static class Receipt {
+
+        public String summary;
+
+        public Receipt() {
+        }
+
+        Receipt(String summary) {
+            this.summary = summary;
+        }
+    }
+
+    static class MyClusteredBean {
+
+        @ConsumeEvent(value = "order", local = false)
+        public Receipt order(Order order) {
+            return new Receipt(order.quantity + " x " + order.item);
+        }
+    }
+
+}
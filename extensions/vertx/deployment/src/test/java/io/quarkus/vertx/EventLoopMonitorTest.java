@@ -0,0 +1,54 @@
+package io.quarkus.vertx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.core.runtime.EventLoopMonitor;
+import io.quarkus.vertx.core.runtime.EventLoopMonitor.EventLoopStats;
+import io.vertx.core.Vertx;
+
+public class EventLoopMonitorTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withEmptyApplication()
+            .overrideConfigKey("quarkus.vertx.event-loops-pool-size", "2")
+            .overrideConfigKey("quarkus.vertx.event-loop-monitor.enabled", "true")
+            .overrideConfigKey("quarkus.vertx.event-loop-monitor.sampling-interval", "0.005S")
+            .overrideConfigKey("quarkus.vertx.event-loop-monitor.report-interval", "0.05S");
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testLongTaskIsObserved() {
+        assertThat(EventLoopMonitor.isEnabled()).isTrue();
+        List<EventLoopStats> eventLoops = EventLoopMonitor.getEventLoops();
+        assertThat(eventLoops).hasSize(2);
+        // The thread of an event loop is known once the probe task was executed
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> eventLoops.stream().allMatch(stats -> stats.getThreadName() != null));
+
+        vertx.runOnContext(ignored -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> eventLoops.stream().anyMatch(stats -> stats.getLongestTaskMillis() >= 150
+                        && stats.getTaskDurationHistogram()[3] > 0));
+    }
+
+}
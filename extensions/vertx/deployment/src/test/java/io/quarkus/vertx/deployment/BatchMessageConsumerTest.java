@@ -0,0 +1,150 @@
+package io.quarkus.vertx.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.RequestScoped;
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.ConsumeEvent;
+import io.vertx.core.Context;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.ReplyException;
+
+public class BatchMessageConsumerTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(BatchBean.class, RequestFoo.class));
+
+    @Inject
+    EventBus eventBus;
+
+    @Test
+    public void testFullBatch() throws InterruptedException {
+        BatchBean.reset(1);
+        for (int i = 0; i < 4; i++) {
+            eventBus.send("batch", "hello-" + i);
+        }
+        assertTrue(BatchBean.latch.await(2, TimeUnit.SECONDS));
+        assertEquals(1, BatchBean.batches.size());
+        assertEquals(List.of("hello-0", "hello-1", "hello-2", "hello-3"), BatchBean.batches.get(0));
+        // The request context is active while the batch is processed
+        assertEquals(1, BatchBean.requestIds.size());
+    }
+
+    @Test
+    public void testBatchTimeout() throws InterruptedException {
+        BatchBean.reset(1);
+        eventBus.send("batch", "alpha");
+        eventBus.send("batch", "bravo");
+        assertTrue(BatchBean.latch.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of("alpha", "bravo")), BatchBean.batches);
+    }
+
+    @Test
+    public void testBlockingBatches() throws InterruptedException {
+        BatchBean.reset(2);
+        for (int i = 0; i < 6; i++) {
+            eventBus.send("batch-blocking", i);
+        }
+        assertTrue(BatchBean.latch.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of(0, 1, 2), List.of(3, 4, 5)), BatchBean.batches);
+        assertTrue(BatchBean.workerThread);
+    }
+
+    @Test
+    public void testAsyncReplyAndFailure() throws InterruptedException {
+        List<Object> replies = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        eventBus.request("batch-async", "ok", ar -> {
+            replies.add(ar.succeeded() ? ar.result().body() : ar.cause());
+            latch.countDown();
+        });
+        eventBus.request("batch-async", "fail", ar -> {
+            replies.add(ar.succeeded() ? ar.result().body() : ar.cause());
+            latch.countDown();
+        });
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        // Both messages belong to the same failed batch
+        assertEquals(2, replies.size());
+        for (Object reply : replies) {
+            assertTrue(reply instanceof ReplyException);
+            assertEquals(ConsumeEvent.EXPLICIT_FAILURE_CODE, ((ReplyException) reply).failureCode());
+            assertEquals("Batch of 2", ((ReplyException) reply).getMessage());
+        }
+    }
+
+    @ApplicationScoped
+    static class BatchBean {
+
+        static final List<List<Object>> batches = new CopyOnWriteArrayList<>();
+        static volatile CountDownLatch latch;
+        static final Set<String> requestIds = ConcurrentHashMap.newKeySet();
+        static volatile boolean workerThread;
+
+        static void reset(int expectedBatches) {
+            batches.clear();
+            latch = new CountDownLatch(expectedBatches);
+            requestIds.clear();
+        }
+
+        @Inject
+        RequestFoo foo;
+
+        @ConsumeEvent(value = "batch", batchSize = 4, batchTimeout = 500)
+        void consume(List<String> messages) {
+            requestIds.add(foo.getId());
+            batches.add(new ArrayList<>(messages));
+            latch.countDown();
+        }
+
+        @ConsumeEvent(value = "batch-blocking", batchSize = 3, batchTimeout = 10_000, blocking = true, ordered = true)
+        void consumeBlocking(List<Integer> messages) {
+            workerThread = Context.isOnWorkerThread();
+            batches.add(new ArrayList<>(messages));
+            latch.countDown();
+        }
+
+        @ConsumeEvent(value = "batch-async", batchSize = 2, batchTimeout = 10_000)
+        CompletionStage<Void> consumeAsync(List<String> messages) {
+            if (messages.contains("fail")) {
+                return CompletableFuture.failedFuture(new IllegalStateException("Batch of " + messages.size()));
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    @RequestScoped
+    static class RequestFoo {
+
+        private String id;
+
+        @PostConstruct
+        void init() {
+            id = UUID.randomUUID().toString();
+        }
+
+        String getId() {
+            return id;
+        }
+    }
+
+}
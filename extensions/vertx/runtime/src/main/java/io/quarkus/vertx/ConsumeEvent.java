@@ -78,6 +78,9 @@
     String value() default "";
 
     /**
+     * If set to {@code false} and no {@link #codec()} is set, a codec able to send the payload and the reply across the
+     * cluster is generated at build time: the protobuf messages are encoded in the protobuf binary format, any other
+     * class is serialized to JSON with Jackson.
      *
      * @return {@code true} if the address should not be propagated across the cluster
      * @see io.vertx.core.eventbus.EventBus#localConsumer(String)
@@ -99,6 +102,34 @@
      */
     boolean ordered() default false;
 
+    /**
+     * If set to a positive value, the messages are delivered in batches. The method must accept a {@link java.util.List}
+     * of payloads and return {@code void}, {@link java.util.concurrent.CompletionStage} or {@link io.smallrye.mutiny.Uni}.
+     * <p>
+     * The messages are buffered until the batch is full or the {@link #batchTimeout()} elapses since the first buffered
+     * message. The CDI request context is activated once per batch and a blocking consumer is invoked once per batch on a
+     * worker thread. If the asynchronous processing of a batch completes, its result is passed to
+     * {@link io.vertx.core.eventbus.Message#reply(Object)} of every message of the batch. If the processing fails, the failure
+     * is propagated to every message of the batch.
+     *
+     * <pre>
+     * &#64;ConsumeEvent(value = "audit", batchSize = 100, batchTimeout = 50)
+     * void audit(List&lt;AuditEvent&gt; events) {
+     *     store.saveAll(events);
+     * }
+     * </pre>
+     *
+     * @return the maximum number of messages delivered at once, or {@code 0} if the messages are delivered one by one
+     */
+    int batchSize() default 0;
+
+    /**
+     *
+     * @return the maximum time in milliseconds a message is buffered before its batch is delivered
+     * @see #batchSize()
+     */
+    long batchTimeout() default 100;
+
     /**
      *
      * @return {@code null} if it should use a default MessageCodec
@@ -0,0 +1,302 @@
+package io.quarkus.vertx.core.runtime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.jboss.logging.Logger;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+import io.quarkus.vertx.core.runtime.config.EventLoopMonitorConfiguration;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.impl.VertxThread;
+
+/**
+ * Monitors the utilization of the Vert.x event loops.
+ * <p>
+ * A dedicated thread samples the event loop threads. A sample is busy if the thread is executing a Vert.x task, which is
+ * the same information used by the blocked thread checker. The samples give the busy percentage of each event loop and an
+ * estimate of the duration of the tasks longer than the sampling interval. In addition, a probe task is periodically
+ * submitted to each event loop to measure the task queue depth and the scheduling delay.
+ */
+public final class EventLoopMonitor {
+
+    private static final Logger LOGGER = Logger.getLogger(EventLoopMonitor.class.getName());
+
+    /**
+     * The upper bounds of the task duration histogram buckets, the last bucket is unbounded.
+     */
+    public static final long[] TASK_DURATION_BUCKETS_MILLIS = { 10, 50, 100, 500, 1000, 5000 };
+
+    private static volatile EventLoopMonitor instance;
+    private static volatile MetricsFactory metricsFactory;
+
+    private final List<EventLoopStats> eventLoops;
+    private final ScheduledExecutorService executor;
+
+    private EventLoopMonitor(List<EventLoopStats> eventLoops, ScheduledExecutorService executor) {
+        this.eventLoops = eventLoops;
+        this.executor = executor;
+    }
+
+    static synchronized void start(Vertx vertx, EventLoopMonitorConfiguration config) {
+        if (instance != null) {
+            // Dev mode restart, the Vert.x instance is reused
+            return;
+        }
+        List<EventLoopStats> eventLoops = new ArrayList<>();
+        int index = 0;
+        for (EventExecutor eventLoop : ((VertxInternal) vertx).getEventLoopGroup()) {
+            eventLoops.add(new EventLoopStats(index++, eventLoop));
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "vertx-event-loop-monitor");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        EventLoopMonitor monitor = new EventLoopMonitor(Collections.unmodifiableList(eventLoops), executor);
+        MetricsFactory factory = metricsFactory;
+        if (factory != null) {
+            monitor.registerMetrics(factory);
+        }
+        long samplingInterval = config.samplingInterval.toNanos();
+        long reportInterval = config.reportInterval.toNanos();
+        executor.scheduleAtFixedRate(monitor::sample, samplingInterval, samplingInterval, TimeUnit.NANOSECONDS);
+        executor.scheduleAtFixedRate(monitor::report, 0, reportInterval, TimeUnit.NANOSECONDS);
+        instance = monitor;
+        LOGGER.debugf("Event loop monitoring started for %s event loops", eventLoops.size());
+    }
+
+    static synchronized void stop() {
+        EventLoopMonitor monitor = instance;
+        if (monitor != null) {
+            monitor.executor.shutdownNow();
+            instance = null;
+        }
+    }
+
+    /**
+     *
+     * @return the statistics of the event loops, or an empty list if the monitoring is disabled
+     */
+    public static List<EventLoopStats> getEventLoops() {
+        EventLoopMonitor monitor = instance;
+        return monitor != null ? monitor.eventLoops : Collections.emptyList();
+    }
+
+    public static boolean isEnabled() {
+        return instance != null;
+    }
+
+    static synchronized void setMetricsFactory(MetricsFactory factory) {
+        metricsFactory = factory;
+        EventLoopMonitor monitor = instance;
+        if (monitor != null) {
+            monitor.registerMetrics(factory);
+        }
+    }
+
+    private void sample() {
+        long now = System.nanoTime();
+        for (EventLoopStats eventLoop : eventLoops) {
+            eventLoop.sample(now);
+        }
+    }
+
+    private void report() {
+        for (EventLoopStats eventLoop : eventLoops) {
+            eventLoop.report();
+        }
+    }
+
+    private void registerMetrics(MetricsFactory factory) {
+        for (EventLoopStats eventLoop : eventLoops) {
+            String index = String.valueOf(eventLoop.index);
+            factory.builder("vertx.eventloop.busy")
+                    .description("Percentage of the samples in which the event loop was executing a task.")
+                    .tag("event-loop", index)
+                    .buildGauge(eventLoop::getBusyPercentage);
+            factory.builder("vertx.eventloop.tasks")
+                    .description("Number of tasks longer than the sampling interval.")
+                    .tag("event-loop", index)
+                    .buildCounter(eventLoop::getTasks);
+            factory.builder("vertx.eventloop.queue.depth")
+                    .description("Number of tasks waiting in the queue of the event loop.")
+                    .tag("event-loop", index)
+                    .buildGauge(eventLoop::getQueueDepth);
+            factory.builder("vertx.eventloop.delay")
+                    .description("Delay in milliseconds between the submission and the execution of the probe task.")
+                    .tag("event-loop", index)
+                    .buildGauge(eventLoop::getSchedulingDelayMillis);
+            factory.builder("vertx.eventloop.task.longest")
+                    .description("Duration in milliseconds of the longest task observed.")
+                    .tag("event-loop", index)
+                    .buildGauge(eventLoop::getLongestTaskMillis);
+            eventLoop.taskDuration = factory.builder("vertx.eventloop.task.duration")
+                    .description("Estimated duration of the tasks longer than the sampling interval.")
+                    .tag("event-loop", index)
+                    .buildTimer();
+        }
+    }
+
+    /**
+     * The statistics of an event loop.
+     * <p>
+     * The sampling state is only accessed by the monitor thread.
+     */
+    public static final class EventLoopStats {
+
+        private final int index;
+        private final EventExecutor executor;
+        private final AtomicLongArray taskDurationBuckets = new AtomicLongArray(TASK_DURATION_BUCKETS_MILLIS.length + 1);
+
+        private volatile VertxThread thread;
+        private volatile TimeRecorder taskDuration;
+
+        // sampling state
+        private long currentTaskStart;
+        private long currentTaskLastSeen;
+        private int windowSamples;
+        private int windowBusySamples;
+
+        private volatile int busyPercentage;
+        private volatile long tasks;
+        private volatile long currentTaskNanos;
+        private volatile long longestTaskNanos;
+        private volatile int queueDepth;
+        private volatile long schedulingDelayNanos;
+
+        EventLoopStats(int index, EventExecutor executor) {
+            this.index = index;
+            this.executor = executor;
+        }
+
+        void sample(long now) {
+            VertxThread vertxThread = thread;
+            if (vertxThread == null) {
+                // Not started yet
+                return;
+            }
+            long start = vertxThread.startTime();
+            windowSamples++;
+            if (start != currentTaskStart) {
+                if (currentTaskStart != 0) {
+                    // The task observed in the previous samples has ended
+                    taskEnded(currentTaskLastSeen - currentTaskStart);
+                }
+                currentTaskStart = start;
+                if (start != 0) {
+                    tasks++;
+                }
+            }
+            if (start != 0) {
+                windowBusySamples++;
+                currentTaskLastSeen = now;
+                long duration = now - start;
+                currentTaskNanos = duration;
+                if (duration > longestTaskNanos) {
+                    longestTaskNanos = duration;
+                }
+            } else {
+                currentTaskNanos = 0;
+            }
+        }
+
+        void report() {
+            if (windowSamples > 0) {
+                busyPercentage = windowBusySamples * 100 / windowSamples;
+            }
+            windowSamples = 0;
+            windowBusySamples = 0;
+            if (executor instanceof SingleThreadEventExecutor) {
+                queueDepth = ((SingleThreadEventExecutor) executor).pendingTasks();
+            }
+            long submitted = System.nanoTime();
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    schedulingDelayNanos = System.nanoTime() - submitted;
+                    if (thread == null && Thread.currentThread() instanceof VertxThread) {
+                        thread = (VertxThread) Thread.currentThread();
+                    }
+                }
+            });
+        }
+
+        private void taskEnded(long durationNanos) {
+            long millis = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+            int bucket = 0;
+            while (bucket < TASK_DURATION_BUCKETS_MILLIS.length && millis > TASK_DURATION_BUCKETS_MILLIS[bucket]) {
+                bucket++;
+            }
+            taskDurationBuckets.incrementAndGet(bucket);
+            TimeRecorder recorder = taskDuration;
+            if (recorder != null) {
+                recorder.update(durationNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         *
+         * @return the name of the event loop thread, or {@code null} if the event loop has not started yet
+         */
+        public String getThreadName() {
+            VertxThread vertxThread = thread;
+            return vertxThread != null ? vertxThread.getName() : null;
+        }
+
+        public int getBusyPercentage() {
+            return busyPercentage;
+        }
+
+        public long getTasks() {
+            return tasks;
+        }
+
+        public int getQueueDepth() {
+            return queueDepth;
+        }
+
+        public double getSchedulingDelayMillis() {
+            return schedulingDelayNanos / 1_000_000.0;
+        }
+
+        public double getCurrentTaskMillis() {
+            return currentTaskNanos / 1_000_000.0;
+        }
+
+        public double getLongestTaskMillis() {
+            return longestTaskNanos / 1_000_000.0;
+        }
+
+        /**
+         *
+         * @return the number of tasks per duration bucket
+         * @see EventLoopMonitor#TASK_DURATION_BUCKETS_MILLIS
+         */
+        public long[] getTaskDurationHistogram() {
+            long[] histogram = new long[taskDurationBuckets.length()];
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] = taskDurationBuckets.get(i);
+            }
+            return histogram;
+        }
+    }
+
+}
@@ -36,6 +36,7 @@
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.vertx.core.runtime.config.AddressResolverConfiguration;
 import io.quarkus.vertx.core.runtime.config.ClusterConfiguration;
 import io.quarkus.vertx.core.runtime.config.EventBusConfiguration;
@@ -246,6 +247,10 @@ public void handle(Throwable error) {
 
         LateBoundMDCProvider.setMDCProviderDelegate(VertxMDC.INSTANCE);
 
+        if (conf != null && conf.eventLoopMonitor != null && conf.eventLoopMonitor.enabled) {
+            EventLoopMonitor.start(vertx, conf.eventLoopMonitor);
+        }
+
         return logVertxInitialization(vertx);
     }
 
@@ -388,6 +393,7 @@ private static int calculateDefaultIOThreads() {
     }
 
     void destroy() {
+        EventLoopMonitor.stop();
         if (vertx != null && vertx.v != null) {
             // Netty attaches a ThreadLocal to the main thread that can leak the QuarkusClassLoader which can be problematic in dev or test mode
             FastThreadLocal.destroy();
@@ -563,6 +569,15 @@ public void runWith(Runnable task, Object context) {
         };
     }
 
+    public Consumer<MetricsFactory> registerEventLoopMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                EventLoopMonitor.setMetricsFactory(metricsFactory);
+            }
+        };
+    }
+
     public static Supplier<Vertx> recoverFailedStart(VertxConfiguration config) {
         return vertx = new VertxSupplier(LaunchMode.DEVELOPMENT, config, Collections.emptyList(), null);
 
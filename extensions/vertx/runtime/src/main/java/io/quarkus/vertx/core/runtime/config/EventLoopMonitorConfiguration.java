@@ -0,0 +1,31 @@
+package io.quarkus.vertx.core.runtime.config;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class EventLoopMonitorConfiguration {
+
+    /**
+     * Enables the monitoring of the event loops. The event loop threads are sampled to compute the busy percentage and the
+     * duration of the long running tasks, and a probe task measures the task queue depth and the scheduling delay.
+     */
+    @ConfigItem
+    public boolean enabled;
+
+    /**
+     * The interval at which the event loop threads are sampled. The tasks shorter than this interval are mostly not
+     * observed.
+     */
+    @ConfigItem(defaultValue = "0.01S")
+    public Duration samplingInterval;
+
+    /**
+     * The interval at which the busy percentage is computed and the probe task is submitted to the event loops.
+     */
+    @ConfigItem(defaultValue = "1S")
+    public Duration reportInterval;
+
+}
@@ -119,4 +119,10 @@ public class VertxConfiguration {
     @ConfigItem
     public boolean preferNativeTransport;
 
+    /**
+     * The event loop monitoring configuration.
+     */
+    @ConfigItem
+    public EventLoopMonitorConfiguration eventLoopMonitor;
+
 }
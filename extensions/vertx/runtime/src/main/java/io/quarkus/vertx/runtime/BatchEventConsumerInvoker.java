@@ -0,0 +1,107 @@
+package io.quarkus.vertx.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.vertx.ConsumeEvent;
+import io.vertx.core.eventbus.Message;
+
+/**
+ * Invokes a business method annotated with {@link ConsumeEvent} that consumes the messages in batches.
+ *
+ * @see ConsumeEvent#batchSize()
+ */
+public abstract class BatchEventConsumerInvoker extends EventConsumerInvoker {
+
+    @Override
+    public final boolean isBatch() {
+        return true;
+    }
+
+    /**
+     * Invokes a batch consumer. The request context is activated once for the whole batch.
+     *
+     * @param messages the messages of the batch
+     * @throws Exception
+     */
+    public void invokeBatch(List<Message<Object>> messages) throws Exception {
+        List<Object> bodies = new ArrayList<>(messages.size());
+        for (Message<Object> message : messages) {
+            bodies.add(message.body());
+        }
+        ManagedContext requestContext = Arc.container().requestContext();
+        if (requestContext.isActive()) {
+            Object ret = invokeBean(bodies);
+            if (ret instanceof CompletionStage) {
+                ((CompletionStage<?>) ret).whenComplete(new BatchConsumer(messages, null, null));
+            }
+        } else {
+            // Activate the request context
+            requestContext.activate();
+            Object ret;
+            try {
+                ret = invokeBean(bodies);
+            } catch (Exception e) {
+                // Terminate the request context and re-throw the exception
+                requestContext.terminate();
+                throw e;
+            }
+            if (ret instanceof CompletionStage) {
+                // Capture the state, deactivate and destroy the context when the computation completes
+                ContextState endState = requestContext.getState();
+                requestContext.deactivate();
+                ((CompletionStage<?>) ret).whenComplete(new BatchConsumer(messages, requestContext, endState));
+            } else {
+                requestContext.terminate();
+            }
+        }
+    }
+
+    /**
+     * Invokes the business method of a batch consumer.
+     *
+     * @param bodies the message bodies
+     * @return the result, i.e. {@code null} or a {@link CompletionStage}
+     * @throws Exception
+     */
+    protected abstract Object invokeBean(List<Object> bodies) throws Exception;
+
+    private static class BatchConsumer implements BiConsumer<Object, Throwable> {
+
+        private final List<Message<Object>> messages;
+        // null if the request context was already active
+        private final ManagedContext requestContext;
+        private final ContextState endState;
+
+        BatchConsumer(List<Message<Object>> messages, ManagedContext requestContext, ContextState endState) {
+            this.messages = messages;
+            this.requestContext = requestContext;
+            this.endState = endState;
+        }
+
+        @Override
+        public void accept(Object result, Throwable failure) {
+            if (requestContext != null) {
+                try {
+                    requestContext.destroy(endState);
+                } catch (Exception e) {
+                    throw VertxRecorder.wrapIfNecessary(e);
+                }
+            }
+            if (failure != null) {
+                fail(messages, ConsumeEvent.EXPLICIT_FAILURE_CODE, failure);
+            } else {
+                for (Message<Object> message : messages) {
+                    message.reply(result);
+                }
+            }
+        }
+
+    }
+
+}
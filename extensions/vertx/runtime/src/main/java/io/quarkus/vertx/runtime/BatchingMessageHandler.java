@@ -0,0 +1,98 @@
+package io.quarkus.vertx.runtime;
+
+import static io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle.setContextSafe;
+import static io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle.setCurrentContextSafe;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.quarkus.vertx.ConsumeEvent;
+import io.smallrye.common.vertx.VertxContext;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+
+/**
+ * Buffers the messages of a batch consumer and delivers them once the batch is full or the batch timeout elapses.
+ * <p>
+ * The handler is always invoked on the event loop of the consumer context, therefore the buffer is not guarded.
+ *
+ * @see ConsumeEvent#batchSize()
+ */
+final class BatchingMessageHandler implements Handler<Message<Object>> {
+
+    private final Vertx vertx;
+    private final Context context;
+    private final BatchEventConsumerInvoker invoker;
+    private final int batchSize;
+    private final long batchTimeout;
+
+    private List<Message<Object>> batch;
+    private long timerId = -1;
+
+    BatchingMessageHandler(Vertx vertx, Context context, BatchEventConsumerInvoker invoker, int batchSize,
+            long batchTimeout) {
+        this.vertx = vertx;
+        this.context = context;
+        this.invoker = invoker;
+        this.batchSize = batchSize;
+        this.batchTimeout = batchTimeout;
+    }
+
+    @Override
+    public void handle(Message<Object> message) {
+        if (batch == null) {
+            batch = new ArrayList<>(batchSize);
+            timerId = vertx.setTimer(batchTimeout, new Handler<Long>() {
+                @Override
+                public void handle(Long id) {
+                    // The timer may fire after the batch was delivered because it was full
+                    if (id == timerId) {
+                        timerId = -1;
+                        flush();
+                    }
+                }
+            });
+        }
+        batch.add(message);
+        if (batch.size() >= batchSize) {
+            vertx.cancelTimer(timerId);
+            timerId = -1;
+            flush();
+        }
+    }
+
+    private void flush() {
+        List<Message<Object>> messages = batch;
+        batch = null;
+        if (messages == null || messages.isEmpty()) {
+            return;
+        }
+        if (invoker.isBlocking()) {
+            // We need to create a duplicated context from the "context"
+            Context dup = VertxContext.getOrCreateDuplicatedContext(context);
+            setContextSafe(dup, true);
+            dup.executeBlocking(new Handler<Promise<Object>>() {
+                @Override
+                public void handle(Promise<Object> event) {
+                    invoke(messages);
+                    event.complete();
+                }
+            }, invoker.isOrdered(), null);
+        } else {
+            setCurrentContextSafe(true);
+            invoke(messages);
+        }
+    }
+
+    private void invoke(List<Message<Object>> messages) {
+        try {
+            invoker.invokeBatch(messages);
+        } catch (Exception e) {
+            EventConsumerInvoker.fail(messages, ConsumeEvent.FAILURE_CODE, e);
+        }
+    }
+
+}
@@ -1,5 +1,6 @@
 package io.quarkus.vertx.runtime;
 
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiConsumer;
 
@@ -22,6 +23,14 @@ public boolean isOrdered() {
         return false;
     }
 
+    /**
+     *
+     * @return {@code true} if this is a {@link BatchEventConsumerInvoker}
+     */
+    public boolean isBatch() {
+        return false;
+    }
+
     public void invoke(Message<Object> message) throws Exception {
         ManagedContext requestContext = Arc.container().requestContext();
         if (requestContext.isActive()) {
@@ -64,6 +73,30 @@ public void invoke(Message<Object> message) throws Exception {
 
     protected abstract Object invokeBean(Message<Object> message) throws Exception;
 
+    /**
+     * Fails the messages of a batch. If a message has no reply handler, the failure is rethrown once all the other messages
+     * are failed.
+     *
+     * @param messages
+     * @param failureCode
+     * @param failure
+     */
+    static void fail(List<Message<Object>> messages, int failureCode, Throwable failure) {
+        boolean rethrow = false;
+        for (Message<Object> message : messages) {
+            if (message.replyAddress() == null) {
+                // No reply handler
+                rethrow = true;
+            } else {
+                message.fail(failureCode, failureCode == ConsumeEvent.FAILURE_CODE ? failure.toString()
+                        : failure.getMessage());
+            }
+        }
+        if (rethrow) {
+            throw VertxRecorder.wrapIfNecessary(failure);
+        }
+    }
+
     private static class RequestActiveConsumer implements BiConsumer<Object, Throwable> {
 
         private final Message<Object> message;
@@ -97,48 +97,54 @@ public void handle(Void x) {
                             consumer = eventBus.consumer(address);
                         }
 
-                        consumer.handler(new Handler<Message<Object>>() {
-                            @Override
-                            public void handle(Message<Object> m) {
-                                if (invoker.isBlocking()) {
-                                    // We need to create a duplicated context from the "context"
-                                    Context dup = VertxContext.getOrCreateDuplicatedContext(context);
-                                    setContextSafe(dup, true);
-                                    dup.executeBlocking(new Handler<Promise<Object>>() {
-                                        @Override
-                                        public void handle(Promise<Object> event) {
-                                            try {
-                                                invoker.invoke(m);
-                                            } catch (Exception e) {
-                                                if (m.replyAddress() == null) {
-                                                    // No reply handler
-                                                    throw wrapIfNecessary(e);
-                                                } else {
-                                                    m.fail(ConsumeEvent.FAILURE_CODE, e.toString());
+                        ConsumeEvent consumeEvent = entry.getValue();
+                        if (invoker.isBatch()) {
+                            consumer.handler(new BatchingMessageHandler(vertx, context, (BatchEventConsumerInvoker) invoker,
+                                    consumeEvent.batchSize(), consumeEvent.batchTimeout()));
+                        } else {
+                            consumer.handler(new Handler<Message<Object>>() {
+                                @Override
+                                public void handle(Message<Object> m) {
+                                    if (invoker.isBlocking()) {
+                                        // We need to create a duplicated context from the "context"
+                                        Context dup = VertxContext.getOrCreateDuplicatedContext(context);
+                                        setContextSafe(dup, true);
+                                        dup.executeBlocking(new Handler<Promise<Object>>() {
+                                            @Override
+                                            public void handle(Promise<Object> event) {
+                                                try {
+                                                    invoker.invoke(m);
+                                                } catch (Exception e) {
+                                                    if (m.replyAddress() == null) {
+                                                        // No reply handler
+                                                        throw wrapIfNecessary(e);
+                                                    } else {
+                                                        m.fail(ConsumeEvent.FAILURE_CODE, e.toString());
+                                                    }
                                                 }
+                                                event.complete();
+                                            }
+                                        }, invoker.isOrdered(), null);
+                                    } else {
+                                        // Will run on the context used for the consumer registration.
+                                        // It's a duplicated context, but we need to mark it as safe.
+                                        // The safety comes from the fact that it's instantiated by Vert.x for every
+                                        // message.
+                                        setCurrentContextSafe(true);
+                                        try {
+                                            invoker.invoke(m);
+                                        } catch (Exception e) {
+                                            if (m.replyAddress() == null) {
+                                                // No reply handler
+                                                throw wrapIfNecessary(e);
+                                            } else {
+                                                m.fail(ConsumeEvent.FAILURE_CODE, e.toString());
                                             }
-                                            event.complete();
-                                        }
-                                    }, invoker.isOrdered(), null);
-                                } else {
-                                    // Will run on the context used for the consumer registration.
-                                    // It's a duplicated context, but we need to mark it as safe.
-                                    // The safety comes from the fact that it's instantiated by Vert.x for every
-                                    // message.
-                                    setCurrentContextSafe(true);
-                                    try {
-                                        invoker.invoke(m);
-                                    } catch (Exception e) {
-                                        if (m.replyAddress() == null) {
-                                            // No reply handler
-                                            throw wrapIfNecessary(e);
-                                        } else {
-                                            m.fail(ConsumeEvent.FAILURE_CODE, e.toString());
                                         }
                                     }
                                 }
-                            }
-                        });
+                            });
+                        }
 
                         consumer.completionHandler(new Handler<AsyncResult<Void>>() {
                             @Override
@@ -0,0 +1,67 @@
+package io.quarkus.vertx.runtime.codecs;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+
+/**
+ * A base {@link MessageCodec} for the payloads sent across the clustered event bus.
+ * <p>
+ * On the wire, the encoded payload is prefixed with its length. For local delivery, the {@link #transform(Object)} method
+ * returns the passed instance, just like {@link io.quarkus.vertx.LocalEventBusCodec}. So make sure it's immutable.
+ * <p>
+ * The subclasses are generated at build time for the payload types of the {@link io.quarkus.vertx.ConsumeEvent} methods
+ * that are not local and do not declare a codec.
+ *
+ * @param <T> the type of object supported by this codec
+ */
+public abstract class BinaryEventBusCodec<T> implements MessageCodec<T, T> {
+
+    private final String name;
+
+    protected BinaryEventBusCodec(String name) {
+        this.name = name;
+    }
+
+    /**
+     *
+     * @param value
+     * @return the encoded value
+     */
+    protected abstract byte[] encode(T value);
+
+    /**
+     *
+     * @param bytes
+     * @return the decoded value
+     */
+    protected abstract T decode(byte[] bytes);
+
+    @Override
+    public void encodeToWire(Buffer buffer, T value) {
+        byte[] bytes = encode(value);
+        buffer.appendInt(bytes.length);
+        buffer.appendBytes(bytes);
+    }
+
+    @Override
+    public T decodeFromWire(int pos, Buffer buffer) {
+        int length = buffer.getInt(pos);
+        pos += 4;
+        return decode(buffer.getBytes(pos, pos + length));
+    }
+
+    @Override
+    public T transform(T instance) {
+        return instance;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public byte systemCodecID() {
+        return -1;
+    }
+}
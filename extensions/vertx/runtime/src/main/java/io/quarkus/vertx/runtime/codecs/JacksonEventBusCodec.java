@@ -0,0 +1,44 @@
+package io.quarkus.vertx.runtime.codecs;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.Json;
+
+/**
+ * Encodes the payloads as JSON with the Jackson {@code ObjectMapper} used by Vert.x, i.e. the application
+ * {@code ObjectMapper} if the {@code quarkus-jackson} extension is present.
+ * <p>
+ * This is a typed JSON codec, not a binary format: the payload is serialized directly to JSON bytes, without the
+ * intermediate {@link io.vertx.core.json.JsonObject} representation, and deserialized into the payload type. The JSON
+ * format keeps the application {@code ObjectMapper} configuration and is readable by any cluster member. Payloads that
+ * need a compact binary encoding should be protobuf messages or declare a codec with
+ * {@link io.quarkus.vertx.ConsumeEvent#codec()}.
+ *
+ * @param <T> the type of object supported by this codec
+ */
+public class JacksonEventBusCodec<T> extends BinaryEventBusCodec<T> {
+
+    private final Class<T> type;
+
+    public JacksonEventBusCodec(Class<T> type) {
+        super(JacksonEventBusCodec.class.getName() + "-" + type.getName());
+        this.type = type;
+    }
+
+    @Override
+    protected byte[] encode(T value) {
+        return Json.CODEC.toBuffer(value, false).getBytes();
+    }
+
+    @Override
+    protected T decode(byte[] bytes) {
+        return Json.CODEC.fromBuffer(Buffer.buffer(bytes), type);
+    }
+
+    @Override
+    public void encodeToWire(Buffer buffer, T value) {
+        // Avoid the copy of the encoded bytes
+        Buffer encoded = Json.CODEC.toBuffer(value, false);
+        buffer.appendInt(encoded.length());
+        buffer.appendBuffer(encoded);
+    }
+}
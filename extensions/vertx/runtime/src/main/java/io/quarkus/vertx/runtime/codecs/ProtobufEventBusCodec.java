@@ -0,0 +1,18 @@
+package io.quarkus.vertx.runtime.codecs;
+
+/**
+ * Encodes the protobuf messages in the protobuf binary format.
+ * <p>
+ * The subclasses are generated at build time: {@link #encode(Object)} calls {@code MessageLite#toByteArray()} and
+ * {@link #decode(byte[])} calls the static {@code parseFrom(byte[])} method of the message class. Therefore, this extension
+ * does not depend on the protobuf library.
+ *
+ * @param <T> the type of object supported by this codec
+ */
+public abstract class ProtobufEventBusCodec<T> extends BinaryEventBusCodec<T> {
+
+    protected ProtobufEventBusCodec(Class<T> type) {
+        super(ProtobufEventBusCodec.class.getName() + "-" + type.getName());
+    }
+
+}
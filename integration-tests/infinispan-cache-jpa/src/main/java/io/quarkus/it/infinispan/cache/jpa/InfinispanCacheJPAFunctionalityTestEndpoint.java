@@ -25,10 +25,11 @@
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.stat.CacheRegionStatistics;
 import org.hibernate.stat.Statistics;
-import org.infinispan.quarkus.hibernate.cache.QuarkusInfinispanRegionFactory;
+
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusCaffeineRegionFactory;
 
 /**
- * Basic test running JPA with the H2 database and Infinispan as second level cache provider.
+ * Basic test running JPA with the H2 database and the Caffeine based second level cache provider.
  * The application can work in either standard JVM or in native mode, while we run H2 as a separate JVM process.
  */
 @Path("/infinispan-cache-jpa")
@@ -50,8 +51,8 @@ public String doGet() {
     @Produces(MediaType.TEXT_PLAIN)
     @Path("/memory-object-count/{region}")
     public String memoryObjectCount(@PathParam("region") String region) {
-        QuarkusInfinispanRegionFactory regionFactory = getRegionFactory();
-        Optional<Long> result = regionFactory.getMemoryObjectCount(region);
+        QuarkusCaffeineRegionFactory regionFactory = getRegionFactory();
+        Optional<Long> result = regionFactory.getMaximumSize(region);
         return result
                 .map(Object::toString)
                 .orElseGet(
@@ -62,18 +63,18 @@ public String memoryObjectCount(@PathParam("region") String region) {
     @Produces(MediaType.TEXT_PLAIN)
     @Path("/expiration-max-idle/{region}")
     public String expirationMaxIdle(@PathParam("region") String region) {
-        QuarkusInfinispanRegionFactory regionFactory = getRegionFactory();
-        Optional<Duration> result = regionFactory.getExpirationMaxIdle(region);
+        QuarkusCaffeineRegionFactory regionFactory = getRegionFactory();
+        Optional<Duration> result = regionFactory.getExpireAfterAccess(region);
         return result
                 .map(duration -> Long.toString(duration.getSeconds()))
                 .orElseGet(
                         () -> String.format("Region %s not found", region));
     }
 
-    private QuarkusInfinispanRegionFactory getRegionFactory() {
+    private QuarkusCaffeineRegionFactory getRegionFactory() {
         SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
         CacheImplementor cache = (CacheImplementor) sessionFactory.getCache();
-        return (QuarkusInfinispanRegionFactory) cache.getRegionFactory();
+        return (QuarkusCaffeineRegionFactory) cache.getRegionFactory();
     }
 
     /**
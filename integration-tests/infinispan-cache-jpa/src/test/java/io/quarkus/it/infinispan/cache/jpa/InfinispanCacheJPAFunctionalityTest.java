@@ -34,4 +34,14 @@ public void testEntityExpirationMaxIdleOverride() {
                 .then().body(is("86400"));
     }
 
+    @Test
+    public void testEntityRuntimeOverrides() {
+        RestAssured.when()
+                .get("/infinispan-cache-jpa/memory-object-count/com.example.EntityC")
+                .then().body(is("50"));
+        RestAssured.when()
+                .get("/infinispan-cache-jpa/expiration-max-idle/com.example.EntityC")
+                .then().body(is("1800"));
+    }
+
 }